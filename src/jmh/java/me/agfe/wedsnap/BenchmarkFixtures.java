@@ -0,0 +1,266 @@
+package me.agfe.wedsnap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.agfe.wedsnap.concurrency.IoBulkhead;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.ContentHashIndex;
+import me.agfe.wedsnap.repository.FileMetadataRepository;
+import me.agfe.wedsnap.repository.PhotoIndex;
+import me.agfe.wedsnap.repository.StagingArea;
+import me.agfe.wedsnap.repository.UploadRepository;
+import me.agfe.wedsnap.repository.UploaderNameRegistry;
+import me.agfe.wedsnap.support.DirectBufferPool;
+
+/**
+ * 벤치마크 공용 구성
+ * 스프링 컨텍스트 없이 실제 저장 경로(UploadRepository → 인덱스 → 내장 H2)를 임시 디렉토리 위에 조립합니다.
+ */
+public final class BenchmarkFixtures {
+
+    /** {@link #jpeg} 에서 seed 가 기록되는 위치 (SOI + SOF0 세그먼트 직후) */
+    private static final int SEED_OFFSET = 15;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 실제 구성의 UploadRepository 와 정리용 자원
+     */
+    public static final class Storage implements AutoCloseable {
+
+        private final Path basePath;
+        private final EmbeddedDatabase database;
+        private final FileMetadataRepository metadataRepository;
+        private final ContentHashIndex contentHashIndex;
+        private final PhotoIndex photoIndex = new PhotoIndex();
+        private final WedSnapMetrics metrics = new WedSnapMetrics(new SimpleMeterRegistry());
+        private final IoBulkhead ioBulkhead = new IoBulkhead(4, metrics);
+        private final StagingArea stagingArea;
+        private final UploadRepository uploadRepository;
+
+        private Storage(Path basePath) {
+            this.basePath = basePath;
+            this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+                                                         .generateUniqueName(true)
+                                                         .addScript("schema.sql")
+                                                         .build();
+            this.metadataRepository = new FileMetadataRepository(new JdbcTemplate(database),
+                                                                 new TransactionTemplate(new DataSourceTransactionManager(database)),
+                                                                 100);
+            metadataRepository.start();
+            this.stagingArea = new StagingArea(basePath.toString(), false, "");
+            this.contentHashIndex = new ContentHashIndex(stagingArea);
+            this.uploadRepository = newUploadRepository();
+        }
+
+        /**
+         * 인덱스와 메타데이터 저장소는 공유하고 업로더명 레지스트리만 새로 만든 UploadRepository
+         * (재시작 직후처럼 이벤트 폴더 목록을 다시 읽어야 하는 상태)
+         */
+        public UploadRepository newUploadRepository() {
+            UploadRepository repository = new UploadRepository(new UploaderNameRegistry(),
+                                                               new DirectBufferPool(DataSize.ofKilobytes(256), 16),
+                                                               contentHashIndex, photoIndex, metadataRepository, stagingArea,
+                                                               ioBulkhead, metrics);
+            setField(repository, "basePath", basePath.toString());
+            setField(repository, "environment", "bench");
+            setField(repository, "dedupEnabled", true);
+            return repository;
+        }
+
+        public Path getBasePath() {
+            return basePath;
+        }
+
+        public UploadRepository getUploadRepository() {
+            return uploadRepository;
+        }
+
+        public WedSnapMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                metadataRepository.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            database.shutdown();
+            deleteRecursively(basePath);
+        }
+    }
+
+    /**
+     * 주어진 디렉토리 아래 새 임시 디렉토리를 저장소 루트로 사용합니다.
+     * @param parent 상위 디렉토리 (예: tmpfs 인 /dev/shm), 없으면 시스템 임시 디렉토리
+     * @return 저장소 구성
+     * @throws IOException 디렉토리 생성 실패 시
+     */
+    public static Storage storage(String parent) throws IOException {
+        Path parentDir = parent != null && Files.isDirectory(Path.of(parent)) ? Path.of(parent)
+                                                                               : Path.of(System.getProperty("java.io.tmpdir"));
+        return new Storage(Files.createTempDirectory(parentDir, "wedsnap-bench-"));
+    }
+
+    /**
+     * 헤더 판별을 통과하는 JPEG (나머지는 seed 로 채운 데이터)
+     * seed 가 다르면 내용 해시가 달라 중복 제거에 걸리지 않습니다.
+     * @param size 전체 크기
+     * @param seed 내용 구분값
+     * @return JPEG 바이트
+     */
+    public static byte[] jpeg(int size, long seed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(0xFFD8);
+            out.writeShort(0xFFC0);
+            out.writeShort(11);
+            out.writeByte(8);
+            out.writeShort(3024);
+            out.writeShort(4032);
+            out.write(new byte[] { 1, 1, 0x11, 0 });
+            out.writeLong(seed);
+            out.write(new byte[Math.max(0, size - bytes.size())]);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@link #jpeg} 로 만든 바이트의 seed 만 바꿉니다. (큰 파일을 매번 새로 만들지 않기 위해 사용)
+     */
+    public static void reseed(byte[] jpeg, long seed) {
+        ByteBuffer.wrap(jpeg).putLong(SEED_OFFSET, seed);
+    }
+
+    /**
+     * 메모리에 있는 multipart 파일. writeBytesPerSecond 가 0 보다 크면 저장(transferTo) 속도를 그 값으로 제한하여
+     * 느린 NAS 를 흉내냅니다.
+     */
+    public static final class InMemoryMultipartFile implements MultipartFile {
+
+        private static final int THROTTLE_CHUNK = 64 * 1024;
+
+        private final String originalFilename;
+        private final byte[] content;
+        private final long writeBytesPerSecond;
+
+        public InMemoryMultipartFile(String originalFilename, byte[] content, long writeBytesPerSecond) {
+            this.originalFilename = originalFilename;
+            this.content = content;
+            this.writeBytesPerSecond = writeBytesPerSecond;
+        }
+
+        @Override
+        public String getName() {
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            transferTo(dest.toPath());
+        }
+
+        @Override
+        public void transferTo(Path dest) throws IOException {
+            if (writeBytesPerSecond <= 0) {
+                Files.write(dest, content);
+                return;
+            }
+            long startedAt = System.nanoTime();
+            try (OutputStream out = Files.newOutputStream(dest)) {
+                for (int offset = 0; offset < content.length; offset += THROTTLE_CHUNK) {
+                    int length = Math.min(THROTTLE_CHUNK, content.length - offset);
+                    out.write(content, offset, length);
+                    long due = startedAt + TimeUnit.SECONDS.toNanos(offset + length) / writeBytesPerSecond;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@code @Value} 필드 주입 (스프링 컨텍스트 없이 구성할 때 사용)
+     */
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set field: " + name, e);
+        }
+    }
+
+    public static void deleteRecursively(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package me.agfe.wedsnap.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 업로드 락 경합 벤치마크
+ * 동시 업로더 수를 늘려가며 기존 전역 synchronized 방식과 키 단위 락 방식의 배치 처리 시간을 비교합니다.
+ * 한 번의 호출은 업로더 N명이 동시에 "이름 예약 + 파일 쓰기"를 1회씩 수행하는 것이며,
+ * 파일 쓰기는 NAS I/O 지연을 흉내내기 위해 parkNanos 로 대체합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyedLockManagerBenchmark {
+
+    private static final long WRITE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final int RESERVE_TOKENS = 200;
+
+    @Param({ "1", "8", "32", "128" })
+    private int uploaders;
+
+    @Param({ "global", "keyed" })
+    private String strategy;
+
+    private final Object globalMonitor = new Object();
+    private KeyedLockManager lockManager;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lockManager = new KeyedLockManager(64);
+        executor = Executors.newFixedThreadPool(uploaders);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burst(Blackhole blackhole) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(uploaders);
+        for (int i = 0; i < uploaders; i++) {
+            String key = KeyedLockManager.key("wedding2024", "guest" + i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                upload(key, blackhole);
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void upload(String key, Blackhole blackhole) {
+        if ("global".equals(strategy)) {
+            // 기존 방식: 예약과 파일 쓰기 전체를 하나의 모니터로 직렬화
+            synchronized (globalMonitor) {
+                Blackhole.consumeCPU(RESERVE_TOKENS);
+                LockSupport.parkNanos(WRITE_NANOS);
+            }
+        } else {
+            // 키 단위 락: 예약만 직렬화하고 파일 쓰기는 락 밖에서 수행
+            String reserved = lockManager.executeWithLock(key, () -> {
+                Blackhole.consumeCPU(RESERVE_TOKENS);
+                return key;
+            });
+            blackhole.consume(reserved);
+            LockSupport.parkNanos(WRITE_NANOS);
+        }
+    }
+}
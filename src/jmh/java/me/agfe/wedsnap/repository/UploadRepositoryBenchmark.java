@@ -0,0 +1,81 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.agfe.wedsnap.BenchmarkFixtures;
+
+/**
+ * 파일 1개 저장(saveFile) 벤치마크
+ * 해시 계산 → 중복 조회 → 기록 → 인덱스/메타데이터 등록까지의 시간을 저장 매체별로 측정합니다.
+ * - directory: 저장소 상위 디렉토리. 기본값 /dev/shm(tmpfs) 는 매체 비용을 뺀 코드 경로 비용을 보여 주며,
+ *   실제 NAS 마운트 경로를 -p directory=... 로 넘기면 그 매체에서 측정합니다.
+ * - writeMbps: 0 보다 크면 기록 속도를 그 값(MB/s)으로 제한하여 느린 NAS 를 흉내냅니다.
+ * 기록한 파일은 호출마다 삭제하여 tmpfs 사용량이 늘어나지 않게 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(time = 2)
+@Measurement(time = 3)
+public class UploadRepositoryBenchmark {
+
+    @Param({ "/dev/shm" })
+    private String directory;
+
+    @Param({ "0", "40" })
+    private int writeMbps;
+
+    @Param({ "4194304" })
+    private int fileSize;
+
+    private BenchmarkFixtures.Storage storage;
+    private UploadRepository uploadRepository;
+    private byte[] content;
+    private long sequence;
+    private StoredFile lastStored;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        storage = BenchmarkFixtures.storage(directory);
+        uploadRepository = storage.getUploadRepository();
+        content = BenchmarkFixtures.jpeg(fileSize, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteStored() throws IOException {
+        if (lastStored != null) {
+            Files.deleteIfExists(storage.getBasePath().resolve("event-bench").resolve("guest").resolve(lastStored.fileName()));
+        }
+    }
+
+    @Benchmark
+    public StoredFile saveFile() throws IOException {
+        // 내용을 바꿔 중복 제거에 걸리지 않게 함
+        BenchmarkFixtures.reseed(content, ++sequence);
+        lastStored = uploadRepository.saveFile("bench", "guest",
+                                               new BenchmarkFixtures.InMemoryMultipartFile("IMG_0001.jpg", content,
+                                                                                           writeMbps * 1_000_000L),
+                                               null);
+        return lastStored;
+    }
+}
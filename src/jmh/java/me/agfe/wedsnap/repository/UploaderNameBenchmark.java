@@ -0,0 +1,81 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.agfe.wedsnap.BenchmarkFixtures;
+
+/**
+ * 업로더명 예약(findUniqueUploaderName) 벤치마크
+ * 같은 이름의 폴더가 이미 많이 있는 이벤트(홍길동, 홍길동(1) ... 홍길동(n-1))에서 다음 이름을 예약하는 비용을 측정합니다.
+ * - warm: 레지스트리가 이벤트를 이미 읽은 상태 (평상시)
+ * - cold: 재시작 직후처럼 레지스트리가 비어 있어 이벤트 폴더 목록을 먼저 읽는 상태
+ * 두 경우 모두 예약한 폴더는 호출마다 삭제하여 이벤트 폴더 수를 유지합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 2)
+@Measurement(time = 3)
+public class UploaderNameBenchmark {
+
+    private static final String UPLOADER = "홍길동";
+
+    @Param({ "0", "100", "1000" })
+    private int existing;
+
+    private BenchmarkFixtures.Storage storage;
+    private Path eventDir;
+    private String lastReserved;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        storage = BenchmarkFixtures.storage(null);
+        eventDir = Files.createDirectories(storage.getBasePath().resolve("event-bench"));
+        for (int i = 0; i < existing; i++) {
+            Files.createDirectory(eventDir.resolve(i == 0 ? UPLOADER : UPLOADER + "(" + i + ")"));
+            // 다른 업로더 폴더도 같은 수만큼 섞어 둠
+            Files.createDirectory(eventDir.resolve("guest" + i));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteReserved() throws IOException {
+        if (lastReserved != null) {
+            Files.deleteIfExists(eventDir.resolve(lastReserved));
+            lastReserved = null;
+        }
+    }
+
+    @Benchmark
+    public String warm() {
+        lastReserved = storage.getUploadRepository().findUniqueUploaderName("bench", UPLOADER);
+        return lastReserved;
+    }
+
+    @Benchmark
+    public String cold() {
+        lastReserved = storage.newUploadRepository().findUniqueUploaderName("bench", UPLOADER);
+        return lastReserved;
+    }
+}
@@ -0,0 +1,119 @@
+package me.agfe.wedsnap.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.validation.Validation;
+import me.agfe.wedsnap.BenchmarkFixtures;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.concurrency.KeyedLockManager;
+import me.agfe.wedsnap.dto.UploadRequest;
+import me.agfe.wedsnap.dto.UploadResponse;
+import me.agfe.wedsnap.repository.UploadBatchStore;
+import me.agfe.wedsnap.validation.ImageContentValidator;
+
+/**
+ * 업로드 요청 처리 벤치마크
+ * 검증 → 업로더명 예약 → 병렬 저장 → 해시/갤러리 인덱스 → 메타데이터 커밋까지 processUpload 전체를 실제 구성으로 측정합니다.
+ * 요청당 파일 수(1/20)와 동시 요청 스레드 수(1/4/16)에 따른 지연 시간을 비교합니다.
+ * 파일은 매 요청 내용이 달라 중복 제거에 걸리지 않으며, 디스크 사용량을 줄이기 위해 크기는 작게 두고 반복(iteration)마다 정리합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(time = 2)
+@Measurement(time = 3)
+public class UploadServiceBenchmark {
+
+    @Param({ "1", "20" })
+    private int files;
+
+    @Param({ "65536" })
+    private int fileSize;
+
+    /** 저장소 상위 디렉토리 (비어 있으면 시스템 임시 디렉토리) */
+    @Param({ "" })
+    private String directory;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private BenchmarkFixtures.Storage storage;
+    private ExecutorService uploadIoExecutor;
+    private UploadService uploadService;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        storage = BenchmarkFixtures.storage(directory);
+        uploadIoExecutor = Executors.newFixedThreadPool(4);
+        // 파생 이미지 생성은 비활성(enabled 기본값 false) 상태이므로 작업 저장소/실행기는 사용되지 않음
+        uploadService = new UploadService(storage.getUploadRepository(),
+                                          new UploaderNameService(storage.getUploadRepository(), new KeyedLockManager(64),
+                                                                  storage.getMetrics()),
+                                          uploadIoExecutor,
+                                          Validation.buildDefaultValidatorFactory().getValidator(),
+                                          new MultipartProperties(), new ImageContentValidator(180_000_000L),
+                                          new DerivativeService(null, null, null, null, null, null, null),
+                                          new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9), new UploadBatchStore(1000),
+                                          storage.getMetrics());
+        BenchmarkFixtures.setField(uploadService, "environment", "bench");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        uploadIoExecutor.shutdownNow();
+        storage.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UploadResponse oneThread() {
+        return upload();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UploadResponse fourThreads() {
+        return upload();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UploadResponse sixteenThreads() {
+        return upload();
+    }
+
+    private UploadResponse upload() {
+        long id = sequence.incrementAndGet();
+        List<MultipartFile> multipartFiles = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            multipartFiles.add(new BenchmarkFixtures.InMemoryMultipartFile("IMG_" + i + ".jpg",
+                                                                           BenchmarkFixtures.jpeg(fileSize, id * files + i),
+                                                                           0));
+        }
+        return uploadService.processUpload(UploadRequest.builder()
+                                                        .eventName("bench")
+                                                        .uploaderName("guest" + id % 50)
+                                                        .files(multipartFiles)
+                                                        .build());
+    }
+}
@@ -0,0 +1,106 @@
+package me.agfe.wedsnap.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 이미지 헤더 판별 벤치마크
+ * 업로드 파일마다 저장 전에 수행되는 시그니처/해상도 판별 비용을 형식별로 측정합니다.
+ * jpegLargeExif 는 SOF 앞에 60KB 의 APP1(EXIF) 세그먼트가 있는 휴대폰 사진을 흉내내며, 세그먼트를 건너뛰는 비용을 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImageHeaderSnifferBenchmark {
+
+    @Param({ "jpeg", "jpegLargeExif", "png", "heif" })
+    private String format;
+
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        content = switch (format) {
+            case "jpeg" -> jpeg(0);
+            case "jpegLargeExif" -> jpeg(60 * 1024);
+            case "png" -> png();
+            case "heif" -> heif();
+            default -> throw new IllegalArgumentException(format);
+        };
+    }
+
+    @Benchmark
+    public void sniff(Blackhole blackhole) throws IOException {
+        blackhole.consume(ImageHeaderSniffer.sniff(new ByteArrayInputStream(content)));
+    }
+
+    private static byte[] jpeg(int exifSize) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(0xFFD8);
+        if (exifSize > 0) {
+            out.writeShort(0xFFE1);
+            out.writeShort(exifSize + 2);
+            out.write(new byte[exifSize]);
+        }
+        out.writeShort(0xFFC0);
+        out.writeShort(11);
+        out.writeByte(8);
+        out.writeShort(3024);
+        out.writeShort(4032);
+        out.write(new byte[] { 1, 1, 0x11, 0 });
+        out.write(new byte[256 * 1024]); // 이미지 데이터 자리
+        return bytes.toByteArray();
+    }
+
+    private static byte[] png() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' });
+        out.writeInt(13);
+        out.write("IHDR".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(4032);
+        out.writeInt(3024);
+        out.write(new byte[256 * 1024]);
+        return bytes.toByteArray();
+    }
+
+    private static byte[] heif() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(24);
+        out.write("ftypheic".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(0);
+        out.write("mif1heic".getBytes(StandardCharsets.ISO_8859_1));
+        // meta(full box) > iprp > ipco > ispe
+        out.writeInt(12 + 8 + 8 + 20);
+        out.write("meta".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(0);
+        out.writeInt(8 + 8 + 20);
+        out.write("iprp".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(8 + 20);
+        out.write("ipco".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(20);
+        out.write("ispe".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(0);
+        out.writeInt(4032);
+        out.writeInt(3024);
+        out.write(new byte[256 * 1024]);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,69 @@
+package me.agfe.wedsnap.validation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.vane.badwordfiltering.BadWordFiltering;
+
+/**
+ * 업로더 이름 비속어 검사 벤치마크
+ * 업로드 요청마다 수행되는 ProfanityValidator.isValid 비용을 입력 길이/결과별로 측정합니다.
+ * 기존 방식(BadWordFiltering.blankCheck)과 Aho-Corasick 매처(캐시 없음)를 같은 입력으로 비교하며,
+ * 두 방식의 판정이 다르면 측정을 시작하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProfanityValidatorBenchmark {
+
+    @Param({ "short", "long", "profane", "spaced" })
+    private String input;
+
+    private ProfanityValidator validator;
+    private BadWordFiltering badWordFiltering;
+    private ProfanityMatcher uncachedMatcher;
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validator = new ProfanityValidator();
+        badWordFiltering = new BadWordFiltering();
+        uncachedMatcher = new ProfanityMatcher(badWordFiltering, 0);
+        value = switch (input) {
+            case "short" -> "홍길동";
+            case "long" -> "신랑측 대학 동기 모임 대표 홍길동과 친구들";
+            case "profane" -> "시발 홍길동";
+            case "spaced" -> "홍길동 시 발";
+            default -> throw new IllegalArgumentException(input);
+        };
+
+        boolean expected = badWordFiltering.blankCheck(value);
+        if (uncachedMatcher.containsProfanity(value) != expected || validator.isValid(value, null) == expected) {
+            throw new IllegalStateException("판정 불일치: " + value);
+        }
+    }
+
+    @Benchmark
+    public boolean blankCheck() {
+        return badWordFiltering.blankCheck(value);
+    }
+
+    @Benchmark
+    public boolean ahoCorasick() {
+        return uncachedMatcher.containsProfanity(value);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(value, null);
+    }
+}
@@ -0,0 +1,218 @@
+package me.agfe.wedsnap.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 부하 대상 애플리케이션 프로세스
+ * baseUrl 이 지정되지 않으면 빈 임시 디렉토리를 base-path 로 하여 bootJar 를 직접 기동하고, 끝나면 정리합니다.
+ * JVM 힙/GC 지표는 /actuator/prometheus 에서 읽습니다.
+ */
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final Process process;
+    private final Path workDir;
+
+    private AppProcess(String baseUrl, HttpClient client, Process process, Path workDir) {
+        this.baseUrl = baseUrl;
+        this.client = client;
+        this.process = process;
+        this.workDir = workDir;
+    }
+
+    /**
+     * 이미 떠 있는 서버에 연결합니다.
+     */
+    static AppProcess attach(String baseUrl, HttpClient client) {
+        return new AppProcess(baseUrl.replaceAll("/+$", ""), client, null, null);
+    }
+
+    /**
+     * bootJar 를 기동하고 health 가 UP 이 될 때까지 기다립니다.
+     * @param settings 부하 테스트 설정
+     * @param client 상태 확인에 사용할 클라이언트
+     * @param logFile 애플리케이션 표준 출력을 기록할 파일
+     */
+    static AppProcess launch(LoadTestSettings settings, HttpClient client, Path logFile)
+            throws IOException, InterruptedException {
+        if (!Files.isRegularFile(settings.appJar())) {
+            throw new IllegalStateException("Application jar not found: " + settings.appJar().toAbsolutePath());
+        }
+        int port = freePort();
+        Path workDir = Files.createTempDirectory("wedsnap-loadtest-");
+        Path storage = Files.createDirectories(workDir.resolve("storage"));
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(settings.appJvmArgs().trim().split("\\s+")));
+        command.add("-jar");
+        command.add(settings.appJar().toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.add("--wedsnap.environment=loadtest");
+        command.add("--wedsnap.upload.base-path=" + storage);
+        command.add("--wedsnap.metadata.path=" + workDir.resolve("metadata"));
+        // 실행마다 빈 상태에서 시작하도록 홈 디렉토리 기본값 대신 작업 디렉토리 사용
+        command.add("--wedsnap.upload.resumable.session-dir=" + workDir.resolve("upload-sessions"));
+        command.add("--wedsnap.upload.async.spool-dir=" + workDir.resolve("upload-jobs"));
+        command.add("--wedsnap.upload.staging.dir=" + workDir.resolve("staging"));
+        command.add("--wedsnap.upload.derivatives.queue-dir=" + workDir.resolve("derivative-queue"));
+        command.add("--app.base-url=http://localhost:" + port);
+        command.add("--management.endpoints.web.exposure.include=health,prometheus");
+
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        Process process = new ProcessBuilder(command).directory(workDir.toFile())
+                                                     .redirectErrorStream(true)
+                                                     .redirectOutput(logFile.toFile())
+                                                     .start();
+        AppProcess app = new AppProcess("http://localhost:" + port, client, process, workDir);
+        try {
+            app.awaitHealthy();
+        } catch (RuntimeException | InterruptedException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @return 현재 JVM 지표 (읽을 수 없으면 null)
+     */
+    JvmSnapshot scrape() {
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus"))
+                                                                   .timeout(Duration.ofSeconds(5))
+                                                                   .GET()
+                                                                   .build(),
+                                                        HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 ? JvmSnapshot.parse(response.body()) : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void awaitHealthy() throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                                         .timeout(Duration.ofSeconds(2))
+                                         .GET()
+                                         .build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup: exit=" + process.exitValue());
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() {
+        if (process != null) {
+            process.destroy();
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly().waitFor(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (workDir != null) {
+            deleteRecursively(workDir);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void deleteRecursively(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete " + root, e);
+        }
+    }
+
+    /**
+     * /actuator/prometheus 에서 읽은 JVM 지표
+     * @param heapUsedBytes 힙 사용량 (heap 영역 합계)
+     * @param heapMaxBytes 힙 최대치 (heap 영역 합계)
+     * @param gcPauseCount 누적 GC 정지 횟수
+     * @param gcPauseSeconds 누적 GC 정지 시간
+     * @param gcPauseMaxSeconds 최근 구간의 최대 GC 정지 시간
+     */
+    record JvmSnapshot(double heapUsedBytes, double heapMaxBytes, double gcPauseCount, double gcPauseSeconds,
+                       double gcPauseMaxSeconds) {
+
+        static JvmSnapshot parse(String exposition) {
+            double heapUsed = 0;
+            double heapMax = 0;
+            double gcCount = 0;
+            double gcSum = 0;
+            double gcMax = 0;
+            for (String line : exposition.split("\n")) {
+                if (line.startsWith("#") || line.isBlank()) {
+                    continue;
+                }
+                int space = line.lastIndexOf(' ');
+                double value;
+                try {
+                    value = Double.parseDouble(line.substring(space + 1));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (line.startsWith("jvm_memory_used_bytes{") && line.contains("area=\"heap\"")) {
+                    heapUsed += value;
+                } else if (line.startsWith("jvm_memory_max_bytes{") && line.contains("area=\"heap\"") && value > 0) {
+                    heapMax += value;
+                } else if (line.startsWith("jvm_gc_pause_seconds_count{")) {
+                    gcCount += value;
+                } else if (line.startsWith("jvm_gc_pause_seconds_sum{")) {
+                    gcSum += value;
+                } else if (line.startsWith("jvm_gc_pause_seconds_max{")) {
+                    gcMax = Math.max(gcMax, value);
+                }
+            }
+            return new JvmSnapshot(heapUsed, heapMax, gcCount, gcSum, gcMax);
+        }
+    }
+}
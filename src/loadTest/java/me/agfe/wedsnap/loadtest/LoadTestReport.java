@@ -0,0 +1,176 @@
+package me.agfe.wedsnap.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과 집계
+ * 요청 결과는 여러 하객 스레드에서 동시에 기록되고, 힙 사용량은 별도 샘플러가 기록합니다.
+ */
+final class LoadTestReport {
+
+    private static final double MB = 1024.0 * 1024.0;
+
+    /**
+     * 요청 1건의 결과
+     * @param latencyNanos 요청 시작부터 응답 본문 수신까지 걸린 시간
+     * @param files 요청에 담은 파일 수
+     * @param bytes 요청 본문 크기
+     * @param errorCode 실패 시 에러 코드 (응답의 errorCode, 없으면 HTTP_상태코드 또는 IO_예외명), 성공이면 null
+     */
+    record Sample(long latencyNanos, int files, long bytes, String errorCode) {
+    }
+
+    private final ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+    private volatile double peakHeapBytes;
+    private volatile double heapMaxBytes;
+    private AppProcess.JvmSnapshot before;
+    private AppProcess.JvmSnapshot after;
+    private Duration elapsed = Duration.ZERO;
+
+    void record(Sample sample) {
+        samples.add(sample);
+    }
+
+    void recordHeap(AppProcess.JvmSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        if (snapshot.heapUsedBytes() > peakHeapBytes) {
+            peakHeapBytes = snapshot.heapUsedBytes();
+        }
+        heapMaxBytes = snapshot.heapMaxBytes();
+    }
+
+    void finish(AppProcess.JvmSnapshot before, AppProcess.JvmSnapshot after, Duration elapsed) {
+        this.before = before;
+        this.after = after;
+        this.elapsed = elapsed;
+        recordHeap(after);
+    }
+
+    /**
+     * 콘솔 출력용 요약과 같은 내용을 JSON 으로 기록합니다.
+     * @param settings 실행 설정 (결과와 함께 남겨 재현에 사용)
+     * @param file 기록할 파일
+     * @return 콘솔 출력용 요약
+     */
+    String write(LoadTestSettings settings, Path file) throws IOException {
+        Map<String, Object> report = summarize(settings);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, toJson(report) + "\n", StandardCharsets.UTF_8);
+        return report.entrySet()
+                     .stream()
+                     .map(entry -> String.format(Locale.ROOT, "%-20s %s", entry.getKey(), format(entry.getValue())))
+                     .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * 여러 실행의 요약을 항목별로 나란히 기록합니다. (실행마다 설정이 같고 JVM 옵션만 다른 비교용)
+     * @param runs 실행 이름 → 요약 ({@link #summarize} 결과)
+     * @param file 기록할 텍스트 파일 (같은 이름의 .json 에 원본 값도 기록)
+     * @return 콘솔 출력용 비교표
+     */
+    static String writeComparison(Map<String, Map<String, Object>> runs, Path file) throws IOException {
+        List<String> keys = runs.values().stream().flatMap(summary -> summary.keySet().stream()).distinct().toList();
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-20s", ""));
+        runs.keySet().forEach(name -> table.append(String.format(Locale.ROOT, " %-24s", name)));
+        for (String key : keys) {
+            table.append('\n').append(String.format(Locale.ROOT, "%-20s", key));
+            runs.values().forEach(summary -> table.append(String.format(Locale.ROOT, " %-24s", format(summary.get(key)))));
+        }
+
+        String fileName = file.getFileName().toString();
+        Path json = file.resolveSibling(fileName.substring(0, Math.max(0, fileName.lastIndexOf('.'))) + ".json");
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, table + "\n", StandardCharsets.UTF_8);
+        Files.writeString(json, toJson(runs) + "\n", StandardCharsets.UTF_8);
+        return table.toString();
+    }
+
+    /**
+     * @param settings 실행 설정 (결과와 함께 남겨 재현에 사용)
+     * @return 항목 이름 → 값 (기록 순서 유지)
+     */
+    Map<String, Object> summarize(LoadTestSettings settings) {
+        List<Sample> all = new ArrayList<>(samples);
+        List<Sample> succeeded = all.stream().filter(sample -> sample.errorCode() == null).toList();
+        long[] latencies = all.stream().mapToLong(Sample::latencyNanos).sorted().toArray();
+        Map<String, Long> errors = all.stream()
+                                      .filter(sample -> sample.errorCode() != null)
+                                      .collect(Collectors.groupingBy(Sample::errorCode, TreeMap::new, Collectors.counting()));
+        double seconds = Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        long files = succeeded.stream().mapToLong(Sample::files).sum();
+        long bytes = succeeded.stream().mapToLong(Sample::bytes).sum();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("guests", settings.guests());
+        report.put("requestsPerGuest", settings.requestsPerGuest());
+        report.put("maxFilesPerRequest", settings.maxFilesPerRequest());
+        report.put("fileSizeMedianMb", settings.fileSizeMedianMb());
+        report.put("rampUpSeconds", settings.rampUp().toSeconds());
+        report.put("uploadKbps", settings.uploadKbps());
+        report.put("seed", settings.seed());
+        report.put("appJvmArgs", settings.appJvmArgs());
+        report.put("elapsedSeconds", seconds);
+        report.put("requests", all.size());
+        report.put("succeeded", succeeded.size());
+        report.put("failed", all.size() - succeeded.size());
+        report.put("requestsPerSecond", succeeded.size() / seconds);
+        report.put("filesPerSecond", files / seconds);
+        report.put("megabytesPerSecond", bytes / MB / seconds);
+        report.put("latencyP50Ms", percentileMillis(latencies, 0.50));
+        report.put("latencyP90Ms", percentileMillis(latencies, 0.90));
+        report.put("latencyP99Ms", percentileMillis(latencies, 0.99));
+        report.put("latencyMaxMs", latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1e6);
+        report.put("errors", errors);
+        report.put("peakHeapMb", peakHeapBytes / MB);
+        report.put("heapMaxMb", heapMaxBytes / MB);
+        if (before != null && after != null) {
+            report.put("gcPauses", (long) (after.gcPauseCount() - before.gcPauseCount()));
+            report.put("gcPauseTotalMs", (after.gcPauseSeconds() - before.gcPauseSeconds()) * 1000);
+            report.put("gcPauseMaxMs", after.gcPauseMaxSeconds() * 1000);
+        }
+        return report;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static String format(Object value) {
+        return value instanceof Double number ? String.format(Locale.ROOT, "%.2f", number) : String.valueOf(value);
+    }
+
+    private static String toJson(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return map.entrySet()
+                      .stream()
+                      .map(entry -> toJson(String.valueOf(entry.getKey())) + ":" + toJson(entry.getValue()))
+                      .collect(Collectors.joining(",", "{", "}"));
+        }
+        if (value instanceof Double number) {
+            return Double.isFinite(number) ? String.format(Locale.ROOT, "%.3f", number) : "null";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return String.valueOf(value);
+        }
+        String text = String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"");
+        return "\"" + text + "\"";
+    }
+}
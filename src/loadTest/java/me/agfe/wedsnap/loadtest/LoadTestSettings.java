@@ -0,0 +1,68 @@
+package me.agfe.wedsnap.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadTest.* 에서 읽음, gradle 에서는 -PloadTest.guests=300 처럼 전달)
+ * @param appJar 기동할 애플리케이션 jar (baseUrl 이 지정되면 사용하지 않음)
+ * @param baseUrl 이미 떠 있는 서버 주소 (비어 있으면 임시 base-path 로 appJar 를 직접 기동)
+ * @param appJvmArgs 기동하는 애플리케이션의 JVM 옵션
+ * @param eventName 업로드할 이벤트 이름
+ * @param guests 하객 수 (동시 사용자 수)
+ * @param requestsPerGuest 하객 1명당 업로드 요청 수
+ * @param maxFilesPerRequest 요청당 최대 파일 수 (1 ~ 이 값 사이 균등 분포)
+ * @param fileSizeMedianMb 파일 크기 중앙값 (로그정규 분포)
+ * @param fileSizeSigma 파일 크기 분포의 로그 표준편차
+ * @param fileSizeMaxMb 파일 크기 상한 (서버 max-file-size 와 맞춤)
+ * @param rampUp 하객이 도착하는 기간 (이 기간 안에서 균등하게 첫 요청 시작)
+ * @param thinkTime 같은 하객의 요청 사이 평균 대기 시간 (지수 분포)
+ * @param uploadKbps 하객 1명의 업로드 속도 상한 (KB/s, 0 이면 제한 없음 — 느린 모바일 회선 재현용)
+ * @param duplicateNameRatio 같은 이름("하객")으로 업로드하는 하객 비율 (업로더명 충돌 유발)
+ * @param seed 난수 시드 (같은 값이면 같은 부하 형태 재현)
+ * @param reportFile 결과 JSON 파일
+ */
+record LoadTestSettings(Path appJar, String baseUrl, String appJvmArgs, String eventName,
+                        int guests, int requestsPerGuest, int maxFilesPerRequest,
+                        double fileSizeMedianMb, double fileSizeSigma, double fileSizeMaxMb,
+                        Duration rampUp, Duration thinkTime, int uploadKbps, double duplicateNameRatio, long seed,
+                        Path reportFile) {
+
+    private static final String PREFIX = "loadTest.";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Path.of(property("appJar", "build/libs/app.jar")),
+                property("baseUrl", ""),
+                property("appJvmArgs", "-Xms512m -Xmx1024m"),
+                property("eventName", "loadtest"),
+                Integer.parseInt(property("guests", "200")),
+                Integer.parseInt(property("requestsPerGuest", "1")),
+                Integer.parseInt(property("maxFilesPerRequest", "20")),
+                Double.parseDouble(property("fileSizeMedianMb", "4")),
+                Double.parseDouble(property("fileSizeSigma", "0.5")),
+                Double.parseDouble(property("fileSizeMaxMb", "20")),
+                Duration.parse(property("rampUp", "PT2M")),
+                Duration.parse(property("thinkTime", "PT10S")),
+                Integer.parseInt(property("uploadKbps", "0")),
+                Double.parseDouble(property("duplicateNameRatio", "0.1")),
+                Long.parseLong(property("seed", "20240518")),
+                Path.of(property("reportFile", "build/reports/loadtest/summary.json")));
+    }
+
+    /**
+     * 같은 부하 설정으로 애플리케이션 JVM 옵션과 결과 파일만 바꾼 설정 (모드 비교용)
+     * @param extraJvmArgs appJvmArgs 뒤에 덧붙일 옵션
+     * @param reportFile 결과 JSON 파일
+     */
+    LoadTestSettings withRun(String extraJvmArgs, Path reportFile) {
+        return new LoadTestSettings(appJar, baseUrl, appJvmArgs + " " + extraJvmArgs, eventName, guests, requestsPerGuest,
+                                    maxFilesPerRequest, fileSizeMedianMb, fileSizeSigma, fileSizeMaxMb, rampUp, thinkTime,
+                                    uploadKbps, duplicateNameRatio, seed, reportFile);
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,197 @@
+package me.agfe.wedsnap.loadtest;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 업로드 요청 1건의 multipart 본문
+ * 파일 내용은 메모리에 만들지 않고 전송하면서 생성하므로, 400MB 요청 수백 건을 동시에 보내도 생성기 힙은 거의 늘지 않습니다.
+ * 각 파일은 헤더 판별을 통과하는 JPEG 헤더 + 파일별 고유값 + 공용 난수 블록으로 구성되어 서버의 중복 제거에 걸리지 않습니다.
+ */
+final class SyntheticUpload {
+
+    private static final int NOISE_SIZE = 1 << 20;
+    private static final byte[] NOISE = new byte[NOISE_SIZE];
+
+    static {
+        new Random(0).nextBytes(NOISE);
+    }
+
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    private final String boundary;
+    private final String uploaderName;
+    private final long[] fileSizes;
+    private final long fileSeed;
+    private final long contentLength;
+
+    /**
+     * @param uploaderName 업로더 이름
+     * @param fileSizes 파일별 크기
+     * @param fileSeed 파일 내용 구분값 (요청마다 달라야 함)
+     */
+    SyntheticUpload(String uploaderName, long[] fileSizes, long fileSeed) {
+        this.boundary = "----wedsnap-loadtest-" + Long.toHexString(fileSeed);
+        this.uploaderName = uploaderName;
+        this.fileSizes = fileSizes;
+        this.fileSeed = fileSeed;
+
+        long length = fieldPart().length + closing().length;
+        for (int i = 0; i < fileSizes.length; i++) {
+            length += fileHeader(i).length + fileSizes[i] + CRLF.length;
+        }
+        this.contentLength = length;
+    }
+
+    String contentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    long contentLength() {
+        return contentLength;
+    }
+
+    int fileCount() {
+        return fileSizes.length;
+    }
+
+    /**
+     * @param bytesPerSecond 전송 속도 상한 (0 이하면 제한 없음)
+     * @return 본문 스트림 (호출마다 처음부터 새로 생성)
+     */
+    InputStream open(long bytesPerSecond) {
+        return bytesPerSecond > 0 ? new ThrottledStream(open(), bytesPerSecond) : open();
+    }
+
+    private InputStream open() {
+        List<InputStream> parts = new ArrayList<>();
+        parts.add(new ByteArrayInputStream(fieldPart()));
+        for (int i = 0; i < fileSizes.length; i++) {
+            parts.add(new ByteArrayInputStream(fileHeader(i)));
+            parts.add(new JpegStream(fileSizes[i], fileSeed * 100 + i));
+            parts.add(new ByteArrayInputStream(CRLF));
+        }
+        parts.add(new ByteArrayInputStream(closing()));
+        return new SequenceInputStream(Collections.enumeration(parts));
+    }
+
+    private byte[] fieldPart() {
+        return ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"uploaderName\"\r\n\r\n"
+                + uploaderName + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] fileHeader(int index) {
+        return ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"IMG_" + (1000 + index) + ".jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] closing() {
+        return ("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 읽은 양이 경과 시간 x 속도 상한을 넘지 않도록 읽기를 늦추는 스트림 (느린 업로더 재현)
+     */
+    private static final class ThrottledStream extends FilterInputStream {
+
+        private static final int MAX_READ = 16 * 1024;
+
+        private final long bytesPerSecond;
+        private final long startedAt = System.nanoTime();
+        private long position;
+
+        ThrottledStream(InputStream in, long bytesPerSecond) {
+            super(in);
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            long aheadNanos = position * 1_000_000_000L / bytesPerSecond - (System.nanoTime() - startedAt);
+            if (aheadNanos > 0) {
+                try {
+                    Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            int count = super.read(buffer, offset, Math.min(length, MAX_READ));
+            if (count > 0) {
+                position += count;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * JPEG 헤더(SOI + SOF0 4032x3024) + 고유값 8바이트 + 공용 난수 블록 반복
+     */
+    private static final class JpegStream extends InputStream {
+
+        private final byte[] header;
+        private final long size;
+        private long position;
+
+        JpegStream(long size, long seed) {
+            this.header = ByteBuffer.allocate(23)
+                                    .putShort((short) 0xFFD8)
+                                    .putShort((short) 0xFFC0)
+                                    .putShort((short) 11)
+                                    .put((byte) 8)
+                                    .putShort((short) 3024)
+                                    .putShort((short) 4032)
+                                    .put(new byte[] { 1, 1, 0x11, 0 })
+                                    .putLong(seed)
+                                    .array();
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - position);
+            for (int copied = 0; copied < count; ) {
+                long at = position + copied;
+                int chunk;
+                if (at < header.length) {
+                    chunk = (int) Math.min(count - copied, header.length - at);
+                    System.arraycopy(header, (int) at, buffer, offset + copied, chunk);
+                } else {
+                    int noiseOffset = (int) ((at - header.length) % NOISE_SIZE);
+                    chunk = Math.min(count - copied, NOISE_SIZE - noiseOffset);
+                    System.arraycopy(NOISE, noiseOffset, buffer, offset + copied, chunk);
+                }
+                copied += chunk;
+            }
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package me.agfe.wedsnap.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드를 같은 부하로 차례로 실행하여 결과를 나란히 비교합니다.
+ * 모드마다 애플리케이션을 새로 기동하며, 두 모드 모두 전부 받도록 입장 제어는 끕니다.
+ * 결과는 reportFile 폴더의 platform.json / virtual.json (모드별 요약), thread-modes.txt / thread-modes.json (비교표)
+ * 실행: ./gradlew loadTestThreadModes -PjavaVersion=21 -PloadTest.guests=600 -PloadTest.uploadKbps=256
+ */
+public final class ThreadModeComparison {
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (!settings.baseUrl().isBlank()) {
+            throw new IllegalStateException("Thread mode comparison launches the application itself; unset loadTest.baseUrl");
+        }
+        Path reportDir = settings.reportFile().toAbsolutePath().getParent();
+
+        Map<String, Map<String, Object>> summaries = new LinkedHashMap<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            LoadTestSettings run = settings.withRun("-Dspring.threads.virtual.enabled=" + virtual
+                                                    + " -Dwedsnap.upload.admission.enabled=false",
+                                                    reportDir.resolve(mode + ".json"));
+            System.out.println("running " + mode + " threads...");
+            LoadTestReport report = WeddingBurstLoadTest.execute(run, reportDir.resolve(mode + ".log"));
+            report.write(run, run.reportFile());
+            summaries.put(mode, report.summarize(run));
+        }
+
+        Path comparison = reportDir.resolve("thread-modes.txt");
+        System.out.println(LoadTestReport.writeComparison(summaries, comparison));
+        System.out.println("report: " + comparison);
+        System.exit(0);
+    }
+}
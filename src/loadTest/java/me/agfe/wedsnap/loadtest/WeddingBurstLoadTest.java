@@ -0,0 +1,159 @@
+package me.agfe.wedsnap.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 예식 직후 업로드 몰림 재현 부하 테스트
+ * 하객 수만큼의 스레드가 rampUp 안의 임의 시점에 도착해, 1~maxFilesPerRequest 장(크기는 로그정규 분포)을
+ * 한 번에 올리고 think time 뒤 다시 올립니다. 일부 하객은 같은 이름을 써서 업로더명 예약 경합도 함께 만듭니다.
+ * 실행: ./gradlew loadTest -PloadTest.guests=300 -PloadTest.rampUp=PT1M
+ */
+public final class WeddingBurstLoadTest {
+
+    private static final Pattern ERROR_CODE = Pattern.compile("\"errorCode\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern RESULT_SUCCESS = Pattern.compile("\"result\"\\s*:\\s*true");
+    private static final Pattern FAIL_COUNT = Pattern.compile("\"failCount\"\\s*:\\s*[1-9]");
+    private static final String SHARED_NAME = "하객";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private WeddingBurstLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestReport report = execute(settings, settings.reportFile().resolveSibling("app.log"));
+        String summary = report.write(settings, settings.reportFile());
+        System.out.println(summary);
+        System.out.println("report: " + settings.reportFile().toAbsolutePath());
+        System.exit(0);
+    }
+
+    /**
+     * 애플리케이션을 기동(또는 baseUrl 에 연결)하여 부하를 한 번 주고, 끝나면 기동한 애플리케이션을 종료합니다.
+     * @param settings 부하 테스트 설정
+     * @param logFile 기동한 애플리케이션의 로그 파일
+     * @return 집계 결과
+     */
+    static LoadTestReport execute(LoadTestSettings settings, Path logFile) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                                      .version(HttpClient.Version.HTTP_1_1)
+                                      .connectTimeout(Duration.ofSeconds(10))
+                                      .executor(Executors.newCachedThreadPool())
+                                      .build();
+        try (AppProcess app = settings.baseUrl().isBlank() ? AppProcess.launch(settings, client, logFile)
+                                                           : AppProcess.attach(settings.baseUrl(), client)) {
+            return run(settings, client, app);
+        }
+    }
+
+    private static LoadTestReport run(LoadTestSettings settings, HttpClient client, AppProcess app)
+            throws InterruptedException {
+        LoadTestReport report = new LoadTestReport();
+        URI uploadUri = URI.create(app.baseUrl() + "/api/events/"
+                                   + URLEncoder.encode(settings.eventName(), StandardCharsets.UTF_8).replace("+", "%20")
+                                   + "/upload");
+        AtomicLong fileSeeds = new AtomicLong(settings.seed() * 1_000_000L);
+
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(() -> report.recordHeap(app.scrape()), 0, 1, TimeUnit.SECONDS);
+        AppProcess.JvmSnapshot before = app.scrape();
+
+        Random arrivals = new Random(settings.seed());
+        ExecutorService guests = Executors.newFixedThreadPool(settings.guests());
+        long startedAt = System.nanoTime();
+        for (int guest = 0; guest < settings.guests(); guest++) {
+            long arrivalMillis = (long) (arrivals.nextDouble() * settings.rampUp().toMillis());
+            String name = arrivals.nextDouble() < settings.duplicateNameRatio() ? SHARED_NAME : "하객" + (guest + 1);
+            Random random = new Random(settings.seed() + guest);
+            guests.execute(() -> {
+                try {
+                    Thread.sleep(arrivalMillis);
+                    for (int i = 0; i < settings.requestsPerGuest(); i++) {
+                        if (i > 0) {
+                            Thread.sleep(exponentialMillis(random, settings.thinkTime()));
+                        }
+                        SyntheticUpload upload = new SyntheticUpload(name, fileSizes(settings, random),
+                                                                     fileSeeds.incrementAndGet());
+                        report.record(send(client, uploadUri, upload, settings.uploadKbps() * 1024L));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        guests.shutdown();
+        guests.awaitTermination(1, TimeUnit.DAYS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        heapSampler.shutdownNow();
+        report.finish(before, app.scrape(), elapsed);
+        return report;
+    }
+
+    private static LoadTestReport.Sample send(HttpClient client, URI uri, SyntheticUpload upload, long bytesPerSecond)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                                         .timeout(REQUEST_TIMEOUT)
+                                         .header("Content-Type", upload.contentType())
+                                         .POST(HttpRequest.BodyPublishers.fromPublisher(
+                                                 HttpRequest.BodyPublishers.ofInputStream(() -> upload.open(bytesPerSecond)),
+                                                 upload.contentLength()))
+                                         .build();
+        long startedAt = System.nanoTime();
+        String errorCode;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            errorCode = errorCode(response);
+        } catch (IOException e) {
+            errorCode = "IO_" + e.getClass().getSimpleName();
+        }
+        return new LoadTestReport.Sample(System.nanoTime() - startedAt, upload.fileCount(), upload.contentLength(),
+                                         errorCode);
+    }
+
+    /**
+     * @return 성공이면 null, 실패면 응답의 errorCode (없으면 HTTP_상태코드), 일부 파일만 실패했으면 PARTIAL_FAILURE
+     */
+    private static String errorCode(HttpResponse<String> response) {
+        String body = response.body();
+        Matcher matcher = ERROR_CODE.matcher(body);
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+        if (response.statusCode() == 200 && RESULT_SUCCESS.matcher(body).find()) {
+            return FAIL_COUNT.matcher(body).find() ? "PARTIAL_FAILURE" : null;
+        }
+        return "HTTP_" + response.statusCode();
+    }
+
+    private static long[] fileSizes(LoadTestSettings settings, Random random) {
+        int count = 1 + random.nextInt(settings.maxFilesPerRequest());
+        long max = (long) (settings.fileSizeMaxMb() * 1024 * 1024);
+        long[] sizes = new long[count];
+        for (int i = 0; i < count; i++) {
+            double mb = settings.fileSizeMedianMb() * Math.exp(settings.fileSizeSigma() * random.nextGaussian());
+            sizes[i] = Math.max(64 * 1024, Math.min(max, (long) (mb * 1024 * 1024)));
+        }
+        return sizes;
+    }
+
+    private static long exponentialMillis(Random random, Duration mean) {
+        return (long) (-Math.log(1 - random.nextDouble()) * mean.toMillis());
+    }
+}
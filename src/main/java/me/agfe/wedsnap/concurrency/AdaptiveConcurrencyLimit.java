@@ -0,0 +1,162 @@
+package me.agfe.wedsnap.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장 지연 시간에 맞춰 조정되는 동시 업로드 상한 (AIMD)
+ * 파일 저장 1건의 바이트당 지연 시간을 최근(짧은 구간)/평소(긴 구간) 이동 평균으로 추적하여,
+ * 최근 값이 평소의 tolerance 배를 넘거나 저장이 실패하면 상한을 backoff-ratio 배로 줄이고,
+ * 그렇지 않은 상태에서 상한의 절반 이상이 사용 중이면 1씩 늘립니다. 조정은 상한만큼 표본이 모일 때마다 한 번만 합니다.
+ * 저장소 상태 측정(StorageHealthIndicator)이 정상이 아니라고 알리면 그동안은 최소 상한만 허용합니다.
+ */
+@Component
+public class AdaptiveConcurrencyLimit {
+
+    /** 최근 지연 이동 평균 가중치 (최근 표본 5개 정도) */
+    private static final double SHORT_WEIGHT = 0.2;
+    /** 평소 지연 이동 평균 가중치 (최근 표본 100개 정도) */
+    private static final double LONG_WEIGHT = 0.01;
+    /** 요청 처리 시간 이동 평균 가중치 */
+    private static final double REQUEST_WEIGHT = 0.1;
+    /** 작은 파일의 고정 비용이 바이트당 지연을 부풀리지 않도록 하는 최소 크기 */
+    private static final long MIN_SAMPLE_BYTES = 256 * 1024;
+    private static final long MAX_RETRY_AFTER_SECONDS = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private volatile double requestSeconds = 1;
+    private volatile boolean storageDegraded;
+    private double shortLatency = Double.NaN;
+    private double longLatency = Double.NaN;
+    private int samplesSinceChange;
+
+    /**
+     * @param initialLimit 시작 상한
+     * @param minLimit 최소 상한
+     * @param maxLimit 최대 상한
+     * @param tolerance 평소 대비 허용하는 최근 지연 배율
+     * @param backoffRatio 지연 증가/실패 시 상한 감소 배율
+     */
+    public AdaptiveConcurrencyLimit(@Value("${wedsnap.upload.admission.initial-limit}") int initialLimit,
+                                    @Value("${wedsnap.upload.admission.min-limit}") int minLimit,
+                                    @Value("${wedsnap.upload.admission.max-limit}") int maxLimit,
+                                    @Value("${wedsnap.upload.admission.tolerance}") double tolerance,
+                                    @Value("${wedsnap.upload.admission.backoff-ratio}") double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * 상한 안이면 처리 중 요청 수를 하나 늘립니다.
+     * @return 처리해도 되면 true, 상한에 도달했으면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * {@link #tryAcquire()} 로 받은 자리를 반납합니다.
+     * @param requestNanos 요청 처리에 걸린 시간 (재시도 안내 시간 계산용)
+     */
+    public void release(long requestNanos) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            requestSeconds += (requestNanos / 1e9 - requestSeconds) * REQUEST_WEIGHT;
+        }
+    }
+
+    /**
+     * 상한과 관계없이 처리 중 수를 하나 늘립니다. (이미 접수한 비동기 업로드 작업처럼 거절할 수 없는 처리용)
+     * 늘어난 만큼 새 요청이 거절되며, 끝나면 {@link #release()} 로 반납해야 합니다.
+     */
+    public void acquire() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * {@link #acquire()} 로 늘린 처리 중 수를 반납합니다. (재시도 안내 시간에는 반영하지 않음)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 파일 저장 1건의 결과를 반영합니다.
+     * @param nanos 저장에 걸린 시간
+     * @param bytes 저장한 크기
+     * @param failed 저장 실패 여부 (실패는 지연 증가와 같이 감소 신호로 봄)
+     */
+    public synchronized void onSample(long nanos, long bytes, boolean failed) {
+        boolean congested = failed;
+        if (!failed) {
+            double latency = (double) nanos / Math.max(bytes, MIN_SAMPLE_BYTES);
+            if (Double.isNaN(shortLatency)) {
+                shortLatency = latency;
+                longLatency = latency;
+            } else {
+                shortLatency += (latency - shortLatency) * SHORT_WEIGHT;
+                longLatency += (latency - longLatency) * LONG_WEIGHT;
+            }
+            congested = shortLatency > longLatency * tolerance;
+        }
+
+        if (++samplesSinceChange < limit) {
+            return;
+        }
+        if (congested) {
+            limit = Math.max(minLimit, Math.floor(limit * backoffRatio));
+            samplesSinceChange = 0;
+        } else if (inFlight.get() * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+            samplesSinceChange = 0;
+        }
+    }
+
+    /**
+     * @return 거절한 요청에 안내할 재시도 대기 시간 (요청 처리 시간 평균, 1~30초)
+     */
+    public Duration retryAfter() {
+        long seconds = Math.round(Math.ceil(requestSeconds));
+        return Duration.ofSeconds(Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, seconds)));
+    }
+
+    /**
+     * 저장소가 느리거나 공간이 부족한 동안에는 학습된 상한과 관계없이 최소 상한만 허용합니다.
+     * (저장 지연 표본은 요청이 끝나야 모이므로, 측정 결과로 먼저 낮춤)
+     * @param storageDegraded 저장소 상태 이상 여부
+     */
+    public void setStorageDegraded(boolean storageDegraded) {
+        this.storageDegraded = storageDegraded;
+    }
+
+    /**
+     * @return 현재 적용 중인 상한 (저장소 상태 이상이면 최소 상한)
+     */
+    public int getLimit() {
+        return storageDegraded ? minLimit : (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,59 @@
+package me.agfe.wedsnap.concurrency;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+
+/**
+ * 저장소 I/O 벌크헤드 (세마포어)
+ * 가상 스레드 모드에서는 저장 작업이 스레드 풀 크기로 제한되지 않으므로, 실제로 동시에 수행되는 파일 저장 수를 여기서 제한합니다.
+ * 플랫폼 스레드 모드에서도 요청 스레드에서 직접 저장하는 경로(이어받기 완료 등)까지 같은 상한을 적용합니다.
+ */
+@Component
+public class IoBulkhead {
+
+    private final Semaphore permits;
+    private final WedSnapMetrics metrics;
+
+    /**
+     * @param parallelism 동시에 수행할 수 있는 최대 파일 저장 수
+     * @param metrics 허가 대기 시간 기록용
+     */
+    public IoBulkhead(@Value("${wedsnap.upload.io.parallelism}") int parallelism, WedSnapMetrics metrics) {
+        this.permits = new Semaphore(Math.max(1, parallelism), true);
+        this.metrics = metrics;
+        metrics.registerIoBulkhead(permits::availablePermits, permits::getQueueLength);
+    }
+
+    /**
+     * 허가를 얻은 상태에서 저장 작업을 실행합니다.
+     * @param task 저장 작업
+     * @return 작업 결과
+     * @throws IOException 작업 실패 또는 허가 대기 중 인터럽트
+     */
+    public <T> T call(IoTask<T> task) throws IOException {
+        long start = System.nanoTime();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("저장소 I/O 허가 대기 중 인터럽트");
+        }
+        metrics.recordIoWait(System.nanoTime() - start);
+        try {
+            return task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @FunctionalInterface
+    public interface IoTask<T> {
+        T run() throws IOException;
+    }
+}
@@ -0,0 +1,68 @@
+package me.agfe.wedsnap.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키 단위 락 관리자 (Striped Lock)
+ * 키를 고정 개수의 스트라이프 락 중 하나에 매핑하여, 같은 키에 대한 작업만 직렬화합니다.
+ * 서로 다른 키는 대부분 다른 스트라이프에 매핑되므로 동시에 진행됩니다.
+ */
+@Component
+public class KeyedLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripeCount 스트라이프 개수 (2의 거듭제곱으로 올림 처리)
+     */
+    public KeyedLockManager(@Value("${wedsnap.upload.lock-stripes}") int stripeCount) {
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 이벤트/업로더 조합에 대한 락 키를 생성합니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 업로더 이름
+     * @return 락 키
+     */
+    public static String key(String eventName, String uploaderName) {
+        return eventName + '/' + uploaderName;
+    }
+
+    /**
+     * 키에 해당하는 락을 획득한 상태에서 작업을 실행합니다.
+     * @param key 락 키
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T executeWithLock(String key, Supplier<T> action) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ReentrantLock lockFor(String key) {
+        int hash = key.hashCode();
+        // 상위 비트를 섞어 mask 적용 시 분포를 고르게 함
+        hash ^= (hash >>> 16);
+        return stripes[hash & mask];
+    }
+}
@@ -0,0 +1,32 @@
+package me.agfe.wedsnap.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * ZIP 다운로드용 파일 읽기 실행기 설정
+ * 다운로드 1건당 읽기 스레드 1개가 응답 스레드보다 앞서 파일을 읽습니다.
+ */
+@Configuration
+public class ArchiveExecutorConfig {
+
+    /**
+     * ZIP 다운로드 읽기 전용 스레드 풀
+     * 동시 다운로드 수는 서비스에서 제한하며, 이전 다운로드의 읽기 스레드가 정리되는 동안 들어온 작업은 큐에서 잠시 대기합니다.
+     *
+     * @param maxConcurrent 동시 다운로드 수
+     * @return ZIP 다운로드용 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor archiveExecutor(@Value("${wedsnap.archive.max-concurrent}") int maxConcurrent) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(maxConcurrent);
+        executor.setThreadNamePrefix("archive-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package me.agfe.wedsnap.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 파생 이미지(썸네일/미리보기) 생성용 실행기 설정
+ * 디코딩은 CPU 와 힙을 많이 쓰므로 업로드 저장용 풀과 분리하고 낮은 우선순위의 소수 스레드로 제한합니다.
+ */
+@Configuration
+public class DerivativeExecutorConfig {
+
+    /**
+     * 파생 이미지 생성 전용 스레드 풀
+     * 큐가 가득 차면 제출이 거부되며, 작업은 큐 디렉토리에 남아 있다가 다음 주기에 다시 제출됩니다.
+     * 종료 시 진행 중인 작업을 기다리지 않으며, 끝나지 않은 작업은 재시작 후 처음부터 다시 수행됩니다.
+     *
+     * @param workers 동시에 처리할 작업 수
+     * @param queueCapacity 메모리 대기 큐 크기
+     * @return 파생 이미지 생성용 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor derivativeExecutor(@Value("${wedsnap.upload.derivatives.workers}") int workers,
+                                                     @Value("${wedsnap.upload.derivatives.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("derivative-");
+        executor.setThreadPriority(Thread.NORM_PRIORITY - 1);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,35 @@
+package me.agfe.wedsnap.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * HEIC/HEIF → JPEG 변환용 실행기 설정
+ * 변환은 파생 이미지 생성보다 CPU 를 훨씬 많이 쓰므로 별도 풀로 분리하여 동시 변환 수를 CPU 코어보다 작게 제한합니다.
+ */
+@Configuration
+public class HeifTranscodeExecutorConfig {
+
+    /**
+     * HEIF 변환 전용 스레드 풀
+     * 큐가 가득 차면 제출이 거부되며, 작업은 파생 이미지 큐 디렉토리에 남아 있다가 다음 주기에 다시 제출됩니다.
+     *
+     * @param workers 동시에 변환할 파일 수
+     * @param queueCapacity 메모리 대기 큐 크기
+     * @return HEIF 변환용 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor heifTranscodeExecutor(@Value("${wedsnap.upload.heif.workers}") int workers,
+                                                        @Value("${wedsnap.upload.heif.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("heif-transcode-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,35 @@
+package me.agfe.wedsnap.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 스테이징 → NAS 복제용 실행기 설정
+ * 업로드 응답과 분리되어 있으므로 NAS 동시 쓰기 수만 제한하면 됩니다.
+ */
+@Configuration
+public class ReplicationExecutorConfig {
+
+    /**
+     * NAS 복제 전용 스레드 풀
+     * 큐가 가득 차면 제출이 거부되며, 파일은 스테이징 영역에 남아 있다가 다음 주기에 다시 제출됩니다.
+     * 종료 시 진행 중인 복제를 기다리지 않으며, 끝나지 않은 파일은 재시작 후 처음부터 다시 복제됩니다.
+     *
+     * @param workers 동시에 복제할 파일 수
+     * @param queueCapacity 메모리 대기 큐 크기
+     * @return NAS 복제용 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor replicationExecutor(@Value("${wedsnap.upload.staging.workers}") int workers,
+                                                      @Value("${wedsnap.upload.staging.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("replication-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,12 @@
+package me.agfe.wedsnap.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(만료된 업로드 세션 정리 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,53 @@
+package me.agfe.wedsnap.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 스트리밍 업로드 설정
+ * 스트리밍 모드 헤더가 붙은 요청은 Spring 의 multipart 해석(임시 파일 스풀링)을 건너뛰고
+ * 컨트롤러가 요청 본문을 직접 읽도록 합니다.
+ */
+@Configuration
+public class StreamingUploadConfig {
+
+    public static final String UPLOAD_MODE_HEADER = "X-Upload-Mode";
+    public static final String STREAMING_MODE = "stream";
+    /** 스트리밍 요청의 파일 수 (본문을 읽기 전에 최대 개수 검사) */
+    public static final String FILE_COUNT_HEADER = "X-Upload-File-Count";
+
+    /**
+     * 스트리밍 요청을 제외하고는 기본 multipart 해석기와 동일하게 동작하는 해석기
+     * (Spring Boot 기본 multipartResolver 빈을 대체합니다.)
+     *
+     * @param multipartProperties spring.servlet.multipart 설정
+     * @param streamingEnabled 스트리밍 업로드 활성화 여부
+     * @return multipart 해석기
+     */
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public StandardServletMultipartResolver multipartResolver(MultipartProperties multipartProperties,
+                                                              @Value("${wedsnap.upload.streaming.enabled}") boolean streamingEnabled) {
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                if (streamingEnabled && isStreamingRequest(request)) {
+                    return false;
+                }
+                return super.isMultipart(request);
+            }
+        };
+        resolver.setResolveLazily(multipartProperties.isResolveLazily());
+        resolver.setStrictServletCompliance(multipartProperties.isStrictServletCompliance());
+        return resolver;
+    }
+
+    public static boolean isStreamingRequest(HttpServletRequest request) {
+        return STREAMING_MODE.equalsIgnoreCase(request.getHeader(UPLOAD_MODE_HEADER));
+    }
+}
@@ -0,0 +1,42 @@
+package me.agfe.wedsnap.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.filter.UploadAdmissionFilter;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+
+/**
+ * 업로드 입장 제어 설정
+ * 저장 지연에 맞춰 조정되는 동시 처리 상한을 넘는 업로드 요청은 필터에서 429 로 거절합니다.
+ */
+@Configuration
+public class UploadAdmissionConfig {
+
+    /**
+     * @param admissionLimit 동시 처리 상한
+     * @param exceptionResolver 거절 응답을 GlobalExceptionHandler 형식으로 만들기 위한 예외 해석기
+     * @param metrics 상한/처리 중 요청 수 게이지 등록용
+     * @param enabled 입장 제어 활성화 여부
+     * @return 업로드 경로에만 적용되는 필터 등록 정보
+     */
+    @Bean
+    public FilterRegistrationBean<UploadAdmissionFilter> uploadAdmissionFilter(
+            AdaptiveConcurrencyLimit admissionLimit,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+            WedSnapMetrics metrics,
+            @Value("${wedsnap.upload.admission.enabled}") boolean enabled) {
+        metrics.registerAdmissionLimit(admissionLimit::getLimit, admissionLimit::getInFlight);
+
+        FilterRegistrationBean<UploadAdmissionFilter> registration =
+                new FilterRegistrationBean<>(new UploadAdmissionFilter(admissionLimit, exceptionResolver));
+        registration.addUrlPatterns("/api/events/*", "/api/upload-sessions/*");
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
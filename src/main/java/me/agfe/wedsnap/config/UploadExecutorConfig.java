@@ -0,0 +1,49 @@
+package me.agfe.wedsnap.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 업로드 파일 저장용 I/O 실행기 설정
+ * 한 요청의 파일들을 병렬로 NAS에 저장하되, 전체 동시 쓰기 수는 풀 크기로 제한합니다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상)에서는 파일마다 가상 스레드를 쓰고,
+ * 동시 쓰기 수는 IoBulkhead 가 제한합니다.
+ */
+@Configuration
+public class UploadExecutorConfig {
+
+    /**
+     * 파일 저장 전용 실행기
+     * 플랫폼 스레드 모드에서는 큐가 가득 차면 요청 스레드가 직접 저장을 수행하여 자연스럽게 역압(backpressure)이 걸립니다.
+     *
+     * @param parallelism 동시에 수행할 수 있는 최대 파일 쓰기 수
+     * @param queueCapacity 대기 큐 크기
+     * @param virtualThreads 가상 스레드 모드 여부 (Java 21 미만에서는 무시되고 스레드 풀 사용)
+     * @return 파일 저장용 실행기
+     */
+    @Bean
+    public TaskExecutor uploadIoExecutor(@Value("${wedsnap.upload.io.parallelism}") int parallelism,
+                                         @Value("${wedsnap.upload.io.queue-capacity}") int queueCapacity,
+                                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            return new VirtualThreadTaskExecutor("upload-io-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-io-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+}
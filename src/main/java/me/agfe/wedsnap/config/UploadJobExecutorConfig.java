@@ -0,0 +1,38 @@
+package me.agfe.wedsnap.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 업로드 작업 실행기 설정
+ * 요청 스레드는 본문을 받은 뒤 바로 반환되고, 검증과 저장은 이 실행기에서 수행됩니다.
+ */
+@Configuration
+public class UploadJobExecutorConfig {
+
+    /**
+     * 업로드 작업 전용 스레드 풀
+     * 큐가 가득 차면 요청 스레드가 직접 작업을 수행하므로(동기 업로드와 같아짐) 대기 작업 수가 큐 크기로 제한됩니다.
+     *
+     * @param workers 동시에 처리할 작업 수
+     * @param queueCapacity 대기 큐 크기
+     * @return 업로드 작업 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor uploadJobExecutor(@Value("${wedsnap.upload.async.workers}") int workers,
+                                                    @Value("${wedsnap.upload.async.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+}
@@ -2,10 +2,14 @@ package me.agfe.wedsnap.config;
 
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 /**
  * 웹 MVC 설정 클래스
@@ -16,25 +20,16 @@ public class WebConfig implements WebMvcConfigurer {
 
     /**
      * 정적 리소스 핸들러 설정
-     * CSS, JS 파일에 대해 브라우저 캐싱을 방지하는 HTTP 헤더를 설정합니다.
+     * CSS, JS 파일은 내용 해시가 들어간 URL(예: /js/upload-{md5}.js)로 제공하여 1년간 변경 없이 캐시하도록 하고,
+     * 해시 없는 URL 로 직접 요청한 경우에는 같은 URL 로 내용이 바뀌므로 매번 재검증하도록 합니다.
+     * 빌드 시 만든 .br/.gz 사전 압축본이 있으면 Accept-Encoding 에 맞춰 대신 제공합니다.
      *
      * @param registry 리소스 핸들러 레지스트리
      */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // CSS 파일 캐싱 방지 설정
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/")
-                .setCacheControl(CacheControl.noStore()
-                                             .mustRevalidate()
-                                             .cachePrivate());
-
-        // JS 파일 캐싱 방지 설정
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/")
-                .setCacheControl(CacheControl.noStore()
-                                             .mustRevalidate()
-                                             .cachePrivate());
+        addVersionedResourceHandler(registry, "/css", "classpath:/static/css/");
+        addVersionedResourceHandler(registry, "/js", "classpath:/static/js/");
 
         // 이미지 파일은 캐싱 허용 (성능 최적화)
         registry.addResourceHandler("/images/**")
@@ -42,4 +37,33 @@ public class WebConfig implements WebMvcConfigurer {
                 .setCacheControl(CacheControl.maxAge(7, TimeUnit.DAYS)
                                              .cachePublic());
     }
+
+    private void addVersionedResourceHandler(ResourceHandlerRegistry registry, String path, String location) {
+        // 내용 해시(MD5)가 들어간 URL 은 내용이 바뀌면 URL 이 바뀌므로 재검증 없이 캐시 (더 구체적인 패턴이라 먼저 매칭됨)
+        registry.addResourceHandler(path + "/{name:[^/]+}-{hash:[0-9a-f]{32}}{extension:\\.[a-z]+}")
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS)
+                                             .cachePublic()
+                                             .immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        // 해시 없는 URL 은 Last-Modified 로 매번 재검증 (템플릿 링크의 해시 URL 변환도 이 핸들러로 함)
+        registry.addResourceHandler(path + "/**")
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * 템플릿의 @{/css/..}, @{/js/..} 링크를 내용 해시가 들어간 URL 로 바꿉니다.
+     *
+     * @return 리소스 URL 변환 필터
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
 }
@@ -0,0 +1,107 @@
+package me.agfe.wedsnap.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.service.ArchiveService;
+
+/**
+ * 이벤트 사진 ZIP 다운로드 API
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ArchiveController {
+
+    private static final String ZIP_CONTENT_TYPE = "application/zip";
+
+    private final ArchiveService archiveService;
+
+    /**
+     * ZIP 다운로드 API
+     * Range 요청(단일 구간)을 지원하며, If-Range 의 ETag 가 현재 구성과 다르면 전체를 다시 보냅니다.
+     * @param eventName 이벤트 이름
+     * @param uploader 업로더 폴더명 필터 (없으면 이벤트 전체)
+     * @param headers 요청 헤더 (Range, If-Range)
+     * @param method 요청 메서드 (HEAD 면 본문 생략)
+     * @param response 응답 (본문을 직접 씀)
+     * @throws IOException 파일 읽기 또는 전송 실패 시
+     */
+    @GetMapping("/api/events/{eventName}/archive")
+    public void download(@PathVariable String eventName,
+                         @RequestParam(required = false) String uploader,
+                         @RequestHeader HttpHeaders headers,
+                         HttpMethod method,
+                         HttpServletResponse response) throws IOException {
+        try (ArchiveService.Archive archive = archiveService.open(eventName, uploader)) {
+            long length = archive.getLength();
+            response.setContentType(ZIP_CONTENT_TYPE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                               ContentDisposition.attachment()
+                                                 .filename(archive.getFileName(), StandardCharsets.UTF_8)
+                                                 .build()
+                                                 .toString());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.ETAG, archive.getEtag());
+
+            long from = 0;
+            long to = length;
+            HttpRange range = resolveRange(headers, archive.getEtag());
+            if (range != null) {
+                try {
+                    from = range.getRangeStart(length);
+                    to = range.getRangeEnd(length) + 1;
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + from + "-" + (to - 1) + "/" + length);
+            }
+            response.setContentLengthLong(to - from);
+            if (method == HttpMethod.HEAD) {
+                return;
+            }
+
+            log.info("Archive download started: eventId={}, uploader={}, files={}, range={}-{}/{}",
+                     eventName, uploader, archive.getEntryCount(), from, to, length);
+            long startedAt = System.nanoTime();
+            archive.writeTo(response.getOutputStream(), from, to);
+            log.info("Archive download completed: eventId={}, bytes={}, elapsed={}ms",
+                     eventName, to - from, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    /**
+     * 적용할 Range 구간. 형식 오류, 다중 구간, If-Range 불일치면 null (전체 전송)
+     */
+    private static HttpRange resolveRange(HttpHeaders headers, String etag) {
+        String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = headers.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+}
@@ -0,0 +1,58 @@
+package me.agfe.wedsnap.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import me.agfe.wedsnap.dto.CommonApiResponse;
+import me.agfe.wedsnap.dto.PhotoPageResponse;
+import me.agfe.wedsnap.dto.UploaderSummaryResponse;
+import me.agfe.wedsnap.service.GalleryService;
+
+/**
+ * 이벤트 갤러리 API
+ */
+@RestController
+@RequiredArgsConstructor
+public class GalleryController {
+
+    private final GalleryService galleryService;
+
+    /**
+     * 사진 목록 조회 API (최신순, 커서 페이지네이션)
+     * @param eventName 이벤트 이름
+     * @param uploader 업로더 폴더명 필터
+     * @param from 이 시각 이후 업로드된 사진만 (ISO-8601, 예: 2024-05-18T13:00:00)
+     * @param to 이 시각 이전 업로드된 사진만 (ISO-8601)
+     * @param cursor 이전 응답의 nextCursor
+     * @param limit 페이지 크기
+     * @return 사진 목록과 다음 페이지 커서
+     */
+    @GetMapping("/api/events/{eventName}/photos")
+    public CommonApiResponse<PhotoPageResponse> listPhotos(
+            @PathVariable String eventName,
+            @RequestParam(required = false) String uploader,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return CommonApiResponse.success(galleryService.listPhotos(eventName, uploader, from, to, cursor, limit));
+    }
+
+    /**
+     * 업로더별 파일 수/용량 조회 API
+     * @param eventName 이벤트 이름
+     * @return 업로더별 집계
+     */
+    @GetMapping("/api/events/{eventName}/uploaders")
+    public CommonApiResponse<List<UploaderSummaryResponse>> listUploaders(@PathVariable String eventName) {
+        return CommonApiResponse.success(galleryService.listUploaders(eventName));
+    }
+}
@@ -2,33 +2,48 @@ package me.agfe.wedsnap.controller;
 
 import java.time.LocalDateTime;
 
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.agfe.wedsnap.dto.HealthCheckResponse;
+import me.agfe.wedsnap.health.StorageHealthIndicator;
 
 /**
  * Health Check API Controller
+ * 저장소 상태는 백그라운드 측정 결과를 그대로 쓰므로, 로드밸런서가 자주 호출해도 NAS I/O 가 생기지 않습니다.
  */
 @Slf4j
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthCheckController {
 
+    private final StorageHealthIndicator storageHealthIndicator;
+
     @GetMapping("/health")
     public ResponseEntity<HealthCheckResponse> healthCheck() {
-        log.info("Health check requested");
+        Health storage = storageHealthIndicator.health();
+        Status status = storage.getStatus();
+        log.debug("Health check requested: storage={}", status.getCode());
 
+        String message = Status.DOWN.equals(status) ? "저장소에 파일을 쓸 수 없습니다."
+                       : StorageHealthIndicator.DEGRADED.equals(status) ? "저장소 응답이 느리거나 공간이 부족합니다."
+                       : "서버가 정상적으로 동작 중입니다.";
         HealthCheckResponse response = HealthCheckResponse.builder()
-                                                          .status("UP")
-                                                          .message("서버가 정상적으로 동작 중입니다.")
+                                                          .status(Status.UNKNOWN.equals(status) ? "UP" : status.getCode())
+                                                          .message(message)
                                                           .timestamp(LocalDateTime.now())
                                                           .serverInfo("WedSnap Server v1.0")
                                                           .build();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.status(Status.DOWN.equals(status) ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK)
+                             .body(response);
     }
 }
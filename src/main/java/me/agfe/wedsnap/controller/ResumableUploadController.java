@@ -0,0 +1,100 @@
+package me.agfe.wedsnap.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.dto.CommonApiResponse;
+import me.agfe.wedsnap.dto.UploadResponse;
+import me.agfe.wedsnap.dto.UploadSessionCreateRequest;
+import me.agfe.wedsnap.dto.UploadSessionResponse;
+import me.agfe.wedsnap.service.ResumableUploadService;
+
+/**
+ * 이어받기(resumable) 업로드 API
+ * 불안정한 모바일 네트워크에서 큰 묶음을 청크 단위로 나누어 보내고, 끊긴 지점부터 이어서 전송할 수 있도록 합니다.
+ * 완료된 파일은 {@link UploadController#upload} 와 같은 event-{id}/{uploader} 폴더에 저장됩니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ResumableUploadController {
+
+    private final ResumableUploadService resumableUploadService;
+
+    /**
+     * 업로드 세션 생성 API
+     * @param eventName 이벤트 이름
+     * @param request 업로더 이름과 파일 목록(이름, 크기)
+     * @return 세션 ID, 청크 크기, 파일별 청크 수
+     */
+    @PostMapping("/api/events/{eventName}/upload-sessions")
+    public CommonApiResponse<UploadSessionResponse> createSession(@PathVariable String eventName,
+                                                                  @Valid @RequestBody UploadSessionCreateRequest request) {
+        log.info("Upload session requested: eventId={}, uploader={}, files={}",
+                 eventName, request.getUploaderName(), request.getFiles().size());
+        return CommonApiResponse.success(resumableUploadService.createSession(eventName, request));
+    }
+
+    /**
+     * 세션 수신 현황 조회 API (재연결 후 이어서 보낼 청크 확인용)
+     * @param sessionId 세션 ID
+     * @return 파일별 수신 청크 목록
+     */
+    @GetMapping("/api/upload-sessions/{sessionId}")
+    public CommonApiResponse<UploadSessionResponse> getSession(@PathVariable String sessionId) {
+        return CommonApiResponse.success(resumableUploadService.getSession(sessionId));
+    }
+
+    /**
+     * 청크 업로드 API
+     * 요청 본문 전체가 청크 데이터이며, 같은 청크를 다시 보내도 안전합니다.
+     * @param sessionId 세션 ID
+     * @param fileIndex 파일 번호 (0부터)
+     * @param chunkIndex 청크 번호 (0부터)
+     * @param request 원본 요청 (본문을 직접 읽음)
+     * @return 해당 파일의 수신 현황
+     * @throws IOException 요청 본문을 열 수 없는 경우
+     */
+    @PutMapping("/api/upload-sessions/{sessionId}/files/{fileIndex}/chunks/{chunkIndex}")
+    public CommonApiResponse<UploadSessionResponse.FileStatus> uploadChunk(@PathVariable String sessionId,
+                                                                           @PathVariable int fileIndex,
+                                                                           @PathVariable int chunkIndex,
+                                                                           HttpServletRequest request) throws IOException {
+        UploadSessionResponse.FileStatus status = resumableUploadService.receiveChunk(
+                sessionId, fileIndex, chunkIndex, request.getContentLengthLong(), Channels.newChannel(request.getInputStream()));
+        return CommonApiResponse.success(status);
+    }
+
+    /**
+     * 업로드 완료 API
+     * @param sessionId 세션 ID
+     * @return 업로드 결과 응답
+     */
+    @PostMapping("/api/upload-sessions/{sessionId}/complete")
+    public CommonApiResponse<UploadResponse> complete(@PathVariable String sessionId) {
+        return CommonApiResponse.success(resumableUploadService.complete(sessionId));
+    }
+
+    /**
+     * 업로드 취소 API
+     * @param sessionId 세션 ID
+     * @return 빈 성공 응답
+     */
+    @DeleteMapping("/api/upload-sessions/{sessionId}")
+    public CommonApiResponse<Void> cancel(@PathVariable String sessionId) {
+        resumableUploadService.cancel(sessionId);
+        return CommonApiResponse.success(null);
+    }
+}
@@ -0,0 +1,83 @@
+package me.agfe.wedsnap.controller;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.config.StreamingUploadConfig;
+import me.agfe.wedsnap.dto.CommonApiResponse;
+import me.agfe.wedsnap.dto.UploadResponse;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.service.UploadService;
+import me.agfe.wedsnap.support.MultipartStreamParser;
+
+/**
+ * 스트리밍 업로드 API
+ * X-Upload-Mode: stream 헤더가 있는 요청을 처리하며, multipart 본문을 임시 파일 없이 바로 저장소에 기록합니다.
+ * 저장을 시작하기 전에 거절할 수 있도록 파일 수(X-Upload-File-Count)와 본문 크기(Content-Length)를 먼저 검사합니다.
+ * 헤더가 없는 요청은 기존 {@link UploadController#upload} 가 처리합니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "wedsnap.upload.streaming.enabled", havingValue = "true")
+public class StreamingUploadController {
+
+    private final UploadService uploadService;
+    private final MultipartProperties multipartProperties;
+
+    @Value("${wedsnap.upload.streaming.parser-buffer-size}")
+    private int parserBufferSize;
+
+    /**
+     * 스트리밍 업로드 API
+     * @param eventName 이벤트 이름
+     * @param request 원본 요청 (본문을 직접 읽음)
+     * @return 업로드 결과 응답
+     * @throws IOException 요청 본문을 열 수 없는 경우
+     */
+    @PostMapping(value = "/api/events/{eventName}/upload",
+                 headers = StreamingUploadConfig.UPLOAD_MODE_HEADER + "=" + StreamingUploadConfig.STREAMING_MODE)
+    public CommonApiResponse<UploadResponse> upload(@PathVariable String eventName, HttpServletRequest request) throws IOException {
+        String boundary = MultipartStreamParser.extractBoundary(request.getContentType());
+        if (boundary == null) {
+            throw new WedSnapException(ErrorCode.NOT_MULTIPART_REQUEST);
+        }
+
+        int fileCount = parseFileCount(request.getHeader(StreamingUploadConfig.FILE_COUNT_HEADER));
+        long maxRequestSize = multipartProperties.getMaxRequestSize().toBytes();
+        if (maxRequestSize > 0 && request.getContentLengthLong() > maxRequestSize) {
+            throw new WedSnapException(ErrorCode.FILE_SIZE_EXCEEDED, "요청 크기 상한: " + maxRequestSize + " bytes");
+        }
+
+        log.info("Streaming upload request received: eventId={}, files={}, contentLength={}",
+                 eventName, fileCount, request.getContentLengthLong());
+
+        MultipartStreamParser parser = new MultipartStreamParser(request.getInputStream(), boundary, parserBufferSize,
+                                                                 maxRequestSize);
+        UploadResponse response = uploadService.processStreamingUpload(eventName, fileCount, parser);
+        return CommonApiResponse.success(response);
+    }
+
+    private static int parseFileCount(String header) {
+        if (header == null || header.isBlank()) {
+            throw new WedSnapException(ErrorCode.MISSING_REQUEST_PARAMETER,
+                                       "필수 요청 헤더가 존재하지 않습니다: " + StreamingUploadConfig.FILE_COUNT_HEADER);
+        }
+        try {
+            return Integer.parseInt(header.trim());
+        } catch (NumberFormatException e) {
+            throw new WedSnapException(ErrorCode.CONSTRAINT_VIOLATION,
+                                       StreamingUploadConfig.FILE_COUNT_HEADER + " 값이 올바르지 않습니다: " + header);
+        }
+    }
+}
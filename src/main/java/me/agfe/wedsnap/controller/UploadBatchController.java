@@ -0,0 +1,63 @@
+package me.agfe.wedsnap.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.dto.CommonApiResponse;
+import me.agfe.wedsnap.dto.UploadBatchCreateRequest;
+import me.agfe.wedsnap.dto.UploadBatchResponse;
+import me.agfe.wedsnap.dto.UploadResponse;
+import me.agfe.wedsnap.service.UploadService;
+
+/**
+ * 파일별 업로드 API
+ * 묶음을 만들어 업로더명을 한 번 예약한 뒤, 사진을 한 장씩 별도 요청으로 보냅니다.
+ * 한 파일의 실패/지연이 다른 파일에 영향을 주지 않고, 서버는 요청이 도착하는 대로 파일을 저장합니다.
+ * 저장 위치는 {@link UploadController#upload} 와 같은 event-{id}/{uploader} 폴더입니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "wedsnap.upload.batch.enabled", havingValue = "true")
+public class UploadBatchController {
+
+    private final UploadService uploadService;
+
+    /**
+     * 업로드 묶음 생성 API
+     * @param eventName 이벤트 이름
+     * @param request 업로더 이름
+     * @return 묶음 ID 와 예약된 업로더 폴더명
+     */
+    @PostMapping("/api/events/{eventName}/upload-batches")
+    public CommonApiResponse<UploadBatchResponse> createBatch(@PathVariable String eventName,
+                                                              @Valid @RequestBody UploadBatchCreateRequest request) {
+        log.info("Upload batch requested: eventId={}, uploader={}", eventName, request.getUploaderName());
+        return CommonApiResponse.success(uploadService.createBatch(eventName, request.getUploaderName()));
+    }
+
+    /**
+     * 파일 1개 업로드 API
+     * 같은 파일을 다시 보내면 내용 중복으로 판정되어 두 번 저장되지 않습니다.
+     * @param eventName 이벤트 이름
+     * @param batchId 묶음 ID
+     * @param file 업로드 파일
+     * @param originalInfo 브라우저에서 줄여 보낸 경우 원본 정보
+     * @return 업로드 결과 응답 (파일 1개 기준)
+     */
+    @PostMapping("/api/events/{eventName}/upload-batches/{batchId}/files")
+    public CommonApiResponse<UploadResponse> uploadFile(@PathVariable String eventName,
+                                                        @PathVariable String batchId,
+                                                        @RequestParam MultipartFile file,
+                                                        @RequestParam(required = false) String originalInfo) {
+        return CommonApiResponse.success(uploadService.uploadFile(eventName, batchId, file, originalInfo));
+    }
+}
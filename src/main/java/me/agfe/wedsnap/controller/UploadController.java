@@ -1,29 +1,35 @@
 package me.agfe.wedsnap.controller;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.agfe.wedsnap.dto.CommonApiResponse;
+import me.agfe.wedsnap.dto.UploadJobResponse;
+import me.agfe.wedsnap.dto.UploadOptionsResponse;
 import me.agfe.wedsnap.dto.UploadRequest;
 import me.agfe.wedsnap.dto.UploadResponse;
 import me.agfe.wedsnap.exception.ErrorCode;
 import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.service.UploadJobService;
 import me.agfe.wedsnap.service.UploadService;
-import me.agfe.wedsnap.validation.NoProfanity;
+import me.agfe.wedsnap.validation.UploaderName;
 
 @Slf4j
 @Validated
@@ -31,10 +37,22 @@ import me.agfe.wedsnap.validation.NoProfanity;
 @RequiredArgsConstructor
 public class UploadController {
 
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final UploadService uploadService;
+    private final UploadJobService uploadJobService;
 
     @Value("${app.base-url}")
     private String baseUrl;
+    @Value("${wedsnap.upload.client-resize.events}")
+    private Set<String> clientResizeEvents;
+    @Value("${wedsnap.upload.client-resize.max-edge}")
+    private int clientResizeMaxEdge;
+    @Value("${wedsnap.upload.client-resize.quality}")
+    private double clientResizeQuality;
+    @Value("${wedsnap.upload.batch.enabled}")
+    private boolean perFileUpload;
 
     /**
      * 메인 업로드 페이지
@@ -48,21 +66,49 @@ public class UploadController {
         return "upload";
     }
 
+    /**
+     * 업로드 옵션 조회 API
+     * 브라우저 축소 업로드를 선택한 이벤트면 긴 변 최대 픽셀과 인코딩 품질을 함께 반환합니다.
+     * 파일별 업로드 API 가 켜져 있으면 perFileUpload 가 true 입니다.
+     * @param eventName 이벤트 이름
+     * @return 이벤트별 업로드 옵션
+     */
+    @GetMapping("/api/events/{eventName}/upload-options")
+    @ResponseBody
+    public CommonApiResponse<UploadOptionsResponse> uploadOptions(@PathVariable String eventName) {
+        UploadOptionsResponse response = UploadOptionsResponse.builder()
+                                                              .eventName(eventName)
+                                                              .clientResize(clientResizeEvents.contains(eventName))
+                                                              .maxEdge(clientResizeMaxEdge)
+                                                              .quality(clientResizeQuality)
+                                                              .perFileUpload(perFileUpload)
+                                                              .build();
+        return CommonApiResponse.success(response);
+    }
+
     /**
      * 업로드 API
+     * Prefer: respond-async 헤더가 있고 비동기 업로드가 활성화되어 있으면, 본문을 받은 즉시 202 와 작업 상태를 반환합니다.
+     * (Location 헤더의 작업 조회 API 로 결과 확인)
      * @param eventName 이벤트 이름
      * @param uploaderName 업로더 이름
      * @param files 업로드 파일들
-     * @return 업로드 결과 응답
+     * @param originalInfo 브라우저에서 줄여 보낸 파일의 원본 정보 (파일 순서대로, 줄이지 않은 파일은 빈 값)
+     * @param prefer Prefer 요청 헤더
+     * @return 업로드 결과 응답, 또는 비동기 처리 시 작업 상태
      */
     @PostMapping(value = "/api/events/{eventName}/upload")
     @ResponseBody
-    public CommonApiResponse<UploadResponse> upload(
+    public ResponseEntity<CommonApiResponse<?>> upload(
             @PathVariable String eventName,
-            @NoProfanity @Pattern(regexp = "^[가-힣a-zA-Z0-9]*$", message = "이름에는 특수문자나 공백을 포함할 수 없습니다.") @Size(min = 2, max = 20, message = "이름은 2자 이상 20자 이하로 입력해야 합니다.") @RequestParam
+            @UploaderName @RequestParam
             String uploaderName,
             @Size(min = 1, max = 20, message = "사진은 최소 1장부터 최대 20장까지만 업로드 가능합니다.") @RequestParam(required = false)
-            List<MultipartFile> files
+            List<MultipartFile> files,
+            @RequestParam(required = false)
+            List<String> originalInfo,
+            @RequestHeader(value = PREFER_HEADER, required = false)
+            String prefer
     ) {
         // files 파라미터 검증
         if (files == null || files.isEmpty()) {
@@ -81,10 +127,18 @@ public class UploadController {
                                              .eventName(eventName)
                                              .uploaderName(uploaderName)
                                              .files(files)
+                                             .originalInfo(originalInfo)
                                              .build();
 
+        if (uploadJobService.isEnabled() && prefer != null && prefer.contains(RESPOND_ASYNC)) {
+            UploadJobResponse job = uploadJobService.submit(request);
+            return ResponseEntity.accepted()
+                                 .header(HttpHeaders.LOCATION, "/api/jobs/" + job.getJobId())
+                                 .body(CommonApiResponse.success(job));
+        }
+
         UploadResponse response = uploadService.processUpload(request);
-        return CommonApiResponse.success(response);
+        return ResponseEntity.ok(CommonApiResponse.success(response));
     }
 }
 
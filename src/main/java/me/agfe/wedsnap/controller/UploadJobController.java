@@ -0,0 +1,31 @@
+package me.agfe.wedsnap.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import me.agfe.wedsnap.dto.CommonApiResponse;
+import me.agfe.wedsnap.dto.UploadJobResponse;
+import me.agfe.wedsnap.service.UploadJobService;
+
+/**
+ * 비동기 업로드 작업 조회 API
+ * {@link UploadController#upload} 에 Prefer: respond-async 로 요청하여 202 를 받은 경우 결과를 조회합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class UploadJobController {
+
+    private final UploadJobService uploadJobService;
+
+    /**
+     * 업로드 작업 상태 조회 API
+     * @param jobId 작업 ID
+     * @return 작업 상태 (COMPLETED 이면 업로드 결과 포함)
+     */
+    @GetMapping("/api/jobs/{jobId}")
+    public CommonApiResponse<UploadJobResponse> getJob(@PathVariable String jobId) {
+        return CommonApiResponse.success(uploadJobService.getJob(jobId));
+    }
+}
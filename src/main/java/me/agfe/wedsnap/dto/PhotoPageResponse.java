@@ -0,0 +1,36 @@
+package me.agfe.wedsnap.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoPageResponse {
+
+    private String eventName;
+    private List<Photo> photos;
+    /** 다음 페이지 조회용 커서, 마지막 페이지면 null */
+    private String nextCursor;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Photo {
+
+        private String uploaderName;
+        private String fileName;
+        private long size;
+        private LocalDateTime uploadedAt;
+    }
+}
@@ -0,0 +1,21 @@
+package me.agfe.wedsnap.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.agfe.wedsnap.validation.UploaderName;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadBatchCreateRequest {
+
+    @NotNull
+    @UploaderName
+    private String uploaderName;
+}
@@ -0,0 +1,23 @@
+package me.agfe.wedsnap.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadBatchResponse {
+
+    private String batchId;
+    private String eventName;
+    /** 예약된 업로더 폴더명 (이름이 겹치면 접미사가 붙음) */
+    private String uploaderName;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,40 @@
+package me.agfe.wedsnap.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 비동기 업로드 작업 상태
+ * COMPLETED 이면 {@link UploadResponse} 와 같은 결과 필드가, FAILED 이면 error 가 채워집니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UploadJobResponse {
+
+    private String jobId;
+    /** PENDING, RUNNING, COMPLETED, FAILED */
+    private String status;
+    private String eventName;
+    private String uploaderName;
+    private int totalFiles;
+    private Integer successCount;
+    private Integer failCount;
+    private List<String> failedFiles;
+    private Integer duplicateCount;
+    private List<String> duplicateFiles;
+    private String message;
+    private LocalDateTime timestamp;
+    private ErrorResponse error;
+}
@@ -0,0 +1,28 @@
+package me.agfe.wedsnap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 업로드 페이지가 전송 전에 적용할 이벤트별 설정
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadOptionsResponse {
+
+    private String eventName;
+    /** 브라우저에서 사진을 줄여 다시 인코딩한 뒤 전송할지 여부 */
+    private boolean clientResize;
+    /** 줄인 사진의 긴 변 최대 픽셀 */
+    private int maxEdge;
+    /** 다시 인코딩할 JPEG 품질 (0~1) */
+    private double quality;
+    /** 사진을 한 장씩 별도 요청으로 보낼지 여부 (파일별 업로드 API 사용) */
+    private boolean perFileUpload;
+}
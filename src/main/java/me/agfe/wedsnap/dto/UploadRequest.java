@@ -20,4 +20,6 @@ public class UploadRequest {
     private String eventName;
     private String uploaderName;
     private List<MultipartFile> files;
+    /** 파일 순서대로 전송된 원본 정보 (브라우저에서 줄이지 않은 파일은 빈 값, 필드가 없으면 null) */
+    private List<String> originalInfo;
 }
@@ -22,6 +22,9 @@ public class UploadResponse {
     private int successCount;
     private int failCount;
     private List<String> failedFiles;
+    /** 같은 이벤트에 이미 같은 사진이 있어 저장을 생략한 파일 수 (successCount 에 포함) */
+    private int duplicateCount;
+    private List<String> duplicateFiles;
     private String message;
     private LocalDateTime timestamp;
 }
@@ -0,0 +1,51 @@
+package me.agfe.wedsnap.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.agfe.wedsnap.validation.UploaderName;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionCreateRequest {
+
+    @NotNull
+    @UploaderName
+    private String uploaderName;
+
+    @Valid
+    @NotEmpty
+    @Size(max = 20, message = "사진은 최소 1장부터 최대 20장까지만 업로드 가능합니다.")
+    private List<FileInfo> files;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileInfo {
+
+        @NotBlank
+        private String fileName;
+
+        private long size;
+
+        /** 브라우저에서 줄여 보낸 경우 원본 정보 ("{width}x{height}:{bytes}", 줄이지 않은 파일은 비어 있음) */
+        private String originalInfo;
+
+        public FileInfo(String fileName, long size) {
+            this(fileName, size, null);
+        }
+    }
+}
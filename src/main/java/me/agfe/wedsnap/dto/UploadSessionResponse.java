@@ -0,0 +1,40 @@
+package me.agfe.wedsnap.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionResponse {
+
+    private String sessionId;
+    private String eventName;
+    private String uploaderName;
+    private long chunkSize;
+    private boolean completed;
+    private LocalDateTime expiresAt;
+    private List<FileStatus> files;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FileStatus {
+
+        private int index;
+        private String fileName;
+        private long size;
+        private int totalChunks;
+        private List<Integer> receivedChunks;
+    }
+}
@@ -0,0 +1,22 @@
+package me.agfe.wedsnap.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploaderSummaryResponse {
+
+    private String uploaderName;
+    private long fileCount;
+    private long totalBytes;
+    private LocalDateTime lastUploadedAt;
+}
@@ -21,7 +21,21 @@ public enum ErrorCode {
     NO_FILES_PROVIDED("NO_FILES_PROVIDED", "파일 미제공", "최소 1개의 파일을 업로드해야 합니다."),
     ALL_FILES_EMPTY("ALL_FILES_EMPTY", "모든 파일이 비어있음", "업로드된 모든 파일이 비어있습니다. 유효한 파일을 선택해주세요."),
     INVALID_UPLOADER_NAME("INVALID_UPLOADER_NAME", "업로더 이름 검증 실패", "업로더 이름이 유효하지 않습니다."),
-    FILE_UPLOAD_FAILED("FILE_UPLOAD_FAILED", "파일 업로드 실패", "파일 업로드 처리 중 오류가 발생했습니다.");
+    FILE_UPLOAD_FAILED("FILE_UPLOAD_FAILED", "파일 업로드 실패", "파일 업로드 처리 중 오류가 발생했습니다."),
+    INVALID_IMAGE_CONTENT("INVALID_IMAGE_CONTENT", "이미지 형식 불일치", "파일 내용이 허용된 이미지 형식이 아닙니다."),
+    IMAGE_DIMENSIONS_EXCEEDED("IMAGE_DIMENSIONS_EXCEEDED", "이미지 해상도 초과", "이미지 해상도가 허용 범위를 초과했습니다."),
+    UPLOAD_THROTTLED("UPLOAD_THROTTLED", "업로드 혼잡", "업로드가 몰리고 있습니다. 잠시 후 다시 시도해주세요."),
+    UPLOAD_JOB_NOT_FOUND("UPLOAD_JOB_NOT_FOUND", "업로드 작업 없음", "업로드 작업이 존재하지 않거나 보관 기간이 지났습니다."),
+    UPLOAD_BATCH_NOT_FOUND("UPLOAD_BATCH_NOT_FOUND", "업로드 묶음 없음", "업로드 묶음이 존재하지 않거나 만료되었습니다."),
+
+    // 이어받기 업로드 관련 에러 코드
+    UPLOAD_SESSION_NOT_FOUND("UPLOAD_SESSION_NOT_FOUND", "업로드 세션 없음", "업로드 세션이 존재하지 않거나 만료되었습니다."),
+    INVALID_CHUNK("INVALID_CHUNK", "잘못된 청크", "청크 번호 또는 크기가 올바르지 않습니다."),
+    UPLOAD_INCOMPLETE("UPLOAD_INCOMPLETE", "업로드 미완료", "아직 전송되지 않은 청크가 있습니다."),
+
+    // 다운로드 관련 에러 코드
+    ARCHIVE_EMPTY("ARCHIVE_EMPTY", "다운로드할 사진 없음", "다운로드할 사진이 없습니다."),
+    ARCHIVE_BUSY("ARCHIVE_BUSY", "다운로드 혼잡", "진행 중인 다운로드가 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final String code;
     private final String title;
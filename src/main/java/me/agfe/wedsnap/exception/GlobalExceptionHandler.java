@@ -1,29 +1,40 @@
 package me.agfe.wedsnap.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.agfe.wedsnap.dto.CommonApiResponse;
 import me.agfe.wedsnap.dto.ErrorResponse;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final WedSnapMetrics metrics;
+
     @ExceptionHandler(WedSnapException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public CommonApiResponse<Void> handleWedSnapException(WedSnapException ex) {
         log.warn("WedSnapException: {} - {}", ex.getErrorCode().getCode(), ex.getMessage());
         ErrorCode errorCode = ex.getErrorCode();
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -34,11 +45,62 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(UploadThrottledException.class)
+    public ResponseEntity<CommonApiResponse<Void>> handleUploadThrottledException(UploadThrottledException ex) {
+        log.debug("UploadThrottledException: {}", ex.getMessage());
+        ErrorCode errorCode = ex.getErrorCode();
+        metrics.recordError(errorCode);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                             .body(CommonApiResponse.error(
+                                     ErrorResponse.builder()
+                                                  .errorCode(errorCode.getCode())
+                                                  .title(errorCode.getTitle())
+                                                  .message(errorCode.getMessage())
+                                                  .detail(ex.getDetail())
+                                                  .build()
+                             ));
+    }
+
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<CommonApiResponse<Void>> handleServerBusyException(ServerBusyException ex) {
+        log.debug("ServerBusyException: {}", ex.getErrorCode().getCode());
+        ErrorCode errorCode = ex.getErrorCode();
+        metrics.recordError(errorCode);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                             .body(CommonApiResponse.error(
+                                     ErrorResponse.builder()
+                                                  .errorCode(errorCode.getCode())
+                                                  .title(errorCode.getTitle())
+                                                  .message(errorCode.getMessage())
+                                                  .detail(ex.getMessage())
+                                                  .build()
+                             ));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public CommonApiResponse<Void> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        log.debug("ResourceNotFoundException: {} - {}", ex.getErrorCode().getCode(), ex.getDetail());
+        ErrorCode errorCode = ex.getErrorCode();
+        metrics.recordError(errorCode);
+        return CommonApiResponse.error(
+                ErrorResponse.builder()
+                             .errorCode(errorCode.getCode())
+                             .title(errorCode.getTitle())
+                             .message(errorCode.getMessage())
+                             .detail(ex.getDetail())
+                             .build()
+        );
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public CommonApiResponse<Void> handleIllegalArgument(IllegalArgumentException ex) {
         log.warn("IllegalArgumentException: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.INVALID_VALUE;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -54,6 +116,7 @@ public class GlobalExceptionHandler {
     public CommonApiResponse<Void> handleResponseStatus(ResponseStatusException ex) {
         log.warn("ResponseStatusException: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.RESPONSE_STATUS_ERROR;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -69,6 +132,7 @@ public class GlobalExceptionHandler {
     public CommonApiResponse<Void> handleConstraintViolation(ConstraintViolationException ex) {
         log.warn("ConstraintViolationException: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.CONSTRAINT_VIOLATION;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -79,11 +143,63 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CommonApiResponse<Void> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
+        log.warn("MethodArgumentNotValidException: {}", ex.getMessage());
+        ErrorCode errorCode = ErrorCode.CONSTRAINT_VIOLATION;
+        metrics.recordError(errorCode);
+        return CommonApiResponse.error(
+                ErrorResponse.builder()
+                             .errorCode(errorCode.getCode())
+                             .title(errorCode.getTitle())
+                             .message(errorCode.getMessage())
+                             .detail(ex.getBindingResult().getFieldErrors().stream()
+                                       .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                                       .toList()
+                                       .toString())
+                             .build()
+        );
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CommonApiResponse<Void> handleMessageNotReadable(HttpMessageNotReadableException ex) {
+        log.warn("HttpMessageNotReadableException: {}", ex.getMessage());
+        ErrorCode errorCode = ErrorCode.INVALID_VALUE;
+        metrics.recordError(errorCode);
+        return CommonApiResponse.error(
+                ErrorResponse.builder()
+                             .errorCode(errorCode.getCode())
+                             .title(errorCode.getTitle())
+                             .message(errorCode.getMessage())
+                             .detail("요청 본문을 읽을 수 없습니다.")
+                             .build()
+        );
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CommonApiResponse<Void> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.warn("MethodArgumentTypeMismatchException: {}", ex.getMessage());
+        ErrorCode errorCode = ErrorCode.INVALID_VALUE;
+        metrics.recordError(errorCode);
+        return CommonApiResponse.error(
+                ErrorResponse.builder()
+                             .errorCode(errorCode.getCode())
+                             .title(errorCode.getTitle())
+                             .message(errorCode.getMessage())
+                             .detail("파라미터 형식이 올바르지 않습니다: " + ex.getName())
+                             .build()
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public CommonApiResponse<Void> handleGeneral(Exception ex) {
         log.warn("Exception: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.INTERNAL_ERROR;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -99,6 +215,7 @@ public class GlobalExceptionHandler {
     public CommonApiResponse<Void> handleMaxSizeException(MaxUploadSizeExceededException ex) {
         log.warn("MaxUploadSizeExceededException: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.FILE_SIZE_EXCEEDED;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -114,6 +231,7 @@ public class GlobalExceptionHandler {
     public CommonApiResponse<Void> handleMissingParameterException(MissingServletRequestParameterException ex) {
         log.warn("MissingServletRequestParameterException: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.MISSING_REQUEST_PARAMETER;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -129,6 +247,7 @@ public class GlobalExceptionHandler {
     public CommonApiResponse<Void> handleMissingRequestPartException(MissingServletRequestPartException ex) {
         log.warn("MissingServletRequestPartException: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.MISSING_REQUEST_PARAMETER;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -144,6 +263,7 @@ public class GlobalExceptionHandler {
     public CommonApiResponse<Void> handleMultipartException(MultipartException ex) {
         log.warn("MultipartException: {}", ex.getMessage());
         ErrorCode errorCode = ErrorCode.NOT_MULTIPART_REQUEST;
+        metrics.recordError(errorCode);
         return CommonApiResponse.error(
                 ErrorResponse.builder()
                              .errorCode(errorCode.getCode())
@@ -0,0 +1,16 @@
+package me.agfe.wedsnap.exception;
+
+/**
+ * 요청한 대상이 없을 때 발생하는 예외
+ * 404 Not Found 로 응답됩니다.
+ */
+public class ResourceNotFoundException extends WedSnapException {
+
+    /**
+     * @param errorCode 에러 코드
+     * @param detail 상세 메시지
+     */
+    public ResourceNotFoundException(ErrorCode errorCode, String detail) {
+        super(errorCode, detail);
+    }
+}
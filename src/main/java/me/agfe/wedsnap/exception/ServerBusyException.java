@@ -0,0 +1,24 @@
+package me.agfe.wedsnap.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * 서버 자원(다운로드 슬롯 등)이 모두 사용 중이라 잠시 후 다시 요청해야 할 때 발생하는 예외
+ * 503 Service Unavailable 과 Retry-After 헤더로 응답됩니다.
+ */
+@Getter
+public class ServerBusyException extends WedSnapException {
+
+    private final Duration retryAfter;
+
+    /**
+     * @param errorCode 에러 코드
+     * @param retryAfter 클라이언트에 안내할 재시도 대기 시간
+     */
+    public ServerBusyException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+}
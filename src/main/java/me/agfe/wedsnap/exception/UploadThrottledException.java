@@ -0,0 +1,24 @@
+package me.agfe.wedsnap.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * 동시 업로드 상한에 걸려 요청을 거절할 때 발생하는 예외
+ * 429 Too Many Requests 와 Retry-After 헤더로 응답됩니다.
+ */
+@Getter
+public class UploadThrottledException extends WedSnapException {
+
+    private final Duration retryAfter;
+
+    /**
+     * @param retryAfter 클라이언트에 안내할 재시도 대기 시간
+     * @param detail 상세 메시지
+     */
+    public UploadThrottledException(Duration retryAfter, String detail) {
+        super(ErrorCode.UPLOAD_THROTTLED, detail);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,64 @@
+package me.agfe.wedsnap.filter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.exception.UploadThrottledException;
+
+/**
+ * 업로드 요청 입장 제어
+ * 동시 처리 상한에 도달하면 본문(multipart)을 해석하기 전에 429 + Retry-After 로 거절합니다.
+ * DispatcherServlet 은 인터셉터보다 먼저 multipart 를 임시 파일로 받으므로, 거절은 서블릿 필터에서 합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final Pattern UPLOAD_PATH = Pattern.compile("^/api/events/[^/]+/(upload|upload-batches/[^/]+/files)$");
+    /** 이어받기 업로드의 완료 요청 (조각 파일을 저장소로 옮김) */
+    private static final Pattern SESSION_COMPLETE_PATH = Pattern.compile("^/api/upload-sessions/[^/]+/complete$");
+    /** 이어받기 업로드의 청크 전송 */
+    private static final Pattern CHUNK_PATH = Pattern.compile("^/api/upload-sessions/[^/]+/files/[^/]+/chunks/[^/]+$");
+
+    private final AdaptiveConcurrencyLimit admissionLimit;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return switch (request.getMethod()) {
+            case "POST" -> !UPLOAD_PATH.matcher(path).matches() && !SESSION_COMPLETE_PATH.matcher(path).matches();
+            case "PUT" -> !CHUNK_PATH.matcher(path).matches();
+            default -> true;
+        };
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!admissionLimit.tryAcquire()) {
+            log.debug("Upload rejected: limit={}, inFlight={}", admissionLimit.getLimit(), admissionLimit.getInFlight());
+            String detail = "동시 업로드 상한: " + admissionLimit.getLimit();
+            exceptionResolver.resolveException(request, response, null,
+                                               new UploadThrottledException(admissionLimit.retryAfter(), detail));
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admissionLimit.release(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package me.agfe.wedsnap.health;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+
+/**
+ * 업로드 저장소(NAS) 상태 확인
+ * 백그라운드에서 주기적으로 작은 파일을 쓰고 fsync 한 뒤 삭제하는 시간과 남은 공간을 측정해 두고,
+ * 헬스 체크에는 마지막 측정 결과만 반환하므로 로드밸런서 폴링이 NAS I/O 를 만들지 않습니다.
+ * 지연이나 남은 공간이 임계값을 넘거나 측정이 TTL 안에 끝나지 않으면 DEGRADED 로 보고하고,
+ * 그동안 업로드 동시 처리 상한을 최소값으로 낮춥니다.
+ */
+@Slf4j
+@Component("storage")
+@RequiredArgsConstructor
+public class StorageHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "저장소 응답이 느리거나 공간이 부족합니다.");
+
+    private static final String PROBE_FILE_PREFIX = ".health-probe-";
+    private static final int PROBE_BYTES = 4096;
+
+    private final AdaptiveConcurrencyLimit admissionLimit;
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private final ExecutorService probeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${wedsnap.upload.base-path}")
+    private String basePath;
+    @Value("${wedsnap.upload.health.ttl}")
+    private Duration ttl;
+    @Value("${wedsnap.upload.health.max-latency}")
+    private Duration maxLatency;
+    @Value("${wedsnap.upload.health.min-free-space}")
+    private DataSize minFreeSpace;
+    @Value("${wedsnap.environment}")
+    private String environment;
+
+    private volatile StorageProbeResult lastResult;
+    private volatile Instant probeStartedAt;
+
+    /**
+     * 측정 전용 스레드에서 측정을 시작합니다. (NAS 가 응답하지 않아도 스케줄러 스레드는 막히지 않음)
+     * 이전 측정이 아직 끝나지 않았으면 새로 시작하지 않고, 상태만 다시 계산해 입장 제어에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${wedsnap.upload.health.probe-interval}")
+    public void probe() {
+        if (probing.compareAndSet(false, true)) {
+            probeStartedAt = Instant.now();
+            probeExecutor.execute(() -> {
+                try {
+                    record(measure());
+                } finally {
+                    probing.set(false);
+                }
+            });
+        }
+        admissionLimit.setStorageDegraded(!Status.UP.equals(currentStatus(Instant.now())));
+    }
+
+    /**
+     * 마지막 측정 결과 (저장소 I/O 없음)
+     */
+    @Override
+    public Health health() {
+        StorageProbeResult result = lastResult;
+        if (result == null) {
+            return Health.unknown().withDetail("reason", "첫 측정 전").build();
+        }
+        Instant now = Instant.now();
+        Health.Builder builder = Health.status(currentStatus(now))
+                                       .withDetail("measuredAt", result.measuredAt().toString())
+                                       .withDetail("usableBytes", result.usableBytes())
+                                       .withDetail("minFreeBytes", minFreeSpace.toBytes())
+                                       .withDetail("writeLatencyMs", result.writeLatency().toMillis())
+                                       .withDetail("deleteLatencyMs", result.deleteLatency().toMillis())
+                                       .withDetail("maxLatencyMs", maxLatency.toMillis());
+        if (result.error() != null) {
+            builder.withDetail("error", result.error());
+        }
+        if (isStale(now)) {
+            builder.withDetail("reason", "측정이 " + ttl + " 안에 끝나지 않음 (저장소 응답 없음)");
+        }
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+
+    private Status currentStatus(Instant now) {
+        StorageProbeResult result = lastResult;
+        if (result == null) {
+            return isStale(now) ? DEGRADED : Status.UNKNOWN;
+        }
+        if (Status.DOWN.equals(result.status())) {
+            return Status.DOWN;
+        }
+        return isStale(now) ? DEGRADED : result.status();
+    }
+
+    /**
+     * 진행 중인 측정이나 마지막 측정이 TTL 보다 오래되었는지
+     */
+    private boolean isStale(Instant now) {
+        Instant startedAt = probeStartedAt;
+        if (probing.get() && startedAt != null && startedAt.plus(ttl).isBefore(now)) {
+            return true;
+        }
+        StorageProbeResult result = lastResult;
+        return result != null && result.measuredAt().plus(ttl).isBefore(now);
+    }
+
+    private void record(StorageProbeResult result) {
+        StorageProbeResult previous = lastResult;
+        lastResult = result;
+        admissionLimit.setStorageDegraded(!Status.UP.equals(result.status()));
+        if (previous == null || !previous.status().equals(result.status())) {
+            log.info("[{}] Storage status {}: write={}ms, delete={}ms, usable={}MB{}",
+                     environment, result.status().getCode(), result.writeLatency().toMillis(),
+                     result.deleteLatency().toMillis(), result.usableBytes() / (1024 * 1024),
+                     result.error() != null ? ", error=" + result.error() : "");
+        }
+    }
+
+    StorageProbeResult measure() {
+        Path dir = Paths.get(basePath);
+        Path file = dir.resolve(PROBE_FILE_PREFIX + UUID.randomUUID());
+        long start = System.nanoTime();
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(PROBE_BYTES));
+                channel.force(true);
+            }
+            long written = System.nanoTime();
+            Files.delete(file);
+            long deleted = System.nanoTime();
+            long usableBytes = Files.getFileStore(dir).getUsableSpace();
+
+            Duration writeLatency = Duration.ofNanos(written - start);
+            Duration deleteLatency = Duration.ofNanos(deleted - written);
+            boolean slow = writeLatency.compareTo(maxLatency) > 0 || deleteLatency.compareTo(maxLatency) > 0;
+            boolean full = usableBytes < minFreeSpace.toBytes();
+            return new StorageProbeResult(slow || full ? DEGRADED : Status.UP, Instant.now(), writeLatency,
+                                          deleteLatency, usableBytes, null);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // 다음 측정은 새 파일명을 쓰므로 남아도 무방
+            }
+            return new StorageProbeResult(Status.DOWN, Instant.now(), Duration.ofNanos(System.nanoTime() - start),
+                                          Duration.ZERO, 0, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package me.agfe.wedsnap.health;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * 저장소 측정 1회 결과
+ * @param status 측정 시점 상태 (UP, DEGRADED, DOWN)
+ * @param measuredAt 측정 완료 시각
+ * @param writeLatency 쓰기 + fsync 시간
+ * @param deleteLatency 삭제 시간
+ * @param usableBytes 남은 공간
+ * @param error 측정 실패 사유 (성공이면 null)
+ */
+record StorageProbeResult(Status status, Instant measuredAt, Duration writeLatency, Duration deleteLatency,
+                          long usableBytes, String error) {
+}
@@ -0,0 +1,271 @@
+package me.agfe.wedsnap.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.agfe.wedsnap.exception.ErrorCode;
+
+/**
+ * 업로드 경로 메트릭 (Actuator /actuator/prometheus 로 노출)
+ * 지연 시간 Timer 는 Prometheus histogram 버킷을 함께 발행하므로 histogram_quantile 로 p95/p99 를 계산할 수 있습니다.
+ */
+@Component
+public class WedSnapMetrics {
+
+    public static final String MODE_MULTIPART = "multipart";
+    public static final String MODE_STREAM = "stream";
+    public static final String MODE_ASYNC = "async";
+    public static final String MODE_FILE = "file";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_PARTIAL = "partial";
+    public static final String OUTCOME_DUPLICATE = "duplicate";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(2);
+
+    private final MeterRegistry registry;
+    private final Timer lockWait;
+    private final Timer ioWait;
+    private final Counter bytesWritten;
+    private final Counter uploaderNameCollisions;
+    private final Counter clientOriginalBytes;
+    private final Counter clientUploadedBytes;
+    private final Timer replicationLag;
+    private final Counter replicatedBytes;
+    private final Counter replicationFailures;
+    private final Counter heifTranscodedBytes;
+    private final Counter heifTranscodeDeferrals;
+    private final Counter metadataFailures;
+
+    public WedSnapMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.lockWait = Timer.builder("wedsnap.upload.lock.wait")
+                             .description("업로더명 예약 락 대기 시간")
+                             .publishPercentileHistogram()
+                             .minimumExpectedValue(Duration.ofNanos(1000))
+                             .maximumExpectedValue(Duration.ofSeconds(10))
+                             .register(registry);
+        this.ioWait = Timer.builder("wedsnap.upload.io.wait")
+                           .description("저장소 I/O 벌크헤드 허가 대기 시간")
+                           .publishPercentileHistogram()
+                           .minimumExpectedValue(Duration.ofNanos(1000))
+                           .maximumExpectedValue(MAX_EXPECTED)
+                           .register(registry);
+        this.bytesWritten = Counter.builder("wedsnap.upload.bytes.written")
+                                   .description("저장소에 기록한 업로드 파일 크기 합계")
+                                   .baseUnit("bytes")
+                                   .register(registry);
+        this.uploaderNameCollisions = Counter.builder("wedsnap.upload.uploader.collisions")
+                                             .description("업로더명이 이미 사용 중이라 접미사를 붙인 횟수")
+                                             .register(registry);
+        this.clientOriginalBytes = Counter.builder("wedsnap.upload.client.original.bytes")
+                                          .description("브라우저에서 줄여 보낸 사진의 원본 크기 합계")
+                                          .baseUnit("bytes")
+                                          .register(registry);
+        this.clientUploadedBytes = Counter.builder("wedsnap.upload.client.uploaded.bytes")
+                                          .description("브라우저에서 줄여 보낸 사진의 전송 크기 합계")
+                                          .baseUnit("bytes")
+                                          .register(registry);
+        this.replicationLag = Timer.builder("wedsnap.replication.lag")
+                                   .description("스테이징 완료부터 NAS 복제 완료까지 걸린 시간")
+                                   .publishPercentileHistogram()
+                                   .minimumExpectedValue(MIN_EXPECTED)
+                                   .maximumExpectedValue(Duration.ofHours(1))
+                                   .register(registry);
+        this.replicatedBytes = Counter.builder("wedsnap.replication.bytes")
+                                      .description("NAS 로 복제한 파일 크기 합계")
+                                      .baseUnit("bytes")
+                                      .register(registry);
+        this.replicationFailures = Counter.builder("wedsnap.replication.failures")
+                                          .description("NAS 복제 실패 횟수 (재시도 포함)")
+                                          .register(registry);
+        this.heifTranscodedBytes = Counter.builder("wedsnap.heif.transcode.bytes")
+                                          .description("JPEG 로 변환한 HEIC/HEIF 원본 크기 합계")
+                                          .baseUnit("bytes")
+                                          .register(registry);
+        this.heifTranscodeDeferrals = Counter.builder("wedsnap.heif.transcode.deferred")
+                                             .description("처리 중인 업로드가 있어 HEIF 변환을 미룬 횟수")
+                                             .register(registry);
+        this.metadataFailures = Counter.builder("wedsnap.metadata.failures")
+                                       .description("파일은 저장되었지만 메타데이터 기록에 실패한 횟수")
+                                       .register(registry);
+    }
+
+    /**
+     * 지연 시간 측정을 시작합니다.
+     * @return 측정 샘플
+     */
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * 업로드 요청 1건의 처리 시간을 기록합니다.
+     * @param sample {@link #startTimer()} 로 시작한 샘플
+     * @param mode 업로드 방식 ({@value #MODE_MULTIPART}, {@value #MODE_STREAM}, {@value #MODE_ASYNC}, {@value #MODE_FILE})
+     * @param outcome 결과 ({@value #OUTCOME_SUCCESS}, {@value #OUTCOME_PARTIAL}, {@value #OUTCOME_FAILURE})
+     */
+    public void recordRequest(Timer.Sample sample, String mode, String outcome) {
+        sample.stop(latencyTimer("wedsnap.upload.request", "업로드 요청 처리 시간", mode, outcome));
+    }
+
+    /**
+     * 파일 1개의 저장 시간을 기록합니다.
+     * @param sample {@link #startTimer()} 로 시작한 샘플
+     * @param mode 업로드 방식
+     * @param outcome 결과 ({@value #OUTCOME_SUCCESS}, {@value #OUTCOME_DUPLICATE}, {@value #OUTCOME_FAILURE})
+     */
+    public void recordFileSave(Timer.Sample sample, String mode, String outcome) {
+        sample.stop(latencyTimer("wedsnap.upload.file.save", "파일 1개 저장 시간", mode, outcome));
+    }
+
+    /**
+     * @param nanos 업로더명 예약 락을 얻기까지 기다린 시간
+     */
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param nanos 저장소 I/O 벌크헤드 허가를 얻기까지 기다린 시간
+     */
+    public void recordIoWait(long nanos) {
+        ioWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 저장소 I/O 벌크헤드의 남은 허가 수/대기 중인 작업 수를 게이지로 등록합니다.
+     * @param available 남은 허가 수
+     * @param waiting 허가를 기다리는 작업 수
+     */
+    public void registerIoBulkhead(Supplier<Number> available, Supplier<Number> waiting) {
+        Gauge.builder("wedsnap.upload.io.available", available)
+             .description("저장소 I/O 벌크헤드의 남은 허가 수")
+             .register(registry);
+        Gauge.builder("wedsnap.upload.io.waiting", waiting)
+             .description("저장소 I/O 벌크헤드 허가를 기다리는 작업 수")
+             .register(registry);
+    }
+
+    /**
+     * @param bytes 저장소에 기록한 바이트 수 (초당 기록량은 rate() 로 계산)
+     */
+    public void recordBytesWritten(long bytes) {
+        bytesWritten.increment(bytes);
+    }
+
+    public void recordUploaderNameCollision() {
+        uploaderNameCollisions.increment();
+    }
+
+    /**
+     * 브라우저에서 줄여 보낸 사진 1개의 원본/전송 크기를 기록합니다. (절감률 = 1 - uploaded / original)
+     * @param originalBytes 원본 파일 크기
+     * @param uploadedBytes 전송된 파일 크기
+     */
+    public void recordClientResize(long originalBytes, long uploadedBytes) {
+        clientOriginalBytes.increment(originalBytes);
+        clientUploadedBytes.increment(uploadedBytes);
+    }
+
+    /**
+     * 업로드 동시 처리 상한/처리 중 요청 수를 게이지로 등록합니다.
+     * @param limit 현재 상한
+     * @param inFlight 처리 중인 업로드 요청 수
+     */
+    public void registerAdmissionLimit(Supplier<Number> limit, Supplier<Number> inFlight) {
+        Gauge.builder("wedsnap.upload.admission.limit", limit)
+             .description("지연 시간에 맞춰 조정된 업로드 동시 처리 상한")
+             .register(registry);
+        Gauge.builder("wedsnap.upload.admission.inflight", inFlight)
+             .description("처리 중인 업로드 요청 수")
+             .register(registry);
+    }
+
+    /**
+     * 복제 대기 중인 스테이징 파일 수/크기를 게이지로 등록합니다.
+     * @param files 대기 파일 수
+     * @param bytes 대기 파일 크기 합계
+     */
+    public void registerReplicationBacklog(Supplier<Number> files, Supplier<Number> bytes) {
+        Gauge.builder("wedsnap.replication.backlog", files)
+             .description("NAS 복제를 기다리는 스테이징 파일 수")
+             .register(registry);
+        Gauge.builder("wedsnap.replication.backlog.bytes", bytes)
+             .description("NAS 복제를 기다리는 스테이징 파일 크기 합계")
+             .baseUnit("bytes")
+             .register(registry);
+    }
+
+    /**
+     * @param lag 스테이징 완료부터 NAS 복제 완료까지 걸린 시간
+     * @param bytes 복제한 파일 크기
+     */
+    public void recordReplication(Duration lag, long bytes) {
+        replicationLag.record(lag);
+        replicatedBytes.increment(bytes);
+    }
+
+    public void recordReplicationFailure() {
+        replicationFailures.increment();
+    }
+
+    public void recordMetadataFailure() {
+        metadataFailures.increment();
+    }
+
+    /**
+     * HEIC/HEIF 파일 1개의 JPEG 변환을 기록합니다. (처리량 = rate(bytes) / 변환 시간 합계)
+     * @param nanos 변환에 걸린 시간
+     * @param sourceBytes 원본 파일 크기
+     * @param success 변환 성공 여부
+     */
+    public void recordHeifTranscode(long nanos, long sourceBytes, boolean success) {
+        Timer.builder("wedsnap.heif.transcode")
+             .description("HEIC/HEIF 파일 1개의 JPEG 변환 시간")
+             .tag("outcome", success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+             .publishPercentileHistogram()
+             .minimumExpectedValue(MIN_EXPECTED)
+             .maximumExpectedValue(Duration.ofMinutes(2))
+             .register(registry)
+             .record(nanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            heifTranscodedBytes.increment(sourceBytes);
+        }
+    }
+
+    public void recordHeifTranscodeDeferred() {
+        heifTranscodeDeferrals.increment();
+    }
+
+    /**
+     * @param errorCode 응답한 에러 코드
+     */
+    public void recordError(ErrorCode errorCode) {
+        Counter.builder("wedsnap.errors")
+               .description("에러 코드별 실패 응답 수")
+               .tag("code", errorCode.getCode())
+               .register(registry)
+               .increment();
+    }
+
+    private Timer latencyTimer(String name, String description, String mode, String outcome) {
+        return Timer.builder(name)
+                    .description(description)
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(registry);
+    }
+}
@@ -0,0 +1,308 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트별 파일 내용 해시 인덱스 (중복 업로드 감지용)
+ * 이벤트 디렉토리의 .hash-index 파일에 "sha256 상대경로" 형식으로 한 줄씩 추가 기록하며,
+ * 이벤트별로 최초 1회만 읽어 메모리에 보관합니다. 인덱스 파일이 없으면 NAS 의 기존 파일을 해시하여 다시 만듭니다.
+ * 재생성은 이벤트 전체를 읽어야 하므로 요청 스레드가 아닌 별도 스레드에서 수행하며,
+ * 끝나기 전까지는 기존 파일과의 중복을 감지하지 않습니다. (그동안 등록된 파일은 메모리에 모았다가 재생성 결과와 합침)
+ */
+@Slf4j
+@Component
+public class ContentHashIndex {
+
+    static final String INDEX_FILE = ".hash-index";
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Map<Path, EventIndex> events = new ConcurrentHashMap<>();
+    private final Predicate<Path> fileExists;
+    private final Executor rebuildExecutor;
+
+    /**
+     * @param stagingArea NAS 복제를 기다리는 파일도 존재하는 것으로 보기 위한 스테이징 영역
+     */
+    @Autowired
+    public ContentHashIndex(StagingArea stagingArea) {
+        this(stagingArea::exists, newRebuildExecutor());
+    }
+
+    /**
+     * @param fileExists 등록된 경로의 파일 존재 여부
+     * @param rebuildExecutor 인덱스 파일이 없는 이벤트의 재생성 실행기
+     */
+    ContentHashIndex(Predicate<Path> fileExists, Executor rebuildExecutor) {
+        this.fileExists = fileExists;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 같은 내용의 파일이 이벤트에 이미 있는지 조회합니다.
+     * @param eventDir 이벤트 디렉토리
+     * @param sha256 파일 해시
+     * @return 기존 파일의 상대 경로
+     */
+    public Optional<String> find(Path eventDir, String sha256) {
+        return load(eventDir).find(sha256, fileExists);
+    }
+
+    /**
+     * 새로 저장한 파일을 인덱스에 등록합니다.
+     * 동시에 같은 내용이 먼저 등록된 경우 등록하지 않고 기존 경로를 반환하므로, 호출자는 방금 쓴 파일을 정리해야 합니다.
+     * @param eventDir 이벤트 디렉토리
+     * @param sha256 파일 해시
+     * @param relativePath 이벤트 디렉토리 기준 파일 경로
+     * @return 먼저 등록된 파일의 상대 경로, 새로 등록되었으면 빈 값
+     * @throws IOException 인덱스 파일 기록 실패 시
+     */
+    public Optional<String> register(Path eventDir, String sha256, String relativePath) throws IOException {
+        return load(eventDir).register(sha256, relativePath, fileExists);
+    }
+
+    /**
+     * 이벤트 디렉토리의 모든 파일을 다시 해시하여 인덱스를 재생성합니다.
+     * @param eventDir 이벤트 디렉토리
+     * @return 인덱스에 등록된 파일 수
+     * @throws IOException 파일 읽기/쓰기 실패 시
+     */
+    public int rebuild(Path eventDir) throws IOException {
+        EventIndex index = EventIndex.rebuild(eventDir);
+        events.put(eventDir, index);
+        return index.size();
+    }
+
+    /**
+     * SHA-256 계산기를 생성합니다.
+     * @return MessageDigest
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 스트림 전체를 읽어 SHA-256 을 계산합니다.
+     * @param in 입력 스트림 (호출자가 닫음)
+     * @return hex 문자열
+     * @throws IOException 읽기 실패 시
+     */
+    public static String hash(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            digest.update(buffer, 0, n);
+        }
+        return toHex(digest);
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HEX.formatHex(digest.digest());
+    }
+
+    private EventIndex load(Path eventDir) {
+        EventIndex loaded = events.get(eventDir);
+        if (loaded != null) {
+            return loaded;
+        }
+        boolean[] created = new boolean[1];
+        EventIndex index = events.computeIfAbsent(eventDir, dir -> {
+            try {
+                if (Files.exists(dir.resolve(INDEX_FILE))) {
+                    return EventIndex.read(dir);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            created[0] = true;
+            return new EventIndex(dir);
+        });
+        if (created[0]) {
+            startRebuild(index);
+        }
+        return index;
+    }
+
+    private void startRebuild(EventIndex index) {
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    index.populate();
+                } catch (IOException | RuntimeException e) {
+                    // 다음 조회에서 다시 시도 (그동안 등록된 항목은 인덱스 파일에 없으므로 함께 버리고 재생성 시 다시 해시됨)
+                    log.error("해시 인덱스 재생성 실패: {} → {}", index.eventDir, e.getMessage());
+                    events.remove(index.eventDir, index);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            events.remove(index.eventDir, index);
+        }
+    }
+
+    private static ExecutorService newRebuildExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hash-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 이벤트 하나의 해시 → 상대 경로 매핑
+     */
+    private static final class EventIndex {
+
+        private final Path eventDir;
+        private final Path indexFile;
+        private final Map<String, String> entries = new ConcurrentHashMap<>();
+        // 파일 기록 중 대기하는 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 사용
+        private final ReentrantLock appendLock = new ReentrantLock();
+        /** 인덱스 파일이 완성되었는지 여부 (재생성 중이면 등록은 메모리에만 함) */
+        private volatile boolean ready;
+
+        private EventIndex(Path eventDir) {
+            this.eventDir = eventDir;
+            this.indexFile = eventDir.resolve(INDEX_FILE);
+        }
+
+        static EventIndex read(Path eventDir) throws IOException {
+            EventIndex index = new EventIndex(eventDir);
+            index.ready = true;
+            try (BufferedReader reader = Files.newBufferedReader(index.indexFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int space = line.indexOf(' ');
+                    if (space > 0) {
+                        // 원본 삭제 후 다시 등록된 경우가 있으므로 나중에 기록된 경로를 사용
+                        index.entries.put(line.substring(0, space), line.substring(space + 1));
+                    }
+                }
+            }
+            log.info("해시 인덱스 로드: {} (파일 {}개)", eventDir, index.entries.size());
+            return index;
+        }
+
+        static EventIndex rebuild(Path eventDir) throws IOException {
+            EventIndex index = new EventIndex(eventDir);
+            index.populate();
+            return index;
+        }
+
+        /**
+         * 기존 파일을 해시한 결과와 그동안 등록된 항목을 합쳐 인덱스 파일을 새로 씁니다.
+         */
+        void populate() throws IOException {
+            Files.createDirectories(eventDir);
+
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(eventDir, 2)) {
+                files = paths.filter(Files::isRegularFile)
+                             .filter(path -> path.getNameCount() == eventDir.getNameCount() + 2)
+                             .filter(path -> !path.getName(eventDir.getNameCount()).toString().startsWith("."))
+                             .sorted()
+                             .toList();
+            }
+
+            Map<String, String> hashed = new LinkedHashMap<>();
+            for (Path file : files) {
+                String sha256;
+                try (InputStream in = Files.newInputStream(file)) {
+                    sha256 = hash(in);
+                }
+                hashed.putIfAbsent(sha256, eventDir.relativize(file).toString().replace('\\', '/'));
+            }
+
+            appendLock.lock();
+            try {
+                hashed.forEach(entries::putIfAbsent);
+                StringBuilder content = new StringBuilder();
+                entries.forEach((sha256, relativePath) -> content.append(sha256).append(' ').append(relativePath).append('\n'));
+
+                Path temp = eventDir.resolve(INDEX_FILE + ".tmp");
+                Files.writeString(temp, content, StandardCharsets.UTF_8);
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+                ready = true;
+            } finally {
+                appendLock.unlock();
+            }
+            log.info("해시 인덱스 재생성: {} (파일 {}개)", eventDir, entries.size());
+        }
+
+        Optional<String> find(String sha256, Predicate<Path> fileExists) {
+            String existing = entries.get(sha256);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            if (!fileExists.test(eventDir.resolve(existing))) {
+                // 원본이 NAS 에서 삭제된 경우 중복으로 보지 않음 (다음 등록 시 새 경로로 대체)
+                entries.remove(sha256, existing);
+                return Optional.empty();
+            }
+            return Optional.of(existing);
+        }
+
+        Optional<String> register(String sha256, String relativePath, Predicate<Path> fileExists) throws IOException {
+            appendLock.lock();
+            try {
+                Optional<String> existing = find(sha256, fileExists);
+                if (existing.isPresent()) {
+                    return existing;
+                }
+                if (ready) {
+                    Files.writeString(indexFile, sha256 + ' ' + relativePath + '\n', StandardCharsets.UTF_8,
+                                      StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+                entries.put(sha256, relativePath);
+                return Optional.empty();
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        int size() {
+            return entries.size();
+        }
+    }
+}
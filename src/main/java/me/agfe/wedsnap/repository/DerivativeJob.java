@@ -0,0 +1,29 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 파생 이미지(썸네일/미리보기) 생성 작업
+ * 원본 1장당 1개이며, 큐 디렉토리의 {id}.json 으로 저장되어 서버가 재시작되어도 이어서 처리됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DerivativeJob {
+
+    private String id;
+    private String eventName;
+    private String uploaderName;
+    /** 업로더 폴더 내 저장된 원본 파일명 (UUID.확장자) */
+    private String fileName;
+    private int attempts;
+    private Instant createdAt;
+}
@@ -0,0 +1,120 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파생 이미지 생성 작업 큐 저장소
+ * 작업마다 JSON 파일 하나를 두고 처리가 끝나면 삭제하므로, 디렉토리에 남은 파일이 곧 미처리 작업 목록입니다.
+ */
+@Slf4j
+@Repository
+public class DerivativeJobStore {
+
+    private static final String JOB_SUFFIX = ".json";
+
+    private final Map<String, DerivativeJob> jobs = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Path queueRoot;
+
+    public DerivativeJobStore(ObjectMapper objectMapper,
+                              @Value("${wedsnap.upload.derivatives.queue-dir}") String queueDir) {
+        this.objectMapper = objectMapper;
+        this.queueRoot = Paths.get(queueDir);
+    }
+
+    /**
+     * 서버 재시작 전에 처리되지 못한 작업을 다시 불러옵니다.
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        Files.createDirectories(queueRoot);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(queueRoot, "*" + JOB_SUFFIX)) {
+            for (Path file : stream) {
+                try {
+                    DerivativeJob job = objectMapper.readValue(file.toFile(), DerivativeJob.class);
+                    jobs.put(job.getId(), job);
+                } catch (IOException e) {
+                    log.warn("손상된 파생 이미지 작업 삭제: {} → {}", file, e.getMessage());
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        log.info("파생 이미지 작업 큐 로드: {} (작업 {}개)", queueRoot, jobs.size());
+    }
+
+    /**
+     * 새 작업을 큐에 추가합니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 업로더 폴더명
+     * @param fileName 저장된 원본 파일명
+     * @return 추가된 작업
+     * @throws IOException 작업 파일 기록 실패 시
+     */
+    public DerivativeJob add(String eventName, String uploaderName, String fileName) throws IOException {
+        DerivativeJob job = DerivativeJob.builder()
+                                         .id(UUID.randomUUID().toString().replace("-", ""))
+                                         .eventName(eventName)
+                                         .uploaderName(uploaderName)
+                                         .fileName(fileName)
+                                         .createdAt(Instant.now())
+                                         .build();
+        save(job);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    public Collection<DerivativeJob> findAll() {
+        return jobs.values();
+    }
+
+    /**
+     * 작업 상태(시도 횟수)를 원자적으로 갱신합니다.
+     * @param job 작업
+     * @throws IOException 쓰기 실패 시
+     */
+    public void save(DerivativeJob job) throws IOException {
+        Path temp = queueRoot.resolve(job.getId() + JOB_SUFFIX + ".tmp");
+        objectMapper.writeValue(temp.toFile(), job);
+        try {
+            Files.move(temp, jobFile(job), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, jobFile(job), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 처리가 끝난(또는 포기한) 작업을 큐에서 삭제합니다.
+     * @param job 작업
+     */
+    public void remove(DerivativeJob job) {
+        jobs.remove(job.getId());
+        try {
+            Files.deleteIfExists(jobFile(job));
+        } catch (IOException e) {
+            log.warn("파생 이미지 작업 파일 삭제 실패: {} → {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private Path jobFile(DerivativeJob job) {
+        return queueRoot.resolve(job.getId() + JOB_SUFFIX);
+    }
+}
@@ -0,0 +1,20 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+
+import me.agfe.wedsnap.support.ClientImageInfo;
+
+/**
+ * 저장된 파일 1개의 메타데이터
+ * @param eventName 이벤트 이름
+ * @param uploaderName 업로더 폴더명
+ * @param storedName 저장된 파일명 (UUID.확장자)
+ * @param originalName 업로드 시 원본 파일명
+ * @param size 파일 크기 (bytes)
+ * @param sha256 파일 내용 SHA-256 (중복 검사 비활성 시 null)
+ * @param uploadedAt 저장 시각
+ * @param original 브라우저에서 줄여 보낸 경우 원본 해상도/크기 (원본 그대로 보낸 경우 null)
+ */
+public record FileMetadata(String eventName, String uploaderName, String storedName, String originalName,
+                           long size, String sha256, Instant uploadedAt, ClientImageInfo original) {
+}
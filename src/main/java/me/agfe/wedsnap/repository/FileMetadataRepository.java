@@ -0,0 +1,257 @@
+package me.agfe.wedsnap.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.support.ClientImageInfo;
+
+/**
+ * 업로드 파일 메타데이터 저장소 (내장 H2)
+ * 저장 요청은 큐에 쌓이고 전용 스레드 하나가 그동안 쌓인 요청을 한 트랜잭션의 배치 INSERT 로 커밋합니다. (group commit)
+ * 호출자는 자신의 행이 커밋될 때까지 기다리므로 응답 시점에는 기록이 보장되며,
+ * 동시 업로드가 많을수록 커밋 한 번에 여러 행이 묶여 디스크 동기화 횟수가 줄어듭니다.
+ * 묶음 커밋이 실패하면 행을 하나씩 다시 기록하여, 문제가 있는 행만 실패로 처리합니다.
+ */
+@Slf4j
+@Repository
+public class FileMetadataRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO stored_file (event_name, uploader_name, stored_name, original_name, size, sha256, uploaded_at, "
+            + "original_width, original_height, original_size) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_COLUMNS =
+            "SELECT event_name, uploader_name, stored_name, original_name, size, sha256, uploaded_at, "
+            + "original_width, original_height, original_size FROM stored_file ";
+    private static final long COMMIT_TIMEOUT_SECONDS = 10;
+    private static final long POLL_INTERVAL_MILLIS = 200;
+    /** 컬럼 길이 (schema.sql 과 같아야 함) */
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public FileMetadataRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  @Value("${wedsnap.metadata.batch-size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "metadata-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 큐에 남은 요청을 모두 커밋한 뒤 기록 스레드를 종료합니다.
+     * H2 는 I/O 중 인터럽트되면 파일 채널이 닫히므로 interrupt 대신 poll 타임아웃으로 종료를 감지합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(COMMIT_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * 메타데이터를 저장하고 커밋될 때까지 기다립니다.
+     * @param metadata 파일 메타데이터
+     * @throws DataAccessResourceFailureException 커밋 실패 또는 대기 시간 초과 시
+     * @throws DataIntegrityViolationException 컬럼 길이를 넘는 값이 있을 때
+     */
+    public void save(FileMetadata metadata) {
+        await(submit(metadata), metadata.storedName());
+    }
+
+    /**
+     * 메타데이터를 커밋 큐에 넣고 기다리지 않고 반환합니다.
+     * 원본 파일명은 컬럼 길이에 맞춰 자르고, 키 컬럼(이벤트/업로더/저장 파일명)이 길이를 넘으면 큐에 넣지 않고 실패시킵니다.
+     * @param metadata 파일 메타데이터
+     * @return 커밋 완료 시 완료되는 future ({@link #await(CompletableFuture, String)} 로 기다림)
+     */
+    public CompletableFuture<Void> submit(FileMetadata metadata) {
+        if (metadata.eventName().length() > MAX_NAME_LENGTH || metadata.uploaderName().length() > MAX_NAME_LENGTH
+            || metadata.storedName().length() > MAX_FILE_NAME_LENGTH) {
+            return CompletableFuture.failedFuture(
+                    new DataIntegrityViolationException("Metadata key too long: " + metadata.eventName() + "/"
+                                                        + metadata.uploaderName() + "/" + metadata.storedName()));
+        }
+        String originalName = metadata.originalName();
+        if (originalName.length() > MAX_FILE_NAME_LENGTH) {
+            metadata = new FileMetadata(metadata.eventName(), metadata.uploaderName(), metadata.storedName(),
+                                        originalName.substring(0, MAX_FILE_NAME_LENGTH), metadata.size(),
+                                        metadata.sha256(), metadata.uploadedAt(), metadata.original());
+        }
+
+        PendingWrite write = new PendingWrite(metadata, new CompletableFuture<>());
+        queue.add(write);
+        return write.committed();
+    }
+
+    /**
+     * {@link #submit(FileMetadata)} 로 넣은 행이 커밋될 때까지 기다립니다.
+     * @param committed 커밋 future
+     * @param storedName 오류 메시지에 표시할 저장 파일명
+     * @throws DataAccessResourceFailureException 커밋 실패 또는 대기 시간 초과 시
+     */
+    public void await(CompletableFuture<Void> committed, String storedName) {
+        try {
+            committed.get(COMMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataIntegrityViolationException violation) {
+                throw violation;
+            }
+            throw new DataAccessResourceFailureException("Metadata commit failed: " + storedName, e.getCause());
+        } catch (TimeoutException e) {
+            throw new DataAccessResourceFailureException("Metadata commit timed out: " + storedName, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for metadata commit", e);
+        }
+    }
+
+    /**
+     * 이벤트의 파일 목록 (최신순)
+     * @param eventName 이벤트 이름
+     * @param uploaderName 업로더 필터 (null 이면 전체)
+     * @param limit 최대 개수
+     * @return 파일 메타데이터 목록
+     */
+    public List<FileMetadata> findByEvent(String eventName, String uploaderName, int limit) {
+        if (uploaderName == null) {
+            return jdbcTemplate.query(SELECT_COLUMNS + "WHERE event_name = ? ORDER BY uploaded_at DESC LIMIT ?",
+                                      FileMetadataRepository::toMetadata, eventName, limit);
+        }
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE event_name = ? AND uploader_name = ? ORDER BY uploaded_at DESC LIMIT ?",
+                                  FileMetadataRepository::toMetadata, eventName, uploaderName, limit);
+    }
+
+    /**
+     * 이벤트의 업로더별 파일 수/용량 집계
+     * @param eventName 이벤트 이름
+     * @return 업로더별 집계 (업로더명 순)
+     */
+    public List<UploaderSummary> summarizeByUploader(String eventName) {
+        return jdbcTemplate.query("SELECT uploader_name, COUNT(*) AS file_count, SUM(size) AS total_bytes, "
+                                  + "MAX(uploaded_at) AS last_uploaded_at FROM stored_file "
+                                  + "WHERE event_name = ? GROUP BY uploader_name ORDER BY uploader_name",
+                                  (rs, rowNum) -> new UploaderSummary(rs.getString("uploader_name"),
+                                                                      rs.getLong("file_count"),
+                                                                      rs.getLong("total_bytes"),
+                                                                      rs.getTimestamp("last_uploaded_at").toInstant()),
+                                  eventName);
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        try {
+            insert(batch);
+            batch.forEach(write -> write.committed().complete(null));
+            log.debug("Metadata committed: {} rows", batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            // 한 행의 오류(중복 키 등)로 같은 묶음의 다른 업로드까지 실패하지 않도록 한 행씩 다시 기록
+            log.warn("Metadata batch commit failed, retrying {} rows one by one → {}", batch.size(), e.getMessage());
+            for (PendingWrite write : batch) {
+                try {
+                    insert(List.of(write));
+                    write.committed().complete(null);
+                } catch (RuntimeException rowFailure) {
+                    fail(write, rowFailure);
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingWrite> writes) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                INSERT_SQL, writes, writes.size(), (ps, write) -> {
+                    FileMetadata metadata = write.metadata();
+                    ps.setString(1, metadata.eventName());
+                    ps.setString(2, metadata.uploaderName());
+                    ps.setString(3, metadata.storedName());
+                    ps.setString(4, metadata.originalName());
+                    ps.setLong(5, metadata.size());
+                    ps.setString(6, metadata.sha256());
+                    ps.setTimestamp(7, Timestamp.from(metadata.uploadedAt()));
+                    ClientImageInfo original = metadata.original();
+                    if (original != null) {
+                        ps.setInt(8, original.width());
+                        ps.setInt(9, original.height());
+                        ps.setLong(10, original.size());
+                    } else {
+                        ps.setNull(8, Types.INTEGER);
+                        ps.setNull(9, Types.INTEGER);
+                        ps.setNull(10, Types.BIGINT);
+                    }
+                }));
+    }
+
+    private void fail(PendingWrite write, RuntimeException cause) {
+        FileMetadata metadata = write.metadata();
+        log.error("Metadata commit failed: {}/{}/{} → {}", metadata.eventName(), metadata.uploaderName(),
+                  metadata.storedName(), cause.getMessage());
+        write.committed().completeExceptionally(cause);
+    }
+
+    private static FileMetadata toMetadata(ResultSet rs, int rowNum) throws SQLException {
+        long originalSize = rs.getLong("original_size");
+        ClientImageInfo original = rs.wasNull() ? null : new ClientImageInfo(rs.getInt("original_width"),
+                                                                             rs.getInt("original_height"), originalSize);
+        return new FileMetadata(rs.getString("event_name"), rs.getString("uploader_name"), rs.getString("stored_name"),
+                                rs.getString("original_name"), rs.getLong("size"), rs.getString("sha256"),
+                                rs.getTimestamp("uploaded_at").toInstant(), original);
+    }
+
+    private record PendingWrite(FileMetadata metadata, CompletableFuture<Void> committed) {
+    }
+}
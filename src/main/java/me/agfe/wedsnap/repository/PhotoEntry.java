@@ -0,0 +1,25 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+
+/**
+ * 갤러리 인덱스 항목 (이벤트 내 사진 1장)
+ * @param uploaderName 업로더 폴더명
+ * @param fileName 저장된 파일명
+ * @param size 파일 크기 (bytes)
+ * @param uploadedAt 저장 시각
+ */
+public record PhotoEntry(String uploaderName, String fileName, long size, Instant uploadedAt) {
+
+    /** 최신순, 같은 시각이면 업로더명/파일명 순 (커서 위치가 항상 하나로 정해지도록 전체 순서를 보장) */
+    public static final Comparator<PhotoEntry> NEWEST_FIRST = Comparator.comparing(PhotoEntry::uploadedAt).reversed()
+                                                                        .thenComparing(PhotoEntry::uploaderName)
+                                                                        .thenComparing(PhotoEntry::fileName);
+
+    /** 인덱스 파일과 커서는 ms 단위로 기록되므로 메모리 항목도 같은 정밀도로 맞춤 */
+    public PhotoEntry {
+        uploadedAt = uploadedAt.truncatedTo(ChronoUnit.MILLIS);
+    }
+}
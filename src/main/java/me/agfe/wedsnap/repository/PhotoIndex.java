@@ -0,0 +1,291 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트별 갤러리 인덱스
+ * 이벤트 디렉토리의 .photo-index 파일에 "저장시각(ms) 업로더 파일명 크기" 를 탭으로 구분하여 한 줄씩 추가 기록하고,
+ * 이벤트별로 최초 1회만 읽어 최신순으로 정렬된 메모리 인덱스(전체 + 업로더별)로 보관합니다.
+ * 목록 조회는 커서 위치부터 필요한 개수만 읽으므로 이벤트 크기와 관계없이 O(log n + 페이지 크기) 입니다.
+ * 인덱스 파일이 없는 이벤트는 디렉토리 전체를 훑어야 하므로 요청 스레드가 아닌 별도 스레드에서 재생성하며,
+ * 끝나기 전까지는 그동안 추가된 사진만 조회됩니다. (추가된 항목은 메모리에 모았다가 재생성 결과와 합침)
+ */
+@Slf4j
+@Component
+public class PhotoIndex {
+
+    static final String INDEX_FILE = ".photo-index";
+
+    private final Map<Path, EventPhotos> events = new ConcurrentHashMap<>();
+    private final Executor rebuildExecutor;
+
+    @Autowired
+    public PhotoIndex() {
+        this(newRebuildExecutor());
+    }
+
+    /**
+     * @param rebuildExecutor 인덱스 파일이 없는 이벤트의 재생성 실행기
+     */
+    PhotoIndex(Executor rebuildExecutor) {
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 새로 저장한 파일을 인덱스에 추가합니다.
+     * @param eventDir 이벤트 디렉토리
+     * @param entry 인덱스 항목
+     * @throws IOException 인덱스 파일 기록 실패 시
+     */
+    public void add(Path eventDir, PhotoEntry entry) throws IOException {
+        load(eventDir).add(entry);
+    }
+
+    /**
+     * 최신순으로 한 페이지를 조회합니다.
+     * @param eventDir 이벤트 디렉토리
+     * @param uploaderName 업로더 필터 (null 이면 전체)
+     * @param from 이 시각 이후 저장된 사진만 (null 이면 제한 없음)
+     * @param to 이 시각 이전 저장된 사진만 (null 이면 제한 없음)
+     * @param after 이전 페이지의 마지막 항목 (null 이면 처음부터)
+     * @param limit 최대 개수
+     * @return 조회된 항목
+     */
+    public List<PhotoEntry> find(Path eventDir, String uploaderName, Instant from, Instant to, PhotoEntry after, int limit) {
+        if (!Files.isDirectory(eventDir)) {
+            // 존재하지 않는 이벤트는 캐시하지 않음
+            return List.of();
+        }
+
+        NavigableSet<PhotoEntry> photos = load(eventDir).photos(uploaderName);
+        // 최신순이므로 to 시각의 가장 앞 위치와 커서 다음 위치 중 더 뒤쪽부터 시작
+        PhotoEntry toStart = to != null ? new PhotoEntry("", "", 0, to) : null;
+        if (after != null && (toStart == null || PhotoEntry.NEWEST_FIRST.compare(after, toStart) >= 0)) {
+            photos = photos.tailSet(after, false);
+        } else if (toStart != null) {
+            photos = photos.tailSet(toStart, true);
+        }
+
+        List<PhotoEntry> page = new ArrayList<>(limit);
+        for (PhotoEntry entry : photos) {
+            if (page.size() == limit || (from != null && entry.uploadedAt().isBefore(from))) {
+                break;
+            }
+            page.add(entry);
+        }
+        return page;
+    }
+
+    /**
+     * 전체 항목을 조회합니다. (최신순)
+     * @param eventDir 이벤트 디렉토리
+     * @param uploaderName 업로더 필터 (null 이면 전체)
+     * @return 조회 시점의 전체 항목
+     */
+    public List<PhotoEntry> findAll(Path eventDir, String uploaderName) {
+        if (!Files.isDirectory(eventDir)) {
+            return List.of();
+        }
+        return List.copyOf(load(eventDir).photos(uploaderName));
+    }
+
+    private EventPhotos load(Path eventDir) {
+        EventPhotos loaded = events.get(eventDir);
+        if (loaded != null) {
+            return loaded;
+        }
+        boolean[] created = new boolean[1];
+        EventPhotos photos = events.computeIfAbsent(eventDir, dir -> {
+            try {
+                if (Files.exists(dir.resolve(INDEX_FILE))) {
+                    return EventPhotos.read(dir);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            created[0] = true;
+            return new EventPhotos(dir);
+        });
+        if (created[0]) {
+            startRebuild(photos);
+        }
+        return photos;
+    }
+
+    private void startRebuild(EventPhotos photos) {
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    photos.populate();
+                } catch (IOException | RuntimeException e) {
+                    // 다음 조회에서 다시 시도 (그동안 추가된 사진은 디렉토리를 다시 훑을 때 포함됨)
+                    log.error("갤러리 인덱스 재생성 실패: {} → {}", photos.eventDir, e.getMessage());
+                    events.remove(photos.eventDir, photos);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            events.remove(photos.eventDir, photos);
+        }
+    }
+
+    private static ExecutorService newRebuildExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "photo-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 이벤트 하나의 사진 목록
+     */
+    private static final class EventPhotos {
+
+        private static final NavigableSet<PhotoEntry> EMPTY = new ConcurrentSkipListSet<>(PhotoEntry.NEWEST_FIRST);
+
+        private final Path eventDir;
+        private final Path indexFile;
+        private final NavigableSet<PhotoEntry> all = new ConcurrentSkipListSet<>(PhotoEntry.NEWEST_FIRST);
+        private final Map<String, NavigableSet<PhotoEntry>> byUploader = new ConcurrentHashMap<>();
+        // 파일 기록 중 대기하는 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 사용
+        private final ReentrantLock appendLock = new ReentrantLock();
+        /** 재생성 중 추가된 사진 (업로더/파일명, 디렉토리를 훑은 결과와 겹치지 않도록 함) */
+        private final Set<String> addedDuringRebuild = ConcurrentHashMap.newKeySet();
+        /** 인덱스 파일이 완성되었는지 여부 (재생성 중이면 추가는 메모리에만 함) */
+        private volatile boolean ready;
+
+        private EventPhotos(Path eventDir) {
+            this.eventDir = eventDir;
+            this.indexFile = eventDir.resolve(INDEX_FILE);
+        }
+
+        static EventPhotos read(Path eventDir) throws IOException {
+            EventPhotos photos = new EventPhotos(eventDir);
+            photos.ready = true;
+            try (BufferedReader reader = Files.newBufferedReader(photos.indexFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    if (fields.length == 4) {
+                        photos.put(new PhotoEntry(fields[1], fields[2], Long.parseLong(fields[3]),
+                                                  Instant.ofEpochMilli(Long.parseLong(fields[0]))));
+                    }
+                }
+            }
+            log.info("갤러리 인덱스 로드: {} (사진 {}장)", eventDir, photos.all.size());
+            return photos;
+        }
+
+        /**
+         * 인덱스 파일이 없는 기존 이벤트는 디렉토리를 한 번 훑어 수정 시각 기준으로 인덱스를 만들고,
+         * 그동안 추가된 사진과 합쳐 인덱스 파일을 새로 씁니다.
+         */
+        void populate() throws IOException {
+            Files.createDirectories(eventDir);
+
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(eventDir, 2)) {
+                files = paths.filter(Files::isRegularFile)
+                             .filter(path -> path.getNameCount() == eventDir.getNameCount() + 2)
+                             .filter(path -> !path.getName(eventDir.getNameCount()).toString().startsWith("."))
+                             .toList();
+            }
+
+            List<PhotoEntry> scanned = new ArrayList<>(files.size());
+            for (Path file : files) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                scanned.add(new PhotoEntry(file.getParent().getFileName().toString(), file.getFileName().toString(),
+                                           attributes.size(), attributes.lastModifiedTime().toInstant()));
+            }
+
+            appendLock.lock();
+            try {
+                for (PhotoEntry entry : scanned) {
+                    if (!addedDuringRebuild.contains(key(entry))) {
+                        put(entry);
+                    }
+                }
+                StringBuilder content = new StringBuilder();
+                all.forEach(entry -> content.append(line(entry)));
+
+                Path temp = eventDir.resolve(INDEX_FILE + ".tmp");
+                Files.writeString(temp, content, StandardCharsets.UTF_8);
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+                ready = true;
+                addedDuringRebuild.clear();
+            } finally {
+                appendLock.unlock();
+            }
+            log.info("갤러리 인덱스 재생성: {} (사진 {}장)", eventDir, all.size());
+        }
+
+        void add(PhotoEntry entry) throws IOException {
+            appendLock.lock();
+            try {
+                if (ready) {
+                    Files.writeString(indexFile, line(entry), StandardCharsets.UTF_8,
+                                      StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                } else {
+                    addedDuringRebuild.add(key(entry));
+                }
+                put(entry);
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        NavigableSet<PhotoEntry> photos(String uploaderName) {
+            return uploaderName == null ? all : byUploader.getOrDefault(uploaderName, EMPTY);
+        }
+
+        private void put(PhotoEntry entry) {
+            all.add(entry);
+            byUploader.computeIfAbsent(entry.uploaderName(), name -> new ConcurrentSkipListSet<>(PhotoEntry.NEWEST_FIRST))
+                      .add(entry);
+        }
+
+        private static String key(PhotoEntry entry) {
+            return entry.uploaderName() + "/" + entry.fileName();
+        }
+
+        private static String line(PhotoEntry entry) {
+            return entry.uploadedAt().toEpochMilli() + "\t" + entry.uploaderName() + "\t" + entry.fileName()
+                   + "\t" + entry.size() + "\n";
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package me.agfe.wedsnap.repository;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * NAS 복제를 기다리는 스테이징 파일
+ * @param target 복제될 NAS 경로 (base-path/event-{id}/{업로더}/{UUID}.확장자)
+ * @param staged 로컬 스테이징 경로
+ * @param size 파일 크기
+ * @param stagedAt 스테이징 완료 시각 (복제 지연 측정용)
+ */
+public record StagedFile(Path target, Path staged, long size, Instant stagedAt) {
+}
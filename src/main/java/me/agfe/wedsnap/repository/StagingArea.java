@@ -0,0 +1,192 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NAS 쓰기 지연(write-behind)용 로컬 스테이징 영역
+ * 활성화되면 업로드 파일을 로컬 디스크의 {staging-dir}/event-{id}/{업로더}/{UUID}.확장자 에 fsync 까지 마친 뒤 응답하고,
+ * NAS 로의 복제는 ReplicationService 가 백그라운드에서 수행합니다.
+ * 스테이징 디렉토리에 남은 파일이 곧 복제 대기 목록이므로, 재시작 시 디렉토리를 다시 읽어 이어서 복제합니다.
+ */
+@Slf4j
+@Repository
+public class StagingArea {
+
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * 스테이징 파일에 본문을 기록하는 작업
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write(Path file) throws IOException;
+    }
+
+    private final Map<Path, StagedFile> pending = new ConcurrentHashMap<>();
+    private final Path basePath;
+    private final Path stagingRoot;
+    private final boolean enabled;
+
+    public StagingArea(@Value("${wedsnap.upload.base-path}") String basePath,
+                       @Value("${wedsnap.upload.staging.enabled}") boolean enabled,
+                       @Value("${wedsnap.upload.staging.dir}") String stagingDir) {
+        this.basePath = Paths.get(basePath).toAbsolutePath().normalize();
+        this.stagingRoot = Paths.get(stagingDir).toAbsolutePath().normalize();
+        this.enabled = enabled;
+    }
+
+    /**
+     * 재시작 전에 복제되지 못한 파일을 다시 불러옵니다.
+     * 기록 중이던 조각(.part)은 응답하지 않은 업로드이므로 삭제합니다.
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (stagingRoot.startsWith(basePath)) {
+            throw new IllegalStateException("Staging dir must be outside of the upload base path: " + stagingRoot);
+        }
+        Files.createDirectories(stagingRoot);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(stagingRoot)) {
+            files = paths.filter(Files::isRegularFile).toList();
+        }
+        for (Path staged : files) {
+            if (staged.getFileName().toString().endsWith(PART_SUFFIX)) {
+                Files.deleteIfExists(staged);
+                continue;
+            }
+            Path target = basePath.resolve(stagingRoot.relativize(staged));
+            pending.put(target, new StagedFile(target, staged, Files.size(staged),
+                                               Files.getLastModifiedTime(staged).toInstant()));
+        }
+        log.info("스테이징 영역 로드: {} (복제 대기 {}개)", stagingRoot, pending.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * NAS 경로에 쓸 파일을 로컬에 기록하고 디스크에 반영(fsync)된 뒤 복제 대기 목록에 올립니다.
+     * 기록은 .part 파일에 하고 완료 후 이름을 바꾸므로, 중간에 실패하거나 서버가 죽어도 불완전한 파일이 복제되지 않습니다.
+     * @param target 최종 NAS 경로
+     * @param writer 본문 기록 작업
+     * @return 스테이징된 파일
+     * @throws IOException 기록 실패 시 (조각 파일은 삭제됨)
+     */
+    public StagedFile stage(Path target, Writer writer) throws IOException {
+        Path normalized = target.toAbsolutePath().normalize();
+        Path staged = stagedPath(normalized);
+        Path part = staged.resolveSibling(staged.getFileName() + PART_SUFFIX);
+        Files.createDirectories(part.getParent());
+        boolean completed = false;
+        try {
+            writer.write(part);
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            try {
+                Files.move(part, staged, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(part, staged);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                Files.deleteIfExists(part);
+            }
+        }
+
+        StagedFile file = new StagedFile(normalized, staged, Files.size(staged), Instant.now());
+        pending.put(normalized, file);
+        return file;
+    }
+
+    /**
+     * 읽기용 실제 경로 (아직 복제되지 않았으면 스테이징 경로)
+     * @param target NAS 경로
+     * @return 현재 내용을 읽을 수 있는 경로
+     */
+    public Path locate(Path target) {
+        StagedFile file = pending.get(target.toAbsolutePath().normalize());
+        if (file == null || Files.exists(target)) {
+            return target;
+        }
+        return file.staged();
+    }
+
+    /**
+     * @param target NAS 경로
+     * @return NAS 에 있거나 복제를 기다리는 중이면 true
+     */
+    public boolean exists(Path target) {
+        return pending.containsKey(target.toAbsolutePath().normalize()) || Files.exists(target);
+    }
+
+    /**
+     * 파일을 삭제합니다. (스테이징 중이면 스테이징 파일을, 아니면 NAS 파일을 삭제)
+     * @param target NAS 경로
+     * @throws IOException 삭제 실패 시
+     */
+    public void delete(Path target) throws IOException {
+        StagedFile file = pending.remove(target.toAbsolutePath().normalize());
+        if (file != null) {
+            Files.deleteIfExists(file.staged());
+        }
+        Files.deleteIfExists(target);
+    }
+
+    public Collection<StagedFile> findAll() {
+        return pending.values();
+    }
+
+    /**
+     * NAS 복제를 마친 파일을 대기 목록과 스테이징 영역에서 삭제합니다.
+     * @param file 복제된 파일
+     */
+    public void complete(StagedFile file) {
+        pending.remove(file.target(), file);
+        try {
+            Files.deleteIfExists(file.staged());
+        } catch (IOException e) {
+            // 남은 파일은 재시작 시 NAS 에 이미 있는 것으로 확인되어 정리됨
+            log.warn("스테이징 파일 삭제 실패: {} → {}", file.staged(), e.getMessage());
+        }
+    }
+
+    public int backlogCount() {
+        return pending.size();
+    }
+
+    public long backlogBytes() {
+        return pending.values().stream().mapToLong(StagedFile::size).sum();
+    }
+
+    private Path stagedPath(Path target) {
+        if (!target.startsWith(basePath)) {
+            throw new IllegalArgumentException("Not under upload base path: " + target);
+        }
+        return stagingRoot.resolve(basePath.relativize(target));
+    }
+}
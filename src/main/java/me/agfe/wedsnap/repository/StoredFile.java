@@ -0,0 +1,18 @@
+package me.agfe.wedsnap.repository;
+
+/**
+ * 파일 저장 결과
+ * @param fileName 저장된 파일명, 중복이면 이벤트 폴더 기준 기존 파일 경로 (예: 홍길동/uuid.jpg)
+ * @param sha256 파일 내용 SHA-256 (hex)
+ * @param duplicate 같은 이벤트에 동일한 내용이 이미 있어 저장을 생략했는지 여부
+ */
+public record StoredFile(String fileName, String sha256, boolean duplicate) {
+
+    public static StoredFile stored(String fileName, String sha256) {
+        return new StoredFile(fileName, sha256, false);
+    }
+
+    public static StoredFile duplicateOf(String existingPath, String sha256) {
+        return new StoredFile(existingPath, sha256, true);
+    }
+}
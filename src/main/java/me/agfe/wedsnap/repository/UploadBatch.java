@@ -0,0 +1,47 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 파일별 업로드 묶음 (업로드 1회에서 선택한 사진들)
+ * 저장한 파일 수는 {@link #reserveFile(int)} / {@link #releaseFile()} 로만 바뀝니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class UploadBatch {
+
+    private final String id;
+    private final String eventName;
+    /** 생성 시 예약한 업로더 폴더명 */
+    private final String uploaderName;
+    private final Instant createdAt;
+    /** 이 묶음으로 저장했거나 저장 중인 파일 수 */
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger storedFiles = new AtomicInteger();
+
+    /**
+     * 파일 1개 자리를 예약합니다. 저장에 실패하거나 중복이면 {@link #releaseFile()} 로 반납합니다.
+     * @param maxFiles 묶음당 최대 파일 수
+     * @return 예약했으면 true, 이미 maxFiles 개면 false
+     */
+    public boolean reserveFile(int maxFiles) {
+        while (true) {
+            int current = storedFiles.get();
+            if (current >= maxFiles) {
+                return false;
+            }
+            if (storedFiles.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void releaseFile() {
+        storedFiles.decrementAndGet();
+    }
+}
@@ -0,0 +1,59 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 파일별 업로드 묶음 저장소
+ * 묶음에는 예약한 업로더명만 있으므로 메모리에만 보관합니다. (재시작 시 클라이언트가 새 묶음을 만듦)
+ * 묶음은 유효 기간 동안 남아 있으므로 동시에 유지하는 개수를 max-batches 로 제한합니다.
+ */
+@Repository
+public class UploadBatchStore {
+
+    private final Map<String, UploadBatch> batches = new ConcurrentHashMap<>();
+    private final int maxBatches;
+
+    public UploadBatchStore(@Value("${wedsnap.upload.batch.max-batches}") int maxBatches) {
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * @return 유지 중인 묶음이 max-batches 에 이르렀는지 여부
+     */
+    public boolean isFull() {
+        return batches.size() >= maxBatches;
+    }
+
+    /**
+     * @param eventName 이벤트 이름
+     * @param uploaderName 예약된 업로더 폴더명
+     * @return 생성된 묶음
+     */
+    public UploadBatch create(String eventName, String uploaderName) {
+        UploadBatch batch = new UploadBatch(UUID.randomUUID().toString().replace("-", ""), eventName, uploaderName,
+                                            Instant.now());
+        batches.put(batch.getId(), batch);
+        return batch;
+    }
+
+    public Optional<UploadBatch> find(String batchId) {
+        return Optional.ofNullable(batches.get(batchId));
+    }
+
+    /**
+     * @param threshold 이 시각 이전에 생성된 묶음을 제거
+     * @return 제거한 묶음 수
+     */
+    public int expire(Instant threshold) {
+        int before = batches.size();
+        batches.values().removeIf(batch -> batch.getCreatedAt().isBefore(threshold));
+        return before - batches.size();
+    }
+}
@@ -0,0 +1,46 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.agfe.wedsnap.dto.ErrorResponse;
+import me.agfe.wedsnap.dto.UploadResponse;
+
+/**
+ * 비동기 업로드 작업
+ * 요청 본문을 받은 시점에 202 로 응답하고, 파일 저장은 작업 실행기에서 진행합니다.
+ * 끝나기 전까지는 스풀 디렉토리의 job.json 으로도 남아 재시작 후 이어서 처리되며, 끝난 작업은 메모리에만 보관하다가 보관 기간이 지나면 제거됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadJob {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private String id;
+    private String eventName;
+    /** 요청된 업로더 이름 (중복 시 실제 폴더명은 result 의 uploaderName) */
+    private String uploaderName;
+    private List<UploadJobFile> files;
+    private Instant createdAt;
+    private volatile Instant finishedAt;
+    private volatile Status status;
+    /** 완료 시 결과 (동기 업로드 응답과 같은 내용) */
+    private volatile UploadResponse result;
+    /** 실패 시 오류 */
+    private volatile ErrorResponse error;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
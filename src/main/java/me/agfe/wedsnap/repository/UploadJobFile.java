@@ -0,0 +1,15 @@
+package me.agfe.wedsnap.repository;
+
+import java.nio.file.Path;
+
+import me.agfe.wedsnap.support.ClientImageInfo;
+
+/**
+ * 비동기 업로드 작업에 포함된 파일 (요청 본문에서 스풀 디렉토리로 옮겨 둔 파일)
+ * @param fileName 원본 파일명
+ * @param path 스풀 파일 경로
+ * @param size 파일 크기
+ * @param original 브라우저에서 줄여 보낸 경우 원본 정보 (없으면 null)
+ */
+public record UploadJobFile(String fileName, Path path, long size, ClientImageInfo original) {
+}
@@ -0,0 +1,235 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.support.ClientImageInfo;
+
+/**
+ * 비동기 업로드 작업 저장소
+ * 요청이 끝나면 multipart 임시 파일이 삭제되므로, 작업을 만들 때 파일을 작업별 스풀 디렉토리로 옮겨 둡니다.
+ * (같은 파일시스템이면 이름 변경만으로 끝남)
+ * 202 로 응답하기 전에 작업 정보(job.json)를 스풀 디렉토리에 기록하므로, 재시작 후에도 접수한 작업을 이어서 처리할 수 있습니다.
+ * 끝난 작업의 상태는 메모리에만 보관하며, 보관 개수가 max-jobs 에 이르면 가장 오래전에 끝난 작업부터 제거합니다.
+ */
+@Slf4j
+@Repository
+public class UploadJobStore {
+
+    private static final String METADATA_FILE = "job.json";
+
+    private final Map<String, UploadJob> jobs = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Path spoolRoot;
+    private final int maxJobs;
+
+    public UploadJobStore(ObjectMapper objectMapper,
+                          @Value("${wedsnap.upload.async.spool-dir}") String spoolDir,
+                          @Value("${wedsnap.upload.async.max-jobs}") int maxJobs) {
+        this.objectMapper = objectMapper;
+        this.spoolRoot = Paths.get(spoolDir);
+        this.maxJobs = maxJobs;
+    }
+
+    /**
+     * 재시작 전에 접수했지만 끝나지 않은 작업을 대기 상태로 다시 불러옵니다.
+     * 작업 정보가 없는 디렉토리는 스풀 도중 중단되어 202 응답을 받지 못한 요청이므로 삭제합니다.
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        Files.createDirectories(spoolRoot);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(spoolRoot, Files::isDirectory)) {
+            for (Path dir : stream) {
+                Path metadata = dir.resolve(METADATA_FILE);
+                if (!Files.exists(metadata)) {
+                    log.warn("접수되지 않은 업로드 작업 삭제: {}", dir);
+                    deleteDirectory(dir);
+                    continue;
+                }
+                try {
+                    UploadJob job = toJob(dir, objectMapper.readValue(metadata.toFile(), JobManifest.class));
+                    jobs.put(job.getId(), job);
+                } catch (IOException e) {
+                    // 접수한 작업일 수 있으므로 삭제하지 않고 남겨 둠
+                    log.error("업로드 작업을 불러오지 못했습니다. 스풀 파일은 남겨 둡니다: {} → {}", dir, e.getMessage());
+                }
+            }
+        }
+        if (!jobs.isEmpty()) {
+            log.info("미처리 업로드 작업 로드: {} (작업 {}개)", spoolRoot, jobs.size());
+        }
+    }
+
+    /**
+     * 업로드 파일을 스풀 디렉토리로 옮기고 대기 상태의 작업을 만듭니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 요청된 업로더 이름
+     * @param files 업로드 파일
+     * @param originalInfo 파일 순서대로 전송된 원본 정보 (없으면 null)
+     * @return 생성된 작업
+     * @throws IOException 스풀 실패 시 (옮긴 파일은 삭제됨)
+     */
+    public UploadJob create(String eventName, String uploaderName, List<MultipartFile> files, List<String> originalInfo)
+            throws IOException {
+        String id = UUID.randomUUID().toString().replace("-", "");
+        Path dir = Files.createDirectory(spoolRoot.resolve(id));
+        List<UploadJobFile> spooled = new ArrayList<>(files.size());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                Path path = dir.resolve(String.valueOf(i));
+                file.transferTo(path);
+                spooled.add(new UploadJobFile(file.getOriginalFilename(), path, file.getSize(),
+                                              ClientImageInfo.at(originalInfo, i)));
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteDirectory(dir);
+            throw e;
+        }
+
+        UploadJob job = UploadJob.builder()
+                                 .id(id)
+                                 .eventName(eventName)
+                                 .uploaderName(uploaderName)
+                                 .files(spooled)
+                                 .createdAt(Instant.now())
+                                 .status(UploadJob.Status.PENDING)
+                                 .build();
+        try {
+            writeManifest(dir, job);
+        } catch (IOException | RuntimeException e) {
+            deleteDirectory(dir);
+            throw e;
+        }
+        evictOverflow();
+        jobs.put(id, job);
+        return job;
+    }
+
+    public Optional<UploadJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * @return 아직 실행되지 않은 작업 (재시작 후 다시 불러온 작업 포함)
+     */
+    public List<UploadJob> findPending() {
+        return jobs.values().stream()
+                   .filter(job -> job.getStatus() == UploadJob.Status.PENDING)
+                   .sorted(Comparator.comparing(UploadJob::getCreatedAt))
+                   .toList();
+    }
+
+    /**
+     * 작업의 스풀 파일을 삭제합니다. (상태는 조회용으로 남김)
+     */
+    public void deleteData(UploadJob job) {
+        deleteDirectory(spoolRoot.resolve(job.getId()));
+    }
+
+    /**
+     * threshold 이전에 끝난 작업을 제거합니다.
+     * @return 제거한 작업 수
+     */
+    public int expire(Instant threshold) {
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+        return before - jobs.size();
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    private void writeManifest(Path dir, UploadJob job) throws IOException {
+        List<JobManifest.File> files = job.getFiles().stream()
+                                          .map(file -> new JobManifest.File(file.fileName(), file.size(), file.original()))
+                                          .toList();
+        JobManifest manifest = new JobManifest(job.getId(), job.getEventName(), job.getUploaderName(), job.getCreatedAt(),
+                                               files);
+        Path temp = dir.resolve(METADATA_FILE + ".tmp");
+        objectMapper.writeValue(temp.toFile(), manifest);
+        try {
+            Files.move(temp, dir.resolve(METADATA_FILE), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, dir.resolve(METADATA_FILE));
+        }
+    }
+
+    private UploadJob toJob(Path dir, JobManifest manifest) throws IOException {
+        List<UploadJobFile> files = new ArrayList<>(manifest.files().size());
+        for (int i = 0; i < manifest.files().size(); i++) {
+            Path path = dir.resolve(String.valueOf(i));
+            if (!Files.exists(path)) {
+                throw new IOException("스풀 파일 없음: " + path.getFileName());
+            }
+            JobManifest.File file = manifest.files().get(i);
+            files.add(new UploadJobFile(file.fileName(), path, file.size(), file.original()));
+        }
+        return UploadJob.builder()
+                        .id(manifest.id())
+                        .eventName(manifest.eventName())
+                        .uploaderName(manifest.uploaderName())
+                        .files(files)
+                        .createdAt(manifest.createdAt())
+                        .status(UploadJob.Status.PENDING)
+                        .build();
+    }
+
+    private void evictOverflow() {
+        int overflow = jobs.size() - maxJobs + 1;
+        if (overflow <= 0) {
+            return;
+        }
+        jobs.values().stream()
+            .filter(UploadJob::isFinished)
+            .sorted(Comparator.comparing(UploadJob::getFinishedAt))
+            .limit(overflow)
+            .toList()
+            .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    private void deleteDirectory(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("업로드 작업 스풀 삭제 실패: {} → {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 후 작업을 다시 만들기 위한 정보 (스풀 파일 경로는 디렉토리와 파일 순서로 정해짐)
+     */
+    record JobManifest(String id, String eventName, String uploaderName, Instant createdAt, List<File> files) {
+
+        record File(String fileName, long size, ClientImageInfo original) {
+        }
+    }
+}
@@ -1,66 +1,362 @@
 package me.agfe.wedsnap.repository;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.multipart.MultipartFile;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.concurrency.IoBulkhead;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.support.ClientImageInfo;
+import me.agfe.wedsnap.support.DirectBufferPool;
 
 @Slf4j
 @Repository
+@RequiredArgsConstructor
 public class UploadRepository {
 
+    private final UploaderNameRegistry uploaderNameRegistry;
+    private final DirectBufferPool bufferPool;
+    private final ContentHashIndex contentHashIndex;
+    private final PhotoIndex photoIndex;
+    private final FileMetadataRepository fileMetadataRepository;
+    private final StagingArea stagingArea;
+    private final IoBulkhead ioBulkhead;
+    private final WedSnapMetrics metrics;
+
     @Value("${wedsnap.upload.base-path}")
     private String basePath;
 
     @Value("${wedsnap.environment}")
     private String environment;
 
-    public String saveFile(String eventId, String uploaderName, MultipartFile file) throws IOException {
-        String ext = "";
+    @Value("${wedsnap.upload.dedup.enabled}")
+    private boolean dedupEnabled;
+
+    /**
+     * multipart 파일을 저장합니다.
+     * 본문은 이미 로컬(메모리/임시 파일)에 있으므로 NAS 에 쓰기 전에 해시하여, 이벤트에 같은 내용이 있으면 쓰기를 생략합니다.
+     * 스테이징이 활성화되어 있으면 NAS 대신 로컬 스테이징 영역에 기록하고 NAS 복제는 백그라운드에서 수행됩니다.
+     * 해시부터 기록까지는 I/O 벌크헤드 허가를 얻은 상태에서 수행합니다.
+     * @param eventId 이벤트 ID
+     * @param uploaderName 업로더 폴더명
+     * @param file 업로드 파일
+     * @param original 브라우저에서 줄여 보낸 경우 원본 정보 (없으면 null)
+     * @return 저장 결과
+     * @throws IOException 읽기/쓰기 실패 시
+     */
+    public StoredFile saveFile(String eventId, String uploaderName, MultipartFile file, ClientImageInfo original)
+            throws IOException {
+        return awaitMetadata(ioBulkhead.call(() -> store(eventId, uploaderName, file, original)));
+    }
+
+    private Registered store(String eventId, String uploaderName, MultipartFile file, ClientImageInfo original)
+            throws IOException {
         String originalName = file.getOriginalFilename();
-        if (originalName != null && originalName.contains(".")) {
-            ext = originalName.substring(originalName.lastIndexOf("."));
+        Path eventDir = Paths.get(basePath, "event-" + eventId);
+
+        String sha256 = null;
+        if (dedupEnabled) {
+            try (InputStream in = file.getInputStream()) {
+                sha256 = ContentHashIndex.hash(in);
+            }
+            Optional<String> existing = findDuplicate(eventDir, sha256);
+            if (existing.isPresent()) {
+                log.info("[{}] Duplicate skipped: {} = {}", environment, originalName, existing.get());
+                return new Registered(StoredFile.duplicateOf(existing.get(), sha256), null);
+            }
         }
 
-        String newFileName = UUID.randomUUID() + ext;
-        Path uploadDir = Paths.get(basePath, "event-" + eventId, uploaderName);
-        Files.createDirectories(uploadDir);
+        String newFileName = newFileName(originalName);
+        Path uploadDir = eventDir.resolve(uploaderName);
+        uploaderNameRegistry.ensureDirectory(uploadDir);
 
         Path targetPath = uploadDir.resolve(newFileName);
-        file.transferTo(targetPath);
+        if (stagingArea.isEnabled()) {
+            stagingArea.stage(targetPath, file::transferTo);
+        } else {
+            transferTo(file, uploadDir, targetPath);
+        }
+        metrics.recordBytesWritten(file.getSize());
         log.info("[{}] File saved: {} -> {}", environment, originalName, targetPath);
 
-        return newFileName;
+        return registerContent(eventId, uploaderName, originalName, newFileName, sha256, file.getSize(), original);
     }
 
-    public String findUniqueUploaderName(String eventId, String uploaderName) {
-        Path baseDir = Paths.get(basePath, "event-" + eventId);
-        File dir = baseDir.toFile();
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
+    /**
+     * 스트림으로 들어오는 파일 본문을 임시 파일 없이 대상 경로에 바로 기록합니다.
+     * 풀에서 빌린 Direct 버퍼와 FileChannel 로 복사하며, 크기 제한을 넘거나 실패하면 작성 중인 파일을 삭제합니다.
+     * 스테이징이 활성화되어 있으면 대상 경로 대신 스테이징 영역에 기록합니다.
+     * 해시는 쓰는 동안 함께 계산하며, 같은 내용이 이미 있으면 기록을 마친 파일을 삭제합니다.
+     * 기록 속도가 클라이언트 전송 속도에 묶이므로 I/O 벌크헤드는 적용하지 않습니다. (느린 업로더가 허가를 붙잡지 않도록)
+     * @param eventId 이벤트 ID
+     * @param uploaderName 업로더 폴더명
+     * @param originalName 원본 파일명
+     * @param source 파일 본문 채널
+     * @param maxBytes 허용 최대 파일 크기
+     * @param original 브라우저에서 줄여 보낸 경우 원본 정보 (없으면 null)
+     * @return 저장 결과
+     * @throws IOException 읽기/쓰기 실패 시
+     */
+    public StoredFile saveStream(String eventId, String uploaderName, String originalName,
+                             ReadableByteChannel source, long maxBytes, ClientImageInfo original) throws IOException {
+        String newFileName = newFileName(originalName);
+        Path eventDir = Paths.get(basePath, "event-" + eventId);
+        Path uploadDir = eventDir.resolve(uploaderName);
+        uploaderNameRegistry.ensureDirectory(uploadDir);
+
+        Path targetPath = uploadDir.resolve(newFileName);
+        MessageDigest digest = dedupEnabled ? ContentHashIndex.newDigest() : null;
+        long written = stagingArea.isEnabled()
+                       ? stagingArea.stage(targetPath, part -> copy(source, part, digest, maxBytes, originalName)).size()
+                       : copy(source, targetPath, digest, maxBytes, originalName);
+
+        metrics.recordBytesWritten(written);
+        log.info("[{}] File streamed: {} -> {} ({} bytes)", environment, originalName, targetPath, written);
+        return awaitMetadata(registerContent(eventId, uploaderName, originalName, newFileName,
+                                             digest != null ? ContentHashIndex.toHex(digest) : null, written, original));
+    }
 
-        File target = new File(dir, uploaderName);
-        if (!target.exists()) {
-            return uploaderName;
+    /**
+     * 이미 디스크에 완성된 파일(이어받기 업로드의 조각 파일)을 업로더 폴더로 옮깁니다.
+     * 같은 파일시스템이면 이름 변경만으로 끝나고, 그렇지 않으면 복사 후 원본을 삭제합니다.
+     * 스테이징이 활성화되어 있으면 스테이징 영역으로 옮깁니다.
+     * 이벤트에 같은 내용이 이미 있으면 옮기지 않고 원본 파일을 삭제합니다.
+     * 해시부터 이동까지는 I/O 벌크헤드 허가를 얻은 상태에서 수행합니다.
+     * @param eventId 이벤트 ID
+     * @param uploaderName 업로더 폴더명
+     * @param originalName 원본 파일명
+     * @param source 옮길 파일
+     * @param original 브라우저에서 줄여 보낸 경우 원본 정보 (없으면 null)
+     * @return 저장 결과
+     * @throws IOException 이동 실패 시
+     */
+    public StoredFile moveFile(String eventId, String uploaderName, String originalName, Path source,
+                               ClientImageInfo original) throws IOException {
+        return awaitMetadata(ioBulkhead.call(() -> assemble(eventId, uploaderName, originalName, source, original)));
+    }
+
+    private Registered assemble(String eventId, String uploaderName, String originalName, Path source,
+                                ClientImageInfo original) throws IOException {
+        Path eventDir = Paths.get(basePath, "event-" + eventId);
+
+        String sha256 = null;
+        if (dedupEnabled) {
+            try (InputStream in = Files.newInputStream(source)) {
+                sha256 = ContentHashIndex.hash(in);
+            }
+            Optional<String> existing = findDuplicate(eventDir, sha256);
+            if (existing.isPresent()) {
+                Files.deleteIfExists(source);
+                log.info("[{}] Duplicate skipped: {} = {}", environment, originalName, existing.get());
+                return new Registered(StoredFile.duplicateOf(existing.get(), sha256), null);
+            }
         }
 
-        int counter = 1;
+        String newFileName = newFileName(originalName);
+        Path uploadDir = eventDir.resolve(uploaderName);
+        uploaderNameRegistry.ensureDirectory(uploadDir);
+
+        Path targetPath = uploadDir.resolve(newFileName);
+        long size = stagingArea.isEnabled()
+                    ? stagingArea.stage(targetPath, part -> move(source, part)).size()
+                    : move(source, targetPath);
+        log.info("[{}] File assembled: {} -> {}", environment, originalName, targetPath);
+
+        return registerContent(eventId, uploaderName, originalName, newFileName, sha256, size, original);
+    }
+
+    /**
+     * 이벤트 내에서 사용되지 않은 업로더 폴더명을 찾아 디렉토리를 생성(예약)합니다.
+     * 이름 발급은 메모리 레지스트리에서 원자적으로 이루어지며, NAS 접근은 이벤트당 최초 1회 목록 조회와
+     * 예약 확정용 디렉토리 생성 1회로 제한됩니다.
+     * @param eventId 이벤트 ID
+     * @param uploaderName 요청된 업로더 이름
+     * @return 예약된 업로더 폴더명
+     */
+    public String findUniqueUploaderName(String eventId, String uploaderName) {
+        Path eventDir = Paths.get(basePath, "event-" + eventId);
         String candidate;
-        do {
-            candidate = uploaderName + "(" + counter + ")";
-            counter++;
-        } while (new File(dir, candidate).exists());
+        try {
+            candidate = reserveUploaderName(eventDir, uploaderName);
+        } catch (IOException e) {
+            throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "업로더 폴더 생성 실패: " + uploaderName, e);
+        }
 
-        log.info("업로더명 중복 감지: {} → {}", uploaderName, candidate);
+        if (!candidate.equals(uploaderName)) {
+            metrics.recordUploaderNameCollision();
+            log.info("업로더명 중복 감지: {} → {}", uploaderName, candidate);
+        }
         return candidate;
     }
+
+    private String reserveUploaderName(Path eventDir, String uploaderName) throws IOException {
+        try {
+            return uploaderNameRegistry.reserve(eventDir, uploaderName);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Optional<String> findDuplicate(Path eventDir, String sha256) throws IOException {
+        try {
+            return contentHashIndex.find(eventDir, sha256);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 새로 쓴 파일을 해시 인덱스, 갤러리 인덱스, 메타데이터 저장소에 등록합니다.
+     * 같은 내용이 동시에 먼저 등록된 경우 방금 쓴 파일을 삭제하고 중복으로 처리합니다.
+     * 갤러리 인덱스/메타데이터 기록 실패는 업로드 실패로 보지 않습니다. (파일은 이미 저장되었으므로 재전송 시 중복으로 처리됨)
+     * 메타데이터는 커밋 큐에 넣기만 하고, 커밋 대기는 I/O 벌크헤드 허가를 반납한 뒤 {@link #awaitMetadata} 에서 합니다.
+     */
+    private Registered registerContent(String eventId, String uploaderName, String originalName, String newFileName,
+                                       String sha256, long size, ClientImageInfo original) throws IOException {
+        Path eventDir = Paths.get(basePath, "event-" + eventId);
+        if (sha256 != null) {
+            Optional<String> existing;
+            try {
+                existing = contentHashIndex.register(eventDir, sha256, uploaderName + "/" + newFileName);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (existing.isPresent()) {
+                stagingArea.delete(eventDir.resolve(uploaderName).resolve(newFileName));
+                log.info("[{}] Duplicate removed: {}/{} = {}", environment, uploaderName, newFileName, existing.get());
+                return new Registered(StoredFile.duplicateOf(existing.get(), sha256), null);
+            }
+        }
+
+        Instant uploadedAt = Instant.now();
+        try {
+            photoIndex.add(eventDir, new PhotoEntry(uploaderName, newFileName, size, uploadedAt));
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("[{}] Failed to update photo index: {}/{} → {}", environment, uploaderName, newFileName, e.getMessage());
+        }
+        CompletableFuture<Void> metadataCommit =
+                fileMetadataRepository.submit(new FileMetadata(eventId, uploaderName, newFileName,
+                                                               originalName != null ? originalName : newFileName,
+                                                               size, sha256, uploadedAt, original));
+        return new Registered(StoredFile.stored(newFileName, sha256), metadataCommit);
+    }
+
+    /**
+     * 메타데이터 커밋을 기다립니다. 실패해도 파일은 저장되었으므로 저장 결과는 그대로 반환하고 실패만 기록합니다.
+     */
+    private StoredFile awaitMetadata(Registered registered) {
+        StoredFile stored = registered.storedFile();
+        if (registered.metadataCommit() == null) {
+            return stored;
+        }
+        try {
+            fileMetadataRepository.await(registered.metadataCommit(), stored.fileName());
+        } catch (DataAccessException e) {
+            metrics.recordMetadataFailure();
+            log.error("[{}] Failed to save file metadata: {} → {}", environment, stored.fileName(), e.getMessage());
+        }
+        return stored;
+    }
+
+    private void transferTo(MultipartFile file, Path uploadDir, Path targetPath) throws IOException {
+        try {
+            file.transferTo(targetPath);
+        } catch (NoSuchFileException e) {
+            // 캐시된 디렉토리가 외부에서 삭제된 경우 다시 생성 후 1회 재시도
+            log.warn("[{}] Upload directory missing, recreating: {}", environment, uploadDir);
+            uploaderNameRegistry.forgetDirectory(uploadDir);
+            uploaderNameRegistry.ensureDirectory(uploadDir);
+            file.transferTo(targetPath);
+        }
+    }
+
+    /**
+     * 채널 본문을 새 파일에 기록합니다. 크기 제한을 넘거나 실패하면 작성 중인 파일을 삭제합니다.
+     * @return 기록한 바이트 수
+     */
+    private long copy(ReadableByteChannel source, Path targetPath, MessageDigest digest, long maxBytes,
+                      String originalName) throws IOException {
+        ByteBuffer buffer = bufferPool.acquire();
+        long written = 0;
+        boolean completed = false;
+        try (FileChannel channel = FileChannel.open(targetPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                written += buffer.remaining();
+                if (written > maxBytes) {
+                    throw new WedSnapException(ErrorCode.FILE_SIZE_EXCEEDED, "파일명: " + originalName);
+                }
+                if (digest != null) {
+                    digest.update(buffer.duplicate());
+                }
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+
+            if (written == 0) {
+                throw new WedSnapException(ErrorCode.EMPTY_FILE, "파일명: " + originalName);
+            }
+            completed = true;
+        } finally {
+            bufferPool.release(buffer);
+            if (!completed) {
+                Files.deleteIfExists(targetPath);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 파일을 옮깁니다. 다른 파일시스템이면 복사가 일어나므로 기록량에 포함합니다.
+     * @return 옮긴 파일 크기
+     */
+    private long move(Path source, Path targetPath) throws IOException {
+        try {
+            Files.move(source, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, targetPath);
+            metrics.recordBytesWritten(Files.size(targetPath));
+        }
+        return Files.size(targetPath);
+    }
+
+    private String newFileName(String originalName) {
+        String ext = "";
+        if (originalName != null && originalName.contains(".")) {
+            ext = originalName.substring(originalName.lastIndexOf("."));
+        }
+        return UUID.randomUUID() + ext;
+    }
+
+    /**
+     * 저장 결과와 아직 기다리지 않은 메타데이터 커밋 (중복이면 null)
+     */
+    private record Registered(StoredFile storedFile, CompletableFuture<Void> metadataCommit) {
+    }
 }
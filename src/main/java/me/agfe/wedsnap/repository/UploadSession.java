@@ -0,0 +1,50 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.agfe.wedsnap.dto.UploadResponse;
+
+/**
+ * 이어받기(resumable) 업로드 세션
+ * 한 업로더가 한 번에 올리는 파일 묶음 단위이며, 파일별로 수신한 청크 번호를 기록합니다.
+ * 세션 디렉토리의 session.json 으로 저장되어 서버 재시작 후에도 이어서 업로드할 수 있습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession {
+
+    private String id;
+    private String eventName;
+    private String uploaderName;
+    private long chunkSize;
+    private Instant createdAt;
+    private Instant lastModifiedAt;
+    private List<UploadSessionFile> files;
+
+    /** 완료 처리 결과 (완료 요청 재시도 시 같은 응답을 돌려주기 위해 메모리에만 보관) */
+    @JsonIgnore
+    private UploadResponse result;
+
+    /** 본문을 기록 중인 청크 ("파일번호:청크번호", 세션 락 안에서만 변경) */
+    @JsonIgnore
+    @Builder.Default
+    private Set<String> writingChunks = new HashSet<>();
+
+    @JsonIgnore
+    public boolean isCompleted() {
+        return result != null;
+    }
+}
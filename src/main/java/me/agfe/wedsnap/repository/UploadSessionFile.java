@@ -0,0 +1,60 @@
+package me.agfe.wedsnap.repository;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.agfe.wedsnap.support.ClientImageInfo;
+
+/**
+ * 업로드 세션에 포함된 파일 하나의 수신 상태
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionFile {
+
+    private String fileName;
+    private long size;
+    private Set<Integer> receivedChunks = new TreeSet<>();
+    /** 브라우저에서 줄여 보낸 경우 원본 정보 (없으면 null) */
+    private ClientImageInfo original;
+
+    public UploadSessionFile(String fileName, long size, ClientImageInfo original) {
+        this.fileName = fileName;
+        this.size = size;
+        this.original = original;
+    }
+
+    /**
+     * 청크 크기 기준 전체 청크 수
+     * @param chunkSize 청크 크기
+     * @return 청크 수
+     */
+    public int totalChunks(long chunkSize) {
+        return (int) ((size + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * 지정한 청크의 바이트 길이 (마지막 청크는 남은 크기)
+     * @param chunkIndex 청크 번호
+     * @param chunkSize 청크 크기
+     * @return 청크 길이
+     */
+    public long chunkLength(int chunkIndex, long chunkSize) {
+        return Math.min(chunkSize, size - chunkIndex * chunkSize);
+    }
+
+    /**
+     * 모든 청크를 수신했는지 여부
+     * @param chunkSize 청크 크기
+     * @return 수신 완료 여부
+     */
+    public boolean isComplete(long chunkSize) {
+        return receivedChunks.size() == totalChunks(chunkSize);
+    }
+}
@@ -0,0 +1,224 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.support.DirectBufferPool;
+
+/**
+ * 이어받기 업로드 세션 저장소
+ * 세션마다 디렉토리를 하나 만들고, 메타데이터(session.json)와 파일별 조각 파일({index}.part)을 보관합니다.
+ * 청크는 조각 파일의 해당 오프셋에 바로 기록되므로 순서와 관계없이 병렬로 받을 수 있고, 완료 시 별도의 병합 복사가 필요 없습니다.
+ * 세션마다 최대 요청 크기만큼 로컬 디스크를 쓸 수 있으므로 동시에 유지하는 개수를 max-sessions 로 제한합니다.
+ */
+@Slf4j
+@Repository
+public class UploadSessionStore {
+
+    private static final String METADATA_FILE = "session.json";
+    private static final String PART_SUFFIX = ".part";
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final DirectBufferPool bufferPool;
+    private final Path sessionRoot;
+    private final int maxSessions;
+
+    public UploadSessionStore(ObjectMapper objectMapper, DirectBufferPool bufferPool,
+                              @Value("${wedsnap.upload.resumable.session-dir}") String sessionDir,
+                              @Value("${wedsnap.upload.resumable.max-sessions}") int maxSessions) {
+        this.objectMapper = objectMapper;
+        this.bufferPool = bufferPool;
+        this.sessionRoot = Paths.get(sessionDir);
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * 서버 재시작 전에 만들어진 미완료 세션을 다시 불러옵니다.
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        Files.createDirectories(sessionRoot);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(sessionRoot, Files::isDirectory)) {
+            for (Path dir : stream) {
+                try {
+                    UploadSession session = objectMapper.readValue(dir.resolve(METADATA_FILE).toFile(), UploadSession.class);
+                    sessions.put(session.getId(), session);
+                } catch (IOException e) {
+                    log.warn("손상된 업로드 세션 삭제: {} → {}", dir, e.getMessage());
+                    deleteDirectory(dir);
+                }
+            }
+        }
+        log.info("업로드 세션 로드: {} (세션 {}개)", sessionRoot, sessions.size());
+    }
+
+    /**
+     * @return 유지 중인 세션이 max-sessions 에 이르렀는지 여부
+     */
+    public boolean isFull() {
+        return sessions.size() >= maxSessions;
+    }
+
+    /**
+     * 새 세션을 생성하고 저장합니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 요청된 업로더 이름
+     * @param chunkSize 청크 크기
+     * @param files 세션에 포함될 파일 목록
+     * @return 생성된 세션
+     * @throws IOException 세션 디렉토리 생성 실패 시
+     */
+    public UploadSession create(String eventName, String uploaderName, long chunkSize, List<UploadSessionFile> files)
+            throws IOException {
+        Instant now = Instant.now();
+        UploadSession session = UploadSession.builder()
+                                             .id(UUID.randomUUID().toString().replace("-", ""))
+                                             .eventName(eventName)
+                                             .uploaderName(uploaderName)
+                                             .chunkSize(chunkSize)
+                                             .createdAt(now)
+                                             .lastModifiedAt(now)
+                                             .files(files)
+                                             .build();
+
+        Files.createDirectory(sessionDir(session));
+        save(session);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    public Optional<UploadSession> find(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    public Collection<UploadSession> findAll() {
+        return sessions.values();
+    }
+
+    /**
+     * 세션 메타데이터를 원자적으로 갱신합니다. 호출자는 세션 객체에 대한 동기화를 보장해야 합니다.
+     * @param session 세션
+     * @throws IOException 쓰기 실패 시
+     */
+    public void save(UploadSession session) throws IOException {
+        Path dir = sessionDir(session);
+        Path temp = dir.resolve(METADATA_FILE + ".tmp");
+        objectMapper.writeValue(temp.toFile(), session);
+        try {
+            Files.move(temp, dir.resolve(METADATA_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, dir.resolve(METADATA_FILE), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 청크 본문을 조각 파일의 지정 위치에 기록합니다. 같은 청크를 다시 받으면 같은 영역을 덮어씁니다.
+     * @param session 세션
+     * @param fileIndex 파일 번호
+     * @param position 조각 파일 내 기록 시작 위치
+     * @param length 청크 길이
+     * @param source 청크 본문 채널
+     * @throws IOException 읽기/쓰기 실패 시
+     */
+    public void writeChunk(UploadSession session, int fileIndex, long position, long length, ReadableByteChannel source)
+            throws IOException {
+        ByteBuffer buffer = bufferPool.acquire();
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(partFile(session, fileIndex),
+                                                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                written += buffer.remaining();
+                if (written > length) {
+                    throw new WedSnapException(ErrorCode.INVALID_CHUNK, "청크 크기 초과: " + length + " bytes 예상");
+                }
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                buffer.clear();
+            }
+        } finally {
+            bufferPool.release(buffer);
+        }
+
+        if (written != length) {
+            throw new WedSnapException(ErrorCode.INVALID_CHUNK, "청크 크기 불일치: " + written + "/" + length + " bytes");
+        }
+    }
+
+    /**
+     * 파일 번호에 해당하는 조각 파일 경로
+     * @param session 세션
+     * @param fileIndex 파일 번호
+     * @return 조각 파일 경로
+     */
+    public Path partFile(UploadSession session, int fileIndex) {
+        return sessionDir(session).resolve(fileIndex + PART_SUFFIX);
+    }
+
+    /**
+     * 세션의 디스크 데이터를 삭제합니다. 세션 객체는 목록에 남아 완료 응답 재전송에 사용됩니다.
+     * @param session 세션
+     */
+    public void deleteData(UploadSession session) {
+        deleteDirectory(sessionDir(session));
+    }
+
+    /**
+     * 세션을 목록과 디스크에서 모두 삭제합니다.
+     * @param session 세션
+     */
+    public void delete(UploadSession session) {
+        sessions.remove(session.getId());
+        deleteDirectory(sessionDir(session));
+    }
+
+    private Path sessionDir(UploadSession session) {
+        return sessionRoot.resolve(session.getId());
+    }
+
+    private void deleteDirectory(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("업로드 세션 파일 삭제 실패: {} → {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("업로드 세션 디렉토리 삭제 실패: {} → {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package me.agfe.wedsnap.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트별 업로더 폴더명 레지스트리
+ * 이벤트 디렉토리를 최초 1회만 목록 조회하여 기본 이름별 최대 접미사(name(n))를 메모리에 보관하고,
+ * 이후에는 원자적 증가로 다음 이름을 발급합니다. 발급된 이름은 원자적 디렉토리 생성으로 확정합니다.
+ * 또한 이미 생성한 디렉토리를 기억하여 파일 저장 시 반복적인 디렉토리 생성 호출을 생략합니다.
+ * 이벤트 디렉토리가 외부에서 삭제되거나 다른 디렉토리로 바뀌면(이름 변경 후 재생성 등) 해당 이벤트의 캐시를 버리고 다시 조회합니다.
+ */
+@Slf4j
+@Component
+public class UploaderNameRegistry {
+
+    private static final Pattern SUFFIXED_NAME = Pattern.compile("^(.+)\\((\\d{1,9})\\)$");
+
+    /** 접미사 없는 기본 이름이 사용 중임을 나타내는 값 */
+    private static final int BASE_NAME_TAKEN = 0;
+
+    /** 아직 한 번도 사용되지 않은 기본 이름의 초기값 */
+    private static final int UNUSED = -1;
+
+    private final Map<Path, EventNames> events = new ConcurrentHashMap<>();
+    private final Set<Path> knownDirectories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 이벤트 디렉토리 안에 사용되지 않은 업로더 폴더를 생성하고 그 이름을 반환합니다.
+     * @param eventDir 이벤트 디렉토리
+     * @param uploaderName 요청된 업로더 이름
+     * @return 예약된 업로더 폴더명 (예: 홍길동, 홍길동(1))
+     * @throws IOException 디렉토리 생성 실패 시
+     */
+    public String reserve(Path eventDir, String uploaderName) throws IOException {
+        try {
+            return reserve(loadEvent(eventDir), eventDir, uploaderName);
+        } catch (NoSuchFileException e) {
+            // 확인 직후 이벤트 디렉토리가 삭제됨 - 캐시를 버리고 다시 조회(생성)하여 1회 재시도
+            forgetEvent(eventDir);
+            return reserve(loadEvent(eventDir), eventDir, uploaderName);
+        }
+    }
+
+    private String reserve(EventNames names, Path eventDir, String uploaderName) throws IOException {
+        AtomicInteger highest = names.highestSuffixes().computeIfAbsent(uploaderName, name -> new AtomicInteger(UNUSED));
+
+        while (true) {
+            int suffix = highest.incrementAndGet();
+            String candidate = suffix == BASE_NAME_TAKEN ? uploaderName : uploaderName + "(" + suffix + ")";
+            Path candidateDir = eventDir.resolve(candidate);
+            try {
+                Files.createDirectory(candidateDir);
+                knownDirectories.add(candidateDir);
+                return candidate;
+            } catch (FileAlreadyExistsException e) {
+                // 레지스트리 밖에서 생성된 폴더 - 다음 접미사로 재시도
+                log.debug("업로더 폴더가 이미 존재함: {}", candidateDir);
+            }
+        }
+    }
+
+    /**
+     * 디렉토리가 존재함을 보장합니다. 이미 확인된 디렉토리는 파일시스템에 접근하지 않습니다.
+     * @param dir 디렉토리 경로
+     * @throws IOException 디렉토리 생성 실패 시
+     */
+    public void ensureDirectory(Path dir) throws IOException {
+        if (knownDirectories.contains(dir)) {
+            return;
+        }
+        Files.createDirectories(dir);
+        knownDirectories.add(dir);
+    }
+
+    /**
+     * 외부에서 삭제된 디렉토리를 캐시에서 제거합니다.
+     * @param dir 디렉토리 경로
+     */
+    public void forgetDirectory(Path dir) {
+        knownDirectories.remove(dir);
+    }
+
+    /**
+     * 외부에서 삭제된 이벤트 디렉토리의 캐시(업로더 이름, 하위 디렉토리)를 제거합니다.
+     * @param eventDir 이벤트 디렉토리
+     */
+    public void forgetEvent(Path eventDir) {
+        events.remove(eventDir);
+        knownDirectories.removeIf(dir -> dir.startsWith(eventDir));
+    }
+
+    /**
+     * 캐시된 이벤트가 지금의 이벤트 디렉토리와 다르면(삭제/이름 변경) 버리고 다시 조회합니다.
+     */
+    private EventNames loadEvent(Path eventDir) {
+        EventNames cached = events.get(eventDir);
+        if (cached != null && !cached.matches(eventDir)) {
+            log.info("이벤트 디렉토리가 바뀌어 업로더 레지스트리를 다시 로드함: {}", eventDir);
+            forgetEvent(eventDir);
+        }
+        return events.computeIfAbsent(eventDir, dir -> {
+            try {
+                return scan(dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 이벤트 디렉토리를 한 번 목록 조회하여 기본 이름별 최대 접미사를 계산합니다.
+     */
+    private EventNames scan(Path eventDir) throws IOException {
+        Files.createDirectories(eventDir);
+        knownDirectories.add(eventDir);
+
+        Map<String, AtomicInteger> highestSuffixes = new ConcurrentHashMap<>();
+        int folders = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(eventDir, Files::isDirectory)) {
+            for (Path folder : stream) {
+                String name = folder.getFileName().toString();
+                if (name.startsWith(".")) {
+                    continue;
+                }
+
+                String baseName = name;
+                int suffix = BASE_NAME_TAKEN;
+                Matcher matcher = SUFFIXED_NAME.matcher(name);
+                if (matcher.matches()) {
+                    baseName = matcher.group(1);
+                    suffix = Integer.parseInt(matcher.group(2));
+                }
+
+                int taken = suffix;
+                highestSuffixes.compute(baseName, (key, current) -> {
+                    if (current == null) {
+                        return new AtomicInteger(taken);
+                    }
+                    current.accumulateAndGet(taken, Math::max);
+                    return current;
+                });
+                knownDirectories.add(folder);
+                folders++;
+            }
+        }
+
+        log.info("업로더 레지스트리 로드: {} (폴더 {}개)", eventDir, folders);
+        return new EventNames(fileKey(eventDir), highestSuffixes);
+    }
+
+    /**
+     * 디렉토리 식별자 (inode 등, 파일시스템이 제공하지 않으면 null)
+     */
+    private static Object fileKey(Path dir) throws IOException {
+        return Files.readAttributes(dir, BasicFileAttributes.class).fileKey();
+    }
+
+    /**
+     * @param directoryKey 목록 조회 시점의 이벤트 디렉토리 식별자
+     * @param highestSuffixes 기본 이름별 최대 접미사
+     */
+    private record EventNames(Object directoryKey, Map<String, AtomicInteger> highestSuffixes) {
+
+        boolean matches(Path eventDir) {
+            try {
+                return directoryKey == null ? Files.isDirectory(eventDir) : Objects.equals(directoryKey, fileKey(eventDir));
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
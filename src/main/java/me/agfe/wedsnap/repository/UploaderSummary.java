@@ -0,0 +1,13 @@
+package me.agfe.wedsnap.repository;
+
+import java.time.Instant;
+
+/**
+ * 이벤트 내 업로더별 집계
+ * @param uploaderName 업로더 폴더명
+ * @param fileCount 저장된 파일 수
+ * @param totalBytes 저장된 파일 크기 합계
+ * @param lastUploadedAt 마지막 업로드 시각
+ */
+public record UploaderSummary(String uploaderName, long fileCount, long totalBytes, Instant lastUploadedAt) {
+}
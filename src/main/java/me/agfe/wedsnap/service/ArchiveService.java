@@ -0,0 +1,179 @@
+package me.agfe.wedsnap.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.ResourceNotFoundException;
+import me.agfe.wedsnap.exception.ServerBusyException;
+import me.agfe.wedsnap.repository.ContentHashIndex;
+import me.agfe.wedsnap.repository.PhotoEntry;
+import me.agfe.wedsnap.repository.PhotoIndex;
+import me.agfe.wedsnap.repository.StagingArea;
+import me.agfe.wedsnap.support.ReadAheadPipe;
+import me.agfe.wedsnap.support.StoredZipWriter;
+
+/**
+ * 이벤트 사진 ZIP 다운로드
+ * 사진은 이미 압축된 형식이므로 모든 항목을 무압축(STORE)으로 묶어, 임시 파일 없이 디스크 → 응답으로 바로 흘려보냅니다.
+ * 항목은 {@link PhotoIndex} 에 등록된(저장이 끝난) 파일만 업로더/파일명 순으로 담기므로,
+ * 사진 구성이 같으면 ZIP 바이트 배치도 같아 HTTP Range 로 이어받을 수 있습니다. (ETag 는 구성에서 계산)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    private static final Comparator<PhotoEntry> ARCHIVE_ORDER =
+            Comparator.comparing(PhotoEntry::uploaderName).thenComparing(PhotoEntry::fileName);
+
+    private final PhotoIndex photoIndex;
+    private final StagingArea stagingArea;
+    @Qualifier("archiveExecutor")
+    private final Executor archiveExecutor;
+
+    @Value("${wedsnap.upload.base-path}")
+    private String basePath;
+    @Value("${wedsnap.archive.max-concurrent}")
+    private int maxConcurrent;
+    @Value("${wedsnap.archive.buffer-size}")
+    private DataSize bufferSize;
+    @Value("${wedsnap.archive.read-ahead-buffers}")
+    private int readAheadBuffers;
+    @Value("${wedsnap.archive.crc-cache-size}")
+    private int crcCacheSize;
+    @Value("${wedsnap.archive.retry-after}")
+    private Duration retryAfter;
+
+    private Semaphore slots;
+    private Map<StoredZipWriter.Entry, Long> crcCache;
+
+    @PostConstruct
+    void init() {
+        slots = new Semaphore(maxConcurrent);
+        crcCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StoredZipWriter.Entry, Long> eldest) {
+                return size() > crcCacheSize;
+            }
+        });
+    }
+
+    /**
+     * 다운로드를 준비합니다. 동시 다운로드 슬롯 하나를 점유하며, 반환된 객체를 닫으면 반납합니다.
+     * 슬롯이 모두 사용 중이면 다운로드 관리자/브라우저가 다시 시도하도록 503 + Retry-After 로 거절합니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 업로더 필터 (null 이면 이벤트 전체)
+     * @return 다운로드할 ZIP
+     */
+    public Archive open(String eventName, String uploaderName) {
+        Path eventDir = Paths.get(basePath, "event-" + eventName);
+        List<PhotoEntry> photos = photoIndex.findAll(eventDir, uploaderName).stream().sorted(ARCHIVE_ORDER).toList();
+        if (photos.isEmpty()) {
+            throw new ResourceNotFoundException(ErrorCode.ARCHIVE_EMPTY, "이벤트: " + eventName);
+        }
+        if (!slots.tryAcquire()) {
+            throw new ServerBusyException(ErrorCode.ARCHIVE_BUSY, retryAfter);
+        }
+
+        MessageDigest digest = ContentHashIndex.newDigest();
+        List<StoredZipWriter.Entry> entries = photos.stream().map(photo -> {
+            String name = photo.uploaderName() + "/" + photo.fileName();
+            digest.update((name + "\t" + photo.size() + "\t" + photo.uploadedAt().toEpochMilli() + "\n")
+                                  .getBytes(StandardCharsets.UTF_8));
+            // 아직 NAS 로 복제되지 않은 사진은 스테이징 영역에서 읽음
+            Path path = stagingArea.locate(eventDir.resolve(photo.uploaderName()).resolve(photo.fileName()));
+            return new StoredZipWriter.Entry(name, path, photo.size(), photo.uploadedAt());
+        }).toList();
+
+        String fileName = eventName + (uploaderName != null ? "-" + uploaderName : "") + ".zip";
+        String etag = "\"" + ContentHashIndex.toHex(digest).substring(0, 32) + "\"";
+        StoredZipWriter writer = new StoredZipWriter(entries, crcCache, (int) bufferSize.toBytes());
+        return new Archive(fileName, etag, entries.size(), writer, archiveExecutor, readAheadBuffers,
+                           (int) bufferSize.toBytes(), slots);
+    }
+
+    /**
+     * 다운로드할 ZIP 1개
+     */
+    public static final class Archive implements AutoCloseable {
+
+        @Getter
+        private final String fileName;
+        @Getter
+        private final String etag;
+        @Getter
+        private final int entryCount;
+        @Getter
+        private final long length;
+        private final StoredZipWriter writer;
+        private final Executor executor;
+        private final int readAheadBuffers;
+        private final int bufferSize;
+        private final Semaphore slots;
+        private boolean closed;
+
+        private Archive(String fileName, String etag, int entryCount, StoredZipWriter writer, Executor executor,
+                        int readAheadBuffers, int bufferSize, Semaphore slots) {
+            this.fileName = fileName;
+            this.etag = etag;
+            this.entryCount = entryCount;
+            this.length = writer.length();
+            this.writer = writer;
+            this.executor = executor;
+            this.readAheadBuffers = readAheadBuffers;
+            this.bufferSize = bufferSize;
+            this.slots = slots;
+        }
+
+        /**
+         * ZIP 의 [from, to) 구간을 출력 스트림에 씁니다.
+         * 파일 읽기는 실행기 스레드에서, 전송은 호출 스레드에서 수행하여 디스크 읽기와 네트워크 전송이 겹치도록 합니다.
+         * @param out 출력 스트림
+         * @param from 시작 위치 (포함)
+         * @param to 끝 위치 (미포함)
+         * @throws IOException 파일 읽기 또는 전송 실패 시
+         */
+        public void writeTo(OutputStream out, long from, long to) throws IOException {
+            ReadAheadPipe pipe = new ReadAheadPipe(readAheadBuffers, bufferSize);
+            executor.execute(() -> {
+                try {
+                    writer.write(pipe, from, to);
+                    pipe.close();
+                } catch (Throwable e) {
+                    pipe.fail(e);
+                }
+            });
+            pipe.drainTo(out);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                slots.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package me.agfe.wedsnap.service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.DerivativeJob;
+import me.agfe.wedsnap.repository.DerivativeJobStore;
+import me.agfe.wedsnap.repository.StagingArea;
+import me.agfe.wedsnap.support.HeifTranscoder;
+import me.agfe.wedsnap.support.ImageResizer;
+
+/**
+ * 파생 이미지(썸네일/미리보기) 생성
+ * 업로드 저장이 끝나면 작업을 큐에 기록만 하고 반환하며, 실제 생성은 별도 실행기에서 수행됩니다.
+ * 결과물은 event-{id}/.derivatives/{종류}/{업로더}/{UUID}.jpg 에 저장됩니다. (점으로 시작하는 폴더는 업로더 목록에서 제외됨)
+ * HEIC/HEIF 원본은 전용 실행기에서 원본 크기의 JPEG 사본을 먼저 만든 뒤 그 사본으로 썸네일/미리보기를 만들며,
+ * 변환은 CPU 를 많이 쓰므로 처리 중인 업로드 요청이 없을 때만 시작합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DerivativeService {
+
+    static final String DERIVATIVE_DIR = ".derivatives";
+    private static final String DERIVATIVE_EXTENSION = ".jpg";
+
+    private final DerivativeJobStore jobStore;
+    private final StagingArea stagingArea;
+    @Qualifier("derivativeExecutor")
+    private final Executor derivativeExecutor;
+    private final HeifTranscoder heifTranscoder;
+    @Qualifier("heifTranscodeExecutor")
+    private final Executor heifTranscodeExecutor;
+    private final AdaptiveConcurrencyLimit admissionLimit;
+    private final WedSnapMetrics metrics;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${wedsnap.upload.base-path}")
+    private String basePath;
+    @Value("${wedsnap.upload.derivatives.enabled}")
+    private boolean enabled;
+    @Value("${wedsnap.upload.derivatives.thumbnail-size}")
+    private int thumbnailSize;
+    @Value("${wedsnap.upload.derivatives.preview-size}")
+    private int previewSize;
+    @Value("${wedsnap.upload.derivatives.jpeg-quality}")
+    private float jpegQuality;
+    @Value("${wedsnap.upload.derivatives.max-attempts}")
+    private int maxAttempts;
+    @Value("${wedsnap.environment}")
+    private String environment;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Variant {
+        THUMBNAIL("thumb"),
+        PREVIEW("preview"),
+        /** HEIC/HEIF 원본의 원본 크기 JPEG 사본 */
+        JPEG("jpeg");
+
+        private final String dirName;
+    }
+
+    /**
+     * 새로 저장된 원본의 파생 이미지 생성을 예약합니다.
+     * 작업 파일 기록에 실패해도 업로드는 성공으로 처리하며, 호출자는 생성 완료를 기다리지 않습니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 업로더 폴더명
+     * @param fileName 저장된 원본 파일명
+     */
+    public void enqueue(String eventName, String uploaderName, String fileName) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            submit(jobStore.add(eventName, uploaderName, fileName));
+        } catch (IOException e) {
+            log.warn("[{}] Failed to enqueue derivative job: {}/{} → {}", environment, uploaderName, fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * 큐에 남아 있는 작업(재시작 전 미처리, 실행기 포화로 거부, 재시도 대기)을 다시 제출합니다.
+     * 애플리케이션 시작 직후에도 한 번 실행되므로 재시작 시 밀린 작업이 이어서 처리됩니다.
+     */
+    @Scheduled(fixedDelayString = "${wedsnap.upload.derivatives.retry-interval}")
+    public void resumePending() {
+        if (!enabled) {
+            return;
+        }
+        for (DerivativeJob job : jobStore.findAll()) {
+            submit(job);
+        }
+    }
+
+    /**
+     * 원본 파일에 대응하는 파생 이미지 경로
+     * @param eventName 이벤트 이름
+     * @param variant 파생 이미지 종류
+     * @param uploaderName 업로더 폴더명
+     * @param fileName 원본 파일명
+     * @return 파생 이미지 경로 (생성 전이면 존재하지 않을 수 있음)
+     */
+    public Path resolve(String eventName, Variant variant, String uploaderName, String fileName) {
+        int dotIndex = fileName.lastIndexOf('.');
+        String baseName = dotIndex > 0 ? fileName.substring(0, dotIndex) : fileName;
+        return Paths.get(basePath, "event-" + eventName, DERIVATIVE_DIR, variant.getDirName(), uploaderName,
+                         baseName + DERIVATIVE_EXTENSION);
+    }
+
+    private void submit(DerivativeJob job) {
+        if (!inFlight.add(job.getId())) {
+            return;
+        }
+        boolean heif = HeifTranscoder.isHeif(job.getFileName()) && heifTranscoder.isAvailable();
+        try {
+            (heif ? heifTranscodeExecutor : derivativeExecutor).execute(() -> {
+                try {
+                    if (heif && admissionLimit.getInFlight() > 0) {
+                        // 업로드와 CPU 를 다투지 않도록 미룸 (작업 파일은 남아 있으므로 다음 주기에 다시 제출)
+                        metrics.recordHeifTranscodeDeferred();
+                        return;
+                    }
+                    process(job);
+                } finally {
+                    inFlight.remove(job.getId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 작업 파일은 남아 있으므로 다음 주기에 다시 제출
+            inFlight.remove(job.getId());
+            log.debug("[{}] Derivative executor saturated, job deferred: {}", environment, job.getId());
+        }
+    }
+
+    /**
+     * 원본을 미리보기 크기에 맞춰 서브샘플링하여 한 번만 디코딩하고, 썸네일은 미리보기에서 다시 축소합니다.
+     * HEIC/HEIF 원본은 JPEG 사본을 원본 대신 디코딩합니다. (사본이 이미 있으면 다시 변환하지 않음)
+     */
+    void process(DerivativeJob job) {
+        // 업로드 직후에는 원본이 아직 스테이징 영역에만 있을 수 있음
+        Path source = stagingArea.locate(Paths.get(basePath, "event-" + job.getEventName(), job.getUploaderName(),
+                                                   job.getFileName()));
+        try {
+            if (!Files.exists(source)) {
+                log.warn("[{}] Derivative source missing, job dropped: {}", environment, source);
+                jobStore.remove(job);
+                return;
+            }
+
+            Path decodable = source;
+            if (HeifTranscoder.isHeif(job.getFileName()) && heifTranscoder.isAvailable()) {
+                decodable = resolve(job.getEventName(), Variant.JPEG, job.getUploaderName(), job.getFileName());
+                if (!Files.exists(decodable)) {
+                    transcode(source, decodable);
+                }
+            }
+
+            BufferedImage image = ImageResizer.readSubsampled(decodable, Math.max(previewSize, thumbnailSize));
+            if (image == null) {
+                log.info("[{}] No decoder for derivative source, skipped: {}", environment, source);
+                jobStore.remove(job);
+                return;
+            }
+
+            BufferedImage preview = ImageResizer.scaleToFit(image, previewSize);
+            write(preview, resolve(job.getEventName(), Variant.PREVIEW, job.getUploaderName(), job.getFileName()));
+            BufferedImage thumbnail = ImageResizer.scaleToFit(preview, thumbnailSize);
+            write(thumbnail, resolve(job.getEventName(), Variant.THUMBNAIL, job.getUploaderName(), job.getFileName()));
+
+            jobStore.remove(job);
+            log.debug("[{}] Derivatives created: {}", environment, source);
+        } catch (IOException | RuntimeException e) {
+            retryLater(job, e);
+        }
+    }
+
+    private void transcode(Path source, Path target) throws IOException {
+        long sourceBytes = Files.size(source);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            heifTranscoder.transcode(source, target);
+            success = true;
+        } finally {
+            metrics.recordHeifTranscode(System.nanoTime() - start, sourceBytes, success);
+        }
+    }
+
+    private void retryLater(DerivativeJob job, Exception cause) {
+        job.setAttempts(job.getAttempts() + 1);
+        if (job.getAttempts() >= maxAttempts) {
+            log.error("[{}] Derivative job failed {} times, dropped: {}/{} → {}",
+                      environment, job.getAttempts(), job.getUploaderName(), job.getFileName(), cause.getMessage());
+            jobStore.remove(job);
+            return;
+        }
+
+        log.warn("[{}] Derivative job failed, will retry: {}/{} → {}",
+                 environment, job.getUploaderName(), job.getFileName(), cause.getMessage());
+        try {
+            jobStore.save(job);
+        } catch (IOException e) {
+            log.warn("[{}] Failed to update derivative job: {} → {}", environment, job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이름을 바꿔, 읽는 쪽에서 작성 중인 파일을 보지 않도록 합니다.
+     */
+    private void write(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            ImageResizer.writeJpeg(image, temp, jpegQuality);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
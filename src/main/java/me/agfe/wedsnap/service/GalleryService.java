@@ -0,0 +1,129 @@
+package me.agfe.wedsnap.service;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.dto.PhotoPageResponse;
+import me.agfe.wedsnap.dto.UploaderSummaryResponse;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.repository.FileMetadataRepository;
+import me.agfe.wedsnap.repository.PhotoEntry;
+import me.agfe.wedsnap.repository.PhotoIndex;
+import me.agfe.wedsnap.repository.UploaderSummary;
+
+/**
+ * 이벤트 갤러리 조회
+ * 목록은 업로드 시 갱신되는 {@link PhotoIndex} 에서 읽으며, 요청마다 NAS 디렉토리를 훑지 않습니다.
+ * 커서는 이전 페이지 마지막 사진의 (저장시각, 업로더, 파일명) 을 인코딩한 값이므로, 조회 중 새 사진이 추가되어도 중복/누락이 없습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GalleryService {
+
+    static final int MAX_PAGE_SIZE = 200;
+
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+    private final PhotoIndex photoIndex;
+    private final FileMetadataRepository fileMetadataRepository;
+
+    @Value("${wedsnap.upload.base-path}")
+    private String basePath;
+
+    /**
+     * 사진 목록 조회 (최신순)
+     * @param eventName 이벤트 이름
+     * @param uploaderName 업로더 필터 (null 이면 전체)
+     * @param from 이 시각 이후 업로드된 사진만 (null 이면 제한 없음)
+     * @param to 이 시각 이전 업로드된 사진만 (null 이면 제한 없음)
+     * @param cursor 이전 응답의 nextCursor (null 이면 첫 페이지)
+     * @param limit 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE})
+     * @return 사진 목록과 다음 페이지 커서
+     */
+    public PhotoPageResponse listPhotos(String eventName, String uploaderName, LocalDateTime from, LocalDateTime to,
+                                        String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new WedSnapException(ErrorCode.INVALID_VALUE, "limit 은 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        Path eventDir = Paths.get(basePath, "event-" + eventName);
+        // 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<PhotoEntry> entries = photoIndex.find(eventDir, uploaderName, toInstant(from), toInstant(to),
+                                                   decodeCursor(cursor), limit + 1);
+        boolean hasNext = entries.size() > limit;
+        List<PhotoEntry> page = hasNext ? entries.subList(0, limit) : entries;
+
+        return PhotoPageResponse.builder()
+                                .eventName(eventName)
+                                .photos(page.stream().map(GalleryService::toPhoto).toList())
+                                .nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1)) : null)
+                                .build();
+    }
+
+    /**
+     * 업로더별 파일 수/용량 집계 (메타데이터 저장소 기준)
+     * @param eventName 이벤트 이름
+     * @return 업로더별 집계 (업로더명 순)
+     */
+    public List<UploaderSummaryResponse> listUploaders(String eventName) {
+        return fileMetadataRepository.summarizeByUploader(eventName).stream()
+                                     .map(GalleryService::toUploaderSummary)
+                                     .toList();
+    }
+
+    static String encodeCursor(PhotoEntry entry) {
+        String value = entry.uploadedAt().toEpochMilli() + "\t" + entry.uploaderName() + "\t" + entry.fileName();
+        return CURSOR_ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PhotoEntry decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] fields = new String(CURSOR_DECODER.decode(cursor), StandardCharsets.UTF_8).split("\t");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("field count: " + fields.length);
+            }
+            return new PhotoEntry(fields[1], fields[2], 0, Instant.ofEpochMilli(Long.parseLong(fields[0])));
+        } catch (IllegalArgumentException e) {
+            throw new WedSnapException(ErrorCode.INVALID_VALUE, "잘못된 커서입니다.", e);
+        }
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant() : null;
+    }
+
+    private static PhotoPageResponse.Photo toPhoto(PhotoEntry entry) {
+        return PhotoPageResponse.Photo.builder()
+                                      .uploaderName(entry.uploaderName())
+                                      .fileName(entry.fileName())
+                                      .size(entry.size())
+                                      .uploadedAt(LocalDateTime.ofInstant(entry.uploadedAt(), ZoneId.systemDefault()))
+                                      .build();
+    }
+
+    private static UploaderSummaryResponse toUploaderSummary(UploaderSummary summary) {
+        return UploaderSummaryResponse.builder()
+                                      .uploaderName(summary.uploaderName())
+                                      .fileCount(summary.fileCount())
+                                      .totalBytes(summary.totalBytes())
+                                      .lastUploadedAt(LocalDateTime.ofInstant(summary.lastUploadedAt(), ZoneId.systemDefault()))
+                                      .build();
+    }
+}
@@ -0,0 +1,154 @@
+package me.agfe.wedsnap.service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.StagedFile;
+import me.agfe.wedsnap.repository.StagingArea;
+
+/**
+ * 스테이징 영역 → NAS 복제
+ * 업로드는 로컬 스테이징에 기록된 시점에 응답하고, 이 서비스가 주기적으로 대기 파일을 NAS 로 옮깁니다.
+ * 복제는 이벤트 폴더의 .replicating 에 복사한 뒤 업로더 폴더로 이름을 바꾸므로, NAS 에서 작성 중인 파일이 보이지 않습니다.
+ * 실패한 파일은 포기하지 않고 retry-interval 뒤에 다시 시도합니다. (원본이 스테이징에만 있으므로)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplicationService {
+
+    static final String REPLICATING_DIR = ".replicating";
+
+    private final StagingArea stagingArea;
+    @Qualifier("replicationExecutor")
+    private final Executor replicationExecutor;
+    private final WedSnapMetrics metrics;
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<Path, Instant> retryAt = new ConcurrentHashMap<>();
+
+    @Value("${wedsnap.upload.staging.retry-interval}")
+    private Duration retryInterval;
+    @Value("${wedsnap.environment}")
+    private String environment;
+
+    @PostConstruct
+    public void init() {
+        if (stagingArea.isEnabled()) {
+            metrics.registerReplicationBacklog(stagingArea::backlogCount, stagingArea::backlogBytes);
+        }
+    }
+
+    /**
+     * 복제 대기 파일(새로 스테이징됨, 재시작 전 미처리, 실행기 포화로 거부, 재시도 대기)을 제출합니다.
+     * 애플리케이션 시작 직후에도 실행되므로 재시작 시 밀린 파일이 이어서 복제됩니다.
+     */
+    @Scheduled(fixedDelayString = "${wedsnap.upload.staging.poll-interval}")
+    public void replicatePending() {
+        if (!stagingArea.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Collection<StagedFile> pending = stagingArea.findAll();
+        for (StagedFile file : pending) {
+            Instant due = retryAt.get(file.target());
+            if (due == null || !due.isAfter(now)) {
+                submit(file);
+            }
+        }
+        // 재시도 대기 중에 대기 목록에서 빠진 파일 (같은 내용의 중복으로 삭제됨 등)
+        if (!retryAt.isEmpty()) {
+            Set<Path> targets = pending.stream().map(StagedFile::target).collect(Collectors.toSet());
+            retryAt.keySet().retainAll(targets);
+        }
+    }
+
+    private void submit(StagedFile file) {
+        if (!inFlight.add(file.target())) {
+            return;
+        }
+        try {
+            replicationExecutor.execute(() -> {
+                try {
+                    replicate(file);
+                } finally {
+                    inFlight.remove(file.target());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 스테이징 파일은 남아 있으므로 다음 주기에 다시 제출
+            inFlight.remove(file.target());
+            log.debug("[{}] Replication executor saturated, deferred: {}", environment, file.target());
+        }
+    }
+
+    void replicate(StagedFile file) {
+        Path target = file.target();
+        Path temp = target.getParent().getParent().resolve(REPLICATING_DIR).resolve(target.getFileName());
+        try {
+            if (Files.exists(target) && Files.size(target) == file.size()) {
+                // 이름 변경 후 스테이징 파일을 지우기 전에 종료된 경우
+                stagingArea.complete(file);
+                retryAt.remove(target);
+                return;
+            }
+            if (!Files.exists(file.staged())) {
+                // 복제 전에 삭제됨 (동시에 올라온 같은 내용의 파일로 판정)
+                retryAt.remove(target);
+                return;
+            }
+
+            Files.createDirectories(temp.getParent());
+            Files.createDirectories(target.getParent());
+            Files.copy(file.staged(), temp, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.size(temp) != file.size()) {
+                throw new IOException("복제 크기 불일치: " + Files.size(temp) + "/" + file.size());
+            }
+            // 이름 변경 후 스테이징 파일을 지우므로, 그 전에 NAS 에 내용이 기록되었음을 보장
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target);
+            }
+
+            stagingArea.complete(file);
+            retryAt.remove(target);
+            metrics.recordReplication(Duration.between(file.stagedAt(), Instant.now()), file.size());
+            log.debug("[{}] Replicated: {}", environment, target);
+        } catch (IOException | RuntimeException e) {
+            retryAt.put(target, Instant.now().plus(retryInterval));
+            metrics.recordReplicationFailure();
+            log.warn("[{}] Replication failed, will retry in {}: {} → {}", environment, retryInterval, target, e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // NAS 에 접근할 수 없는 경우, 남은 임시 파일은 다음 복제 때 덮어씀
+            }
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package me.agfe.wedsnap.service;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.dto.UploadResponse;
+import me.agfe.wedsnap.dto.UploadSessionCreateRequest;
+import me.agfe.wedsnap.dto.UploadSessionResponse;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.UploadThrottledException;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.repository.StoredFile;
+import me.agfe.wedsnap.repository.UploadRepository;
+import me.agfe.wedsnap.repository.UploadSession;
+import me.agfe.wedsnap.repository.UploadSessionFile;
+import me.agfe.wedsnap.repository.UploadSessionStore;
+import me.agfe.wedsnap.support.ClientImageInfo;
+import me.agfe.wedsnap.validation.ImageContentValidator;
+
+/**
+ * 이어받기(resumable) 업로드 처리
+ * 세션 생성 → 청크 전송(순서 무관, 병렬 가능) → 수신 현황 조회 → 완료 순서로 진행되며,
+ * 연결이 끊겨도 이미 받은 청크는 유지되므로 클라이언트는 빠진 청크만 다시 보내면 됩니다.
+ * 업로더 폴더는 완료 시점에 예약하므로 중간에 포기한 세션은 빈 폴더를 남기지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+
+    private final UploadSessionStore sessionStore;
+    private final UploadRepository uploadRepository;
+    private final UploaderNameService uploaderNameService;
+    private final MultipartProperties multipartProperties;
+    private final ImageContentValidator imageContentValidator;
+    private final DerivativeService derivativeService;
+    private final AdaptiveConcurrencyLimit admissionLimit;
+    @Value("${wedsnap.upload.resumable.chunk-size}")
+    private DataSize chunkSize;
+    @Value("${wedsnap.upload.resumable.session-ttl}")
+    private Duration sessionTtl;
+    @Value("${wedsnap.environment}")
+    private String environment;
+
+    /**
+     * 업로드 세션 생성
+     * 일반 업로드와 같은 파일명/크기 제한을 세션 생성 시점에 미리 검증합니다.
+     * 유지 중인 세션이 max-sessions 에 이르면 로컬 디스크를 더 예약하지 않도록 429 로 거절합니다.
+     * @param eventName 이벤트 이름
+     * @param request 업로더 이름과 파일 목록
+     * @return 생성된 세션 상태
+     */
+    public UploadSessionResponse createSession(String eventName, UploadSessionCreateRequest request) {
+        long maxFileSize = multipartProperties.getMaxFileSize().toBytes();
+        long totalSize = 0;
+
+        List<UploadSessionFile> files = new ArrayList<>(request.getFiles().size());
+        for (UploadSessionCreateRequest.FileInfo file : request.getFiles()) {
+            UploadService.validateFileName(file.getFileName());
+            if (file.getSize() <= 0) {
+                throw new WedSnapException(ErrorCode.EMPTY_FILE, "파일명: " + file.getFileName());
+            }
+            if (file.getSize() > maxFileSize) {
+                throw new WedSnapException(ErrorCode.FILE_SIZE_EXCEEDED, "파일명: " + file.getFileName());
+            }
+            totalSize += file.getSize();
+            files.add(new UploadSessionFile(file.getFileName(), file.getSize(), ClientImageInfo.parse(file.getOriginalInfo())));
+        }
+        if (totalSize > multipartProperties.getMaxRequestSize().toBytes()) {
+            throw new WedSnapException(ErrorCode.FILE_SIZE_EXCEEDED, "전체 용량: " + totalSize + " bytes");
+        }
+
+        if (sessionStore.isFull()) {
+            throw new UploadThrottledException(admissionLimit.retryAfter(), "진행 중인 업로드 세션이 너무 많습니다.");
+        }
+
+        UploadSession session;
+        try {
+            session = sessionStore.create(eventName, request.getUploaderName(), chunkSize.toBytes(), files);
+        } catch (IOException e) {
+            throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 세션 생성 실패", e);
+        }
+
+        log.info("[{}] Upload session created: id={}, eventName={}, uploader={}, files={}, bytes={}",
+                 environment, session.getId(), eventName, request.getUploaderName(), files.size(), totalSize);
+        synchronized (session) {
+            return toResponse(session);
+        }
+    }
+
+    /**
+     * 세션 수신 현황 조회
+     * @param sessionId 세션 ID
+     * @return 파일별 수신 청크 목록
+     */
+    public UploadSessionResponse getSession(String sessionId) {
+        UploadSession session = findSession(sessionId);
+        synchronized (session) {
+            return toResponse(session);
+        }
+    }
+
+    /**
+     * 청크 수신
+     * 본문은 락 밖에서 조각 파일에 기록하고, 수신 기록 갱신만 세션 단위로 직렬화합니다.
+     * 기록 중인 청크는 세션에 표시해 두어 같은 청크의 동시 기록과 기록 도중의 완료 처리를 막습니다.
+     * @param sessionId 세션 ID
+     * @param fileIndex 파일 번호 (0부터)
+     * @param chunkIndex 청크 번호 (0부터)
+     * @param contentLength 요청 Content-Length (모르면 -1)
+     * @param body 청크 본문
+     * @return 해당 파일의 수신 현황
+     */
+    public UploadSessionResponse.FileStatus receiveChunk(String sessionId, int fileIndex, int chunkIndex,
+                                                         long contentLength, ReadableByteChannel body) {
+        UploadSession session = findSession(sessionId);
+        if (fileIndex < 0 || fileIndex >= session.getFiles().size()) {
+            throw new WedSnapException(ErrorCode.INVALID_CHUNK, "파일 번호: " + fileIndex);
+        }
+
+        UploadSessionFile file = session.getFiles().get(fileIndex);
+        long size = session.getChunkSize();
+        if (chunkIndex < 0 || chunkIndex >= file.totalChunks(size)) {
+            throw new WedSnapException(ErrorCode.INVALID_CHUNK, "청크 번호: " + chunkIndex);
+        }
+        long length = file.chunkLength(chunkIndex, size);
+        if (contentLength >= 0 && contentLength != length) {
+            throw new WedSnapException(ErrorCode.INVALID_CHUNK, "청크 크기 불일치: " + contentLength + "/" + length + " bytes");
+        }
+
+        String chunkKey = fileIndex + ":" + chunkIndex;
+        synchronized (session) {
+            if (session.isCompleted()) {
+                throw new WedSnapException(ErrorCode.INVALID_CHUNK, "이미 완료된 세션입니다.");
+            }
+            if (!session.getWritingChunks().add(chunkKey)) {
+                throw new WedSnapException(ErrorCode.INVALID_CHUNK, "같은 청크를 전송 중입니다: " + chunkKey);
+            }
+        }
+
+        boolean written = false;
+        try {
+            if (chunkIndex == 0) {
+                // 첫 청크에서 이미지 시그니처/해상도를 검사하여 나머지 청크를 받기 전에 거부
+                body = imageContentValidator.validate(body, file.getFileName());
+            }
+            sessionStore.writeChunk(session, fileIndex, chunkIndex * size, length, body);
+            written = true;
+            synchronized (session) {
+                if (session.isCompleted()) {
+                    throw new WedSnapException(ErrorCode.INVALID_CHUNK, "이미 완료된 세션입니다.");
+                }
+                file.getReceivedChunks().add(chunkIndex);
+                session.setLastModifiedAt(Instant.now());
+                sessionStore.save(session);
+                return toFileStatus(session, fileIndex);
+            }
+        } catch (IOException e) {
+            log.error("[{}] Failed to write chunk: session={}, file={}, chunk={} → {}",
+                      environment, sessionId, fileIndex, chunkIndex, e.getMessage());
+            throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "파일명: " + file.getFileName(), e);
+        } finally {
+            synchronized (session) {
+                if (!written) {
+                    discardChunk(session, file, chunkIndex);
+                }
+                session.getWritingChunks().remove(chunkKey);
+            }
+        }
+    }
+
+    /**
+     * 업로드 완료
+     * 모든 청크가 모였는지 확인한 뒤 업로더 폴더를 예약하고 조각 파일을 이벤트/업로더 폴더로 옮깁니다.
+     * 아직 기록 중인 청크가 있으면 UPLOAD_INCOMPLETE 로 거부하므로 클라이언트는 전송이 끝난 뒤 다시 요청합니다.
+     * 응답이 유실되어 다시 요청하면 처음 결과를 그대로 반환합니다.
+     * @param sessionId 세션 ID
+     * @return 업로드 결과 응답
+     */
+    public UploadResponse complete(String sessionId) {
+        UploadSession session = findSession(sessionId);
+        synchronized (session) {
+            if (session.isCompleted()) {
+                return session.getResult();
+            }
+
+            if (!session.getWritingChunks().isEmpty()) {
+                // 기록 중인 청크가 조각 파일을 옮긴 뒤에 쓰이지 않도록, 끝날 때까지 완료를 받지 않음
+                throw new WedSnapException(ErrorCode.UPLOAD_INCOMPLETE,
+                                           "전송 중인 청크: " + String.join(", ", session.getWritingChunks()));
+            }
+
+            long size = session.getChunkSize();
+            List<String> incomplete = session.getFiles().stream()
+                                             .filter(file -> !file.isComplete(size))
+                                             .map(UploadSessionFile::getFileName)
+                                             .toList();
+            if (!incomplete.isEmpty()) {
+                throw new WedSnapException(ErrorCode.UPLOAD_INCOMPLETE, "미완료 파일: " + String.join(", ", incomplete));
+            }
+
+            String eventName = session.getEventName();
+            String uploaderName = uploaderNameService.reserve(eventName, session.getUploaderName());
+
+            List<String> failedFiles = new ArrayList<>();
+            List<String> duplicateFiles = new ArrayList<>();
+            for (int i = 0; i < session.getFiles().size(); i++) {
+                UploadSessionFile file = session.getFiles().get(i);
+                Path part = sessionStore.partFile(session, i);
+                try {
+                    if (Files.size(part) != file.getSize()) {
+                        throw new IOException("조각 파일 크기 불일치: " + Files.size(part) + "/" + file.getSize());
+                    }
+                    StoredFile stored = uploadRepository.moveFile(eventName, uploaderName, file.getFileName(), part,
+                                                                  file.getOriginal());
+                    if (stored.duplicate()) {
+                        duplicateFiles.add(file.getFileName());
+                    } else {
+                        derivativeService.enqueue(eventName, uploaderName, stored.fileName());
+                    }
+                } catch (IOException e) {
+                    log.error("[{}] Failed to assemble file: {} → {}", environment, file.getFileName(), e.getMessage());
+                    failedFiles.add(file.getFileName());
+                }
+            }
+
+            int total = session.getFiles().size();
+            int failCount = failedFiles.size();
+            int successCount = total - failCount;
+            UploadResponse response = UploadResponse.builder()
+                                                    .eventName(eventName)
+                                                    .uploaderName(uploaderName)
+                                                    .totalFiles(total)
+                                                    .successCount(successCount)
+                                                    .failCount(failCount)
+                                                    .failedFiles(failedFiles)
+                                                    .duplicateCount(duplicateFiles.size())
+                                                    .duplicateFiles(duplicateFiles)
+                                                    .timestamp(LocalDateTime.now())
+                                                    .message(String.format("%d개 업로드 성공, %d개 실패", successCount, failCount))
+                                                    .build();
+
+            session.setResult(response);
+            session.setLastModifiedAt(Instant.now());
+            sessionStore.deleteData(session);
+
+            log.info("Resumable upload completed: session={}, eventName={}, Uploader={}, 성공 {}, 실패 {}",
+                     sessionId, eventName, uploaderName, successCount, failCount);
+            return response;
+        }
+    }
+
+    /**
+     * 업로드 취소 - 받은 청크를 모두 삭제합니다.
+     * @param sessionId 세션 ID
+     */
+    public void cancel(String sessionId) {
+        UploadSession session = findSession(sessionId);
+        synchronized (session) {
+            sessionStore.delete(session);
+        }
+        log.info("[{}] Upload session cancelled: id={}", environment, sessionId);
+    }
+
+    /**
+     * 마지막 활동 이후 보관 기간이 지난 세션을 정리합니다.
+     * 완료된 세션은 결과 재전송용으로만 남아 있던 것이므로 함께 제거됩니다.
+     */
+    @Scheduled(fixedDelayString = "${wedsnap.upload.resumable.cleanup-interval}")
+    public void expireSessions() {
+        Instant threshold = Instant.now().minus(sessionTtl);
+        int expired = 0;
+        for (UploadSession session : sessionStore.findAll()) {
+            synchronized (session) {
+                if (session.getLastModifiedAt().isBefore(threshold)) {
+                    sessionStore.delete(session);
+                    expired++;
+                }
+            }
+        }
+        if (expired > 0) {
+            log.info("[{}] Expired upload sessions removed: {}", environment, expired);
+        }
+    }
+
+    /**
+     * 재전송된 청크 기록이 중간에 실패하면 기존 데이터가 일부 덮어써졌을 수 있으므로 수신 기록에서 제외합니다.
+     */
+    private void discardChunk(UploadSession session, UploadSessionFile file, int chunkIndex) {
+        synchronized (session) {
+            if (!file.getReceivedChunks().remove(chunkIndex)) {
+                return;
+            }
+            try {
+                sessionStore.save(session);
+            } catch (IOException e) {
+                log.warn("[{}] Failed to update session: id={} → {}", environment, session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private UploadSession findSession(String sessionId) {
+        return sessionStore.find(sessionId)
+                           .orElseThrow(() -> new WedSnapException(ErrorCode.UPLOAD_SESSION_NOT_FOUND, "세션 ID: " + sessionId));
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session) {
+        return UploadSessionResponse.builder()
+                                    .sessionId(session.getId())
+                                    .eventName(session.getEventName())
+                                    .uploaderName(session.getUploaderName())
+                                    .chunkSize(session.getChunkSize())
+                                    .completed(session.isCompleted())
+                                    .expiresAt(LocalDateTime.ofInstant(session.getLastModifiedAt().plus(sessionTtl),
+                                                                       ZoneId.systemDefault()))
+                                    .files(IntStream.range(0, session.getFiles().size())
+                                                    .mapToObj(i -> toFileStatus(session, i))
+                                                    .toList())
+                                    .build();
+    }
+
+    private UploadSessionResponse.FileStatus toFileStatus(UploadSession session, int fileIndex) {
+        UploadSessionFile file = session.getFiles().get(fileIndex);
+        return UploadSessionResponse.FileStatus.builder()
+                                               .index(fileIndex)
+                                               .fileName(file.getFileName())
+                                               .size(file.getSize())
+                                               .totalChunks(file.totalChunks(session.getChunkSize()))
+                                               .receivedChunks(file.getReceivedChunks().stream().sorted().toList())
+                                               .build();
+    }
+}
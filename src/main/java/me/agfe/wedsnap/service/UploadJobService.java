@@ -0,0 +1,269 @@
+package me.agfe.wedsnap.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.dto.ErrorResponse;
+import me.agfe.wedsnap.dto.UploadJobResponse;
+import me.agfe.wedsnap.dto.UploadRequest;
+import me.agfe.wedsnap.dto.UploadResponse;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.StoredFile;
+import me.agfe.wedsnap.repository.UploadJob;
+import me.agfe.wedsnap.repository.UploadJobFile;
+import me.agfe.wedsnap.repository.UploadJobStore;
+import me.agfe.wedsnap.repository.UploadRepository;
+import me.agfe.wedsnap.support.ClientImageInfo;
+import me.agfe.wedsnap.validation.ImageContentValidator;
+
+/**
+ * 비동기 업로드 처리 (Prefer: respond-async)
+ * 요청 본문을 받은 시점에 파일을 스풀 디렉토리로 옮기고 202 로 응답하며,
+ * 검증과 NAS 저장은 작업 실행기에서 수행합니다. 결과는 GET /api/jobs/{id} 로 조회합니다.
+ * 파일별 검증/저장 실패는 동기 업로드와 같이 failedFiles 로 집계됩니다.
+ * 대기/실행 중인 작업은 동시 업로드 상한의 처리 중 수에 포함되고, 저장 지연은 상한 조정 표본으로 쓰입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadJobService {
+
+    private final UploadJobStore jobStore;
+    private final UploadRepository uploadRepository;
+    private final UploaderNameService uploaderNameService;
+    private final ImageContentValidator imageContentValidator;
+    private final DerivativeService derivativeService;
+    @Qualifier("uploadJobExecutor")
+    private final Executor uploadJobExecutor;
+    private final AdaptiveConcurrencyLimit admissionLimit;
+    private final WedSnapMetrics metrics;
+    @Value("${wedsnap.upload.async.enabled}")
+    private boolean enabled;
+    @Value("${wedsnap.upload.async.retention}")
+    private Duration retention;
+    @Value("${wedsnap.environment}")
+    private String environment;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 업로드 파일을 스풀하고 작업을 실행기에 제출합니다.
+     * @param request 업로드 요청
+     * @return 생성된 작업 상태 (실행기가 포화되면 요청 스레드에서 처리되어 이미 끝난 상태일 수 있음)
+     */
+    public UploadJobResponse submit(UploadRequest request) {
+        for (int i = 0; i < request.getFiles().size(); i++) {
+            ClientImageInfo original = ClientImageInfo.at(request.getOriginalInfo(), i);
+            if (original != null) {
+                metrics.recordClientResize(original.size(), request.getFiles().get(i).getSize());
+            }
+        }
+
+        UploadJob job;
+        try {
+            job = jobStore.create(request.getEventName(), request.getUploaderName(), request.getFiles(),
+                                  request.getOriginalInfo());
+        } catch (IOException e) {
+            throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 작업 생성 실패", e);
+        }
+
+        log.info("[{}] Upload job accepted: id={}, eventName={}, uploader={}, files={}",
+                 environment, job.getId(), job.getEventName(), job.getUploaderName(), job.getFiles().size());
+        dispatch(job);
+        return toResponse(job);
+    }
+
+    /**
+     * 재시작 전에 접수했지만 끝나지 않은 작업을 다시 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        List<UploadJob> pending = jobStore.findPending();
+        if (!pending.isEmpty()) {
+            log.info("[{}] Resuming upload jobs: {}", environment, pending.size());
+        }
+        pending.forEach(this::dispatch);
+    }
+
+    /**
+     * 작업 상태 조회
+     * @param jobId 작업 ID
+     * @return 작업 상태 (완료 시 업로드 결과 포함)
+     */
+    public UploadJobResponse getJob(String jobId) {
+        return jobStore.find(jobId)
+                       .map(this::toResponse)
+                       .orElseThrow(() -> new WedSnapException(ErrorCode.UPLOAD_JOB_NOT_FOUND, "작업 ID: " + jobId));
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${wedsnap.upload.async.cleanup-interval}")
+    public void expireJobs() {
+        int expired = jobStore.expire(Instant.now().minus(retention));
+        if (expired > 0) {
+            log.info("[{}] Expired upload jobs removed: {}", environment, expired);
+        }
+    }
+
+    private void dispatch(UploadJob job) {
+        admissionLimit.acquire();
+        try {
+            uploadJobExecutor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    admissionLimit.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            admissionLimit.release();
+            throw e;
+        }
+    }
+
+    void run(UploadJob job) {
+        Timer.Sample sample = metrics.startTimer();
+        String outcome = WedSnapMetrics.OUTCOME_FAILURE;
+        job.setStatus(UploadJob.Status.RUNNING);
+        try {
+            UploadResponse response = process(job);
+            job.setResult(response);
+            job.setStatus(UploadJob.Status.COMPLETED);
+            outcome = response.getFailCount() == 0 ? WedSnapMetrics.OUTCOME_SUCCESS : WedSnapMetrics.OUTCOME_PARTIAL;
+        } catch (RuntimeException e) {
+            log.error("[{}] Upload job failed: id={} → {}", environment, job.getId(), e.getMessage());
+            ErrorCode errorCode = e instanceof WedSnapException wedSnapException
+                                  ? wedSnapException.getErrorCode() : ErrorCode.INTERNAL_ERROR;
+            metrics.recordError(errorCode);
+            job.setError(ErrorResponse.builder()
+                                      .errorCode(errorCode.getCode())
+                                      .title(errorCode.getTitle())
+                                      .message(errorCode.getMessage())
+                                      .detail(e.getMessage())
+                                      .build());
+            job.setStatus(UploadJob.Status.FAILED);
+        } finally {
+            job.setFinishedAt(Instant.now());
+            jobStore.deleteData(job);
+            metrics.recordRequest(sample, WedSnapMetrics.MODE_ASYNC, outcome);
+        }
+    }
+
+    private UploadResponse process(UploadJob job) {
+        String eventName = job.getEventName();
+        String uploaderName = uploaderNameService.reserve(eventName, job.getUploaderName());
+
+        List<String> failedFiles = new ArrayList<>();
+        List<String> duplicateFiles = new ArrayList<>();
+        for (UploadJobFile file : job.getFiles()) {
+            try {
+                validateFile(file);
+                StoredFile stored = save(eventName, uploaderName, file);
+                if (stored.duplicate()) {
+                    duplicateFiles.add(file.fileName());
+                } else {
+                    derivativeService.enqueue(eventName, uploaderName, stored.fileName());
+                }
+            } catch (WedSnapException e) {
+                log.warn("[{}] Rejected file: {} → {}", environment, file.fileName(), e.getErrorCode().getCode());
+                failedFiles.add(file.fileName());
+            } catch (IOException e) {
+                log.error("[{}] Failed to save file: {} → {}", environment, file.fileName(), e.getMessage());
+                failedFiles.add(file.fileName());
+            }
+        }
+
+        int total = job.getFiles().size();
+        int failCount = failedFiles.size();
+        int successCount = total - failCount;
+        log.info("Upload job processed: id={}, eventName={}, Uploader={}, 성공 {}, 실패 {}",
+                 job.getId(), eventName, uploaderName, successCount, failCount);
+
+        return UploadResponse.builder()
+                             .eventName(eventName)
+                             .uploaderName(uploaderName)
+                             .totalFiles(total)
+                             .successCount(successCount)
+                             .failCount(failCount)
+                             .failedFiles(failedFiles)
+                             .duplicateCount(duplicateFiles.size())
+                             .duplicateFiles(duplicateFiles)
+                             .timestamp(LocalDateTime.now())
+                             .message(String.format("%d개 업로드 성공, %d개 실패", successCount, failCount))
+                             .build();
+    }
+
+    /**
+     * 동기 업로드와 같이 저장 지연/실패를 상한 조정에 반영합니다. (중복 판정은 기록이 없으므로 제외)
+     */
+    private StoredFile save(String eventName, String uploaderName, UploadJobFile file) throws IOException {
+        long start = System.nanoTime();
+        try {
+            StoredFile stored = uploadRepository.moveFile(eventName, uploaderName, file.fileName(), file.path(),
+                                                          file.original());
+            if (!stored.duplicate()) {
+                admissionLimit.onSample(System.nanoTime() - start, file.size(), false);
+            }
+            return stored;
+        } catch (IOException e) {
+            admissionLimit.onSample(System.nanoTime() - start, file.size(), true);
+            throw e;
+        }
+    }
+
+    private void validateFile(UploadJobFile file) throws IOException {
+        if (file.size() == 0) {
+            throw new WedSnapException(ErrorCode.EMPTY_FILE);
+        }
+        UploadService.validateFileName(file.fileName());
+        try (InputStream in = Files.newInputStream(file.path())) {
+            imageContentValidator.validate(in, file.fileName());
+        }
+    }
+
+    private UploadJobResponse toResponse(UploadJob job) {
+        UploadJobResponse.UploadJobResponseBuilder builder = UploadJobResponse.builder()
+                                                                              .jobId(job.getId())
+                                                                              .status(job.getStatus().name())
+                                                                              .eventName(job.getEventName())
+                                                                              .uploaderName(job.getUploaderName())
+                                                                              .totalFiles(job.getFiles().size())
+                                                                              .error(job.getError());
+        UploadResponse result = job.getResult();
+        if (result != null) {
+            builder.uploaderName(result.getUploaderName())
+                   .successCount(result.getSuccessCount())
+                   .failCount(result.getFailCount())
+                   .failedFiles(result.getFailedFiles())
+                   .duplicateCount(result.getDuplicateCount())
+                   .duplicateFiles(result.getDuplicateFiles())
+                   .message(result.getMessage())
+                   .timestamp(result.getTimestamp());
+        }
+        return builder.build();
+    }
+}
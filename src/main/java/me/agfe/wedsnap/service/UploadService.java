@@ -1,58 +1,139 @@
 package me.agfe.wedsnap.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.dto.UploadBatchResponse;
 import me.agfe.wedsnap.dto.UploadRequest;
 import me.agfe.wedsnap.dto.UploadResponse;
 import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.UploadThrottledException;
 import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.StoredFile;
+import me.agfe.wedsnap.repository.UploadBatch;
+import me.agfe.wedsnap.repository.UploadBatchStore;
 import me.agfe.wedsnap.repository.UploadRepository;
+import me.agfe.wedsnap.support.ClientImageInfo;
+import me.agfe.wedsnap.support.MultipartStreamParser;
+import me.agfe.wedsnap.validation.ImageContentValidator;
+import me.agfe.wedsnap.validation.UploaderName;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UploadService {
 
-    private static final List<String> ALLOWED_EXTENSIONS = List.of("jpg", "jpeg", "png", "gif", "heif");
+    private static final List<String> ALLOWED_EXTENSIONS = List.of("jpg", "jpeg", "png", "gif", "heic", "heif");
+    private static final String UPLOADER_NAME_FIELD = "uploaderName";
+    private static final int MAX_UPLOADER_NAME_BYTES = 256;
+    private static final int MAX_ORIGINAL_INFO_BYTES = 64;
+    private static final int MAX_FILES = 20;
     private final UploadRepository uploadRepository;
+    private final UploaderNameService uploaderNameService;
+    @Qualifier("uploadIoExecutor")
+    private final Executor uploadIoExecutor;
+    private final Validator validator;
+    private final MultipartProperties multipartProperties;
+    private final ImageContentValidator imageContentValidator;
+    private final DerivativeService derivativeService;
+    private final AdaptiveConcurrencyLimit admissionLimit;
+    private final UploadBatchStore uploadBatchStore;
+    private final WedSnapMetrics metrics;
     @Value("${wedsnap.environment}")
     private String environment;
+    @Value("${wedsnap.upload.batch.ttl}")
+    private Duration batchTtl;
 
     public UploadResponse processUpload(UploadRequest request) {
-        String uniqueUploader = getUniqueUploaderName(request.getEventName(), request.getUploaderName());
+        Timer.Sample sample = metrics.startTimer();
+        String outcome = WedSnapMetrics.OUTCOME_FAILURE;
+        try {
+            UploadResponse response = upload(request);
+            outcome = response.getFailCount() == 0 ? WedSnapMetrics.OUTCOME_SUCCESS : WedSnapMetrics.OUTCOME_PARTIAL;
+            return response;
+        } finally {
+            metrics.recordRequest(sample, WedSnapMetrics.MODE_MULTIPART, outcome);
+        }
+    }
+
+    private UploadResponse upload(UploadRequest request) {
+        String uniqueUploader = uploaderNameService.reserve(request.getEventName(), request.getUploaderName());
         request.setUploaderName(uniqueUploader);
 
         List<MultipartFile> files = request.getFiles();
+        for (int i = 0; i < files.size(); i++) {
+            recordClientResize(ClientImageInfo.at(request.getOriginalInfo(), i), files.get(i).getOriginalFilename(),
+                               files.get(i).getSize());
+        }
+
+        // 검증은 요청 스레드에서, 저장은 I/O 실행기에서 파일별로 병렬 수행
+        List<CompletableFuture<StoredFile>> saves = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            saves.add(submitSave(request.getEventName(), request.getUploaderName(), files.get(i),
+                                 ClientImageInfo.at(request.getOriginalInfo(), i), WedSnapMetrics.MODE_MULTIPART));
+        }
 
         List<String> failedFiles = new ArrayList<>();
+        List<String> duplicateFiles = new ArrayList<>();
         int successCount = 0;
+        WedSnapException uploadFailure = null;
 
-        synchronized (this) {
-            for (MultipartFile file : files) {
-                try {
-                    validateFile(file);
-                    uploadRepository.saveFile(request.getEventName(), request.getUploaderName(), file);
-                    successCount++;
-                } catch (WedSnapException e) {
-                    log.error("[{}] Failed to save file: {} → {}", environment, file.getOriginalFilename(), e.getMessage());
-                    failedFiles.add(file.getOriginalFilename());
-                } catch (IOException e) {
-                    log.error("[{}] Failed to save file: {} → {}", environment, file.getOriginalFilename(), e.getMessage());
-                    failedFiles.add(file.getOriginalFilename());
-                    throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "파일명: " + file.getOriginalFilename(), e);
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            try {
+                StoredFile stored = saves.get(i).join();
+                successCount++;
+                if (stored.duplicate()) {
+                    duplicateFiles.add(file.getOriginalFilename());
+                }
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                log.error("[{}] Failed to save file: {} → {}", environment, file.getOriginalFilename(), cause.getMessage());
+                failedFiles.add(file.getOriginalFilename());
+
+                if (cause instanceof UncheckedIOException ioException) {
+                    // 다른 파일의 저장 결과까지 모두 수집한 뒤 첫 번째 I/O 실패를 전달
+                    if (uploadFailure == null) {
+                        uploadFailure = new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED,
+                                                             "파일명: " + file.getOriginalFilename(),
+                                                             ioException.getCause());
+                    }
+                } else if (!(cause instanceof WedSnapException)) {
+                    throw cause instanceof RuntimeException runtime ? runtime : e;
                 }
             }
         }
 
+        if (uploadFailure != null) {
+            throw uploadFailure;
+        }
+
         int total = files.size();
         int failCount = failedFiles.size();
 
@@ -66,17 +147,290 @@ public class UploadService {
                              .successCount(successCount)
                              .failCount(failCount)
                              .failedFiles(failedFiles)
+                             .duplicateCount(duplicateFiles.size())
+                             .duplicateFiles(duplicateFiles)
+                             .timestamp(LocalDateTime.now())
+                             .message(String.format("%d개 업로드 성공, %d개 실패", successCount, failCount))
+                             .build();
+    }
+
+    /**
+     * 스트리밍 업로드 처리
+     * multipart 본문을 순서대로 읽으며 각 파일 파트를 임시 파일 없이 바로 저장합니다.
+     * uploaderName 폼 필드는 파일 파트보다 먼저 전송되어야 합니다.
+     * 파일을 읽는 중에는 개수를 미리 알 수 없으므로, 요청 헤더로 알린 파일 수를 본문을 읽기 전에 검사하고
+     * 알린 수보다 많은 파일 파트가 오면 거절합니다. (최대 개수를 넘는 파일은 저장되지 않음)
+     * @param eventName 이벤트 이름
+     * @param fileCount 요청 헤더로 알린 파일 수
+     * @param parser 요청 본문 파서
+     * @return 업로드 결과 응답
+     */
+    public UploadResponse processStreamingUpload(String eventName, int fileCount, MultipartStreamParser parser) {
+        Timer.Sample sample = metrics.startTimer();
+        String outcome = WedSnapMetrics.OUTCOME_FAILURE;
+        try {
+            if (fileCount < 1 || fileCount > MAX_FILES) {
+                throw new WedSnapException(ErrorCode.CONSTRAINT_VIOLATION, "사진은 최소 1장부터 최대 20장까지만 업로드 가능합니다.");
+            }
+            UploadResponse response = streamingUpload(eventName, fileCount, parser);
+            outcome = response.getFailCount() == 0 ? WedSnapMetrics.OUTCOME_SUCCESS : WedSnapMetrics.OUTCOME_PARTIAL;
+            return response;
+        } finally {
+            metrics.recordRequest(sample, WedSnapMetrics.MODE_STREAM, outcome);
+        }
+    }
+
+    private UploadResponse streamingUpload(String eventName, int fileCount, MultipartStreamParser parser) {
+        long maxFileSize = multipartProperties.getMaxFileSize().toBytes();
+
+        String uploaderName = null;
+        List<String> failedFiles = new ArrayList<>();
+        List<String> duplicateFiles = new ArrayList<>();
+        int total = 0;
+        int emptyCount = 0;
+        int successCount = 0;
+        String currentFile = null;
+        ClientImageInfo originalInfo = null;
+
+        try {
+            MultipartStreamParser.Part part;
+            while ((part = parser.nextPart()) != null) {
+                if (!part.isFile()) {
+                    if (UPLOADER_NAME_FIELD.equals(part.name()) && uploaderName == null) {
+                        String requested = parser.readText(MAX_UPLOADER_NAME_BYTES);
+                        validateUploaderName(requested);
+                        uploaderName = uploaderNameService.reserve(eventName, requested);
+                    } else if (ClientImageInfo.FIELD_NAME.equals(part.name())) {
+                        // 바로 뒤에 오는 파일 파트의 원본 정보
+                        originalInfo = ClientImageInfo.parse(parser.readText(MAX_ORIGINAL_INFO_BYTES));
+                    }
+                    continue;
+                }
+
+                if (uploaderName == null) {
+                    throw new WedSnapException(ErrorCode.MISSING_REQUEST_PARAMETER, "uploaderName 필드는 파일보다 먼저 전송되어야 합니다.");
+                }
+                if (++total > fileCount) {
+                    throw new WedSnapException(ErrorCode.CONSTRAINT_VIOLATION, "알린 파일 수보다 많은 파일이 전송되었습니다: " + fileCount);
+                }
+
+                currentFile = part.fileName();
+                long bytesBefore = parser.getBytesRead();
+                Timer.Sample saveSample = metrics.startTimer();
+                String saveOutcome = WedSnapMetrics.OUTCOME_FAILURE;
+                try {
+                    validateFileName(currentFile);
+                    StoredFile stored = uploadRepository.saveStream(eventName, uploaderName, currentFile,
+                                                                    imageContentValidator.validate(parser.bodyChannel(), currentFile),
+                                                                    maxFileSize, originalInfo);
+                    saveOutcome = stored.duplicate() ? WedSnapMetrics.OUTCOME_DUPLICATE : WedSnapMetrics.OUTCOME_SUCCESS;
+                    successCount++;
+                    recordClientResize(originalInfo, currentFile, parser.getBytesRead() - bytesBefore);
+                    if (stored.duplicate()) {
+                        duplicateFiles.add(currentFile);
+                    } else {
+                        derivativeService.enqueue(eventName, uploaderName, stored.fileName());
+                    }
+                } catch (WedSnapException e) {
+                    // 남은 본문은 다음 nextPart() 호출에서 건너뜀
+                    log.error("[{}] Failed to save file: {} → {}", environment, currentFile, e.getMessage());
+                    failedFiles.add(currentFile);
+                    if (e.getErrorCode() == ErrorCode.EMPTY_FILE) {
+                        emptyCount++;
+                    }
+                } finally {
+                    metrics.recordFileSave(saveSample, WedSnapMetrics.MODE_STREAM, saveOutcome);
+                }
+                originalInfo = null;
+                currentFile = null;
+            }
+        } catch (MultipartStreamParser.SizeLimitExceededException e) {
+            throw new WedSnapException(ErrorCode.FILE_SIZE_EXCEEDED, e.getMessage(), e);
+        } catch (IOException e) {
+            log.error("[{}] Streaming upload failed: {} → {}", environment, currentFile, e.getMessage());
+            throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "파일명: " + currentFile, e);
+        }
+
+        if (uploaderName == null) {
+            throw new WedSnapException(ErrorCode.MISSING_REQUEST_PARAMETER, "필수 요청 파라미터가 존재하지 않습니다: " + UPLOADER_NAME_FIELD);
+        }
+        if (total == 0) {
+            throw new WedSnapException(ErrorCode.NO_FILES_PROVIDED);
+        }
+        if (emptyCount == total) {
+            throw new WedSnapException(ErrorCode.ALL_FILES_EMPTY);
+        }
+
+        int failCount = failedFiles.size();
+        log.info("Streaming upload processed: eventName={}, Uploader={} files={}, 성공 {}, 실패 {}, bytes={}",
+                 eventName, uploaderName, total, successCount, failCount, parser.getBytesRead());
+
+        return UploadResponse.builder()
+                             .eventName(eventName)
+                             .uploaderName(uploaderName)
+                             .totalFiles(total)
+                             .successCount(successCount)
+                             .failCount(failCount)
+                             .failedFiles(failedFiles)
+                             .duplicateCount(duplicateFiles.size())
+                             .duplicateFiles(duplicateFiles)
                              .timestamp(LocalDateTime.now())
                              .message(String.format("%d개 업로드 성공, %d개 실패", successCount, failCount))
                              .build();
     }
 
+    /**
+     * 파일별 업로드 묶음 생성
+     * 업로더명은 여기서 한 번만 예약하며, 이후 묶음으로 올리는 파일은 모두 같은 폴더에 저장됩니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 요청된 업로더 이름
+     * @return 묶음 ID 와 예약된 업로더 폴더명
+     */
+    public UploadBatchResponse createBatch(String eventName, String uploaderName) {
+        if (uploadBatchStore.isFull()) {
+            // 업로더명을 예약하기 전에 거절
+            throw new UploadThrottledException(admissionLimit.retryAfter(), "진행 중인 업로드 묶음이 너무 많습니다.");
+        }
+        String uniqueUploader = uploaderNameService.reserve(eventName, uploaderName);
+        UploadBatch batch = uploadBatchStore.create(eventName, uniqueUploader);
+        log.info("Upload batch created: id={}, eventName={}, Uploader={}", batch.getId(), eventName, uniqueUploader);
+
+        return UploadBatchResponse.builder()
+                                  .batchId(batch.getId())
+                                  .eventName(eventName)
+                                  .uploaderName(uniqueUploader)
+                                  .expiresAt(LocalDateTime.ofInstant(batch.getCreatedAt().plus(batchTtl), ZoneId.systemDefault()))
+                                  .build();
+    }
+
+    /**
+     * 파일 1개 업로드
+     * 검증/저장 실패는 WedSnapException 으로 응답하며, 클라이언트가 파일 단위로 재시도합니다.
+     * 묶음당 새로 저장하는 파일은 일반 업로드와 같이 최대 20개입니다.
+     * @param eventName 이벤트 이름
+     * @param batchId 묶음 ID
+     * @param file 업로드 파일
+     * @param originalInfo 브라우저에서 줄여 보낸 경우 원본 정보
+     * @return 업로드 결과 응답 (파일 1개 기준)
+     */
+    public UploadResponse uploadFile(String eventName, String batchId, MultipartFile file, String originalInfo) {
+        Timer.Sample sample = metrics.startTimer();
+        String outcome = WedSnapMetrics.OUTCOME_FAILURE;
+        try {
+            UploadBatch batch = uploadBatchStore.find(batchId)
+                                                .filter(found -> found.getEventName().equals(eventName))
+                                                .orElseThrow(() -> new WedSnapException(ErrorCode.UPLOAD_BATCH_NOT_FOUND,
+                                                                                        "묶음 ID: " + batchId));
+            if (!batch.reserveFile(MAX_FILES)) {
+                throw new WedSnapException(ErrorCode.CONSTRAINT_VIOLATION, "사진은 최소 1장부터 최대 20장까지만 업로드 가능합니다.");
+            }
+            ClientImageInfo original = ClientImageInfo.parse(originalInfo);
+            recordClientResize(original, file.getOriginalFilename(), file.getSize());
+
+            StoredFile stored = null;
+            try {
+                // 요청 스레드에서 기다리지만 저장은 I/O 실행기에서 수행하여 NAS 동시 쓰기 상한을 공유
+                stored = submitSave(batch.getEventName(), batch.getUploaderName(), file, original, WedSnapMetrics.MODE_FILE).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof WedSnapException wedSnapException) {
+                    throw wedSnapException;
+                }
+                if (e.getCause() instanceof UncheckedIOException ioException) {
+                    log.error("[{}] Failed to save file: {} → {}", environment, file.getOriginalFilename(),
+                              ioException.getMessage());
+                    throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "파일명: " + file.getOriginalFilename(),
+                                               ioException.getCause());
+                }
+                throw e;
+            } finally {
+                // 실패한 파일은 재시도할 수 있도록, 중복(응답 유실 후 재전송 포함)은 새로 저장된 것이 아니므로 자리를 반납
+                if (stored == null || stored.duplicate()) {
+                    batch.releaseFile();
+                }
+            }
+            outcome = WedSnapMetrics.OUTCOME_SUCCESS;
+
+            List<String> duplicateFiles = stored.duplicate() ? List.of(file.getOriginalFilename()) : List.of();
+            return UploadResponse.builder()
+                                 .eventName(batch.getEventName())
+                                 .uploaderName(batch.getUploaderName())
+                                 .totalFiles(1)
+                                 .successCount(1)
+                                 .failCount(0)
+                                 .failedFiles(List.of())
+                                 .duplicateCount(duplicateFiles.size())
+                                 .duplicateFiles(duplicateFiles)
+                                 .timestamp(LocalDateTime.now())
+                                 .message("1개 업로드 성공, 0개 실패")
+                                 .build();
+        } finally {
+            metrics.recordRequest(sample, WedSnapMetrics.MODE_FILE, outcome);
+        }
+    }
+
+    /**
+     * 유효 기간이 지난 업로드 묶음을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${wedsnap.upload.batch.cleanup-interval}")
+    public void expireBatches() {
+        int expired = uploadBatchStore.expire(Instant.now().minus(batchTtl));
+        if (expired > 0) {
+            log.info("[{}] Expired upload batches removed: {}", environment, expired);
+        }
+    }
+
+    /**
+     * 파일을 검증하고 저장 작업을 I/O 실행기에 제출합니다.
+     * 검증 실패는 WedSnapException, 저장 실패는 UncheckedIOException 으로 완료됩니다.
+     */
+    private CompletableFuture<StoredFile> submitSave(String eventName, String uploaderName, MultipartFile file,
+                                                     ClientImageInfo original, String mode) {
+        try {
+            validateFile(file);
+        } catch (WedSnapException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            Timer.Sample sample = metrics.startTimer();
+            String outcome = WedSnapMetrics.OUTCOME_FAILURE;
+            long start = System.nanoTime();
+            try {
+                StoredFile stored = uploadRepository.saveFile(eventName, uploaderName, file, original);
+                outcome = stored.duplicate() ? WedSnapMetrics.OUTCOME_DUPLICATE : WedSnapMetrics.OUTCOME_SUCCESS;
+                if (!stored.duplicate()) {
+                    // 중복 판정은 기록 없이 끝나므로 저장소 지연 표본에서 제외
+                    admissionLimit.onSample(System.nanoTime() - start, file.getSize(), false);
+                    derivativeService.enqueue(eventName, uploaderName, stored.fileName());
+                }
+                return stored;
+            } catch (IOException e) {
+                admissionLimit.onSample(System.nanoTime() - start, file.getSize(), true);
+                throw new UncheckedIOException(e);
+            } finally {
+                metrics.recordFileSave(sample, mode, outcome);
+            }
+        }, uploadIoExecutor);
+    }
+
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new WedSnapException(ErrorCode.EMPTY_FILE);
         }
 
-        String fileName = file.getOriginalFilename();
+        validateFileName(file.getOriginalFilename());
+
+        try (InputStream in = file.getInputStream()) {
+            imageContentValidator.validate(in, file.getOriginalFilename());
+        } catch (IOException e) {
+            throw new WedSnapException(ErrorCode.FILE_UPLOAD_FAILED, "파일명: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    /**
+     * 파일명과 확장자를 검증합니다. (이어받기 업로드 세션 생성 시에도 사용)
+     */
+    static void validateFileName(String fileName) {
         if (fileName == null || fileName.isBlank()) {
             throw new WedSnapException(ErrorCode.INVALID_FILE_NAME);
         }
@@ -87,12 +441,33 @@ public class UploadService {
         }
     }
 
-    private String getFileExtension(String fileName) {
+    /**
+     * 스트리밍 업로드에서는 컨트롤러 파라미터 검증이 적용되지 않으므로 같은 규칙을 직접 검증합니다.
+     */
+    private void validateUploaderName(String uploaderName) {
+        Set<ConstraintViolation<UploaderNameField>> violations = validator.validate(new UploaderNameField(uploaderName));
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    private static String getFileExtension(String fileName) {
         int dotIndex = fileName.lastIndexOf('.');
         return (dotIndex > 0) ? fileName.substring(dotIndex + 1) : "";
     }
 
-    private String getUniqueUploaderName(String eventName, String uploaderName) {
-        return uploadRepository.findUniqueUploaderName(eventName, uploaderName);
+    /**
+     * 브라우저에서 줄여 보낸 파일이면 원본 대비 전송 크기를 기록합니다.
+     */
+    private void recordClientResize(ClientImageInfo original, String fileName, long uploadedBytes) {
+        if (original == null) {
+            return;
+        }
+        metrics.recordClientResize(original.size(), uploadedBytes);
+        log.debug("Client-resized file: {} ({}x{}, {} → {} bytes)",
+                  fileName, original.width(), original.height(), original.size(), uploadedBytes);
+    }
+
+    private record UploaderNameField(@UploaderName String uploaderName) {
     }
 }
@@ -0,0 +1,36 @@
+package me.agfe.wedsnap.service;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import me.agfe.wedsnap.concurrency.KeyedLockManager;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.UploadRepository;
+
+/**
+ * 업로더명 예약
+ * 일반/스트리밍/비동기/이어받기 업로드가 같은 락과 락 대기 지표를 쓰도록 한 곳에서 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploaderNameService {
+
+    private final UploadRepository uploadRepository;
+    private final KeyedLockManager lockManager;
+    private final WedSnapMetrics metrics;
+
+    /**
+     * 업로더명 예약은 같은 (이벤트, 업로더명) 조합에 대해서만 직렬화합니다.
+     * 파일 저장은 락 밖에서 수행되므로 다른 업로더/이벤트의 업로드와 동시에 진행됩니다.
+     * @param eventName 이벤트 이름
+     * @param uploaderName 요청한 업로더 이름
+     * @return 이번 업로드에 사용할 업로더 폴더명
+     */
+    public String reserve(String eventName, String uploaderName) {
+        long requestedAt = System.nanoTime();
+        return lockManager.executeWithLock(KeyedLockManager.key(eventName, uploaderName), () -> {
+            metrics.recordLockWait(System.nanoTime() - requestedAt);
+            return uploadRepository.findUniqueUploaderName(eventName, uploaderName);
+        });
+    }
+}
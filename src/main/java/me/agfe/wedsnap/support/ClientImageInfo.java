@@ -0,0 +1,45 @@
+package me.agfe.wedsnap.support;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 브라우저에서 줄여 보낸 사진의 원본 정보
+ * 업로드 요청의 originalInfo 폼 필드("{width}x{height}:{bytes}")로 전달되며, 줄이지 않은 파일은 빈 값입니다.
+ * @param width 원본 가로 픽셀 (방향 보정 후)
+ * @param height 원본 세로 픽셀 (방향 보정 후)
+ * @param size 원본 파일 크기 (bytes)
+ */
+public record ClientImageInfo(int width, int height, long size) {
+
+    public static final String FIELD_NAME = "originalInfo";
+
+    private static final Pattern FORMAT = Pattern.compile("(\\d{1,6})x(\\d{1,6}):(\\d{1,12})");
+
+    /**
+     * @param value 폼 필드 값
+     * @return 원본 정보, 비어 있거나 형식이 맞지 않으면 null
+     */
+    public static ClientImageInfo parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = FORMAT.matcher(value.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new ClientImageInfo(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                                   Long.parseLong(matcher.group(3)));
+    }
+
+    /**
+     * 파일 순서대로 전송된 originalInfo 값 중 index 번째 파일의 원본 정보
+     * @param values 폼 필드 값 목록 (없으면 null)
+     * @param index 파일 순서
+     * @return 원본 정보, 없으면 null
+     */
+    public static ClientImageInfo at(List<String> values, int index) {
+        return values != null && index < values.size() ? parse(values.get(index)) : null;
+    }
+}
@@ -0,0 +1,52 @@
+package me.agfe.wedsnap.support;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 재사용 가능한 Direct ByteBuffer 풀
+ * 스트리밍 저장 시 요청마다 버퍼를 새로 할당하지 않도록 고정 크기 버퍼를 돌려 사용합니다.
+ * 풀이 비어 있으면 새 버퍼를 할당하고, 반납 시 풀이 가득 차 있으면 버퍼를 버립니다.
+ */
+@Component
+public class DirectBufferPool {
+
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final int bufferSize;
+
+    public DirectBufferPool(@Value("${wedsnap.upload.streaming.buffer-size}") DataSize bufferSize,
+                            @Value("${wedsnap.upload.streaming.buffer-pool-size}") int poolSize) {
+        this.bufferSize = (int) bufferSize.toBytes();
+        this.buffers = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * 버퍼를 대여합니다. 반환된 버퍼는 비어 있는(clear) 상태입니다.
+     * @return Direct ByteBuffer
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * 버퍼를 반납합니다.
+     * @param buffer 대여했던 버퍼
+     */
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,173 @@
+package me.agfe.wedsnap.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HEIC/HEIF → JPEG 변환기
+ * JDK ImageIO 와 현재 의존성에는 HEVC 디코더가 없으므로 libheif 의 heif-convert 를 별도 프로세스로 실행합니다.
+ * (Debian/Ubuntu 의 libheif-examples 패키지, 배포 이미지는 docker/jre-heif 를 기본 이미지로 사용, 명령 경로는 wedsnap.upload.heif.command)
+ * 기본값은 꺼짐(원본만 저장)이며 heif-convert 가 포함된 배포 이미지에서 켭니다. 켜져 있는데 명령을 찾지 못하면 시작에 실패합니다.
+ */
+@Slf4j
+@Component
+public class HeifTranscoder {
+
+    private static final Set<String> HEIF_EXTENSIONS = Set.of("heic", "heif");
+    private static final String OUTPUT_NAME = "out";
+
+    private final List<String> command;
+    private final Duration timeout;
+    private final int quality;
+
+    /**
+     * @param enabled JPEG 사본 생성 여부
+     * @param command heif-convert 실행 파일 (이름이면 PATH 에서 찾음)
+     * @param niceness 변환 프로세스의 nice 값 (0 이면 사용 안 함)
+     * @param timeout 파일 1개 변환 제한 시간
+     * @param quality JPEG 품질 (0~100)
+     * @throws IllegalStateException 활성화되어 있는데 명령을 찾지 못한 경우
+     */
+    public HeifTranscoder(@Value("${wedsnap.upload.heif.enabled}") boolean enabled,
+                          @Value("${wedsnap.upload.heif.command}") String command,
+                          @Value("${wedsnap.upload.heif.niceness}") int niceness,
+                          @Value("${wedsnap.upload.heif.timeout}") Duration timeout,
+                          @Value("${wedsnap.upload.heif.jpeg-quality}") int quality) {
+        this.timeout = timeout;
+        this.quality = quality;
+
+        if (!enabled) {
+            log.info("HEIF 변환이 꺼져 있어 HEIC/HEIF 원본의 JPEG 사본을 만들지 않습니다.");
+            this.command = List.of();
+            return;
+        }
+        Path executable = findExecutable(command);
+        if (executable == null) {
+            throw new IllegalStateException("HEIF 변환 명령을 찾을 수 없습니다: " + command
+                                            + " (libheif-examples 설치 또는 wedsnap.upload.heif.enabled=false)");
+        }
+        List<String> prefix = new ArrayList<>();
+        Path nice = niceness > 0 ? findExecutable("nice") : null;
+        if (nice != null) {
+            prefix.addAll(List.of(nice.toString(), "-n", String.valueOf(niceness)));
+        }
+        prefix.add(executable.toString());
+        this.command = List.copyOf(prefix);
+    }
+
+    /**
+     * @param fileName 파일명
+     * @return HEIC/HEIF 확장자 여부
+     */
+    public static boolean isHeif(String fileName) {
+        int dotIndex = fileName.lastIndexOf('.');
+        return dotIndex > 0 && HEIF_EXTENSIONS.contains(fileName.substring(dotIndex + 1).toLowerCase(Locale.ROOT));
+    }
+
+    public boolean isAvailable() {
+        return !command.isEmpty();
+    }
+
+    /**
+     * 원본의 주 이미지를 JPEG 로 변환합니다. (회전/반전 정보는 heif-convert 가 적용)
+     * 대상 폴더 안의 임시 폴더에 변환한 뒤 이름을 바꾸므로, 읽는 쪽에서 작성 중인 파일을 보지 않습니다.
+     * @param source HEIC/HEIF 원본
+     * @param target JPEG 저장 경로
+     * @throws IOException 변환 실패 또는 시간 초과 시
+     */
+    public void transcode(Path source, Path target) throws IOException {
+        if (!isAvailable()) {
+            throw new IOException("HEIF 변환 명령이 설정되지 않았습니다.");
+        }
+        Files.createDirectories(target.getParent());
+        Path workDir = Files.createTempDirectory(target.getParent(), ".transcode-");
+        try {
+            Path output = workDir.resolve(OUTPUT_NAME + ".jpg");
+            List<String> args = new ArrayList<>(command);
+            args.addAll(List.of("-q", String.valueOf(quality), source.toString(), output.toString()));
+            run(args);
+
+            // 최상위 이미지가 여러 개인 파일은 out-1.jpg, out-2.jpg ... 로 기록되며 첫 번째가 주 이미지
+            Path primary = Files.exists(output) ? output : workDir.resolve(OUTPUT_NAME + "-1.jpg");
+            if (!Files.exists(primary)) {
+                throw new IOException("HEIF 변환 결과가 없습니다: " + source.getFileName());
+            }
+            try {
+                Files.move(primary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(primary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            deleteDirectory(workDir);
+        }
+    }
+
+    private void run(List<String> args) throws IOException {
+        Process process = new ProcessBuilder(args).redirectErrorStream(true)
+                                                  .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                                                  .start();
+        try {
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("HEIF 변환 시간 초과 (" + timeout + ")");
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("HEIF 변환 대기 중 인터럽트");
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException("HEIF 변환 실패 (exit " + process.exitValue() + ")");
+        }
+    }
+
+    private static Path findExecutable(String command) {
+        if (command == null || command.isBlank()) {
+            return null;
+        }
+        if (command.contains(File.separator)) {
+            Path path = Paths.get(command);
+            return Files.isExecutable(path) ? path : null;
+        }
+        String pathEnv = System.getenv("PATH");
+        if (pathEnv == null) {
+            return null;
+        }
+        for (String dir : pathEnv.split(File.pathSeparator)) {
+            Path candidate = Paths.get(dir, command);
+            if (Files.isExecutable(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static void deleteDirectory(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("HEIF 변환 임시 폴더 삭제 실패: {} → {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package me.agfe.wedsnap.support;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 이미지 헤더 판별기
+ * 파일 앞부분만 읽어 JPEG/PNG/GIF/HEIF 시그니처를 확인하고, 이미지를 디코딩하지 않고 헤더에서 해상도를 읽습니다.
+ * JPEG 세그먼트와 HEIF 박스는 내용을 읽지 않고 건너뛰므로, 로컬 파일 기준 수 KB 읽기와 몇 번의 seek 로 끝납니다.
+ */
+public final class ImageHeaderSniffer {
+
+    /** 해상도를 찾기 위해 읽거나 건너뛸 수 있는 최대 바이트 수 */
+    public static final int MAX_SCAN_BYTES = 1024 * 1024;
+
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final Set<String> HEIF_BRANDS = Set.of("heic", "heix", "hevc", "hevx", "heim", "heis", "hevm", "hevs");
+    private static final Set<String> HEIF_GENERIC_BRANDS = Set.of("mif1", "msf1");
+
+    private ImageHeaderSniffer() {
+    }
+
+    public enum ImageFormat { JPEG, PNG, GIF, HEIF }
+
+    /**
+     * 판별 결과
+     * @param format 이미지 형식
+     * @param width 가로 픽셀 (헤더에서 찾지 못하면 -1)
+     * @param height 세로 픽셀 (헤더에서 찾지 못하면 -1)
+     */
+    public record ImageInfo(ImageFormat format, int width, int height) {
+
+        public boolean hasDimensions() {
+            return width >= 0 && height >= 0;
+        }
+
+        public long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * 스트림 앞부분으로 이미지 형식과 해상도를 판별합니다.
+     * @param in 파일 시작 위치의 입력 스트림 (호출자가 닫음)
+     * @return 판별 결과, 허용된 이미지 형식이 아니면 null
+     * @throws IOException 읽기 실패 시
+     */
+    public static ImageInfo sniff(InputStream in) throws IOException {
+        HeaderReader reader = new HeaderReader(in);
+        byte[] head = new byte[12];
+        int n = reader.readUpTo(head);
+
+        if (n >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return jpeg(reader);
+        }
+        if (n >= 8 && startsWith(head, PNG_SIGNATURE)) {
+            return png(reader);
+        }
+        if (n >= 10 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8'
+            && (head[4] == '7' || head[4] == '9') && head[5] == 'a') {
+            return new ImageInfo(ImageFormat.GIF, (head[6] & 0xFF) | (head[7] & 0xFF) << 8, (head[8] & 0xFF) | (head[9] & 0xFF) << 8);
+        }
+        if (n == 12 && ascii(head, 4).equals("ftyp")) {
+            return heif(reader, head);
+        }
+        return null;
+    }
+
+    /**
+     * JPEG: SOI 이후 세그먼트를 길이만큼 건너뛰며 SOF 마커에서 해상도를 읽습니다.
+     */
+    private static ImageInfo jpeg(HeaderReader reader) throws IOException {
+        // 이미 읽은 12바이트 중 SOI(2) 이후 부분부터 다시 해석
+        reader.rewindHead(2);
+        try {
+            while (true) {
+                int marker = reader.u8();
+                if (marker != 0xFF) {
+                    return null;
+                }
+                while (marker == 0xFF) {
+                    marker = reader.u8();
+                }
+                if (marker == 0xD9 || marker == 0xDA) {
+                    // 해상도 없이 이미지 데이터/끝에 도달
+                    return new ImageInfo(ImageFormat.JPEG, -1, -1);
+                }
+                if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                    continue;
+                }
+
+                int length = reader.u16();
+                if (length < 2) {
+                    return null;
+                }
+                if (marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC) {
+                    reader.u8(); // precision
+                    int height = reader.u16();
+                    int width = reader.u16();
+                    return new ImageInfo(ImageFormat.JPEG, width, height);
+                }
+                reader.skip(length - 2);
+            }
+        } catch (ScanLimitException | EOFException e) {
+            return new ImageInfo(ImageFormat.JPEG, -1, -1);
+        }
+    }
+
+    /**
+     * PNG: 시그니처 바로 뒤의 IHDR 청크에서 해상도를 읽습니다.
+     */
+    private static ImageInfo png(HeaderReader reader) throws IOException {
+        reader.rewindHead(8);
+        try {
+            reader.u32(); // chunk length
+            if (!reader.ascii4().equals("IHDR")) {
+                return null;
+            }
+            return new ImageInfo(ImageFormat.PNG, toInt(reader.u32()), toInt(reader.u32()));
+        } catch (ScanLimitException | EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * HEIF: ftyp 브랜드를 확인한 뒤 meta/iprp/ipco 의 ispe 박스 중 가장 큰 해상도를 사용합니다.
+     * (그리드 이미지는 타일마다 ispe 가 있으므로 가장 큰 값이 전체 이미지 크기)
+     */
+    private static ImageInfo heif(HeaderReader reader, byte[] head) throws IOException {
+        long ftypSize = u32(head, 0);
+        if (ftypSize < 16) {
+            return null;
+        }
+        long[] largest = { -1, -1 };
+        try {
+            boolean heif = isHeifBrand(ascii(head, 8), true);
+            reader.skip(4); // minor version
+            for (long remaining = ftypSize - 16; remaining >= 4; remaining -= 4) {
+                heif |= isHeifBrand(reader.ascii4(), false);
+            }
+            if (!heif) {
+                return null;
+            }
+
+            while (true) {
+                long size = reader.u32();
+                String type = reader.ascii4();
+                long bodySize = boxBodySize(reader, size);
+                if (type.equals("meta")) {
+                    reader.skip(4); // version/flags
+                    findIspe(reader, bodySize - 4, 0, largest);
+                    break;
+                }
+                if (type.equals("mdat") || size == 0) {
+                    break;
+                }
+                reader.skip(bodySize);
+            }
+        } catch (ScanLimitException | EOFException e) {
+            // 끝까지 읽지 못해도 이미 찾은 해상도는 사용
+        }
+        return new ImageInfo(ImageFormat.HEIF, toInt(largest[0]), toInt(largest[1]));
+    }
+
+    private static void findIspe(HeaderReader reader, long length, int depth, long[] largest) throws IOException {
+        long consumed = 0;
+        while (consumed + 8 <= length) {
+            long size = reader.u32();
+            String type = reader.ascii4();
+            long bodySize = boxBodySize(reader, size);
+            long headerSize = size == 1 ? 16 : 8;
+            if (size == 0) {
+                bodySize = length - consumed - headerSize;
+            }
+
+            if (depth < 2 && (type.equals("iprp") || type.equals("ipco"))) {
+                findIspe(reader, bodySize, depth + 1, largest);
+            } else if (type.equals("ispe") && bodySize >= 12) {
+                reader.skip(4); // version/flags
+                long width = reader.u32();
+                long height = reader.u32();
+                if (width * height > largest[0] * largest[1]) {
+                    largest[0] = width;
+                    largest[1] = height;
+                }
+                reader.skip(bodySize - 12);
+            } else {
+                reader.skip(bodySize);
+            }
+            consumed += headerSize + bodySize;
+        }
+        reader.skip(length - consumed);
+    }
+
+    private static long boxBodySize(HeaderReader reader, long size) throws IOException {
+        if (size == 1) {
+            long largeSize = reader.u32() << 32 | reader.u32();
+            return largeSize - 16;
+        }
+        return size == 0 ? Long.MAX_VALUE : size - 8;
+    }
+
+    private static boolean isHeifBrand(String brand, boolean major) {
+        return HEIF_BRANDS.contains(brand) || (major && HEIF_GENERIC_BRANDS.contains(brand));
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String ascii(byte[] bytes, int offset) {
+        return new String(bytes, offset, 4, StandardCharsets.ISO_8859_1);
+    }
+
+    private static long u32(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL) << 24 | (bytes[offset + 1] & 0xFFL) << 16
+               | (bytes[offset + 2] & 0xFFL) << 8 | (bytes[offset + 3] & 0xFFL);
+    }
+
+    private static int toInt(long value) {
+        return value > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * 읽은 바이트 수를 세며 {@link #MAX_SCAN_BYTES} 를 넘으면 중단하는 리더
+     * 처음 12바이트는 형식 판별에 쓰인 뒤 각 형식 파서가 다시 읽을 수 있도록 보관합니다.
+     */
+    private static final class HeaderReader {
+
+        private final InputStream in;
+        private final byte[] head = new byte[12];
+        private int headLength;
+        private int headPosition = Integer.MAX_VALUE;
+        private long scanned;
+
+        HeaderReader(InputStream in) {
+            this.in = in;
+        }
+
+        int readUpTo(byte[] dst) throws IOException {
+            headLength = in.readNBytes(head, 0, head.length);
+            scanned = headLength;
+            System.arraycopy(head, 0, dst, 0, headLength);
+            return headLength;
+        }
+
+        void rewindHead(int position) {
+            headPosition = position;
+        }
+
+        int u8() throws IOException {
+            if (headPosition < headLength) {
+                return head[headPosition++] & 0xFF;
+            }
+            checkLimit(1);
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            return b;
+        }
+
+        int u16() throws IOException {
+            return u8() << 8 | u8();
+        }
+
+        long u32() throws IOException {
+            return (long) u16() << 16 | u16();
+        }
+
+        String ascii4() throws IOException {
+            byte[] bytes = { (byte) u8(), (byte) u8(), (byte) u8(), (byte) u8() };
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        void skip(long n) throws IOException {
+            if (n < 0) {
+                throw new EOFException();
+            }
+            while (n > 0 && headPosition < headLength) {
+                headPosition++;
+                n--;
+            }
+            if (n == 0) {
+                return;
+            }
+            checkLimit(n);
+            in.skipNBytes(n);
+        }
+
+        private void checkLimit(long n) throws ScanLimitException {
+            scanned += n;
+            if (scanned > MAX_SCAN_BYTES) {
+                throw new ScanLimitException();
+            }
+        }
+    }
+
+    private static final class ScanLimitException extends IOException {
+
+        ScanLimitException() {
+            super("Image header scan limit exceeded");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // 정상 흐름 제어용이므로 스택 트레이스 생성 비용을 생략
+            return this;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package me.agfe.wedsnap.support;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 축소 이미지 생성 유틸리티
+ * 원본을 전체 해상도로 디코딩하지 않고 ImageIO 서브샘플링으로 필요한 크기 근처까지만 읽어 CPU/힙 사용을 줄입니다.
+ * (예: 4032x3024 원본을 1600px 로 줄일 때 2x2 서브샘플링으로 디코딩하여 픽셀 버퍼가 1/4 이 됨)
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 긴 변이 maxDimension 이상으로 유지되는 가장 큰 서브샘플링 배율로 이미지를 읽습니다.
+     * @param source 원본 파일
+     * @param maxDimension 최종적으로 필요한 긴 변 길이
+     * @return 디코딩된 이미지, ImageIO 가 읽을 수 없는 형식이면 null
+     * @throws IOException 읽기/디코딩 실패 시
+     */
+    public static BufferedImage readSubsampled(Path source, int maxDimension) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int factor = Math.max(1, longSide / maxDimension);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension 이 되도록 비율을 유지하여 축소합니다. 더 작은 이미지는 확대하지 않습니다.
+     * 배율이 크면 절반씩 단계적으로 줄여 한 번에 줄일 때 생기는 계단 현상을 피합니다.
+     * @param image 원본 이미지
+     * @param maxDimension 긴 변 길이
+     * @return 축소된 RGB 이미지 (투명 영역은 흰색)
+     */
+    public static BufferedImage scaleToFit(BufferedImage image, int maxDimension) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * JPEG 으로 인코딩하여 기록합니다.
+     * @param image 이미지 (RGB)
+     * @param target 대상 파일
+     * @param quality JPEG 품질 (0.0 ~ 1.0)
+     * @throws IOException 쓰기 실패 시
+     */
+    public static void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (OutputStream out = Files.newOutputStream(target);
+             ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,362 @@
+package me.agfe.wedsnap.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 스트리밍 파서
+ * 요청 본문 전체를 임시 파일이나 메모리에 적재하지 않고, 고정 크기 버퍼 하나로 파트를 순서대로 읽어냅니다.
+ * 사용법: {@link #nextPart()} 로 다음 파트의 헤더를 읽은 뒤 {@link #read(ByteBuffer)} 또는
+ * {@link #bodyChannel()} 로 해당 파트의 본문을 소비합니다. 다 읽지 않은 본문은 다음 호출 시 건너뜁니다.
+ */
+public final class MultipartStreamParser {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_HEADER_LINE = 8 * 1024;
+    private static final int MAX_HEADER_LINES = 32;
+
+    private enum State { PREAMBLE, BODY, BOUNDARY, FINISHED }
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private final long maxBytes;
+    private final int maxHeaderLine;
+
+    private int head;
+    private int tail;
+    private long bytesRead;
+    private State state = State.PREAMBLE;
+
+    /**
+     * @param in 요청 본문 스트림
+     * @param boundary Content-Type 의 boundary 값
+     * @param bufferSize 스캔 버퍼 크기
+     * @param maxBytes 읽을 수 있는 최대 바이트 수 (음수면 제한 없음)
+     */
+    public MultipartStreamParser(InputStream in, String boundary, int bufferSize, long maxBytes) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        if (bufferSize < delimiter.length * 4) {
+            throw new IllegalArgumentException("bufferSize is too small for boundary: " + bufferSize);
+        }
+        this.buffer = new byte[bufferSize];
+        this.maxBytes = maxBytes;
+        this.maxHeaderLine = Math.min(MAX_HEADER_LINE, bufferSize / 2);
+
+        // 첫 경계는 앞에 CRLF 가 없으므로 가상의 CRLF 를 두어 모든 경계를 동일하게 탐색
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        tail = 2;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 를 추출합니다.
+     * @param contentType Content-Type 헤더 값
+     * @return boundary, multipart/form-data 가 아니면 null
+     */
+    public static String extractBoundary(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        String boundary = parameter(contentType, "boundary");
+        return (boundary == null || boundary.isEmpty()) ? null : boundary;
+    }
+
+    /**
+     * 다음 파트로 이동하여 헤더를 읽습니다. 현재 파트의 남은 본문은 건너뜁니다.
+     * @return 다음 파트, 더 이상 없으면 null
+     * @throws IOException 스트림 오류 또는 형식 오류
+     */
+    public Part nextPart() throws IOException {
+        if (state == State.FINISHED) {
+            return null;
+        }
+        if (state == State.PREAMBLE || state == State.BODY) {
+            skipBody();
+        }
+
+        // 경계 직후: "--" 이면 종료, 아니면 (선택적 공백 후) CRLF
+        if (!ensure(2)) {
+            throw new IOException("Unexpected end of multipart stream");
+        }
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            state = State.FINISHED;
+            return null;
+        }
+        if (!readLine().isBlank()) {
+            throw new IOException("Malformed multipart boundary line");
+        }
+
+        String disposition = null;
+        String contentType = null;
+        int lines = 0;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            if (++lines > MAX_HEADER_LINES) {
+                throw new IOException("Too many multipart headers");
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim();
+            String value = line.substring(colon + 1).trim();
+            if (name.equalsIgnoreCase("Content-Disposition")) {
+                disposition = value;
+            } else if (name.equalsIgnoreCase("Content-Type")) {
+                contentType = value;
+            }
+        }
+
+        if (disposition == null) {
+            throw new IOException("Multipart part without Content-Disposition");
+        }
+
+        state = State.BODY;
+        return new Part(parameter(disposition, "name"), parameter(disposition, "filename"), contentType);
+    }
+
+    /**
+     * 현재 파트의 본문을 읽습니다.
+     * @param dst 대상 버퍼
+     * @return 읽은 바이트 수, 파트 끝이면 -1
+     * @throws IOException 스트림 오류
+     */
+    public int read(ByteBuffer dst) throws IOException {
+        if (state != State.BODY) {
+            return -1;
+        }
+        int available = bodyAvailable();
+        if (available < 0) {
+            return -1;
+        }
+        int n = Math.min(available, dst.remaining());
+        dst.put(buffer, head, n);
+        head += n;
+        return n;
+    }
+
+    /**
+     * 현재 파트의 본문을 문자열로 읽습니다. (폼 필드용)
+     * @param maxLength 허용 최대 바이트 수
+     * @return UTF-8 로 디코딩된 값
+     * @throws IOException 스트림 오류 또는 길이 초과
+     */
+    public String readText(int maxLength) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int available;
+        while (state == State.BODY && (available = bodyAvailable()) >= 0) {
+            if (out.size() + available > maxLength) {
+                throw new IOException("Form field exceeds " + maxLength + " bytes");
+            }
+            out.write(buffer, head, available);
+            head += available;
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 현재 파트의 본문을 읽는 채널 뷰를 반환합니다. 채널을 닫아도 요청 스트림은 닫히지 않습니다.
+     * @return 본문 채널
+     */
+    public ReadableByteChannel bodyChannel() {
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                return MultipartStreamParser.this.read(dst);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+                // 요청 스트림의 수명은 파서가 아닌 컨테이너가 관리
+            }
+        };
+    }
+
+    /**
+     * 지금까지 요청 스트림에서 읽은 바이트 수
+     * @return 읽은 바이트 수
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    private void skipBody() throws IOException {
+        int available;
+        while ((available = bodyAvailable()) >= 0) {
+            head += available;
+        }
+    }
+
+    /**
+     * 현재 본문에서 경계 전까지 안전하게 소비할 수 있는 바이트 수를 계산합니다.
+     * 경계에 도달하면 경계를 소비하고 -1 을 반환합니다.
+     */
+    private int bodyAvailable() throws IOException {
+        if (state != State.BODY && state != State.PREAMBLE) {
+            return -1;
+        }
+        while (true) {
+            int index = indexOfDelimiter();
+            if (index == head) {
+                head += delimiter.length;
+                state = State.BOUNDARY;
+                return -1;
+            }
+
+            // 경계를 찾지 못한 경우, 버퍼 끝의 (경계 길이 - 1) 바이트는 경계의 일부일 수 있으므로 보류
+            int available = index >= 0 ? index - head : tail - head - (delimiter.length - 1);
+            if (available > 0) {
+                return available;
+            }
+            if (!fill()) {
+                throw new IOException("Unexpected end of multipart stream");
+            }
+        }
+    }
+
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private String readLine() throws IOException {
+        int scanFrom = head;
+        while (true) {
+            for (int i = scanFrom; i < tail - 1; i++) {
+                if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+                    String line = new String(buffer, head, i - head, StandardCharsets.UTF_8);
+                    head = i + 2;
+                    return line;
+                }
+            }
+            if (tail - head >= maxHeaderLine) {
+                throw new IOException("Multipart header line too long");
+            }
+            int scanned = Math.max(0, tail - 1 - head);
+            if (!fill()) {
+                throw new IOException("Unexpected end of multipart stream");
+            }
+            scanFrom = head + scanned;
+        }
+    }
+
+    private boolean ensure(int bytes) throws IOException {
+        while (tail - head < bytes) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        if (tail == buffer.length) {
+            throw new IOException("Multipart buffer overflow");
+        }
+
+        int n = in.read(buffer, tail, buffer.length - tail);
+        if (n < 0) {
+            return false;
+        }
+        tail += n;
+        bytesRead += n;
+        if (maxBytes >= 0 && bytesRead > maxBytes) {
+            throw new SizeLimitExceededException(maxBytes);
+        }
+        return true;
+    }
+
+    /**
+     * 헤더 값에서 key=value 파라미터를 추출합니다. 따옴표로 감싼 값과 역슬래시 이스케이프를 지원합니다.
+     */
+    static String parameter(String header, String key) {
+        int i = header.indexOf(';');
+        while (i >= 0 && i < header.length()) {
+            i++;
+            while (i < header.length() && header.charAt(i) == ' ') {
+                i++;
+            }
+            int eq = header.indexOf('=', i);
+            if (eq < 0) {
+                return null;
+            }
+            String name = header.substring(i, eq).trim();
+
+            StringBuilder value = new StringBuilder();
+            int j = eq + 1;
+            if (j < header.length() && header.charAt(j) == '"') {
+                j++;
+                while (j < header.length() && header.charAt(j) != '"') {
+                    char c = header.charAt(j);
+                    if (c == '\\' && j + 1 < header.length()) {
+                        c = header.charAt(++j);
+                    }
+                    value.append(c);
+                    j++;
+                }
+                j++;
+            } else {
+                while (j < header.length() && header.charAt(j) != ';') {
+                    value.append(header.charAt(j));
+                    j++;
+                }
+            }
+
+            if (name.equalsIgnoreCase(key)) {
+                return value.toString().trim();
+            }
+            i = header.indexOf(';', j);
+        }
+        return null;
+    }
+
+    /**
+     * multipart 파트 헤더 정보
+     * @param name 폼 필드 이름
+     * @param fileName 파일 이름 (폼 필드면 null)
+     * @param contentType 파트 Content-Type
+     */
+    public record Part(String name, String fileName, String contentType) {
+
+        public boolean isFile() {
+            return fileName != null;
+        }
+    }
+
+    /**
+     * 요청 본문이 허용 크기를 초과한 경우
+     */
+    public static class SizeLimitExceededException extends IOException {
+
+        public SizeLimitExceededException(long maxBytes) {
+            super("Multipart request exceeds " + maxBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package me.agfe.wedsnap.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * 미리 읽어 둔 앞부분을 먼저 돌려준 뒤 원본 채널을 이어 읽는 채널
+ * 저장 전에 파일 헤더를 검사하기 위해 앞부분을 소비한 경우, 저장 시 원본 내용을 그대로 복원하는 데 사용합니다.
+ */
+public final class PrefixedChannel implements ReadableByteChannel {
+
+    private final ByteBuffer prefix;
+    private final ReadableByteChannel source;
+
+    /**
+     * @param prefix 읽기 모드(flip)의 앞부분 버퍼
+     * @param source 나머지 본문 채널
+     */
+    public PrefixedChannel(ByteBuffer prefix, ReadableByteChannel source) {
+        this.prefix = prefix;
+        this.source = source;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (!prefix.hasRemaining()) {
+            return source.read(dst);
+        }
+        int n = Math.min(prefix.remaining(), dst.remaining());
+        dst.put(prefix.slice(prefix.position(), n));
+        prefix.position(prefix.position() + n);
+        return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return source.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+}
@@ -0,0 +1,130 @@
+package me.agfe.wedsnap.support;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생산자 스레드(파일 읽기)와 소비자 스레드(응답 전송) 사이의 고정 크기 버퍼 파이프
+ * 생산자는 버퍼 개수만큼 앞서 읽을 수 있으므로 현재 파일을 보내는 동안 다음 파일을 미리 읽고,
+ * 메모리 사용량은 (버퍼 개수 × 버퍼 크기) 로 일정합니다.
+ * 소비자가 실패(클라이언트 연결 종료 등)하면 생산자의 다음 쓰기가 실패하여 읽기가 바로 중단됩니다.
+ * 생산자는 정상 종료 시 {@link #close()}, 실패 시 {@link #fail(Throwable)} 를 호출해야 합니다.
+ */
+public class ReadAheadPipe implements WritableByteChannel {
+
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<ByteBuffer> free;
+    private final BlockingQueue<ByteBuffer> filled;
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+    private ByteBuffer current;
+
+    public ReadAheadPipe(int bufferCount, int bufferSize) {
+        this.free = new ArrayBlockingQueue<>(bufferCount);
+        // 데이터 버퍼 전부 + 종료 표시
+        this.filled = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            free.add(ByteBuffer.allocate(bufferSize));
+        }
+    }
+
+    /**
+     * 생산자: 데이터를 파이프에 씁니다. 빈 버퍼가 없으면 소비자가 버퍼를 반납할 때까지 기다립니다.
+     */
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        int written = src.remaining();
+        while (src.hasRemaining()) {
+            if (current == null) {
+                current = takeFree();
+            }
+            int length = Math.min(src.remaining(), current.remaining());
+            current.put(src.slice(src.position(), length));
+            src.position(src.position() + length);
+            if (!current.hasRemaining()) {
+                filled.add(current.flip());
+                current = null;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 생산자: 남은 데이터를 넘기고 정상 종료를 알립니다.
+     */
+    @Override
+    public void close() {
+        if (current != null) {
+            filled.add(current.flip());
+            current = null;
+        }
+        filled.add(END);
+    }
+
+    /**
+     * 생산자: 실패를 알립니다. 소비자는 받은 데이터까지 쓴 뒤 이 예외로 실패합니다.
+     * @param cause 실패 원인
+     */
+    public void fail(Throwable cause) {
+        failure = cause;
+        filled.offer(END);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !cancelled;
+    }
+
+    /**
+     * 소비자: 생산자가 종료할 때까지 데이터를 꺼내 출력 스트림에 씁니다.
+     * @param out 출력 스트림
+     * @throws IOException 출력 실패 또는 생산자 실패 시
+     */
+    public void drainTo(OutputStream out) throws IOException {
+        try {
+            while (true) {
+                ByteBuffer buffer = filled.take();
+                if (buffer == END) {
+                    if (failure != null) {
+                        throw new IOException("Producer failed: " + failure.getMessage(), failure);
+                    }
+                    return;
+                }
+                out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                free.add(buffer.clear());
+            }
+        } catch (InterruptedException e) {
+            cancelled = true;
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while draining pipe");
+        } catch (IOException | RuntimeException e) {
+            cancelled = true;
+            throw e;
+        }
+    }
+
+    private ByteBuffer takeFree() throws IOException {
+        try {
+            while (true) {
+                if (cancelled) {
+                    throw new IOException("Pipe closed by consumer");
+                }
+                ByteBuffer buffer = free.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for free buffer");
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package me.agfe.wedsnap.support;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 무압축(STORE) ZIP 스트림 생성기
+ * 항목 크기를 미리 알고 있으므로 전체 길이와 각 항목의 위치가 파일 목록만으로 결정됩니다.
+ * 덕분에 임시 파일 없이 바로 응답에 쓸 수 있고, 임의 바이트 구간만 다시 만들어 HTTP Range 이어받기를 지원합니다.
+ * CRC-32 는 데이터를 읽으면서 계산하여 데이터 뒤의 data descriptor 와 central directory 에 기록합니다.
+ * 4GB 이상의 항목/위치 또는 65535개 이상의 항목은 ZIP64 형식으로 기록합니다.
+ */
+public class StoredZipWriter {
+
+    /**
+     * ZIP 항목
+     * @param name ZIP 내부 경로
+     * @param path 원본 파일
+     * @param size 파일 크기
+     * @param lastModified 수정 시각 (ZIP 헤더의 날짜/시간)
+     */
+    public record Entry(String name, Path path, long size, Instant lastModified) {
+    }
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int END_SIZE = 22;
+
+    private static final long ZIP32_LIMIT = 0xFFFFFFFFL;
+    private static final int ZIP16_LIMIT = 0xFFFF;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    /** bit 3: CRC/크기를 데이터 뒤 data descriptor 에 기록, bit 11: 파일명 UTF-8 */
+    private static final int FLAGS = 1 << 3 | 1 << 11;
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+
+    private final List<Entry> entries;
+    private final Map<Entry, Long> crcCache;
+    private final int bufferSize;
+    private final byte[][] names;
+    private final long[] offsets;
+    private final long centralDirectoryOffset;
+    private final long centralDirectorySize;
+    private final boolean zip64End;
+    private final long length;
+
+    /**
+     * @param entries ZIP 항목 (이 순서대로 기록)
+     * @param crcCache 항목별 CRC-32 캐시 (이어받기 시 건너뛴 파일을 다시 읽지 않도록 사용)
+     * @param bufferSize 파일 읽기 버퍼 크기
+     */
+    public StoredZipWriter(List<Entry> entries, Map<Entry, Long> crcCache, int bufferSize) {
+        this.entries = List.copyOf(entries);
+        this.crcCache = crcCache;
+        this.bufferSize = bufferSize;
+        this.names = new byte[entries.size()][];
+        this.offsets = new long[entries.size()];
+
+        long position = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            names[i] = entries.get(i).name().getBytes(StandardCharsets.UTF_8);
+            offsets[i] = position;
+            position += localHeaderSize(i) + entries.get(i).size() + descriptorSize(i);
+        }
+        centralDirectoryOffset = position;
+        long centralSize = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            centralSize += CENTRAL_HEADER_SIZE + names[i].length + centralExtraSize(i);
+        }
+        centralDirectorySize = centralSize;
+        zip64End = entries.size() >= ZIP16_LIMIT || centralDirectoryOffset >= ZIP32_LIMIT
+                   || centralDirectorySize >= ZIP32_LIMIT;
+        length = centralDirectoryOffset + centralDirectorySize + (zip64End ? ZIP64_END_SIZE + ZIP64_LOCATOR_SIZE : 0)
+                 + END_SIZE;
+    }
+
+    /**
+     * @return ZIP 전체 길이 (bytes)
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * ZIP 전체를 기록합니다.
+     * @param out 출력 채널
+     * @throws IOException 파일 읽기/출력 실패 시
+     */
+    public void write(WritableByteChannel out) throws IOException {
+        write(out, 0, length);
+    }
+
+    /**
+     * ZIP 의 [from, to) 구간만 기록합니다.
+     * 구간 앞쪽 파일은 CRC 가 필요한 경우(캐시에 없고 구간에 descriptor/central directory 가 포함될 때)에만 다시 읽습니다.
+     * @param out 출력 채널
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (미포함)
+     * @throws IOException 파일 읽기/출력 실패 시
+     */
+    public void write(WritableByteChannel out, long from, long to) throws IOException {
+        if (from < 0 || to > length || from > to) {
+            throw new IllegalArgumentException("Invalid range: " + from + "-" + to + " of " + length);
+        }
+
+        RangeSink sink = new RangeSink(out, from, to);
+        boolean centralNeeded = to > centralDirectoryOffset;
+        long[] crcs = new long[entries.size()];
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+
+        for (int i = 0; i < entries.size() && sink.position < to; i++) {
+            Entry entry = entries.get(i);
+            sink.write(localHeader(i));
+
+            long dataStart = sink.position;
+            long dataEnd = dataStart + entry.size();
+            boolean crcNeeded = centralNeeded || sink.overlaps(dataEnd, dataEnd + descriptorSize(i));
+            Long cached = crcCache.get(entry);
+            if (crcNeeded && cached == null) {
+                crcs[i] = copy(entry, sink, buffer, true);
+                crcCache.put(entry, crcs[i]);
+            } else if (sink.overlaps(dataStart, dataEnd)) {
+                copy(entry, sink, buffer, false);
+            } else {
+                sink.skip(entry.size());
+            }
+            if (cached != null) {
+                crcs[i] = cached;
+            }
+
+            if (crcNeeded) {
+                sink.write(descriptor(i, crcs[i]));
+            } else {
+                sink.skip(descriptorSize(i));
+            }
+        }
+
+        if (centralNeeded) {
+            for (int i = 0; i < entries.size(); i++) {
+                sink.write(centralHeader(i, crcs[i]));
+            }
+            sink.write(end());
+        }
+    }
+
+    /**
+     * 파일 데이터를 읽어 구간에 해당하는 부분을 기록합니다.
+     * @param wholeFile true 면 CRC 계산을 위해 파일 전체를 읽고, false 면 구간에 필요한 부분만 읽습니다.
+     * @return 파일 전체의 CRC-32 (wholeFile 이 false 면 의미 없음)
+     */
+    private long copy(Entry entry, RangeSink sink, ByteBuffer buffer, boolean wholeFile) throws IOException {
+        CRC32 crc = new CRC32();
+        long remaining = entry.size();
+        try (FileChannel channel = FileChannel.open(entry.path(), StandardOpenOption.READ)) {
+            if (!wholeFile && sink.position < sink.from) {
+                long skip = Math.min(sink.from - sink.position, remaining);
+                channel.position(skip);
+                sink.skip(skip);
+                remaining -= skip;
+            }
+            while (remaining > 0 && (wholeFile || sink.position < sink.to)) {
+                buffer.clear();
+                if (remaining < buffer.capacity()) {
+                    buffer.limit((int) remaining);
+                }
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("File shorter than expected: " + entry.path());
+                }
+                buffer.flip();
+                crc.update(buffer.duplicate());
+                remaining -= buffer.remaining();
+                sink.write(buffer);
+            }
+        }
+        sink.skip(remaining);
+        return crc.getValue();
+    }
+
+    private boolean zip64Entry(int i) {
+        return entries.get(i).size() >= ZIP32_LIMIT;
+    }
+
+    private int localHeaderSize(int i) {
+        return LOCAL_HEADER_SIZE + names[i].length + (zip64Entry(i) ? 20 : 0);
+    }
+
+    private int descriptorSize(int i) {
+        return zip64Entry(i) ? 24 : 16;
+    }
+
+    private int centralExtraSize(int i) {
+        int fields = (zip64Entry(i) ? 2 : 0) + (offsets[i] >= ZIP32_LIMIT ? 1 : 0);
+        return fields > 0 ? 4 + fields * 8 : 0;
+    }
+
+    private ByteBuffer localHeader(int i) {
+        boolean zip64 = zip64Entry(i);
+        ByteBuffer header = allocate(localHeaderSize(i));
+        header.putInt(LOCAL_HEADER_SIGNATURE)
+              .putShort((short) (zip64 ? VERSION_ZIP64 : VERSION))
+              .putShort((short) FLAGS)
+              .putShort((short) 0)
+              .putInt(dosTime(entries.get(i).lastModified()))
+              .putInt(0)
+              .putInt(zip64 ? (int) ZIP32_LIMIT : 0)
+              .putInt(zip64 ? (int) ZIP32_LIMIT : 0)
+              .putShort((short) names[i].length)
+              .putShort((short) (zip64 ? 20 : 0))
+              .put(names[i]);
+        if (zip64) {
+            // 크기는 data descriptor 에 기록
+            header.putShort((short) ZIP64_EXTRA_ID).putShort((short) 16).putLong(0).putLong(0);
+        }
+        return header.flip();
+    }
+
+    private ByteBuffer descriptor(int i, long crc) {
+        long size = entries.get(i).size();
+        ByteBuffer descriptor = allocate(descriptorSize(i));
+        descriptor.putInt(DATA_DESCRIPTOR_SIGNATURE).putInt((int) crc);
+        if (zip64Entry(i)) {
+            descriptor.putLong(size).putLong(size);
+        } else {
+            descriptor.putInt((int) size).putInt((int) size);
+        }
+        return descriptor.flip();
+    }
+
+    private ByteBuffer centralHeader(int i, long crc) {
+        Entry entry = entries.get(i);
+        boolean zip64Size = zip64Entry(i);
+        boolean zip64Offset = offsets[i] >= ZIP32_LIMIT;
+        int extraSize = centralExtraSize(i);
+        int version = extraSize > 0 ? VERSION_ZIP64 : VERSION;
+
+        ByteBuffer header = allocate(CENTRAL_HEADER_SIZE + names[i].length + extraSize);
+        header.putInt(CENTRAL_HEADER_SIGNATURE)
+              .putShort((short) version)
+              .putShort((short) version)
+              .putShort((short) FLAGS)
+              .putShort((short) 0)
+              .putInt(dosTime(entry.lastModified()))
+              .putInt((int) crc)
+              .putInt((int) Math.min(entry.size(), ZIP32_LIMIT))
+              .putInt((int) Math.min(entry.size(), ZIP32_LIMIT))
+              .putShort((short) names[i].length)
+              .putShort((short) extraSize)
+              .putShort((short) 0)
+              .putShort((short) 0)
+              .putShort((short) 0)
+              .putInt(0)
+              .putInt((int) Math.min(offsets[i], ZIP32_LIMIT))
+              .put(names[i]);
+        if (extraSize > 0) {
+            header.putShort((short) ZIP64_EXTRA_ID).putShort((short) (extraSize - 4));
+            if (zip64Size) {
+                header.putLong(entry.size()).putLong(entry.size());
+            }
+            if (zip64Offset) {
+                header.putLong(offsets[i]);
+            }
+        }
+        return header.flip();
+    }
+
+    private ByteBuffer end() {
+        ByteBuffer end = allocate((zip64End ? ZIP64_END_SIZE + ZIP64_LOCATOR_SIZE : 0) + END_SIZE);
+        long zip64EndOffset = centralDirectoryOffset + centralDirectorySize;
+        if (zip64End) {
+            end.putInt(ZIP64_END_SIGNATURE)
+               .putLong(ZIP64_END_SIZE - 12)
+               .putShort((short) VERSION_ZIP64)
+               .putShort((short) VERSION_ZIP64)
+               .putInt(0)
+               .putInt(0)
+               .putLong(entries.size())
+               .putLong(entries.size())
+               .putLong(centralDirectorySize)
+               .putLong(centralDirectoryOffset);
+            end.putInt(ZIP64_LOCATOR_SIGNATURE)
+               .putInt(0)
+               .putLong(zip64EndOffset)
+               .putInt(1);
+        }
+        end.putInt(END_SIGNATURE)
+           .putShort((short) 0)
+           .putShort((short) 0)
+           .putShort((short) Math.min(entries.size(), ZIP16_LIMIT))
+           .putShort((short) Math.min(entries.size(), ZIP16_LIMIT))
+           .putInt((int) Math.min(centralDirectorySize, ZIP32_LIMIT))
+           .putInt((int) Math.min(centralDirectoryOffset, ZIP32_LIMIT))
+           .putShort((short) 0);
+        return end.flip();
+    }
+
+    private static ByteBuffer allocate(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * MS-DOS 날짜/시간 형식 (로컬 시간, 2초 단위)
+     */
+    static int dosTime(Instant instant) {
+        LocalDateTime time = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        if (time.getYear() < 1980) {
+            return 1 << 21 | 1 << 16;
+        }
+        return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+               | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+
+    /**
+     * ZIP 전체 기준 현재 위치를 추적하며 [from, to) 구간에 해당하는 바이트만 출력하는 채널 래퍼
+     */
+    private static final class RangeSink {
+
+        private final WritableByteChannel out;
+        private final long from;
+        private final long to;
+        private long position;
+
+        RangeSink(WritableByteChannel out, long from, long to) {
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        void write(ByteBuffer buffer) throws IOException {
+            int length = buffer.remaining();
+            long start = Math.max(position, from);
+            long end = Math.min(position + length, to);
+            if (start < end) {
+                ByteBuffer slice = buffer.duplicate();
+                slice.limit(buffer.position() + (int) (end - position));
+                slice.position(buffer.position() + (int) (start - position));
+                while (slice.hasRemaining()) {
+                    out.write(slice);
+                }
+            }
+            position += length;
+        }
+
+        void skip(long length) {
+            position += length;
+        }
+
+        boolean overlaps(long start, long end) {
+            return start < to && end > from;
+        }
+    }
+}
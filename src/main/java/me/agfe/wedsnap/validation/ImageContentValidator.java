@@ -0,0 +1,124 @@
+package me.agfe.wedsnap.validation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.support.ImageHeaderSniffer;
+import me.agfe.wedsnap.support.ImageHeaderSniffer.ImageInfo;
+import me.agfe.wedsnap.support.PrefixedChannel;
+
+/**
+ * 이미지 내용 검증기
+ * 확장자만 바꾼 파일과 해상도가 비정상적으로 큰 이미지(디컴프레션 폭탄)를 NAS 에 쓰기 전에 걸러냅니다.
+ * 헤더에서 해상도를 찾지 못한 이미지(예: SOF 가 스캔 범위 밖이거나 없는 JPEG)는 픽셀 수를 확인할 수 없으므로 거부합니다.
+ */
+@Component
+public class ImageContentValidator {
+
+    /** 스트리밍 저장 시 검사를 위해 미리 읽는 앞부분 크기 (헤더가 더 길면 스캔 한도까지 이어서 읽음) */
+    static final int PREFIX_SIZE = 64 * 1024;
+
+    private final long maxPixels;
+
+    public ImageContentValidator(@Value("${wedsnap.upload.image.max-pixels}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 스트림 앞부분을 검사합니다.
+     * @param in 파일 시작 위치의 입력 스트림 (호출자가 닫음)
+     * @param fileName 오류 메시지에 표시할 파일명
+     * @return 판별 결과
+     * @throws IOException 읽기 실패 시
+     */
+    public ImageInfo validate(InputStream in, String fileName) throws IOException {
+        ImageInfo info = ImageHeaderSniffer.sniff(in);
+        if (info == null || info.width() == 0 || info.height() == 0) {
+            throw new WedSnapException(ErrorCode.INVALID_IMAGE_CONTENT, "파일명: " + fileName);
+        }
+        if (!info.hasDimensions()) {
+            throw new WedSnapException(ErrorCode.INVALID_IMAGE_CONTENT, "파일명: " + fileName + " (해상도를 확인할 수 없음)");
+        }
+        if (info.pixels() > maxPixels) {
+            throw new WedSnapException(ErrorCode.IMAGE_DIMENSIONS_EXCEEDED,
+                                       "파일명: " + fileName + " (" + info.width() + "x" + info.height() + ")");
+        }
+        return info;
+    }
+
+    /**
+     * 채널 앞부분을 읽어 검사한 뒤, 읽은 부분을 포함한 원본 내용을 그대로 돌려주는 채널을 반환합니다.
+     * 해상도가 앞부분 뒤에 있으면(큰 EXIF/ICC 세그먼트) 찾을 때까지 스캔 한도 안에서 채널을 이어 읽습니다.
+     * 빈 본문은 검사하지 않으므로 빈 파일 판정은 저장소에서 그대로 이루어집니다.
+     * @param source 본문 채널
+     * @param fileName 오류 메시지에 표시할 파일명
+     * @return 원본 내용을 처음부터 읽는 채널
+     * @throws IOException 읽기 실패 시
+     */
+    public ReadableByteChannel validate(ReadableByteChannel source, String fileName) throws IOException {
+        ByteBuffer prefix = ByteBuffer.allocate(PREFIX_SIZE);
+        while (prefix.hasRemaining() && source.read(prefix) >= 0) {
+            // 앞부분이 찰 때까지 읽음
+        }
+        prefix.flip();
+
+        if (!prefix.hasRemaining()) {
+            return new PrefixedChannel(prefix, source);
+        }
+
+        // 검사 중 앞부분 뒤에서 더 읽은 내용은 저장 시 복원하기 위해 보관
+        ByteArrayOutputStream overflow = new ByteArrayOutputStream();
+        InputStream rest = new RecordingInputStream(Channels.newInputStream(source), overflow);
+        validate(new SequenceInputStream(new ByteArrayInputStream(prefix.array(), 0, prefix.limit()), rest), fileName);
+        if (overflow.size() == 0) {
+            return new PrefixedChannel(prefix, source);
+        }
+
+        ByteBuffer consumed = ByteBuffer.allocate(prefix.limit() + overflow.size());
+        consumed.put(prefix).put(overflow.toByteArray()).flip();
+        return new PrefixedChannel(consumed, source);
+    }
+
+    /**
+     * 읽은 바이트를 그대로 기록하는 스트림 (skip 도 read 로 처리되어 기록됨)
+     */
+    private static final class RecordingInputStream extends InputStream {
+
+        private final InputStream in;
+        private final ByteArrayOutputStream record;
+
+        RecordingInputStream(InputStream in, ByteArrayOutputStream record) {
+            this.in = in;
+            this.record = record;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                record.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                record.write(b, off, n);
+            }
+            return n;
+        }
+    }
+}
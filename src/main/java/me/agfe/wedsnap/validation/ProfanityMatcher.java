@@ -0,0 +1,198 @@
+package me.agfe.wedsnap.validation;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+import com.vane.badwordfiltering.BadWordFiltering;
+
+/**
+ * 비속어 다중 패턴 매처 (Aho-Corasick)
+ * 단어 목록을 한 번만 오토마톤으로 만들어 두고, 입력 길이에 비례하는 한 번의 순회로 모든 단어를 동시에 찾습니다.
+ * 입력과 단어는 같은 방식으로 정규화합니다.
+ * - 공백/기호 제거 ("시 발", "시.발")
+ * - 음절을 자모로 분해하고 호환 자모도 같은 자모로 취급 ("ㅅㅣ발")
+ * 자모 단위로 비교하므로 받침 없는 음절로 끝나는 단어가 받침 있는 음절의 앞부분과 겹치지 않도록,
+ * 매칭 끝이 음절 경계일 때만 인정합니다. (예: "보지" 는 "보직" 에 매칭되지 않음)
+ * 같은 이름으로 재시도하는 경우가 많으므로 최근 입력의 결과를 작은 LRU 캐시에 보관합니다.
+ */
+public final class ProfanityMatcher {
+
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    /** 이보다 긴 입력은 캐시하지 않음 (업로더 이름은 20자 이하) */
+    private static final int MAX_CACHED_LENGTH = 64;
+
+    private static final char JUNGSEONG_FIRST = '\u1161';
+    private static final char JUNGSEONG_LAST = '\u11A7';
+    private static final char JONGSEONG_FIRST = '\u11A8';
+    private static final char JONGSEONG_LAST = '\u11FF';
+
+    /** 상태별 전이 문자 (오름차순) */
+    private final char[][] keys;
+    /** 상태별 전이 대상 (keys 와 같은 순서) */
+    private final int[][] targets;
+    private final int[] fail;
+    /** 이 상태(또는 실패 링크로 이어진 상태)에서 끝나는 단어가 있는지 */
+    private final boolean[] terminal;
+    private final Map<String, Boolean> recent;
+
+    /**
+     * @param words 비속어 목록
+     * @param cacheSize 최근 입력 결과 캐시 크기 (0 이면 캐시 안 함)
+     */
+    public ProfanityMatcher(Collection<String> words, int cacheSize) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(false);
+        for (String word : words) {
+            String pattern = normalize(word);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = trie.get(state).get(pattern.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(pattern.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    ends.add(false);
+                }
+                state = next;
+            }
+            ends.set(state, true);
+        }
+
+        int size = trie.size();
+        this.keys = new char[size][];
+        this.targets = new int[size][];
+        this.fail = new int[size];
+        this.terminal = new boolean[size];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            keys[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int index = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[state][index] = edge.getKey();
+                targets[state][index++] = edge.getValue();
+            }
+            terminal[state] = ends.get(state);
+        }
+
+        // 너비 우선으로 실패 링크 계산 (부모의 실패 링크가 먼저 정해져 있어야 함)
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                int child = targets[state][i];
+                fail[child] = transition(fail[state], keys[state][i]);
+                terminal[child] |= terminal[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        this.recent = cacheSize > 0 ? Collections.synchronizedMap(new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        }) : null;
+    }
+
+    /**
+     * badwordfiltering 라이브러리의 단어 목록으로 만든 공용 인스턴스
+     */
+    public static ProfanityMatcher shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @param text 검사할 문자열
+     * @return 비속어 포함 여부
+     */
+    public boolean containsProfanity(String text) {
+        if (recent == null || text.length() > MAX_CACHED_LENGTH) {
+            return matches(normalize(text));
+        }
+        Boolean cached = recent.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = matches(normalize(text));
+        recent.put(text, result);
+        return result;
+    }
+
+    private boolean matches(String text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transition(state, text.charAt(i));
+            if (terminal[state] && endsOnSyllableBoundary(text, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 전이가 없으면 실패 링크를 따라 올라가며 찾고, 루트에서도 없으면 루트에 머뭅니다.
+     */
+    private int transition(int state, char c) {
+        while (true) {
+            int index = Arrays.binarySearch(keys[state], c);
+            if (index >= 0) {
+                return targets[state][index];
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    /**
+     * 모음으로 끝난 매칭 바로 뒤에 받침이 오면 음절 중간에서 끝난 것
+     * (같은 상태에서 끝나는 단어는 모두 마지막 문자가 같으므로 단어별로 따로 볼 필요 없음)
+     */
+    private static boolean endsOnSyllableBoundary(String text, int end) {
+        char last = text.charAt(end);
+        if (last < JUNGSEONG_FIRST || last > JUNGSEONG_LAST || end + 1 >= text.length()) {
+            return true;
+        }
+        char next = text.charAt(end + 1);
+        return next < JONGSEONG_FIRST || next > JONGSEONG_LAST;
+    }
+
+    /**
+     * 음절/호환 자모를 조합형 자모로 분해(NFKD)하고, 문자와 숫자만 남긴 뒤 영문은 소문자로 바꿉니다.
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Holder {
+        private static final ProfanityMatcher INSTANCE = new ProfanityMatcher(new BadWordFiltering(), DEFAULT_CACHE_SIZE);
+    }
+}
@@ -1,16 +1,18 @@
 package me.agfe.wedsnap.validation;
 
-import com.vane.badwordfiltering.BadWordFiltering;
-
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+/**
+ * 비속어 포함 여부 검증
+ * 단어 목록 오토마톤과 최근 결과 캐시는 모든 검증기 인스턴스가 공유합니다. ({@link ProfanityMatcher#shared()})
+ */
 public class ProfanityValidator implements ConstraintValidator<NoProfanity, String> {
 
-    private final BadWordFiltering badWordFiltering;
+    private final ProfanityMatcher profanityMatcher;
 
     public ProfanityValidator() {
-        this.badWordFiltering = new BadWordFiltering();
+        this.profanityMatcher = ProfanityMatcher.shared();
     }
 
     @Override
@@ -19,6 +21,6 @@ public class ProfanityValidator implements ConstraintValidator<NoProfanity, Stri
             return true;
         }
 
-        return !badWordFiltering.blankCheck(value);
+        return !profanityMatcher.containsProfanity(value);
     }
 }
@@ -0,0 +1,32 @@
+package me.agfe.wedsnap.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 업로더 이름 검증 규칙 묶음
+ * 일반 업로드 API의 요청 파라미터와 스트리밍 업로드의 폼 필드에 같은 규칙을 적용하기 위해 사용합니다.
+ */
+@Documented
+@NoProfanity
+@Pattern(regexp = "^[가-힣a-zA-Z0-9]*$", message = "이름에는 특수문자나 공백을 포함할 수 없습니다.")
+@Size(min = 2, max = 20, message = "이름은 2자 이상 20자 이하로 입력해야 합니다.")
+@Constraint(validatedBy = {})
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UploaderName {
+
+    String message() default "업로더 이름이 유효하지 않습니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
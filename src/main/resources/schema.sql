@@ -0,0 +1,24 @@
+-- 업로드 파일 메타데이터 (저장된 파일 1개당 1행)
+CREATE TABLE IF NOT EXISTS stored_file (
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_name    VARCHAR(100)  NOT NULL,
+    uploader_name VARCHAR(100)  NOT NULL,
+    stored_name   VARCHAR(255)  NOT NULL,
+    original_name VARCHAR(255)  NOT NULL,
+    size          BIGINT        NOT NULL,
+    sha256        CHAR(64),
+    uploaded_at   TIMESTAMP(3)  NOT NULL,
+    -- 브라우저에서 줄여 보낸 경우 원본 해상도/크기 (원본 그대로 보낸 경우 NULL)
+    original_width  INT,
+    original_height INT,
+    original_size   BIGINT,
+    CONSTRAINT uk_stored_file_path UNIQUE (event_name, uploader_name, stored_name)
+);
+
+-- 원본 정보 컬럼 추가 전에 만들어진 데이터베이스
+ALTER TABLE stored_file ADD COLUMN IF NOT EXISTS original_width INT;
+ALTER TABLE stored_file ADD COLUMN IF NOT EXISTS original_height INT;
+ALTER TABLE stored_file ADD COLUMN IF NOT EXISTS original_size BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_stored_file_event ON stored_file (event_name, uploaded_at);
+CREATE INDEX IF NOT EXISTS idx_stored_file_uploader ON stored_file (event_name, uploader_name, uploaded_at);
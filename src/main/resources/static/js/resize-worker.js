@@ -0,0 +1,22 @@
+// 업로드 전 사진 축소/재인코딩 워커 (메인 스레드의 UI 가 멈추지 않도록 디코딩과 인코딩을 여기서 처리)
+// 요청: { id, file, maxEdge, quality } → 응답: { id, blob, width, height } 또는 { id, error }
+// width/height 는 EXIF 방향을 반영한 원본 크기, blob 은 긴 변이 maxEdge 이하인 JPEG
+
+self.onmessage = async (event) => {
+  const { id, file, maxEdge, quality } = event.data;
+  try {
+    const bitmap = await createImageBitmap(file, { imageOrientation: 'from-image' });
+    const { width, height } = bitmap;
+    const scale = Math.min(1, maxEdge / Math.max(width, height));
+    const canvas = new OffscreenCanvas(Math.round(width * scale), Math.round(height * scale));
+    const context = canvas.getContext('2d');
+    context.imageSmoothingQuality = 'high';
+    context.drawImage(bitmap, 0, 0, canvas.width, canvas.height);
+    bitmap.close();
+
+    const blob = await canvas.convertToBlob({ type: 'image/jpeg', quality });
+    self.postMessage({ id, blob, width, height });
+  } catch (error) {
+    self.postMessage({ id, error: error.message || String(error) });
+  }
+};
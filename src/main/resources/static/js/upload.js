@@ -5,6 +5,35 @@ let isShowingToast = false;
 const MAX_FILES = 20; // 최대 20장으로 제한
 const MAX_FILE_SIZE = 20 * 1024 * 1024; // 10MB
 const ALLOWED_TYPES = ['image/jpeg', 'image/jpg', 'image/png', 'image/gif', 'image/heic', 'image/heif'];
+const EVENT_NAME = 'devEvent';
+const RESUMABLE_THRESHOLD = 20 * 1024 * 1024; // 이보다 큰 묶음은 이어받기 업로드 사용
+const CHUNK_CONCURRENCY = 3; // 동시에 전송할 청크 수
+const CHUNK_MAX_RETRIES = 5;
+const UPLOAD_MAX_RETRIES = 5; // 서버 혼잡(429)/네트워크 오류 시 일반 업로드 재시도 횟수
+const PER_FILE_MIN_CONCURRENCY = 2; // 파일별 업로드 동시 전송 수 (성공하면 늘리고, 재시도가 생기면 최소로 낮춤)
+const PER_FILE_MAX_CONCURRENCY = 4;
+const JOB_POLL_INTERVAL = 1000; // 비동기 업로드 작업 상태 조회 간격 (ms)
+const RESUMABLE_STORAGE_KEY = 'wedsnap.resumableUpload';
+// 내용 해시가 들어간 워커 URL (템플릿이 script 태그에 넣어 줌)
+const RESIZE_WORKER_URL = document.currentScript?.dataset.resizeWorkerUrl || '/js/resize-worker.js';
+const RESIZABLE_TYPES = ['image/jpeg', 'image/jpg']; // 이름/형식을 그대로 둘 수 있는 JPEG 만 줄여서 전송
+
+const THUMBNAIL_SIZE = 240; // 미리보기 너비 (CSS px, 고해상도 화면은 최대 2배로 디코딩)
+const THUMBNAIL_QUALITY = 0.8;
+const THUMBNAIL_CONCURRENCY = 2; // 동시에 디코딩할 사진 수 (디코딩 중에는 원본 해상도만큼 메모리 사용)
+
+// 이벤트별 업로드 설정 (서버 조회 실패 시 원본 그대로 전송)
+let uploadOptions = { clientResize: false };
+
+// 미리보기: File → Promise<줄인 JPEG 의 object URL, 만들 수 없으면 null>
+// 선택 해제된 파일의 URL 은 releaseThumbnails 에서 해제
+const thumbnails = new Map();
+const thumbnailTargets = new WeakMap();
+const thumbnailObserver = 'IntersectionObserver' in window
+    ? new IntersectionObserver(handleThumbnailVisible, { rootMargin: '200px' })
+    : null;
+let activeDecodes = 0;
+const decodeWaiters = [];
 
 // DOM 요소
 const fileInput = document.getElementById('fileInput');
@@ -54,6 +83,7 @@ document.addEventListener('DOMContentLoaded', () => {
     updateUploadButtonState();
   });
   uploadBtn.addEventListener('click', handleUpload);
+  loadUploadOptions();
   closeModalBtn.addEventListener('click', closeModal);
   closeErrorModalBtn.addEventListener('click', closeErrorModal);
 
@@ -275,6 +305,46 @@ function getErrorMessage(errorCode) {
       emoji: '❌',
       title: '업로드 실패',
       message: '파일 업로드 처리 중 오류가 발생했습니다.\n잠시 후 다시 시도해주세요.'
+    },
+    'INVALID_IMAGE_CONTENT': {
+      emoji: '🖼️',
+      title: '사진 파일이 아니에요',
+      message: '파일 내용이 사진 형식이 아닙니다.\nJPG, PNG, GIF, HEIC 사진만 업로드 가능합니다.'
+    },
+    'IMAGE_DIMENSIONS_EXCEEDED': {
+      emoji: '📐',
+      title: '사진 해상도가 너무 커요',
+      message: '사진 해상도가 허용 범위를 초과했습니다.\n다른 사진을 선택해주세요.'
+    },
+    'UPLOAD_JOB_NOT_FOUND': {
+      emoji: '⌛',
+      title: '업로드 결과를 확인할 수 없어요',
+      message: '업로드 결과 보관 기간이 지났습니다.\n갤러리에서 사진이 올라갔는지 확인해주세요.'
+    },
+    'UPLOAD_BATCH_NOT_FOUND': {
+      emoji: '⌛',
+      title: '업로드가 만료되었어요',
+      message: '업로드를 시작한 지 오래되었습니다.\n다시 업로드해주세요.'
+    },
+    'UPLOAD_THROTTLED': {
+      emoji: '⏳',
+      title: '업로드가 몰리고 있어요',
+      message: '지금 사진을 올리는 분이 많습니다.\n잠시 후 다시 시도해주세요.'
+    },
+    'UPLOAD_SESSION_NOT_FOUND': {
+      emoji: '⌛',
+      title: '업로드가 만료되었어요',
+      message: '이전 업로드 정보가 만료되었습니다.\n다시 업로드해주세요.'
+    },
+    'INVALID_CHUNK': {
+      emoji: '🔄',
+      title: '전송 오류',
+      message: '사진 전송 중 데이터가 손상되었습니다.\n다시 업로드해주세요.'
+    },
+    'UPLOAD_INCOMPLETE': {
+      emoji: '📡',
+      title: '전송이 끝나지 않았어요',
+      message: '일부 사진이 아직 전송되지 않았습니다.\n다시 업로드하면 이어서 전송합니다.'
     }
   };
 
@@ -376,6 +446,9 @@ function updatePreviewArea() {
 
   previewArea.style.display = 'block';
   photoCount.textContent = selectedFiles.length;
+  if (thumbnailObserver) {
+    thumbnailObserver.disconnect();
+  }
   thumbnailGrid.innerHTML = '';
 
   selectedFiles.forEach((file, index) => {
@@ -394,13 +467,15 @@ function createThumbnail(file, index) {
   const img = document.createElement('img');
   img.className = 'thumbnail-img';
   img.alt = file.name;
+  img.decoding = 'async';
 
-  // 표파일을 읽어서 이미지 시
-  const reader = new FileReader();
-  reader.onload = (e) => {
-    img.src = e.target.result;
-  };
-  reader.readAsDataURL(file);
+  // 화면 근처에 보일 때 줄인 미리보기를 만들어 표시 (원본을 data URL 로 읽지 않음)
+  if (thumbnailObserver && !thumbnails.has(file)) {
+    thumbnailTargets.set(item, { img, file });
+    thumbnailObserver.observe(item);
+  } else {
+    showThumbnail(item, img, file);
+  }
 
   // 삭제 버튼
   const deleteBtn = document.createElement('button');
@@ -420,10 +495,109 @@ function createThumbnail(file, index) {
  */
 function removeThumbnail(index) {
   selectedFiles.splice(index, 1);
+  releaseThumbnails();
   updatePreviewArea();
   updateUploadButtonState();
 }
 
+/**
+ * 화면에 들어온 썸네일의 미리보기 생성
+ */
+function handleThumbnailVisible(entries) {
+  entries.forEach(entry => {
+    if (!entry.isIntersecting) {
+      return;
+    }
+    thumbnailObserver.unobserve(entry.target);
+    const target = thumbnailTargets.get(entry.target);
+    if (target) {
+      showThumbnail(entry.target, target.img, target.file);
+    }
+  });
+}
+
+async function showThumbnail(item, img, file) {
+  if (!thumbnails.has(file)) {
+    thumbnails.set(file, renderThumbnail(file));
+  }
+  const url = await thumbnails.get(file);
+  if (url) {
+    img.src = url;
+  } else {
+    // 브라우저가 디코딩하지 못하는 형식(HEIC 등)은 확장자만 표시
+    item.classList.add('thumbnail-unavailable');
+    item.dataset.label = (file.name.split('.').pop() || '').toUpperCase();
+  }
+}
+
+/**
+ * 미리보기 크기로 디코딩한 뒤 작은 JPEG 로 인코딩하여 object URL 로 반환
+ * createImageBitmap 을 지원하지 않으면 원본 파일의 object URL 을 사용 (복사본 없이 브라우저가 디코딩)
+ */
+function renderThumbnail(file) {
+  return withDecodeSlot(async () => {
+    if (!selectedFiles.includes(file)) {
+      return null;
+    }
+    if (typeof createImageBitmap !== 'function') {
+      return URL.createObjectURL(file);
+    }
+    try {
+      const bitmap = await createImageBitmap(file, {
+        resizeWidth: Math.round(THUMBNAIL_SIZE * Math.min(2, window.devicePixelRatio || 1)),
+        resizeQuality: 'medium',
+        imageOrientation: 'from-image'
+      });
+      const canvas = document.createElement('canvas');
+      canvas.width = bitmap.width;
+      canvas.height = bitmap.height;
+      canvas.getContext('2d').drawImage(bitmap, 0, 0);
+      bitmap.close();
+      const blob = await new Promise(resolve => canvas.toBlob(resolve, 'image/jpeg', THUMBNAIL_QUALITY));
+      canvas.width = 0;
+      canvas.height = 0;
+      return blob ? URL.createObjectURL(blob) : null;
+    } catch (error) {
+      return null;
+    }
+  });
+}
+
+/**
+ * 동시 디코딩 수를 THUMBNAIL_CONCURRENCY 로 제한
+ */
+async function withDecodeSlot(task) {
+  while (activeDecodes >= THUMBNAIL_CONCURRENCY) {
+    await new Promise(resolve => decodeWaiters.push(resolve));
+  }
+  activeDecodes++;
+  try {
+    return await task();
+  } finally {
+    activeDecodes--;
+    const next = decodeWaiters.shift();
+    if (next) {
+      next();
+    }
+  }
+}
+
+/**
+ * 선택 목록에 없는 파일의 미리보기 URL 해제 (생성 중인 미리보기는 완료 후 해제)
+ */
+function releaseThumbnails() {
+  thumbnails.forEach((promise, file) => {
+    if (!selectedFiles.includes(file)) {
+      thumbnails.delete(file);
+      promise.then(url => {
+        if (url) {
+          URL.revokeObjectURL(url);
+        }
+      });
+    }
+  });
+}
+
 /**
  * 업로드 버튼 상태 업데이트
  */
@@ -454,118 +628,652 @@ async function handleUpload() {
   uploadBtn.disabled = true;
   progressSection.style.display = 'block';
 
+  // 이벤트가 축소 업로드를 선택했으면 전송 전에 사진을 줄임 (실패한 사진은 원본 그대로 전송)
+  const prepared = await prepareFiles(selectedFiles);
+
+  // 서버가 지원하면 사진을 한 장씩 별도 요청으로 보내고, 실패한 사진만 다시 전송
+  if (uploadOptions.perFileUpload) {
+    try {
+      handleUploadResponse(await uploadPerFile(userName, prepared));
+    } catch (error) {
+      console.error('Per-file upload error:', error);
+      showUploadFailure(error);
+    }
+    return;
+  }
+
+  // 큰 묶음은 연결이 끊겨도 이어서 보낼 수 있도록 청크 단위로 전송
+  const totalSize = prepared.reduce((sum, item) => sum + item.file.size, 0);
+  if (totalSize > RESUMABLE_THRESHOLD) {
+    await handleResumableUpload(userName, prepared.map(item => item.file), prepared.map(item => item.originalInfo || ''));
+    return;
+  }
+
   try {
+    // 스트리밍 업로드 시 서버가 이름을 먼저 확인하므로 uploaderName 을 파일보다 먼저 추가
+    // 원본 정보는 파일마다 바로 앞에 추가 (줄이지 않은 파일은 빈 값)
     const formData = new FormData();
     formData.append('uploaderName', userName);
-    selectedFiles.forEach(file => {
-      formData.append('files', file);
+    prepared.forEach(item => {
+      formData.append('originalInfo', item.originalInfo || '');
+      formData.append('files', item.file);
     });
 
-    // XMLHttpRequest를 사용하여 실제 업로드 진행률 추적
-    const xhr = new XMLHttpRequest();
+    // 서버가 혼잡하면 429 와 Retry-After 로 거절하므로 안내된 시간만큼 기다렸다가 다시 전송
+    // 429 는 본문을 읽기 전에 거절된 것이므로 그대로 다시 보내도 되지만, 네트워크 오류/5xx 는 서버가 업로더명을
+    // 이미 예약하고 일부 사진을 저장했을 수 있어 전체를 다시 보내면 새 업로더 폴더가 생기므로 자동으로 재전송하지 않음
+    const response = await withRetry(() => sendUpload(formData, prepared.length), UPLOAD_MAX_RETRIES, (error, delay) => {
+      progressText.textContent = `업로드가 몰려 ${Math.ceil(delay / 1000)}초 후 자동으로 다시 시도합니다`;
+    }, isThrottled);
+    // 202 로 접수된 경우 서버가 저장을 마칠 때까지 작업 상태를 조회
+    handleUploadResponse(response.data && response.data.jobId ? await waitForJob(response.data) : response);
+  } catch (error) {
+    console.error('Upload error:', error);
+    showUploadFailure(error);
+  }
+}
 
-    // 진행률 이벤트 핸들러
+/**
+ * 업로드 요청 실패 표시 (일반 업로드와 파일별 업로드 공통)
+ */
+function showUploadFailure(error) {
+  if (!(error instanceof UploadApiError)) {
+    showToast('업로드 중 오류가 발생했습니다.\n' + error.message, 4000);
+    resetUploadState();
+  } else if (error.status === 0) {
+    showErrorModal('📡 네트워크 오류', '네트워크 연결이 불안정합니다.\n인터넷 연결 상태를 확인해주세요.');
+    resetUploadState();
+  } else {
+    showUploadError(error.errorCode);
+  }
+}
+
+/**
+ * 파일별 업로드
+ * 묶음을 만들어 업로더명을 한 번 예약한 뒤, 사진을 2~4장씩 동시에 별도 요청으로 보냅니다.
+ * 사진마다 따로 재시도하므로 한 장이 느리거나 연결이 끊겨도 나머지 사진은 계속 전송됩니다.
+ * 결과는 일반 업로드 응답과 같은 형태로 합쳐서 반환합니다.
+ */
+async function uploadPerFile(userName, prepared) {
+  // 묶음 생성도 업로더명을 예약하므로 거절(429)된 경우에만 다시 요청
+  const batch = (await withRetry(() => requestJson('POST', `/api/events/${EVENT_NAME}/upload-batches`,
+      { uploaderName: userName }), UPLOAD_MAX_RETRIES, undefined, isThrottled)).data;
+
+  const totalBytes = prepared.reduce((sum, item) => sum + item.file.size, 0);
+  const loaded = prepared.map(() => 0);
+  const reportProgress = () => {
+    const sum = loaded.reduce((a, b) => a + b, 0);
+    updateProgress(Math.min(99, Math.round((sum / totalBytes) * 100)));
+  };
+
+  const failedFiles = [];
+  const duplicateFiles = [];
+  let successCount = 0;
+  let lastError = null;
+  let concurrency = PER_FILE_MIN_CONCURRENCY;
+
+  await runWithAdaptiveConcurrency(prepared, () => concurrency, async (item, index) => {
+    const url = `/api/events/${EVENT_NAME}/upload-batches/${batch.batchId}/files`;
+    try {
+      const response = await withRetry(() => {
+        const formData = new FormData();
+        formData.append('originalInfo', item.originalInfo || '');
+        formData.append('file', item.file);
+        return sendForm(url, formData, {}, bytes => {
+          loaded[index] = Math.min(item.file.size, bytes);
+          reportProgress();
+        });
+      }, UPLOAD_MAX_RETRIES, (error, delay) => {
+        // 혼잡/연결 불안정 신호이므로 동시 전송 수를 최소로 낮춤
+        concurrency = PER_FILE_MIN_CONCURRENCY;
+        loaded[index] = 0;
+        progressText.textContent = error.status === 429
+            ? `업로드가 몰려 ${Math.ceil(delay / 1000)}초 후 자동으로 다시 시도합니다`
+            : `연결이 불안정해 ${Math.ceil(delay / 1000)}초 후 다시 시도합니다`;
+      });
+      successCount++;
+      if (response.data && response.data.duplicateCount > 0) {
+        duplicateFiles.push(item.file.name);
+      }
+      concurrency = Math.min(PER_FILE_MAX_CONCURRENCY, concurrency + 1);
+    } catch (error) {
+      if (!(error instanceof UploadApiError)) {
+        throw error;
+      }
+      failedFiles.push(item.file.name);
+      lastError = error;
+    }
+    loaded[index] = item.file.size;
+    reportProgress();
+  });
+
+  // 모두 실패했으면 마지막 오류로 안내 (네트워크 오류/서버 오류 구분)
+  if (successCount === 0 && lastError) {
+    throw lastError;
+  }
+  updateProgress(100);
+  return {
+    result: true,
+    data: {
+      eventName: batch.eventName,
+      uploaderName: batch.uploaderName,
+      totalFiles: prepared.length,
+      successCount,
+      failCount: failedFiles.length,
+      failedFiles,
+      duplicateCount: duplicateFiles.length,
+      duplicateFiles
+    }
+  };
+}
+
+/**
+ * 작업을 동시에 실행하되, 동시 실행 수는 작업을 시작할 때마다 getLimit() 으로 다시 확인
+ * (실행 중에 늘리거나 줄일 수 있음, 하나라도 예외로 끝나면 남은 작업은 시작하지 않음)
+ */
+function runWithAdaptiveConcurrency(items, getLimit, worker) {
+  return new Promise((resolve, reject) => {
+    let next = 0;
+    let active = 0;
+    let failed = false;
+    const pump = () => {
+      if (failed) {
+        return;
+      }
+      if (next >= items.length && active === 0) {
+        resolve();
+        return;
+      }
+      while (active < getLimit() && next < items.length) {
+        const index = next++;
+        active++;
+        worker(items[index], index).then(() => {
+          active--;
+          pump();
+        }, error => {
+          failed = true;
+          reject(error);
+        });
+      }
+    };
+    pump();
+  });
+}
+
+/**
+ * 이벤트별 업로드 설정 조회
+ */
+async function loadUploadOptions() {
+  try {
+    const response = await requestJson('GET', `/api/events/${EVENT_NAME}/upload-options`);
+    uploadOptions = response.data;
+  } catch (error) {
+    console.warn('Upload options unavailable:', error);
+  }
+}
+
+/**
+ * 브라우저에서 사진 축소가 가능한지 여부 (워커에서 디코딩/인코딩)
+ */
+function supportsClientResize() {
+  return typeof Worker !== 'undefined' &&
+         typeof OffscreenCanvas !== 'undefined' &&
+         typeof createImageBitmap === 'function';
+}
+
+/**
+ * 업로드할 파일 준비
+ * 축소 업로드가 켜진 이벤트면 JPEG 사진을 긴 변 maxEdge 이하로 줄여 다시 인코딩합니다.
+ * 파일명은 그대로 두고, 원본 크기/용량은 originalInfo("{width}x{height}:{bytes}")로 서버에 알립니다.
+ * 줄여도 작아지지 않거나 디코딩에 실패한 사진은 원본 그대로 보냅니다.
+ * @returns {Promise<Array<{file: File, originalInfo: string|null}>>}
+ */
+async function prepareFiles(files) {
+  const prepared = files.map(file => ({ file, originalInfo: null }));
+  if (!uploadOptions.clientResize || !supportsClientResize()) {
+    return prepared;
+  }
+
+  const targets = prepared.filter(item => RESIZABLE_TYPES.includes(item.file.type.toLowerCase()));
+  if (targets.length === 0) {
+    return prepared;
+  }
+
+  // 디코딩한 사진은 장당 수십 MB 를 차지하므로 워커 하나에서 한 장씩 처리
+  let worker = null;
+  try {
+    worker = new Worker(RESIZE_WORKER_URL);
+    for (let i = 0; i < targets.length; i++) {
+      progressText.textContent = `사진 크기를 줄이는 중... (${i + 1}/${targets.length})`;
+      const item = targets[i];
+      const result = await resizeInWorker(worker, i, item.file);
+      if (result.error) {
+        console.warn('Resize failed, sending original:', item.file.name, result.error);
+      } else if (result.blob.size < item.file.size) {
+        item.originalInfo = `${result.width}x${result.height}:${item.file.size}`;
+        item.file = new File([result.blob], item.file.name, {
+          type: 'image/jpeg',
+          lastModified: item.file.lastModified
+        });
+      }
+    }
+  } catch (error) {
+    // 워커를 쓸 수 없으면 남은 사진은 원본 그대로 전송
+    console.warn('Client resize unavailable:', error);
+  } finally {
+    if (worker) {
+      worker.terminate();
+    }
+  }
+  progressText.textContent = '업로드 중... 0%';
+  return prepared;
+}
+
+/**
+ * 워커에 사진 1장 축소를 요청하고 결과를 기다림 (워커 자체 오류도 error 로 반환)
+ */
+function resizeInWorker(worker, id, file) {
+  return new Promise(resolve => {
+    worker.onmessage = (event) => {
+      if (event.data.id === id) {
+        resolve(event.data);
+      }
+    };
+    worker.onerror = (event) => {
+      event.preventDefault();
+      resolve({ id, error: event.message || 'worker error' });
+    };
+    worker.postMessage({ id, file, maxEdge: uploadOptions.maxEdge, quality: uploadOptions.quality });
+  });
+}
+
+/**
+ * 묶음 업로드 요청 전송
+ */
+function sendUpload(formData, fileCount) {
+  return sendForm(`/api/events/${EVENT_NAME}/upload`, formData, {
+    // 서버가 스트리밍 모드를 지원하면 임시 파일 없이 바로 저장 (미지원 시 일반 업로드로 처리)
+    'X-Upload-Mode': 'stream',
+    // 스트리밍 모드에서는 본문을 읽기 전에 파일 수를 검사하므로 함께 전송
+    'X-Upload-File-Count': String(fileCount),
+    // 일반 업로드로 처리될 때 서버가 지원하면 본문 수신 직후 202 로 응답받고 저장 완료는 작업 조회로 확인
+    'Prefer': 'respond-async'
+  }, (loaded, total) => updateProgress(Math.round((loaded / total) * 100)));
+}
+
+/**
+ * multipart 요청 전송 (진행률 추적을 위해 XMLHttpRequest 사용)
+ * 2xx 응답은 파싱한 본문으로 완료되고, 그 외에는 UploadApiError 로 실패합니다.
+ */
+function sendForm(url, formData, headers, onProgress) {
+  return new Promise((resolve, reject) => {
+    const xhr = new XMLHttpRequest();
     xhr.upload.onprogress = (event) => {
       if (event.lengthComputable) {
-        const percentage = Math.round((event.loaded / event.total) * 100);
-        updateProgress(percentage);
+        onProgress(event.loaded, event.total);
       }
     };
-
-    // 업로드 완료 핸들러
     xhr.onload = () => {
-      if (xhr.status >= 200 && xhr.status < 300) {
-        try {
-          const response = JSON.parse(xhr.responseText);
-
-          // 성공 응답 (result === true)
-          if (response.result === true) {
-            const data = response.data || {};
-            const successCount = data.successCount || 0;
-            const failCount = data.failCount || 0;
-            const failedFiles = data.failedFiles || [];
-
-            // successCount와 failCount가 모두 0인 경우
-            if (successCount === 0 && failCount === 0) {
-              showErrorModal(
-                '📋 파일이 없어요',
-                '선택한 파일이 없습니다.\n사진을 선택한 후 다시 시도해주세요.'
-              );
-              resetUploadState();
-            }
-            // successCount가 0이고 failCount가 0이 아닌 경우
-            else if (successCount === 0 && failCount > 0) {
-              showErrorModal(
-                '❌ 업로드 실패',
-                '업로드에 실패했습니다.\n파일을 확인한 후 다시 시도해주세요.'
-              );
-              resetUploadState();
-            }
-            // 정상적인 성공 또는 일부 성공
-            else {
-              // 실패한 파일 제외하고 성공한 파일만 제거
-              if (failedFiles.length > 0) {
-                selectedFiles = selectedFiles.filter(file =>
-                  failedFiles.includes(file.name)
-                );
-                updatePreviewArea();
-              } else {
-                selectedFiles = [];
-              }
-
-              showSuccess(successCount, failCount);
-            }
-          }
-          // 에러 응답 (result === false)
-          else {
-            const error = response.error || {};
-            const errorCode = error.errorCode;
-            const errorInfo = getErrorMessage(errorCode);
-
-            showErrorModal(
-              `${errorInfo.emoji} ${errorInfo.title}`,
-              errorInfo.message
-            );
-            resetUploadState();
-          }
-        } catch (e) {
-          // JSON 파싱 실패
-          showErrorModal('🔧 서버 오류', '응답 처리 중 오류가 발생했습니다.\n잠시 후 다시 시도해주세요.');
-          resetUploadState();
-        }
+      let response = null;
+      try {
+        response = JSON.parse(xhr.responseText);
+      } catch (e) {
+        // JSON 파싱 실패 시 응답은 null 로 유지
+      }
+      if (xhr.status >= 200 && xhr.status < 300 && response) {
+        resolve(response);
       } else {
-        // HTTP 에러 (4xx, 5xx)
-        let errorCode = null;
-        try {
-          const response = JSON.parse(xhr.responseText);
-          const error = response.error || {};
-          errorCode = error.errorCode;
-        } catch (e) {
-          // JSON 파싱 실패 시 errorCode는 null로 유지
-        }
+        const errorCode = response && response.error ? response.error.errorCode
+            : (xhr.status < 300 ? 'INTERNAL_ERROR' : null);
+        reject(new UploadApiError(errorCode, xhr.status, parseRetryAfter(xhr.getResponseHeader('Retry-After'))));
+      }
+    };
+    xhr.onerror = () => reject(new UploadApiError(null, 0));
+    xhr.open('POST', url);
+    Object.entries(headers).forEach(([name, value]) => xhr.setRequestHeader(name, value));
+    xhr.send(formData);
+  });
+}
+
+/**
+ * 비동기 업로드 작업이 끝날 때까지 상태를 조회
+ * 완료되면 일반 업로드 응답과 같은 형태로, 실패하면 UploadApiError 로 끝납니다.
+ */
+async function waitForJob(job) {
+  progressFill.style.width = '100%';
+  while (job.status === 'PENDING' || job.status === 'RUNNING') {
+    progressText.textContent = '사진을 저장하는 중...';
+    await new Promise(resolve => setTimeout(resolve, JOB_POLL_INTERVAL));
+    job = (await withRetry(() => requestJson('GET', `/api/jobs/${job.jobId}`))).data;
+  }
+  if (job.status === 'FAILED') {
+    throw new UploadApiError(job.error ? job.error.errorCode : null, 200);
+  }
+  return { result: true, data: job };
+}
 
-        const errorInfo = getErrorMessage(errorCode);
-        showErrorModal(
-          `${errorInfo.emoji} ${errorInfo.title}`,
-          errorInfo.message
+/**
+ * Retry-After 헤더(초)를 밀리초로 변환 (없거나 잘못된 값이면 null)
+ */
+function parseRetryAfter(value) {
+  const seconds = Number.parseInt(value, 10);
+  return Number.isFinite(seconds) && seconds >= 0 ? seconds * 1000 : null;
+}
+
+/**
+ * 업로드 응답 처리 (일반 업로드와 이어받기 업로드 공통)
+ */
+function handleUploadResponse(response) {
+  // 성공 응답 (result === true)
+  if (response.result === true) {
+    const data = response.data || {};
+    const successCount = data.successCount || 0;
+    const failCount = data.failCount || 0;
+    const failedFiles = data.failedFiles || [];
+    const duplicateCount = data.duplicateCount || 0;
+
+    // successCount와 failCount가 모두 0인 경우
+    if (successCount === 0 && failCount === 0) {
+      showErrorModal(
+        '📋 파일이 없어요',
+        '선택한 파일이 없습니다.\n사진을 선택한 후 다시 시도해주세요.'
+      );
+      resetUploadState();
+    }
+    // successCount가 0이고 failCount가 0이 아닌 경우
+    else if (successCount === 0 && failCount > 0) {
+      showErrorModal(
+        '❌ 업로드 실패',
+        '업로드에 실패했습니다.\n파일을 확인한 후 다시 시도해주세요.'
+      );
+      resetUploadState();
+    }
+    // 정상적인 성공 또는 일부 성공
+    else {
+      // 실패한 파일 제외하고 성공한 파일만 제거
+      if (failedFiles.length > 0) {
+        selectedFiles = selectedFiles.filter(file =>
+          failedFiles.includes(file.name)
         );
-        resetUploadState();
+        updatePreviewArea();
+      } else {
+        selectedFiles = [];
       }
-    };
 
-    // 네트워크 에러 핸들러
-    xhr.onerror = () => {
-      showErrorModal('📡 네트워크 오류', '네트워크 연결이 불안정합니다.\n인터넷 연결 상태를 확인해주세요.');
+      showSuccess(successCount, failCount, duplicateCount);
+    }
+  }
+  // 에러 응답 (result === false)
+  else {
+    const error = response.error || {};
+    showUploadError(error.errorCode);
+  }
+}
+
+/**
+ * 에러 코드에 맞는 에러 모달 표시
+ */
+function showUploadError(errorCode) {
+  const errorInfo = getErrorMessage(errorCode);
+  showErrorModal(
+    `${errorInfo.emoji} ${errorInfo.title}`,
+    errorInfo.message
+  );
+  resetUploadState();
+}
+
+// ========================================
+// 이어받기 업로드
+// ========================================
+
+/**
+ * 이어받기 업로드 실행
+ * 실패해도 세션 정보가 남아 있으므로, 같은 이름과 사진으로 다시 업로드하면 받은 청크는 건너뜁니다.
+ */
+async function handleResumableUpload(userName, files, originalInfos) {
+  try {
+    const response = await uploadResumable(userName, files, originalInfos);
+    handleUploadResponse(response);
+  } catch (error) {
+    console.error('Resumable upload error:', error);
+    if (!(error instanceof UploadApiError)) {
+      showToast('업로드 중 오류가 발생했습니다.\n' + error.message, 4000);
       resetUploadState();
-    };
+    } else if (error.retryable) {
+      showErrorModal('📡 네트워크 오류', '네트워크 연결이 불안정합니다.\n다시 업로드하면 끊긴 곳부터 이어서 전송합니다.');
+      resetUploadState();
+    } else {
+      if (error.errorCode !== 'UPLOAD_INCOMPLETE') {
+        localStorage.removeItem(RESUMABLE_STORAGE_KEY);
+      }
+      showUploadError(error.errorCode);
+    }
+  }
+}
 
-    // 요청 전송
-    xhr.open('POST', '/api/events/devEvent/upload');
-    xhr.send(formData);
+/**
+ * 세션 생성(또는 복원) → 빠진 청크 전송 → 완료 요청
+ */
+async function uploadResumable(userName, files, originalInfos) {
+  const fingerprint = uploadFingerprint(userName, files);
+  let session = await restoreSession(fingerprint);
+  if (!session) {
+    // 진행 중인 세션이 너무 많으면 429 로 거절되므로 안내된 시간만큼 기다렸다가 다시 생성
+    const created = await withRetry(() => requestJson('POST', `/api/events/${EVENT_NAME}/upload-sessions`, {
+      uploaderName: userName,
+      files: files.map((file, index) => ({ fileName: file.name, size: file.size, originalInfo: originalInfos[index] }))
+    }), UPLOAD_MAX_RETRIES, undefined, isThrottled);
+    session = created.data;
+    localStorage.setItem(RESUMABLE_STORAGE_KEY, JSON.stringify({ fingerprint, sessionId: session.sessionId }));
+  }
+
+  // 서버가 아직 받지 못한 청크만 전송 대상으로 선정
+  const totalBytes = files.reduce((sum, file) => sum + file.size, 0);
+  let confirmedBytes = 0;
+  const inFlight = new Map();
+  const pending = [];
+  session.files.forEach(status => {
+    const received = new Set(status.receivedChunks);
+    for (let chunkIndex = 0; chunkIndex < status.totalChunks; chunkIndex++) {
+      const length = chunkLength(status.size, chunkIndex, session.chunkSize);
+      if (received.has(chunkIndex)) {
+        confirmedBytes += length;
+      } else {
+        pending.push({ fileIndex: status.index, chunkIndex });
+      }
+    }
+  });
+
+  const reportProgress = () => {
+    let loaded = confirmedBytes;
+    inFlight.forEach(bytes => { loaded += bytes; });
+    updateProgress(Math.min(99, Math.round((loaded / totalBytes) * 100)));
+  };
+  reportProgress();
+
+  await runWithConcurrency(pending, CHUNK_CONCURRENCY, async ({ fileIndex, chunkIndex }) => {
+    const file = files[fileIndex];
+    const start = chunkIndex * session.chunkSize;
+    const blob = file.slice(start, start + session.chunkSize);
+    const key = `${fileIndex}:${chunkIndex}`;
+
+    await withRetry(() => sendChunk(session.sessionId, fileIndex, chunkIndex, blob, loaded => {
+      inFlight.set(key, loaded);
+      reportProgress();
+    }));
+
+    inFlight.delete(key);
+    confirmedBytes += blob.size;
+    reportProgress();
+  });
+
+  const response = await withRetry(() => requestJson('POST', `/api/upload-sessions/${session.sessionId}/complete`));
+  localStorage.removeItem(RESUMABLE_STORAGE_KEY);
+  updateProgress(100);
+  return response;
+}
+
+/**
+ * 이전에 같은 이름/사진으로 시작한 세션이 있으면 서버에서 수신 현황을 조회
+ */
+async function restoreSession(fingerprint) {
+  let saved = null;
+  try {
+    saved = JSON.parse(localStorage.getItem(RESUMABLE_STORAGE_KEY));
+  } catch (e) {
+    // 저장된 값이 손상된 경우 새 세션 생성
+  }
+  if (!saved || saved.fingerprint !== fingerprint) {
+    return null;
+  }
+
+  try {
+    const response = await requestJson('GET', `/api/upload-sessions/${saved.sessionId}`);
+    return response.data.completed ? null : response.data;
   } catch (error) {
-    console.error('Upload error:', error);
-    showToast('업로드 중 오류가 발생했습니다.\n' + error.message, 4000);
-    resetUploadState();
+    if (error instanceof UploadApiError && error.retryable) {
+      throw error;
+    }
+    // 만료되었거나 이미 정리된 세션
+    localStorage.removeItem(RESUMABLE_STORAGE_KEY);
+    return null;
+  }
+}
+
+/**
+ * 업로드 묶음 식별값 (이름 + 파일명/크기/수정시각)
+ */
+function uploadFingerprint(userName, files) {
+  return [userName, ...files.map(file => `${file.name}:${file.size}:${file.lastModified}`)].join('|');
+}
+
+function chunkLength(fileSize, chunkIndex, chunkSize) {
+  return Math.min(chunkSize, fileSize - chunkIndex * chunkSize);
+}
+
+/**
+ * 청크 하나를 전송 (진행률 추적을 위해 XMLHttpRequest 사용)
+ */
+function sendChunk(sessionId, fileIndex, chunkIndex, blob, onProgress) {
+  return new Promise((resolve, reject) => {
+    const xhr = new XMLHttpRequest();
+    xhr.upload.onprogress = (event) => onProgress(event.loaded);
+    xhr.onload = () => {
+      let response = null;
+      try {
+        response = JSON.parse(xhr.responseText);
+      } catch (e) {
+        // JSON 파싱 실패 시 errorCode 없이 처리
+      }
+      if (xhr.status >= 200 && xhr.status < 300 && response && response.result === true) {
+        resolve(response);
+      } else {
+        reject(new UploadApiError(response && response.error ? response.error.errorCode : null, xhr.status,
+            parseRetryAfter(xhr.getResponseHeader('Retry-After'))));
+      }
+    };
+    xhr.onerror = () => reject(new UploadApiError(null, 0));
+    xhr.ontimeout = () => reject(new UploadApiError(null, 0));
+    xhr.open('PUT', `/api/upload-sessions/${sessionId}/files/${fileIndex}/chunks/${chunkIndex}`);
+    xhr.setRequestHeader('Content-Type', 'application/octet-stream');
+    xhr.send(blob);
+  });
+}
+
+/**
+ * JSON API 호출 (네트워크 오류는 status 0 으로 변환)
+ */
+async function requestJson(method, url, body) {
+  let res;
+  try {
+    res = await fetch(url, {
+      method,
+      headers: body ? { 'Content-Type': 'application/json' } : {},
+      body: body ? JSON.stringify(body) : undefined
+    });
+  } catch (e) {
+    throw new UploadApiError(null, 0);
+  }
+
+  let response = null;
+  try {
+    response = await res.json();
+  } catch (e) {
+    // JSON 파싱 실패 시 errorCode 없이 처리
+  }
+  if (!res.ok || !response || response.result !== true) {
+    throw new UploadApiError(response && response.error ? response.error.errorCode : null, res.status,
+        parseRetryAfter(res.headers.get('Retry-After')));
+  }
+  return response;
+}
+
+/**
+ * 네트워크 오류/서버 오류/혼잡(429)은 재시도하고, 오프라인이면 다시 연결될 때까지 대기
+ * 서버가 Retry-After 를 보내면 그 시간에, 아니면 지수 백오프에 지터를 더해 기다립니다.
+ * (거절된 요청들이 같은 순간에 다시 몰리지 않도록)
+ * 다시 보내면 서버에서 같은 처리가 반복될 수 있는 요청은 shouldRetry 로 재시도할 오류를 좁힙니다.
+ */
+async function withRetry(task, maxRetries = CHUNK_MAX_RETRIES, onRetry = () => {}, shouldRetry = error => error.retryable) {
+  for (let attempt = 0; ; attempt++) {
+    try {
+      return await task();
+    } catch (error) {
+      if (!(error instanceof UploadApiError) || !shouldRetry(error) || attempt >= maxRetries) {
+        throw error;
+      }
+      if (!navigator.onLine) {
+        await new Promise(resolve => window.addEventListener('online', resolve, { once: true }));
+      } else {
+        const base = error.retryAfter !== null ? error.retryAfter : Math.min(30000, 1000 * 2 ** attempt);
+        const delay = base + Math.random() * Math.max(1000, base / 2);
+        onRetry(error, delay);
+        await new Promise(resolve => setTimeout(resolve, delay));
+      }
+    }
+  }
+}
+
+/**
+ * 처리 전에 거절된 요청인지 (다시 보내도 서버에서 처리가 중복되지 않음)
+ */
+function isThrottled(error) {
+  return error.status === 429;
+}
+
+/**
+ * 작업 목록을 최대 limit 개씩 동시에 실행 (하나라도 실패하면 남은 작업은 시작하지 않음)
+ */
+async function runWithConcurrency(tasks, limit, worker) {
+  let next = 0;
+  let failed = false;
+  const runners = Array.from({ length: Math.min(limit, tasks.length) }, async () => {
+    while (!failed && next < tasks.length) {
+      const task = tasks[next++];
+      try {
+        await worker(task);
+      } catch (error) {
+        failed = true;
+        throw error;
+      }
+    }
+  });
+  await Promise.all(runners);
+}
+
+/**
+ * 업로드 API 오류 (status 0 은 네트워크 오류, retryAfter 는 서버가 안내한 재시도 대기 시간(ms))
+ */
+class UploadApiError extends Error {
+  constructor(errorCode, status, retryAfter = null) {
+    super(errorCode || `HTTP ${status}`);
+    this.errorCode = errorCode;
+    this.status = status;
+    this.retryAfter = retryAfter;
+  }
+
+  get retryable() {
+    return this.status === 0 || this.status === 429 || this.status >= 500;
   }
 }
 
@@ -580,16 +1288,19 @@ function updateProgress(percentage) {
 /**
  * 성공 모달 표시
  */
-function showSuccess(successCount, failCount) {
+function showSuccess(successCount, failCount, duplicateCount = 0) {
   progressSection.style.display = 'none';
 
   // 메시지 업데이트
   let message = '소중한 순간을 공유해 주셔서 감사합니다';
+  let summary = `성공: ${successCount}장`;
   if (failCount > 0) {
-    message += `<br><small style="font-size: 0.85em; color: var(--text-secondary);">(성공: ${successCount}장, 실패: ${failCount}장)</small>`;
-  } else {
-    message += `<br><small style="font-size: 0.85em; color: var(--text-secondary);">(성공: ${successCount}장)</small>`;
+    summary += `, 실패: ${failCount}장`;
+  }
+  if (duplicateCount > 0) {
+    summary += `, 이미 올라온 사진 ${duplicateCount}장`;
   }
+  message += `<br><small style="font-size: 0.85em; color: var(--text-secondary);">(${summary})</small>`;
 
   successMessage.innerHTML = message;
   successModal.style.display = 'flex';
@@ -635,6 +1346,7 @@ function closeErrorModal() {
  */
 function resetUploadState() {
   // 파일 목록은 각 케이스에서 개별 처리 (에러 시 유지, 성공 모달 닫을 때 정리)
+  releaseThumbnails();
 
   // 진행률 초기화
   progressFill.style.width = '0%';
@@ -0,0 +1,101 @@
+package me.agfe.wedsnap.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimit 테스트")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    @DisplayName("상한에 도달하면 반납 전까지 거절")
+    void tryAcquire_RejectsAtLimit() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 0.9);
+
+        // when & then
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(1_000_000);
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장소 상태 이상이 알려지면 회복될 때까지 최소 상한만 허용")
+    void setStorageDegraded_FallsBackToMinLimit() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9);
+
+        // when
+        limit.setStorageDegraded(true);
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(2);
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        // when - 회복
+        limit.setStorageDegraded(false);
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(8);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장 지연이 평소보다 크게 늘어나면 상한을 줄이고, 최소 상한 아래로는 줄이지 않음")
+    void onSample_DecreasesOnLatencySpike() {
+        // given - 평소 10ms/MB
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 20, 1.5, 0.5);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(10_000_000, MB, false);
+        }
+
+        // when - 100ms/MB 로 급증
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(100_000_000, MB, false);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("지연이 안정적이고 상한의 절반 이상 사용 중이면 상한을 늘림")
+    void onSample_IncreasesWhenHealthyAndBusy() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 20, 1.5, 0.9);
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            limit.onSample(10_000_000, MB, false);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("저장 실패는 지연과 관계없이 상한 감소 신호")
+    void onSample_DecreasesOnFailure() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 20, 1.5, 0.5);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(1_000_000, MB, true);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+}
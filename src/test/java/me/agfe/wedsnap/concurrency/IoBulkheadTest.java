@@ -0,0 +1,132 @@
+package me.agfe.wedsnap.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+
+@DisplayName("IoBulkhead 테스트")
+class IoBulkheadTest {
+
+    private SimpleMeterRegistry registry;
+    private IoBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        bulkhead = new IoBulkhead(2, new WedSnapMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("허가 수보다 많은 작업은 앞선 작업이 끝날 때까지 대기함")
+    void call_LimitsConcurrency() throws Exception {
+        // given
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            // when
+            for (int i = 0; i < 6; i++) {
+                results.add(executor.submit(() -> bulkhead.call(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        finish.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    return 1;
+                })));
+            }
+            waitUntilQueued(4);
+
+            // then - 2개만 실행 중이고 나머지는 허가를 기다림
+            assertThat(running.get()).isEqualTo(2);
+            assertThat(registry.get("wedsnap.upload.io.available").gauge().value()).isZero();
+
+            finish.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+            assertThat(maxRunning.get()).isEqualTo(2);
+            assertThat(registry.get("wedsnap.upload.io.available").gauge().value()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 허가를 반납함")
+    void call_Failure_ReleasesPermit() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IOException.class, () -> bulkhead.call(() -> {
+                throw new IOException("disk full");
+            }));
+        }
+
+        // then
+        assertThat(registry.get("wedsnap.upload.io.available").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("허가 대기 중 인터럽트되면 InterruptedIOException 으로 실패하고 인터럽트 상태를 유지함")
+    void call_InterruptedWhileWaiting() throws Exception {
+        // given - 허가를 모두 점유
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2; i++) {
+                executor.submit(() -> bulkhead.call(() -> {
+                    try {
+                        finish.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                    return null;
+                }));
+            }
+            while (registry.get("wedsnap.upload.io.available").gauge().value() > 0) {
+                Thread.sleep(10);
+            }
+
+            // when
+            Thread.currentThread().interrupt();
+
+            // then
+            assertThrows(InterruptedIOException.class, () -> bulkhead.call(() -> 1));
+            assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            finish.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (registry.get("wedsnap.upload.io.waiting").gauge().value() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(registry.get("wedsnap.upload.io.waiting").gauge().value()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,58 @@
+package me.agfe.wedsnap.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.DigestUtils;
+
+import me.agfe.wedsnap.controller.GalleryController;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.service.GalleryService;
+
+@WebMvcTest(controllers = GalleryController.class)
+@DisplayName("WebConfig 테스트")
+class WebConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GalleryService galleryService;
+
+    @MockitoBean
+    private WedSnapMetrics metrics;
+
+    @Test
+    @DisplayName("내용 해시가 들어간 URL 은 재검증 없이 1년간 캐시")
+    void hashedResource_Immutable() throws Exception {
+        // given
+        String hash;
+        try (InputStream in = new ClassPathResource("static/js/upload.js").getInputStream()) {
+            hash = DigestUtils.md5DigestAsHex(in);
+        }
+
+        // when & then
+        mockMvc.perform(get("/js/upload-" + hash + ".js"))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    @DisplayName("해시 없는 URL 은 매번 재검증")
+    void plainResource_NoCache() throws Exception {
+        mockMvc.perform(get("/js/upload.js"))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+}
@@ -0,0 +1,66 @@
+package me.agfe.wedsnap.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.ResourceNotFoundException;
+import me.agfe.wedsnap.exception.ServerBusyException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.service.ArchiveService;
+
+@WebMvcTest(controllers = ArchiveController.class)
+@DisplayName("ArchiveController 테스트")
+class ArchiveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ArchiveService archiveService;
+
+    @MockitoBean
+    private WedSnapMetrics metrics;
+
+    @Test
+    @DisplayName("다운로드 슬롯이 모두 사용 중이면 503 과 Retry-After 로 거절")
+    void download_Busy() throws Exception {
+        // given
+        when(archiveService.open(eq("wedding2024"), any()))
+                .thenThrow(new ServerBusyException(ErrorCode.ARCHIVE_BUSY, Duration.ofSeconds(30)));
+
+        // when & then
+        mockMvc.perform(get("/api/events/{eventName}/archive", "wedding2024"))
+               .andExpect(status().isServiceUnavailable())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+               .andExpect(jsonPath("$.error.errorCode").value("ARCHIVE_BUSY"));
+    }
+
+    @Test
+    @DisplayName("다운로드할 사진이 없으면 404")
+    void download_Empty() throws Exception {
+        // given
+        when(archiveService.open(eq("wedding2024"), any()))
+                .thenThrow(new ResourceNotFoundException(ErrorCode.ARCHIVE_EMPTY, "이벤트: wedding2024"));
+
+        // when & then
+        mockMvc.perform(get("/api/events/{eventName}/archive", "wedding2024"))
+               .andExpect(status().isNotFound())
+               .andExpect(jsonPath("$.error.errorCode").value("ARCHIVE_EMPTY"));
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -24,13 +25,16 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
 
+import me.agfe.wedsnap.dto.UploadJobResponse;
 import me.agfe.wedsnap.dto.UploadRequest;
 import me.agfe.wedsnap.dto.UploadResponse;
 import me.agfe.wedsnap.exception.ErrorCode;
 import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.service.UploadJobService;
 import me.agfe.wedsnap.service.UploadService;
 
-@WebMvcTest(UploadController.class)
+@WebMvcTest(controllers = UploadController.class, properties = "wedsnap.upload.client-resize.events=wedding2024")
 @DisplayName("UploadRestController 테스트")
 class UploadControllerTest {
 
@@ -40,6 +44,12 @@ class UploadControllerTest {
     @MockitoBean
     private UploadService uploadService;
 
+    @MockitoBean
+    private UploadJobService uploadJobService;
+
+    @MockitoBean
+    private WedSnapMetrics metrics;
+
     @Test
     @DisplayName("파일 업로드 성공 - 정상적인 요청")
     void upload_Success() throws Exception {
@@ -789,4 +799,52 @@ class UploadControllerTest {
 
         verify(uploadService, times(1)).processUpload(any(UploadRequest.class));
     }
+
+    @Test
+    @DisplayName("비동기 업로드 - Prefer: respond-async 요청은 202 와 작업 ID 반환")
+    void upload_RespondAsync_ReturnsAccepted() throws Exception {
+        // given
+        String eventName = "wedding2024";
+        MockMultipartFile file = new MockMultipartFile("files", "test.jpg", "image/jpeg", "content".getBytes());
+
+        UploadJobResponse job = UploadJobResponse.builder()
+                                                 .jobId("job-1")
+                                                 .status("PENDING")
+                                                 .eventName(eventName)
+                                                 .uploaderName("홍길동")
+                                                 .totalFiles(1)
+                                                 .build();
+        when(uploadJobService.isEnabled()).thenReturn(true);
+        when(uploadJobService.submit(any(UploadRequest.class))).thenReturn(job);
+
+        // when & then
+        MockMultipartHttpServletRequestBuilder builder = multipart("/api/events/{eventName}/upload", eventName);
+        builder.file(file);
+        builder.param("uploaderName", "홍길동");
+        builder.header("Prefer", "respond-async");
+
+        mockMvc.perform(builder)
+               .andExpect(status().isAccepted())
+               .andExpect(header().string("Location", "/api/jobs/job-1"))
+               .andExpect(jsonPath("$.result").value(true))
+               .andExpect(jsonPath("$.data.jobId").value("job-1"))
+               .andExpect(jsonPath("$.data.status").value("PENDING"));
+
+        verify(uploadService, never()).processUpload(any(UploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("업로드 옵션 - 축소 업로드를 선택한 이벤트만 clientResize 가 true")
+    void uploadOptions_ClientResizePerEvent() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/events/{eventName}/upload-options", "wedding2024"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.data.clientResize").value(true))
+               .andExpect(jsonPath("$.data.maxEdge").value(2560))
+               .andExpect(jsonPath("$.data.quality").value(0.85));
+
+        mockMvc.perform(get("/api/events/{eventName}/upload-options", "otherEvent"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.data.clientResize").value(false));
+    }
 }
@@ -0,0 +1,95 @@
+package me.agfe.wedsnap.filter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.config.UploadAdmissionConfig;
+import me.agfe.wedsnap.controller.UploadController;
+import me.agfe.wedsnap.dto.UploadRequest;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.service.UploadJobService;
+import me.agfe.wedsnap.service.UploadService;
+
+@WebMvcTest(controllers = UploadController.class)
+@Import(UploadAdmissionConfig.class)
+@DisplayName("UploadAdmissionFilter 테스트")
+class UploadAdmissionFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AdaptiveConcurrencyLimit admissionLimit;
+
+    @MockitoBean
+    private UploadService uploadService;
+
+    @MockitoBean
+    private UploadJobService uploadJobService;
+
+    @MockitoBean
+    private WedSnapMetrics metrics;
+
+    @Test
+    @DisplayName("동시 업로드 상한에 도달하면 컨트롤러에 가기 전에 429 와 Retry-After 로 거절")
+    void upload_Throttled() throws Exception {
+        // given
+        when(admissionLimit.tryAcquire()).thenReturn(false);
+        when(admissionLimit.getLimit()).thenReturn(4);
+        when(admissionLimit.retryAfter()).thenReturn(Duration.ofSeconds(7));
+        MockMultipartFile file = new MockMultipartFile("files", "test.jpg", "image/jpeg", "test image content".getBytes());
+
+        // when & then
+        mockMvc.perform(multipart("/api/events/{eventName}/upload", "wedding2024")
+                                .file(file)
+                                .param("uploaderName", "홍길동"))
+               .andExpect(status().isTooManyRequests())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"))
+               .andExpect(jsonPath("$.result").value(false))
+               .andExpect(jsonPath("$.error.errorCode").value("UPLOAD_THROTTLED"))
+               .andExpect(jsonPath("$.error.detail").value("동시 업로드 상한: 4"));
+
+        verify(uploadService, never()).processUpload(any(UploadRequest.class));
+        verify(admissionLimit, never()).release(anyLong());
+    }
+
+    @Test
+    @DisplayName("이어받기 업로드의 완료/청크 요청도 동시 업로드 상한에 포함")
+    void resumableUpload_Throttled() throws Exception {
+        // given
+        when(admissionLimit.tryAcquire()).thenReturn(false);
+        when(admissionLimit.getLimit()).thenReturn(4);
+        when(admissionLimit.retryAfter()).thenReturn(Duration.ofSeconds(7));
+
+        // when & then
+        mockMvc.perform(post("/api/upload-sessions/{sessionId}/complete", "abc"))
+               .andExpect(status().isTooManyRequests())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+        mockMvc.perform(put("/api/upload-sessions/{sessionId}/files/{fileIndex}/chunks/{chunkIndex}", "abc", 0, 0)
+                                .content(new byte[16]))
+               .andExpect(status().isTooManyRequests())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+    }
+}
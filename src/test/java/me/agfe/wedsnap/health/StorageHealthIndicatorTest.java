@@ -0,0 +1,61 @@
+package me.agfe.wedsnap.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+
+@DisplayName("StorageHealthIndicator 테스트")
+class StorageHealthIndicatorTest {
+
+    @TempDir
+    Path basePath;
+
+    @Test
+    @DisplayName("쓰기/삭제가 빠르고 공간이 충분하면 UP, 측정 파일은 남기지 않음")
+    void measure_Up() {
+        // given
+        StorageHealthIndicator indicator = newIndicator(basePath.toString(), DataSize.ofBytes(1));
+
+        // when
+        StorageProbeResult result = indicator.measure();
+
+        // then
+        assertThat(result.status()).isEqualTo(Status.UP);
+        assertThat(result.usableBytes()).isPositive();
+        assertThat(basePath).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("남은 공간이 임계값보다 작으면 DEGRADED, 쓸 수 없으면 DOWN")
+    void measure_DegradedOrDown() {
+        // given
+        StorageHealthIndicator lowSpace = newIndicator(basePath.toString(), DataSize.ofTerabytes(1024));
+        StorageHealthIndicator missing = newIndicator(basePath.resolve("missing").toString(), DataSize.ofBytes(1));
+
+        // when & then
+        assertThat(lowSpace.measure().status()).isEqualTo(StorageHealthIndicator.DEGRADED);
+        StorageProbeResult down = missing.measure();
+        assertThat(down.status()).isEqualTo(Status.DOWN);
+        assertThat(down.error()).isNotBlank();
+    }
+
+    private StorageHealthIndicator newIndicator(String path, DataSize minFreeSpace) {
+        StorageHealthIndicator indicator = new StorageHealthIndicator(new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9));
+        ReflectionTestUtils.setField(indicator, "basePath", path);
+        ReflectionTestUtils.setField(indicator, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(indicator, "maxLatency", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(indicator, "minFreeSpace", minFreeSpace);
+        ReflectionTestUtils.setField(indicator, "environment", "test");
+        return indicator;
+    }
+}
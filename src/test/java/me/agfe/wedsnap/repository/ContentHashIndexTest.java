@@ -0,0 +1,131 @@
+package me.agfe.wedsnap.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ContentHashIndex 테스트")
+class ContentHashIndexTest {
+
+    @TempDir
+    Path basePath;
+
+    private Path eventDir;
+    private ContentHashIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventDir = basePath.resolve("event-wedding2024");
+        index = new ContentHashIndex(Files::exists, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("등록된 해시는 조회되고, 같은 해시를 다시 등록하면 기존 경로를 반환")
+    void register_Duplicate() throws IOException {
+        // given
+        String sha256 = hashOf("photo");
+        writeFile("홍길동/a.jpg", "photo");
+
+        // when
+        boolean firstIsNew = index.register(eventDir, sha256, "홍길동/a.jpg").isEmpty();
+        writeFile("김철수/b.jpg", "photo");
+
+        // then
+        assertThat(firstIsNew).isTrue();
+        assertThat(index.find(eventDir, sha256)).contains("홍길동/a.jpg");
+        assertThat(index.register(eventDir, sha256, "김철수/b.jpg")).contains("홍길동/a.jpg");
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 인덱스 파일에서 다시 로드됨")
+    void find_AfterRestart() throws IOException {
+        // given
+        String sha256 = hashOf("photo");
+        writeFile("홍길동/a.jpg", "photo");
+        index.register(eventDir, sha256, "홍길동/a.jpg");
+
+        // when
+        ContentHashIndex restarted = new ContentHashIndex(new StagingArea(basePath.toString(), false, ""));
+
+        // then
+        assertThat(restarted.find(eventDir, sha256)).contains("홍길동/a.jpg");
+    }
+
+    @Test
+    @DisplayName("인덱스 파일이 없으면 NAS 의 기존 파일로 재생성")
+    void find_RebuildFromFiles() throws IOException {
+        // given
+        writeFile("홍길동/a.jpg", "photo-a");
+        writeFile("홍길동(1)/b.jpg", "photo-b");
+        writeFile(".upload-sessions/x/0.part", "photo-c");
+
+        // when & then
+        assertThat(index.find(eventDir, hashOf("photo-a"))).contains("홍길동/a.jpg");
+        assertThat(index.find(eventDir, hashOf("photo-b"))).contains("홍길동(1)/b.jpg");
+        assertThat(index.find(eventDir, hashOf("photo-c"))).isEmpty();
+        assertThat(eventDir.resolve(ContentHashIndex.INDEX_FILE)).exists();
+    }
+
+    @Test
+    @DisplayName("재생성이 끝나기 전에는 기존 파일과의 중복을 감지하지 않고, 그동안 등록한 파일은 재생성 결과에 합쳐짐")
+    void find_WhileRebuilding() throws IOException {
+        // given
+        List<Runnable> rebuilds = new ArrayList<>();
+        ContentHashIndex background = new ContentHashIndex(Files::exists, rebuilds::add);
+        writeFile("홍길동/a.jpg", "photo-a");
+
+        // when - 재생성 대기 중
+        boolean missBeforeReady = background.find(eventDir, hashOf("photo-a")).isEmpty();
+        writeFile("김철수/b.jpg", "photo-b");
+        boolean registered = background.register(eventDir, hashOf("photo-b"), "김철수/b.jpg").isEmpty();
+        rebuilds.forEach(Runnable::run);
+
+        // then
+        assertThat(missBeforeReady).isTrue();
+        assertThat(registered).isTrue();
+        assertThat(rebuilds).hasSize(1);
+        assertThat(background.find(eventDir, hashOf("photo-a"))).contains("홍길동/a.jpg");
+        assertThat(background.find(eventDir, hashOf("photo-b"))).contains("김철수/b.jpg");
+
+        ContentHashIndex restarted = new ContentHashIndex(Files::exists, Runnable::run);
+        assertThat(restarted.find(eventDir, hashOf("photo-a"))).contains("홍길동/a.jpg");
+        assertThat(restarted.find(eventDir, hashOf("photo-b"))).contains("김철수/b.jpg");
+    }
+
+    @Test
+    @DisplayName("원본이 삭제된 해시는 중복으로 보지 않음")
+    void find_OriginalDeleted() throws IOException {
+        // given
+        String sha256 = hashOf("photo");
+        Path original = writeFile("홍길동/a.jpg", "photo");
+        index.register(eventDir, sha256, "홍길동/a.jpg");
+
+        // when
+        Files.delete(original);
+
+        // then
+        assertThat(index.find(eventDir, sha256)).isEmpty();
+        assertThat(index.register(eventDir, sha256, "홍길동/c.jpg")).isEmpty();
+    }
+
+    private Path writeFile(String relativePath, String content) throws IOException {
+        Path file = eventDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private String hashOf(String content) throws IOException {
+        return ContentHashIndex.hash(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,137 @@
+package me.agfe.wedsnap.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import me.agfe.wedsnap.support.ClientImageInfo;
+
+@DisplayName("FileMetadataRepository 테스트")
+class FileMetadataRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2024-05-18T04:00:00Z");
+
+    private EmbeddedDatabase dataSource;
+    private FileMetadataRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+                                                  .generateUniqueName(true)
+                                                  .addScript("schema.sql")
+                                                  .build();
+        repository = new FileMetadataRepository(new JdbcTemplate(dataSource),
+                                                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                                                100);
+        repository.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.stop();
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 저장 요청이 모두 커밋되고 업로더별로 집계")
+    void save_Concurrent() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        CompletableFuture<?>[] saves = IntStream.range(0, 40)
+                                                .mapToObj(i -> CompletableFuture.runAsync(() -> repository.save(
+                                                        metadata(i % 2 == 0 ? "홍길동" : "김철수", i)), executor))
+                                                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(saves).join();
+        executor.shutdown();
+
+        // then
+        assertThat(repository.findByEvent("wedding2024", null, 100)).hasSize(40);
+        List<UploaderSummary> summaries = repository.summarizeByUploader("wedding2024");
+        assertThat(summaries).extracting(UploaderSummary::uploaderName).containsExactly("김철수", "홍길동");
+        assertThat(summaries).extracting(UploaderSummary::fileCount).containsExactly(20L, 20L);
+        assertThat(summaries.get(0).lastUploadedAt()).isEqualTo(BASE.plusSeconds(39));
+    }
+
+    @Test
+    @DisplayName("업로더 필터와 최신순 정렬로 조회")
+    void findByEvent_FilterByUploader() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            repository.save(metadata(i < 3 ? "홍길동" : "김철수", i));
+        }
+
+        // when
+        List<FileMetadata> result = repository.findByEvent("wedding2024", "홍길동", 2);
+
+        // then
+        assertThat(result).extracting(FileMetadata::storedName).containsExactly("p2.jpg", "p1.jpg");
+        assertThat(result.get(0).sha256()).hasSize(64);
+        assertThat(repository.findByEvent("other", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("브라우저에서 줄여 보낸 파일은 원본 해상도/크기를 함께 저장")
+    void save_WithOriginalInfo() {
+        // given
+        FileMetadata resized = new FileMetadata("wedding2024", "홍길동", "r.jpg", "IMG_9999.HEIC", 800_000L, null, BASE,
+                                                new ClientImageInfo(4032, 3024, 5_242_880L));
+
+        // when
+        repository.save(resized);
+        repository.save(metadata("김철수", 1));
+
+        // then
+        assertThat(repository.findByEvent("wedding2024", "홍길동", 1).get(0).original())
+                .isEqualTo(new ClientImageInfo(4032, 3024, 5_242_880L));
+        assertThat(repository.findByEvent("wedding2024", "김철수", 1).get(0).original()).isNull();
+    }
+
+    @Test
+    @DisplayName("묶음 안의 한 행이 실패해도 나머지 행은 커밋되고, 긴 원본 파일명은 잘라서 저장")
+    void submit_OneBadRowInBatch() {
+        // given - 이미 저장된 행과 같은 키
+        repository.save(metadata("홍길동", 0));
+        FileMetadata longName = new FileMetadata("wedding2024", "김철수", "long.jpg", "가".repeat(300) + ".jpg",
+                                                 1000L, null, BASE, null);
+
+        // when - 같은 묶음으로 커밋되도록 기다리지 않고 연달아 넣음
+        List<CompletableFuture<Void>> commits = IntStream.range(0, 10)
+                                                         .mapToObj(i -> repository.submit(metadata("홍길동", i)))
+                                                         .toList();
+        CompletableFuture<Void> longNameCommit = repository.submit(longName);
+
+        // then
+        assertThrows(DataIntegrityViolationException.class, () -> repository.await(commits.get(0), "p0.jpg"));
+        for (int i = 1; i < commits.size(); i++) {
+            repository.await(commits.get(i), "p" + i + ".jpg");
+        }
+        repository.await(longNameCommit, "long.jpg");
+        assertThat(repository.findByEvent("wedding2024", "홍길동", 100)).hasSize(10);
+        assertThat(repository.findByEvent("wedding2024", "김철수", 1).get(0).originalName()).hasSize(255);
+    }
+
+    private static FileMetadata metadata(String uploaderName, int i) {
+        return new FileMetadata("wedding2024", uploaderName, "p" + i + ".jpg", "IMG_" + i + ".jpg", 1000L + i,
+                                "%064x".formatted(i), BASE.plusSeconds(i), null);
+    }
+}
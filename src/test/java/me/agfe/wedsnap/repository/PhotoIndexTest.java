@@ -0,0 +1,116 @@
+package me.agfe.wedsnap.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("PhotoIndex 테스트")
+class PhotoIndexTest {
+
+    private static final Instant BASE = Instant.parse("2024-05-18T04:00:00Z");
+
+    @TempDir
+    Path eventDir;
+
+    @Test
+    @DisplayName("커서를 따라가면 최신순으로 모든 사진을 중복/누락 없이 조회")
+    void find_CursorPagination() throws IOException {
+        // given - 같은 시각에 저장된 사진 포함
+        PhotoIndex photoIndex = new PhotoIndex(Runnable::run);
+        for (int i = 0; i < 25; i++) {
+            photoIndex.add(eventDir, new PhotoEntry(i % 2 == 0 ? "홍길동" : "김철수", "p" + i + ".jpg", 100, BASE.plusSeconds(i / 2)));
+        }
+
+        // when
+        List<PhotoEntry> all = new ArrayList<>();
+        PhotoEntry cursor = null;
+        List<PhotoEntry> page;
+        do {
+            page = photoIndex.find(eventDir, null, null, null, cursor, 10);
+            all.addAll(page);
+            cursor = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == 10);
+
+        // then
+        assertThat(all).hasSize(25)
+                       .isSortedAccordingTo(PhotoEntry.NEWEST_FIRST)
+                       .doesNotHaveDuplicates();
+        assertThat(all.get(0).uploadedAt()).isEqualTo(BASE.plusSeconds(12));
+    }
+
+    @Test
+    @DisplayName("업로더와 시간 범위로 필터링")
+    void find_Filters() throws IOException {
+        // given
+        PhotoIndex photoIndex = new PhotoIndex(Runnable::run);
+        for (int i = 0; i < 10; i++) {
+            photoIndex.add(eventDir, new PhotoEntry(i < 5 ? "홍길동" : "김철수", "p" + i + ".jpg", 100, BASE.plusSeconds(i * 60)));
+        }
+
+        // when
+        List<PhotoEntry> byUploader = photoIndex.find(eventDir, "홍길동", null, null, null, 100);
+        List<PhotoEntry> byTime = photoIndex.find(eventDir, null, BASE.plusSeconds(120), BASE.plusSeconds(360), null, 100);
+        List<PhotoEntry> afterCursor = photoIndex.find(eventDir, null, null, BASE.plusSeconds(480), byTime.get(1), 100);
+
+        // then
+        assertThat(byUploader).extracting(PhotoEntry::fileName).containsExactly("p4.jpg", "p3.jpg", "p2.jpg", "p1.jpg", "p0.jpg");
+        assertThat(byTime).extracting(PhotoEntry::fileName).containsExactly("p6.jpg", "p5.jpg", "p4.jpg", "p3.jpg", "p2.jpg");
+        // 커서가 to 보다 뒤쪽이면 커서 기준으로 이어서 조회
+        assertThat(afterCursor).extracting(PhotoEntry::fileName).containsExactly("p4.jpg", "p3.jpg", "p2.jpg", "p1.jpg", "p0.jpg");
+        assertThat(photoIndex.find(eventDir, "없는사람", null, null, null, 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스 파일이 없으면 기존 파일로 재생성하고, 이후에는 인덱스 파일에서 로드")
+    void load_RebuildThenRead() throws IOException {
+        // given - 인덱스 도입 전에 저장된 파일
+        Path old = Files.createDirectories(eventDir.resolve("홍길동")).resolve("old.jpg");
+        Files.write(old, new byte[42]);
+        Files.setLastModifiedTime(old, FileTime.from(BASE));
+        Files.createDirectories(eventDir.resolve(".derivatives").resolve("thumb"));
+
+        // when
+        new PhotoIndex(Runnable::run).add(eventDir, new PhotoEntry("김철수", "new.jpg", 7, BASE.plusSeconds(60)));
+        List<PhotoEntry> reloaded = new PhotoIndex(Runnable::run).find(eventDir, null, null, null, null, 100);
+
+        // then
+        assertThat(reloaded).containsExactly(new PhotoEntry("김철수", "new.jpg", 7, BASE.plusSeconds(60)),
+                                             new PhotoEntry("홍길동", "old.jpg", 42, BASE));
+    }
+
+    @Test
+    @DisplayName("재생성은 요청 스레드 밖에서 수행되며, 그동안 추가된 사진은 바로 조회되고 재생성 결과와 중복 없이 합쳐짐")
+    void load_RebuildInBackground() throws IOException {
+        // given - 인덱스 도입 전에 저장된 파일
+        Path old = Files.createDirectories(eventDir.resolve("홍길동")).resolve("old.jpg");
+        Files.write(old, new byte[42]);
+        Files.setLastModifiedTime(old, FileTime.from(BASE));
+        List<Runnable> rebuilds = new ArrayList<>();
+        PhotoIndex photoIndex = new PhotoIndex(rebuilds::add);
+
+        // when - 재생성 전에 새 사진 추가 (파일은 이미 디렉토리에 있음)
+        PhotoEntry added = new PhotoEntry("김철수", "new.jpg", 7, BASE.plusSeconds(60));
+        Files.write(Files.createDirectories(eventDir.resolve("김철수")).resolve("new.jpg"), new byte[7]);
+        photoIndex.add(eventDir, added);
+        List<PhotoEntry> beforeRebuild = photoIndex.find(eventDir, null, null, null, null, 100);
+        rebuilds.forEach(Runnable::run);
+
+        // then
+        assertThat(rebuilds).hasSize(1);
+        assertThat(beforeRebuild).containsExactly(added);
+        assertThat(photoIndex.find(eventDir, null, null, null, null, 100))
+                .containsExactly(added, new PhotoEntry("홍길동", "old.jpg", 42, BASE));
+        assertThat(new PhotoIndex(Runnable::run).find(eventDir, null, null, null, null, 100))
+                .containsExactly(added, new PhotoEntry("홍길동", "old.jpg", 42, BASE));
+    }
+}
@@ -0,0 +1,102 @@
+package me.agfe.wedsnap.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("UploaderNameRegistry 테스트")
+class UploaderNameRegistryTest {
+
+    @TempDir
+    Path basePath;
+
+    private Path eventDir;
+    private UploaderNameRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        eventDir = basePath.resolve("event-wedding2024");
+        registry = new UploaderNameRegistry();
+    }
+
+    @Test
+    @DisplayName("처음 사용하는 이름은 그대로 예약되고 이후 요청은 접미사가 붙음")
+    void reserve_NewName() throws IOException {
+        // when
+        String first = registry.reserve(eventDir, "홍길동");
+        String second = registry.reserve(eventDir, "홍길동");
+
+        // then
+        assertThat(first).isEqualTo("홍길동");
+        assertThat(second).isEqualTo("홍길동(1)");
+        assertThat(eventDir.resolve("홍길동")).isDirectory();
+        assertThat(eventDir.resolve("홍길동(1)")).isDirectory();
+    }
+
+    @Test
+    @DisplayName("기존 폴더의 최대 접미사 다음 이름을 발급")
+    void reserve_ContinuesFromHighestExistingSuffix() throws IOException {
+        // given
+        Files.createDirectories(eventDir.resolve("김철수"));
+        Files.createDirectories(eventDir.resolve("김철수(3)"));
+
+        // when
+        String reserved = registry.reserve(eventDir, "김철수");
+
+        // then
+        assertThat(reserved).isEqualTo("김철수(4)");
+    }
+
+    @Test
+    @DisplayName("레지스트리 로드 이후 외부에서 생성된 폴더는 건너뜀")
+    void reserve_SkipsExternallyCreatedFolder() throws IOException {
+        // given
+        registry.reserve(eventDir, "이영희");
+        Files.createDirectories(eventDir.resolve("이영희(1)"));
+
+        // when
+        String reserved = registry.reserve(eventDir, "이영희");
+
+        // then
+        assertThat(reserved).isEqualTo("이영희(2)");
+    }
+
+    @Test
+    @DisplayName("이벤트 폴더가 삭제되면 캐시를 버리고 다시 생성하여 기본 이름부터 발급")
+    void reserve_EventFolderDeleted() throws IOException {
+        // given
+        registry.reserve(eventDir, "박민수");
+        Files.delete(eventDir.resolve("박민수"));
+        Files.delete(eventDir);
+
+        // when
+        String reserved = registry.reserve(eventDir, "박민수");
+
+        // then
+        assertThat(reserved).isEqualTo("박민수");
+        assertThat(eventDir.resolve("박민수")).isDirectory();
+    }
+
+    @Test
+    @DisplayName("이벤트 폴더가 다른 폴더로 바뀌면 새 폴더 기준으로 다시 조회")
+    void reserve_EventFolderReplaced() throws IOException {
+        // given - 이름을 바꿔 보관하고 같은 이름으로 새 폴더 생성
+        registry.reserve(eventDir, "최지우");
+        registry.reserve(eventDir, "최지우");
+        Files.move(eventDir, basePath.resolve("event-wedding2024-old"));
+        Files.createDirectories(eventDir.resolve("최지우"));
+
+        // when
+        String reserved = registry.reserve(eventDir, "최지우");
+
+        // then
+        assertThat(reserved).isEqualTo("최지우(1)");
+    }
+}
@@ -0,0 +1,157 @@
+package me.agfe.wedsnap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.DerivativeJobStore;
+import me.agfe.wedsnap.repository.StagingArea;
+import me.agfe.wedsnap.service.DerivativeService.Variant;
+import me.agfe.wedsnap.support.HeifTranscoder;
+import me.agfe.wedsnap.support.TestImages;
+
+@DisplayName("DerivativeService 테스트")
+class DerivativeServiceTest {
+
+    @TempDir
+    Path basePath;
+
+    @Test
+    @DisplayName("저장된 원본으로 미리보기와 썸네일을 만들고 작업을 큐에서 제거")
+    void enqueue_CreatesDerivatives() throws IOException {
+        // given
+        writeOriginal("홍길동", "photo-uuid.jpg", 4000, 3000);
+        DerivativeJobStore jobStore = newJobStore();
+        DerivativeService derivativeService = newService(jobStore, Runnable::run);
+
+        // when
+        derivativeService.enqueue("wedding2024", "홍길동", "photo-uuid.jpg");
+
+        // then
+        BufferedImage preview = ImageIO.read(derivativeService.resolve("wedding2024", Variant.PREVIEW, "홍길동", "photo-uuid.jpg").toFile());
+        BufferedImage thumbnail = ImageIO.read(derivativeService.resolve("wedding2024", Variant.THUMBNAIL, "홍길동", "photo-uuid.jpg").toFile());
+        assertThat(preview.getWidth()).isEqualTo(1600);
+        assertThat(preview.getHeight()).isEqualTo(1200);
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+        assertThat(jobStore.findAll()).isEmpty();
+        assertThat(basePath.resolve(".derivative-queue")).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("실행기가 거부했거나 재시작 전에 남은 작업은 다시 로드되어 처리됨")
+    void resumePending_AfterRestart() throws IOException {
+        // given - 실행기 포화로 처리되지 못한 작업
+        writeOriginal("김철수", "small-uuid.png", 200, 100);
+        Executor saturated = command -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        newService(newJobStore(), saturated).enqueue("wedding2024", "김철수", "small-uuid.png");
+
+        // when - 재시작 후 큐 디렉토리에서 다시 로드
+        DerivativeJobStore reloaded = newJobStore();
+        DerivativeService derivativeService = newService(reloaded, Runnable::run);
+        assertThat(reloaded.findAll()).hasSize(1);
+        derivativeService.resumePending();
+
+        // then - 원본보다 큰 크기로 확대하지 않음
+        BufferedImage preview = ImageIO.read(derivativeService.resolve("wedding2024", Variant.PREVIEW, "김철수", "small-uuid.png").toFile());
+        assertThat(preview.getWidth()).isEqualTo(200);
+        assertThat(preview.getHeight()).isEqualTo(100);
+        assertThat(reloaded.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    @DisplayName("HEIC 원본은 처리 중인 업로드가 없을 때 JPEG 사본으로 변환한 뒤 그 사본으로 파생 이미지를 만듦")
+    void enqueue_Heic_TranscodedWhenIdle() throws IOException {
+        // given - heif-convert 대신 준비된 JPEG 를 출력 경로에 복사하는 스크립트
+        Path original = Files.createDirectories(basePath.resolve("event-wedding2024").resolve("홍길동")).resolve("iphone-uuid.heic");
+        Files.write(original, TestImages.heif(4032, 3024));
+        Path decoded = basePath.resolve("decoded.jpg");
+        ImageIO.write(new BufferedImage(4032, 3024, BufferedImage.TYPE_INT_RGB), "jpg", decoded.toFile());
+        Path script = basePath.resolve("fake-heif-convert");
+        Files.writeString(script, "#!/bin/sh\ncp '" + decoded + "' \"$4\"\n");
+        Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwx------"));
+
+        AdaptiveConcurrencyLimit admissionLimit = new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9);
+        DerivativeJobStore jobStore = newJobStore();
+        DerivativeService derivativeService = newService(jobStore, Runnable::run,
+                                                         new HeifTranscoder(true, script.toString(), 0, Duration.ofMinutes(1), 90),
+                                                         admissionLimit);
+        Path jpeg = derivativeService.resolve("wedding2024", Variant.JPEG, "홍길동", "iphone-uuid.heic");
+
+        // when - 업로드 처리 중에는 변환을 미룸
+        admissionLimit.tryAcquire();
+        derivativeService.enqueue("wedding2024", "홍길동", "iphone-uuid.heic");
+
+        // then
+        assertThat(jpeg).doesNotExist();
+        assertThat(jobStore.findAll()).hasSize(1);
+
+        // when - 업로드가 끝난 뒤 다음 주기
+        admissionLimit.release(1_000_000L);
+        derivativeService.resumePending();
+
+        // then - 원본은 그대로 두고 사본과 파생 이미지를 만듦
+        assertThat(original).hasBinaryContent(TestImages.heif(4032, 3024));
+        assertThat(ImageIO.read(jpeg.toFile()).getWidth()).isEqualTo(4032);
+        BufferedImage preview = ImageIO.read(derivativeService.resolve("wedding2024", Variant.PREVIEW, "홍길동", "iphone-uuid.heic").toFile());
+        assertThat(preview.getWidth()).isEqualTo(1600);
+        assertThat(jobStore.findAll()).isEmpty();
+    }
+
+    private void writeOriginal(String uploaderName, String fileName, int width, int height) throws IOException {
+        Path dir = Files.createDirectories(basePath.resolve("event-wedding2024").resolve(uploaderName));
+        String format = fileName.substring(fileName.lastIndexOf('.') + 1);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, dir.resolve(fileName).toFile());
+    }
+
+    private DerivativeJobStore newJobStore() throws IOException {
+        DerivativeJobStore jobStore = new DerivativeJobStore(JsonMapper.builder().findAndAddModules().build(),
+                                                             basePath.resolve(".derivative-queue").toString());
+        jobStore.load();
+        return jobStore;
+    }
+
+    private DerivativeService newService(DerivativeJobStore jobStore, Executor executor) {
+        return newService(jobStore, executor, new HeifTranscoder(false, "", 0, Duration.ofMinutes(1), 90),
+                          new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9));
+    }
+
+    private DerivativeService newService(DerivativeJobStore jobStore, Executor executor, HeifTranscoder heifTranscoder,
+                                         AdaptiveConcurrencyLimit admissionLimit) {
+        DerivativeService derivativeService = new DerivativeService(jobStore, new StagingArea(basePath.toString(), false, ""),
+                                                                    executor, heifTranscoder, executor, admissionLimit,
+                                                                    new WedSnapMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(derivativeService, "basePath", basePath.toString());
+        ReflectionTestUtils.setField(derivativeService, "enabled", true);
+        ReflectionTestUtils.setField(derivativeService, "thumbnailSize", 320);
+        ReflectionTestUtils.setField(derivativeService, "previewSize", 1600);
+        ReflectionTestUtils.setField(derivativeService, "jpegQuality", 0.82f);
+        ReflectionTestUtils.setField(derivativeService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(derivativeService, "environment", "test");
+        return derivativeService;
+    }
+}
@@ -0,0 +1,110 @@
+package me.agfe.wedsnap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.StagingArea;
+
+@DisplayName("ReplicationService 테스트")
+class ReplicationServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path nasPath;
+    private Path stagingDir;
+    private Path target;
+
+    @BeforeEach
+    void setUp() {
+        nasPath = tempDir.resolve("nas");
+        stagingDir = tempDir.resolve("staging");
+        target = nasPath.resolve("event-wedding2024").resolve("홍길동").resolve("photo-uuid.jpg");
+    }
+
+    @Test
+    @DisplayName("스테이징된 파일을 NAS 로 복제하고 스테이징 영역에서 삭제")
+    void replicatePending_CopiesToNas() throws IOException {
+        // given
+        StagingArea stagingArea = newStagingArea();
+        stagingArea.stage(target, part -> Files.write(part, new byte[] { 1, 2, 3 }));
+        assertThat(stagingArea.exists(target)).isTrue();
+        assertThat(stagingArea.locate(target)).startsWith(stagingDir);
+
+        // when
+        newService(stagingArea).replicatePending();
+
+        // then
+        assertThat(Files.readAllBytes(target)).containsExactly(1, 2, 3);
+        assertThat(stagingArea.findAll()).isEmpty();
+        assertThat(stagingArea.locate(target)).isEqualTo(target);
+        assertThat(Files.exists(stagingDir.resolve("event-wedding2024/홍길동/photo-uuid.jpg"))).isFalse();
+        assertThat(target.getParent().getParent().resolve(ReplicationService.REPLICATING_DIR)).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("재시작 시 복제되지 못한 파일은 다시 로드하고, 기록 중이던 조각은 삭제")
+    void load_RecoversPendingAfterRestart() throws IOException {
+        // given - 응답까지 마친 파일과 기록 도중 종료된 조각
+        newStagingArea().stage(target, part -> Files.write(part, new byte[] { 4, 5 }));
+        Path incomplete = Files.write(stagingDir.resolve("event-wedding2024/홍길동/other-uuid.jpg.part"), new byte[] { 9 });
+
+        // when
+        StagingArea restarted = newStagingArea();
+        newService(restarted).replicatePending();
+
+        // then
+        assertThat(Files.readAllBytes(target)).containsExactly(4, 5);
+        assertThat(restarted.backlogCount()).isZero();
+        assertThat(Files.exists(incomplete)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중에 스테이징 파일이 삭제되면 재시도 예약도 제거")
+    void replicatePending_DropsRetryOfRemovedFile() throws IOException {
+        // given - 업로더 폴더 자리에 파일이 있어 복제 실패
+        StagingArea stagingArea = newStagingArea();
+        stagingArea.stage(target, part -> Files.write(part, new byte[] { 1 }));
+        Path blocker = Files.write(Files.createDirectories(target.getParent().getParent()).resolve("홍길동"), new byte[] { 0 });
+        ReplicationService replicationService = newService(stagingArea);
+        replicationService.replicatePending();
+        Map<?, ?> retryAt = (Map<?, ?>) ReflectionTestUtils.getField(replicationService, "retryAt");
+        assertThat(retryAt).containsOnlyKeys(target.toAbsolutePath().normalize());
+
+        // when - 같은 내용의 중복으로 판정되어 삭제됨
+        Files.delete(blocker);
+        stagingArea.delete(target);
+        replicationService.replicatePending();
+
+        // then
+        assertThat(retryAt).isEmpty();
+    }
+
+    private StagingArea newStagingArea() throws IOException {
+        StagingArea stagingArea = new StagingArea(nasPath.toString(), true, stagingDir.toString());
+        stagingArea.load();
+        return stagingArea;
+    }
+
+    private ReplicationService newService(StagingArea stagingArea) {
+        ReplicationService replicationService = new ReplicationService(stagingArea, Runnable::run,
+                                                                       new WedSnapMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(replicationService, "retryInterval", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(replicationService, "environment", "test");
+        replicationService.init();
+        return replicationService;
+    }
+}
@@ -0,0 +1,288 @@
+package me.agfe.wedsnap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.concurrency.KeyedLockManager;
+import me.agfe.wedsnap.dto.UploadResponse;
+import me.agfe.wedsnap.dto.UploadSessionCreateRequest;
+import me.agfe.wedsnap.dto.UploadSessionResponse;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.UploadThrottledException;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.StoredFile;
+import me.agfe.wedsnap.repository.UploadRepository;
+import me.agfe.wedsnap.repository.UploadSessionStore;
+import me.agfe.wedsnap.support.DirectBufferPool;
+import me.agfe.wedsnap.support.TestImages;
+import me.agfe.wedsnap.validation.ImageContentValidator;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumableUploadService 테스트")
+class ResumableUploadServiceTest {
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final int MAX_SESSIONS = 3;
+
+    @TempDir
+    Path sessionDir;
+
+    @Mock
+    private UploadRepository uploadRepository;
+
+    @Mock
+    private DerivativeService derivativeService;
+
+    private UploadSessionStore sessionStore;
+    private ResumableUploadService resumableUploadService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sessionStore = new UploadSessionStore(JsonMapper.builder().findAndAddModules().build(),
+                                              new DirectBufferPool(DataSize.ofKilobytes(4), 2),
+                                              sessionDir.toString(), MAX_SESSIONS);
+        sessionStore.load();
+
+        resumableUploadService = new ResumableUploadService(sessionStore, uploadRepository,
+                                                            new UploaderNameService(uploadRepository, new KeyedLockManager(16),
+                                                                                    new WedSnapMetrics(new SimpleMeterRegistry())),
+                                                            new MultipartProperties(), new ImageContentValidator(180_000_000L),
+                                                            derivativeService,
+                                                            new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9));
+        ReflectionTestUtils.setField(resumableUploadService, "chunkSize", DataSize.ofBytes(CHUNK_SIZE));
+        ReflectionTestUtils.setField(resumableUploadService, "sessionTtl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(resumableUploadService, "environment", "test");
+    }
+
+    @Test
+    @DisplayName("청크를 순서와 관계없이 받아도 원본과 같은 파일로 완료됨")
+    void complete_ChunksOutOfOrder_Success() throws IOException {
+        // given
+        byte[] content = new byte[CHUNK_SIZE * 2 + 100];
+        Arrays.fill(content, 0, CHUNK_SIZE, (byte) 1);
+        Arrays.fill(content, CHUNK_SIZE, CHUNK_SIZE * 2, (byte) 2);
+        Arrays.fill(content, CHUNK_SIZE * 2, content.length, (byte) 3);
+        byte[] header = TestImages.jpeg(4000, 3000);
+        System.arraycopy(header, 0, content, 0, header.length);
+
+        UploadSessionResponse session = resumableUploadService.createSession("wedding2024", createRequest("photo.jpg", content.length));
+        String sessionId = session.getSessionId();
+
+        List<byte[]> moved = new ArrayList<>();
+        when(uploadRepository.findUniqueUploaderName("wedding2024", "홍길동")).thenReturn("홍길동");
+        when(uploadRepository.moveFile(eq("wedding2024"), eq("홍길동"), eq("photo.jpg"), any(Path.class), any()))
+                .thenAnswer(invocation -> {
+                    moved.add(Files.readAllBytes(invocation.getArgument(3, Path.class)));
+                    return StoredFile.stored("saved-uuid.jpg", "sha256");
+                });
+
+        // when - 마지막 청크부터 전송하고, 중간 청크는 재전송
+        resumableUploadService.receiveChunk(sessionId, 0, 2, 100, chunk(content, 2));
+        resumableUploadService.receiveChunk(sessionId, 0, 0, CHUNK_SIZE, chunk(content, 0));
+        resumableUploadService.receiveChunk(sessionId, 0, 1, CHUNK_SIZE, chunk(content, 1));
+        UploadSessionResponse.FileStatus status = resumableUploadService.receiveChunk(sessionId, 0, 1, CHUNK_SIZE, chunk(content, 1));
+        UploadResponse response = resumableUploadService.complete(sessionId);
+        UploadResponse retried = resumableUploadService.complete(sessionId);
+
+        // then
+        assertThat(session.getFiles().get(0).getTotalChunks()).isEqualTo(3);
+        assertThat(status.getReceivedChunks()).containsExactly(0, 1, 2);
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailCount()).isZero();
+        assertThat(retried).isSameAs(response);
+        assertThat(moved).hasSize(1);
+        assertThat(moved.get(0)).isEqualTo(content);
+        assertThat(sessionDir.resolve(sessionId)).doesNotExist();
+
+        verify(uploadRepository, times(1)).findUniqueUploaderName(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("빠진 청크가 있으면 완료 실패")
+    void complete_MissingChunk_Failure() {
+        // given
+        String sessionId = resumableUploadService.createSession("wedding2024", createRequest("photo.jpg", CHUNK_SIZE * 2))
+                                                 .getSessionId();
+        resumableUploadService.receiveChunk(sessionId, 0, 0, CHUNK_SIZE, chunk(image(CHUNK_SIZE * 2), 0));
+
+        // when & then
+        WedSnapException exception = assertThrows(WedSnapException.class, () -> resumableUploadService.complete(sessionId));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_INCOMPLETE);
+
+        verify(uploadRepository, never()).findUniqueUploaderName(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("기록 중인 청크가 있으면 완료를 거부하고, 기록이 끝나면 완료됨")
+    void complete_ChunkInProgress_Rejected() throws Exception {
+        // given
+        byte[] content = image(CHUNK_SIZE * 2);
+        String sessionId = resumableUploadService.createSession("wedding2024", createRequest("photo.jpg", content.length))
+                                                 .getSessionId();
+        resumableUploadService.receiveChunk(sessionId, 0, 0, CHUNK_SIZE, chunk(content, 0));
+        when(uploadRepository.findUniqueUploaderName("wedding2024", "홍길동")).thenReturn("홍길동");
+        when(uploadRepository.moveFile(eq("wedding2024"), eq("홍길동"), eq("photo.jpg"), any(Path.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
+
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayInputStream slowBody = new ByteArrayInputStream(Arrays.copyOfRange(content, CHUNK_SIZE, CHUNK_SIZE * 2)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                reading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read(b, off, len);
+            }
+        };
+        CompletableFuture<UploadSessionResponse.FileStatus> inProgress = CompletableFuture.supplyAsync(
+                () -> resumableUploadService.receiveChunk(sessionId, 0, 1, CHUNK_SIZE, Channels.newChannel(slowBody)));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then - 기록 도중에는 완료와 같은 청크 재전송 모두 거부
+        WedSnapException exception = assertThrows(WedSnapException.class, () -> resumableUploadService.complete(sessionId));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_INCOMPLETE);
+        WedSnapException duplicate = assertThrows(WedSnapException.class,
+                                                  () -> resumableUploadService.receiveChunk(sessionId, 0, 1, CHUNK_SIZE, chunk(content, 1)));
+        assertThat(duplicate.getErrorCode()).isEqualTo(ErrorCode.INVALID_CHUNK);
+
+        release.countDown();
+        assertThat(inProgress.get(5, TimeUnit.SECONDS).getReceivedChunks()).containsExactly(0, 1);
+        assertThat(resumableUploadService.complete(sessionId).getSuccessCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 크기가 예상과 다르면 실패하고 수신 기록에 남지 않음")
+    void receiveChunk_TruncatedBody_Failure() {
+        // given
+        String sessionId = resumableUploadService.createSession("wedding2024", createRequest("photo.jpg", CHUNK_SIZE * 2))
+                                                 .getSessionId();
+
+        // when & then
+        ReadableByteChannel truncated = Channels.newChannel(new ByteArrayInputStream(image(CHUNK_SIZE / 2)));
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                                                   () -> resumableUploadService.receiveChunk(sessionId, 0, 0, -1, truncated));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CHUNK);
+        assertThat(resumableUploadService.getSession(sessionId).getFiles().get(0).getReceivedChunks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("첫 청크가 이미지가 아니면 거부되고 수신 기록에 남지 않음")
+    void receiveChunk_NotImage_Failure() {
+        // given
+        String sessionId = resumableUploadService.createSession("wedding2024", createRequest("photo.jpg", CHUNK_SIZE * 2))
+                                                 .getSessionId();
+        byte[] content = new byte[CHUNK_SIZE * 2];
+        Arrays.fill(content, (byte) 'A');
+
+        // when & then
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                                                   () -> resumableUploadService.receiveChunk(sessionId, 0, 0, CHUNK_SIZE, chunk(content, 0)));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_IMAGE_CONTENT);
+        assertThat(resumableUploadService.getSession(sessionId).getFiles().get(0).getReceivedChunks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유지 중인 세션이 상한에 이르면 디스크를 예약하기 전에 429 로 거절")
+    void createSession_TooManySessions_Throttled() throws IOException {
+        // given
+        for (int i = 0; i < MAX_SESSIONS; i++) {
+            resumableUploadService.createSession("wedding2024", createRequest("photo" + i + ".jpg", 10));
+        }
+
+        // when & then
+        UploadThrottledException exception = assertThrows(UploadThrottledException.class,
+                                                           () -> resumableUploadService.createSession(
+                                                                   "wedding2024", createRequest("photo.jpg", 10)));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_THROTTLED);
+        assertThat(exception.getRetryAfter()).isPositive();
+        try (Stream<Path> dirs = Files.list(sessionDir)) {
+            assertThat(dirs).hasSize(MAX_SESSIONS);
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 세션은 정리되고 재시작 후에도 남은 세션은 다시 로드됨")
+    void expireSessions() throws IOException {
+        // given
+        String expiredId = resumableUploadService.createSession("wedding2024", createRequest("old.jpg", 10)).getSessionId();
+        String activeId = resumableUploadService.createSession("wedding2024", createRequest("new.jpg", 10)).getSessionId();
+        sessionStore.find(expiredId).orElseThrow().setLastModifiedAt(Instant.now().minus(Duration.ofDays(2)));
+
+        // when
+        resumableUploadService.expireSessions();
+
+        // then
+        assertThat(sessionStore.find(expiredId)).isEmpty();
+        assertThat(sessionDir.resolve(expiredId)).doesNotExist();
+
+        UploadSessionStore reloaded = new UploadSessionStore(JsonMapper.builder().findAndAddModules().build(),
+                                                             new DirectBufferPool(DataSize.ofKilobytes(4), 2),
+                                                             sessionDir.toString(), MAX_SESSIONS);
+        reloaded.load();
+        assertThat(reloaded.find(activeId)).isPresent();
+        assertThat(reloaded.find(activeId).orElseThrow().getFiles().get(0).getFileName()).isEqualTo("new.jpg");
+    }
+
+    private UploadSessionCreateRequest createRequest(String fileName, long size) {
+        return UploadSessionCreateRequest.builder()
+                                         .uploaderName("홍길동")
+                                         .files(List.of(new UploadSessionCreateRequest.FileInfo(fileName, size)))
+                                         .build();
+    }
+
+    private byte[] image(int size) {
+        byte[] content = new byte[size];
+        byte[] header = TestImages.jpeg(4000, 3000);
+        System.arraycopy(header, 0, content, 0, header.length);
+        return content;
+    }
+
+    private ReadableByteChannel chunk(byte[] content, int chunkIndex) {
+        int from = chunkIndex * CHUNK_SIZE;
+        int to = Math.min(content.length, from + CHUNK_SIZE);
+        return Channels.newChannel(new ByteArrayInputStream(Arrays.copyOfRange(content, from, to)));
+    }
+}
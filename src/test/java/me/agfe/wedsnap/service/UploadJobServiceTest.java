@@ -0,0 +1,175 @@
+package me.agfe.wedsnap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.concurrency.KeyedLockManager;
+import me.agfe.wedsnap.dto.UploadJobResponse;
+import me.agfe.wedsnap.dto.UploadRequest;
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.StoredFile;
+import me.agfe.wedsnap.repository.UploadJobStore;
+import me.agfe.wedsnap.repository.UploadRepository;
+import me.agfe.wedsnap.support.TestImages;
+import me.agfe.wedsnap.validation.ImageContentValidator;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadJobService 테스트")
+class UploadJobServiceTest {
+
+    @TempDir
+    Path spoolDir;
+
+    @Mock
+    private UploadRepository uploadRepository;
+
+    @Mock
+    private DerivativeService derivativeService;
+
+    private List<Runnable> submitted;
+    private AdaptiveConcurrencyLimit admissionLimit;
+    private UploadJobService uploadJobService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        submitted = new ArrayList<>();
+        admissionLimit = new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9);
+        uploadJobService = newService();
+    }
+
+    /**
+     * 재시작을 흉내 내기 위해 같은 스풀 디렉토리로 저장소를 새로 만들어 로드합니다.
+     */
+    private UploadJobService newService() throws IOException {
+        UploadJobStore jobStore = new UploadJobStore(JsonMapper.builder().findAndAddModules().build(), spoolDir.toString(), 100);
+        jobStore.load();
+
+        WedSnapMetrics metrics = new WedSnapMetrics(new SimpleMeterRegistry());
+        UploadJobService service = new UploadJobService(jobStore, uploadRepository,
+                                                        new UploaderNameService(uploadRepository, new KeyedLockManager(16),
+                                                                                metrics),
+                                                        new ImageContentValidator(180_000_000L), derivativeService,
+                                                        submitted::add, admissionLimit, metrics);
+        ReflectionTestUtils.setField(service, "retention", Duration.ofHours(1));
+        ReflectionTestUtils.setField(service, "environment", "test");
+        return service;
+    }
+
+    @Test
+    @DisplayName("접수 시 대기 상태를 반환하고, 작업이 끝나면 업로드 결과와 같은 필드로 조회됨")
+    void submit_ThenCompleted() throws IOException {
+        // given
+        MultipartFile photo = new MockMultipartFile("files", "photo.jpg", "image/jpeg", TestImages.jpeg(100, 100));
+        MultipartFile text = new MockMultipartFile("files", "note.jpg", "image/jpeg", "not an image".getBytes());
+        when(uploadRepository.findUniqueUploaderName("wedding2024", "홍길동")).thenReturn("홍길동(2)");
+        when(uploadRepository.moveFile(eq("wedding2024"), eq("홍길동(2)"), eq("photo.jpg"), any(Path.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
+
+        // when
+        UploadJobResponse accepted = uploadJobService.submit(request(photo, text));
+
+        // then - 파일은 스풀되었고 저장은 아직 시작되지 않음
+        assertThat(accepted.getStatus()).isEqualTo("PENDING");
+        assertThat(accepted.getTotalFiles()).isEqualTo(2);
+        assertThat(spoolDir.resolve(accepted.getJobId())).isDirectory();
+        assertThat(admissionLimit.getInFlight()).isEqualTo(1);
+        verify(uploadRepository, never()).moveFile(any(), any(), any(), any(), any());
+
+        // when - 작업 실행
+        submitted.forEach(Runnable::run);
+        UploadJobResponse completed = uploadJobService.getJob(accepted.getJobId());
+
+        // then
+        assertThat(completed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(completed.getUploaderName()).isEqualTo("홍길동(2)");
+        assertThat(completed.getSuccessCount()).isEqualTo(1);
+        assertThat(completed.getFailCount()).isEqualTo(1);
+        assertThat(completed.getFailedFiles()).containsExactly("note.jpg");
+        assertThat(Files.exists(spoolDir.resolve(accepted.getJobId()))).isFalse();
+        assertThat(admissionLimit.getInFlight()).isZero();
+        verify(derivativeService).enqueue("wedding2024", "홍길동(2)", "saved-uuid.jpg");
+    }
+
+    @Test
+    @DisplayName("접수 후 처리 전에 재시작해도 스풀된 작업을 이어서 처리함")
+    void resumePending_AfterRestart() throws IOException {
+        // given - 접수만 되고 실행되지 않은 채 재시작
+        MultipartFile photo = new MockMultipartFile("files", "photo.jpg", "image/jpeg", TestImages.jpeg(100, 100));
+        UploadJobResponse accepted = uploadJobService.submit(request(photo));
+        submitted.clear();
+        admissionLimit = new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9);
+        when(uploadRepository.findUniqueUploaderName("wedding2024", "홍길동")).thenReturn("홍길동");
+        when(uploadRepository.moveFile(eq("wedding2024"), eq("홍길동"), eq("photo.jpg"), any(Path.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
+
+        // when
+        UploadJobService restarted = newService();
+        restarted.resumePending();
+        submitted.forEach(Runnable::run);
+
+        // then
+        UploadJobResponse completed = restarted.getJob(accepted.getJobId());
+        assertThat(completed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(completed.getSuccessCount()).isEqualTo(1);
+        assertThat(spoolDir.resolve(accepted.getJobId())).doesNotExist();
+        verify(derivativeService).enqueue("wedding2024", "홍길동", "saved-uuid.jpg");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 작업은 조회되지 않음")
+    void expireJobs_RemovesFinishedJobs() {
+        // given
+        MultipartFile photo = new MockMultipartFile("files", "photo.jpg", "image/jpeg", TestImages.jpeg(100, 100));
+        when(uploadRepository.findUniqueUploaderName("wedding2024", "홍길동")).thenReturn("홍길동");
+        when(uploadRepository.moveFile(eq("wedding2024"), eq("홍길동"), eq("photo.jpg"), any(Path.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
+        UploadJobResponse accepted = uploadJobService.submit(request(photo));
+        submitted.forEach(Runnable::run);
+
+        // when
+        ReflectionTestUtils.setField(uploadJobService, "retention", Duration.ofSeconds(-1));
+        uploadJobService.expireJobs();
+
+        // then
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                                                  () -> uploadJobService.getJob(accepted.getJobId()));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_JOB_NOT_FOUND);
+    }
+
+    private UploadRequest request(MultipartFile... files) {
+        return UploadRequest.builder()
+                            .eventName("wedding2024")
+                            .uploaderName("홍길동")
+                            .files(List.of(files))
+                            .build();
+    }
+}
@@ -3,6 +3,7 @@ package me.agfe.wedsnap.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -10,26 +11,48 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+import me.agfe.wedsnap.concurrency.AdaptiveConcurrencyLimit;
+import me.agfe.wedsnap.concurrency.KeyedLockManager;
+import me.agfe.wedsnap.dto.UploadBatchResponse;
 import me.agfe.wedsnap.dto.UploadRequest;
 import me.agfe.wedsnap.dto.UploadResponse;
 import me.agfe.wedsnap.exception.ErrorCode;
 import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.metrics.WedSnapMetrics;
+import me.agfe.wedsnap.repository.StoredFile;
+import me.agfe.wedsnap.repository.UploadBatchStore;
 import me.agfe.wedsnap.repository.UploadRepository;
+import me.agfe.wedsnap.support.MultipartStreamParser;
+import me.agfe.wedsnap.support.TestImages;
+import me.agfe.wedsnap.validation.ImageContentValidator;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UploadService 테스트")
@@ -38,13 +61,36 @@ class UploadServiceTest {
     @Mock
     private UploadRepository uploadRepository;
 
-    @InjectMocks
+    private ExecutorService uploadIoExecutor;
+
+    @Mock
+    private DerivativeService derivativeService;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private UploadService uploadService;
 
     @BeforeEach
     void setUp() {
+        uploadIoExecutor = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+        uploadService = new UploadService(uploadRepository,
+                                          new UploaderNameService(uploadRepository, new KeyedLockManager(16),
+                                                                  new WedSnapMetrics(meterRegistry)),
+                                          uploadIoExecutor,
+                                          Validation.buildDefaultValidatorFactory().getValidator(),
+                                          new MultipartProperties(), new ImageContentValidator(180_000_000L),
+                                          derivativeService, new AdaptiveConcurrencyLimit(8, 2, 64, 1.5, 0.9),
+                                          new UploadBatchStore(1000), new WedSnapMetrics(meterRegistry));
+
         // environment 필드 주입
         ReflectionTestUtils.setField(uploadService, "environment", "test");
+        ReflectionTestUtils.setField(uploadService, "batchTtl", Duration.ofHours(6));
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadIoExecutor.shutdownNow();
     }
 
     @Test
@@ -59,7 +105,7 @@ class UploadServiceTest {
                 "file",
                 "test-image.jpg",
                 "image/jpeg",
-                "test image content".getBytes()
+                TestImages.jpeg(4000, 3000)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -70,8 +116,8 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class)))
-                .thenReturn("saved-file-uuid.jpg");
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.stored("saved-file-uuid.jpg", "sha256"));
 
         // when
         UploadResponse response = uploadService.processUpload(request);
@@ -86,9 +132,13 @@ class UploadServiceTest {
         assertThat(response.getFailedFiles()).isEmpty();
         assertThat(response.getMessage()).contains("1개 업로드 성공");
         assertThat(response.getTimestamp()).isNotNull();
+        assertThat(meterRegistry.get("wedsnap.upload.request").tags("mode", "multipart", "outcome", "success")
+                                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("wedsnap.upload.file.save").tags("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("wedsnap.upload.lock.wait").timer().count()).isEqualTo(1);
 
         verify(uploadRepository, times(1)).findUniqueUploaderName(eventName, uploaderName);
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -100,13 +150,13 @@ class UploadServiceTest {
         String uniqueUploaderName = "김철수";
 
         MockMultipartFile file1 = new MockMultipartFile(
-                "file1", "image1.jpg", "image/jpeg", "content1".getBytes()
+                "file1", "image1.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
         MockMultipartFile file2 = new MockMultipartFile(
-                "file2", "image2.png", "image/png", "content2".getBytes()
+                "file2", "image2.png", "image/png", TestImages.png(4000, 3000)
         );
         MockMultipartFile file3 = new MockMultipartFile(
-                "file3", "image3.gif", "image/gif", "content3".getBytes()
+                "file3", "image3.gif", "image/gif", TestImages.gif(400, 300)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -117,8 +167,8 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class)))
-                .thenReturn("saved-uuid.jpg");
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
 
         // when
         UploadResponse response = uploadService.processUpload(request);
@@ -129,7 +179,7 @@ class UploadServiceTest {
         assertThat(response.getFailCount()).isEqualTo(0);
         assertThat(response.getFailedFiles()).isEmpty();
 
-        verify(uploadRepository, times(3)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(3)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -163,7 +213,7 @@ class UploadServiceTest {
         assertThat(response.getFailedFiles()).contains("empty.jpg");
         assertThat(response.getMessage()).contains("0개 업로드 성공, 1개 실패");
 
-        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class));
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class), any());
     }
 
     @Test
@@ -195,7 +245,7 @@ class UploadServiceTest {
         assertThat(response.getFailCount()).isEqualTo(1);
         assertThat(response.getFailedFiles()).hasSize(1);
 
-        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class));
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class), any());
     }
 
     @Test
@@ -227,7 +277,7 @@ class UploadServiceTest {
         assertThat(response.getFailCount()).isEqualTo(1);
         assertThat(response.getFailedFiles()).contains("document.pdf");
 
-        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class));
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class), any());
     }
 
     @Test
@@ -239,7 +289,7 @@ class UploadServiceTest {
         String uniqueUploaderName = "정다은";
 
         MockMultipartFile validFile = new MockMultipartFile(
-                "file1", "valid.jpg", "image/jpeg", "valid content".getBytes()
+                "file1", "valid.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
         MockMultipartFile invalidFile = new MockMultipartFile(
                 "file2", "invalid.exe", "application/exe", "invalid content".getBytes()
@@ -256,8 +306,8 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile)))
-                .thenReturn("saved-uuid.jpg");
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
 
         // when
         UploadResponse response = uploadService.processUpload(request);
@@ -269,7 +319,7 @@ class UploadServiceTest {
         assertThat(response.getFailedFiles()).containsExactlyInAnyOrder("invalid.exe", "empty.png");
         assertThat(response.getMessage()).contains("1개 업로드 성공, 2개 실패");
 
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -281,7 +331,7 @@ class UploadServiceTest {
         String uniqueUploaderName = "강민호";
 
         MockMultipartFile file = new MockMultipartFile(
-                "file", "error.jpg", "image/jpeg", "content".getBytes()
+                "file", "error.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -292,7 +342,7 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class)))
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any()))
                 .thenThrow(new IOException("Disk full"));
 
         // when & then
@@ -303,7 +353,7 @@ class UploadServiceTest {
         assertThat(exception.getDetail()).contains("error.jpg");
         assertThat(exception.getCause()).isInstanceOf(IOException.class);
 
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -315,7 +365,7 @@ class UploadServiceTest {
         String uniqueUploaderName = "홍길동(1)"; // 중복 처리된 이름
 
         MockMultipartFile file = new MockMultipartFile(
-                "file", "test.jpg", "image/jpeg", "content".getBytes()
+                "file", "test.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -326,8 +376,8 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class)))
-                .thenReturn("saved-uuid.jpg");
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
 
         // when
         UploadResponse response = uploadService.processUpload(request);
@@ -337,7 +387,7 @@ class UploadServiceTest {
         assertThat(request.getUploaderName()).isEqualTo(uniqueUploaderName); // request 객체도 업데이트되어야 함
 
         verify(uploadRepository, times(1)).findUniqueUploaderName(eventName, uploaderName);
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -349,7 +399,7 @@ class UploadServiceTest {
         String uniqueUploaderName = "김수진";
 
         MockMultipartFile upperCaseFile = new MockMultipartFile(
-                "file", "photo.JPG", "image/jpeg", "content".getBytes()
+                "file", "photo.JPG", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -360,8 +410,8 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class)))
-                .thenReturn("saved-uuid.jpg");
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
 
         // when
         UploadResponse response = uploadService.processUpload(request);
@@ -370,7 +420,7 @@ class UploadServiceTest {
         assertThat(response.getSuccessCount()).isEqualTo(1);
         assertThat(response.getFailCount()).isEqualTo(0);
 
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -382,7 +432,7 @@ class UploadServiceTest {
         String uniqueUploaderName = "이지훈";
 
         MockMultipartFile heifFile = new MockMultipartFile(
-                "file", "iphone-photo.heif", "image/heif", "heif content".getBytes()
+                "file", "iphone-photo.heif", "image/heif", TestImages.heif(4032, 3024)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -393,8 +443,8 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class)))
-                .thenReturn("saved-uuid.heif");
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.heif", "sha256"));
 
         // when
         UploadResponse response = uploadService.processUpload(request);
@@ -403,7 +453,7 @@ class UploadServiceTest {
         assertThat(response.getSuccessCount()).isEqualTo(1);
         assertThat(response.getFailCount()).isEqualTo(0);
 
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -435,7 +485,7 @@ class UploadServiceTest {
         assertThat(response.getFailCount()).isEqualTo(1);
         assertThat(response.getFailedFiles()).contains("noextension");
 
-        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class));
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class), any());
     }
 
     @Test
@@ -467,7 +517,7 @@ class UploadServiceTest {
         assertThat(response.getFailCount()).isEqualTo(1);
         assertThat(response.getFailedFiles()).hasSize(1);
 
-        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class));
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class), any());
     }
 
     @Test
@@ -499,7 +549,7 @@ class UploadServiceTest {
         assertThat(response.getFailCount()).isEqualTo(1);
         assertThat(response.getFailedFiles()).contains(".hidden");
 
-        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class));
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), any(MultipartFile.class), any());
     }
 
     @Test
@@ -511,7 +561,7 @@ class UploadServiceTest {
         String uniqueUploaderName = "최민재";
 
         MockMultipartFile multiDotFile = new MockMultipartFile(
-                "file", "my.photo.image.jpg", "image/jpeg", "content".getBytes()
+                "file", "my.photo.image.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -522,8 +572,8 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class)))
-                .thenReturn("saved-uuid.jpg");
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
 
         // when
         UploadResponse response = uploadService.processUpload(request);
@@ -533,7 +583,7 @@ class UploadServiceTest {
         assertThat(response.getFailCount()).isEqualTo(0);
         assertThat(response.getFailedFiles()).isEmpty();
 
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), any(MultipartFile.class), any());
     }
 
     @Test
@@ -545,13 +595,13 @@ class UploadServiceTest {
         String uniqueUploaderName = "송하은";
 
         MockMultipartFile validFile1 = new MockMultipartFile(
-                "file1", "photo1.jpg", "image/jpeg", "content1".getBytes()
+                "file1", "photo1.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
         MockMultipartFile validFile2 = new MockMultipartFile(
-                "file2", "photo2.jpg", "image/jpeg", "content2".getBytes()
+                "file2", "photo2.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
         MockMultipartFile errorFile = new MockMultipartFile(
-                "file3", "photo3.jpg", "image/jpeg", "content3".getBytes()
+                "file3", "photo3.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)
         );
 
         UploadRequest request = UploadRequest.builder()
@@ -562,11 +612,11 @@ class UploadServiceTest {
 
         when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
                 .thenReturn(uniqueUploaderName);
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile1)))
-                .thenReturn("saved-uuid-1.jpg");
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile2)))
-                .thenReturn("saved-uuid-2.jpg");
-        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(errorFile)))
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile1), any()))
+                .thenReturn(StoredFile.stored("saved-uuid-1.jpg", "sha256"));
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile2), any()))
+                .thenReturn(StoredFile.stored("saved-uuid-2.jpg", "sha256"));
+        when(uploadRepository.saveFile(eq(eventName), eq(uniqueUploaderName), eq(errorFile), any()))
                 .thenThrow(new IOException("Network error"));
 
         // when & then
@@ -578,8 +628,261 @@ class UploadServiceTest {
         assertThat(exception.getCause()).isInstanceOf(IOException.class);
 
         // 첫 번째와 두 번째 파일은 성공적으로 저장되었고, 세 번째 파일에서 예외 발생
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile1));
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile2));
-        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), eq(errorFile));
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile1), any());
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), eq(validFile2), any());
+        verify(uploadRepository, times(1)).saveFile(eq(eventName), eq(uniqueUploaderName), eq(errorFile), any());
+    }
+
+    @Test
+    @DisplayName("확장자만 이미지인 파일과 해상도가 과도한 이미지는 저장 전에 실패 처리")
+    void processUpload_InvalidImageContent_Failure() throws IOException {
+        // given
+        String eventName = "wedding2024";
+        String uploaderName = "홍길동";
+
+        MultipartFile validFile = new MockMultipartFile("file1", "photo.jpg", "image/jpeg", TestImages.jpeg(4000, 3000));
+        MultipartFile renamedFile = new MockMultipartFile("file2", "report.jpg", "image/jpeg", "%PDF-1.7".getBytes());
+        MultipartFile bombFile = new MockMultipartFile("file3", "bomb.png", "image/png", TestImages.png(60000, 60000));
+
+        UploadRequest request = UploadRequest.builder()
+                                             .eventName(eventName)
+                                             .uploaderName(uploaderName)
+                                             .files(Arrays.asList(validFile, renamedFile, bombFile))
+                                             .build();
+
+        when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
+                .thenReturn(uploaderName);
+        when(uploadRepository.saveFile(eq(eventName), eq(uploaderName), eq(validFile), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
+
+        // when
+        UploadResponse response = uploadService.processUpload(request);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailedFiles()).containsExactly("report.jpg", "bomb.png");
+
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), eq(renamedFile), any());
+        verify(uploadRepository, never()).saveFile(anyString(), anyString(), eq(bombFile), any());
+    }
+
+    @Test
+    @DisplayName("이벤트에 이미 있는 사진은 성공으로 집계되고 중복 목록에 포함됨")
+    void processUpload_DuplicateReported() throws IOException {
+        // given
+        String eventName = "wedding2024";
+        String uploaderName = "홍길동";
+
+        MultipartFile newFile = new MockMultipartFile("file1", "new.jpg", "image/jpeg", TestImages.jpeg(4000, 3000));
+        MultipartFile sameFile = new MockMultipartFile("file2", "again.jpg", "image/jpeg", TestImages.jpeg(4000, 3000));
+
+        UploadRequest request = UploadRequest.builder()
+                                             .eventName(eventName)
+                                             .uploaderName(uploaderName)
+                                             .files(Arrays.asList(newFile, sameFile))
+                                             .build();
+
+        when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
+                .thenReturn(uploaderName);
+        when(uploadRepository.saveFile(eq(eventName), eq(uploaderName), eq(newFile), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256-new"));
+        when(uploadRepository.saveFile(eq(eventName), eq(uploaderName), eq(sameFile), any()))
+                .thenReturn(StoredFile.duplicateOf("김철수/existing.jpg", "sha256-same"));
+
+        // when
+        UploadResponse response = uploadService.processUpload(request);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailCount()).isEqualTo(0);
+        assertThat(response.getDuplicateCount()).isEqualTo(1);
+        assertThat(response.getDuplicateFiles()).containsExactly("again.jpg");
+
+        // 새로 저장된 사진만 파생 이미지 생성 대상
+        verify(derivativeService, times(1)).enqueue(eventName, uploaderName, "saved-uuid.jpg");
+        verify(derivativeService, never()).enqueue(anyString(), anyString(), eq("김철수/existing.jpg"));
+    }
+
+    @Test
+    @DisplayName("한 요청의 파일들은 병렬로 저장됨")
+    void processUpload_FilesSavedConcurrently() throws IOException {
+        // given
+        String eventName = "wedding2024";
+        String uploaderName = "오세진";
+
+        List<MultipartFile> files = Arrays.asList(
+                new MockMultipartFile("file1", "p1.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)),
+                new MockMultipartFile("file2", "p2.jpg", "image/jpeg", TestImages.jpeg(4000, 3000)),
+                new MockMultipartFile("file3", "p3.jpg", "image/jpeg", TestImages.jpeg(4000, 3000))
+        );
+
+        UploadRequest request = UploadRequest.builder()
+                                             .eventName(eventName)
+                                             .uploaderName(uploaderName)
+                                             .files(files)
+                                             .build();
+
+        // 세 파일의 저장이 동시에 진행 중이어야만 latch 가 열림 (순차 저장이면 타임아웃)
+        CountDownLatch allSaving = new CountDownLatch(files.size());
+        when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
+                .thenReturn(uploaderName);
+        when(uploadRepository.saveFile(eq(eventName), eq(uploaderName), any(MultipartFile.class), any()))
+                .thenAnswer(invocation -> {
+                    allSaving.countDown();
+                    if (!allSaving.await(5, TimeUnit.SECONDS)) {
+                        throw new IOException("saves were not concurrent");
+                    }
+                    return StoredFile.stored("saved-uuid.jpg", "sha256");
+                });
+
+        // when
+        UploadResponse response = uploadService.processUpload(request);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getFailCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - 허용된 파일은 저장되고 허용되지 않은 확장자는 실패 처리")
+    void processStreamingUpload_PartialSuccess() throws IOException {
+        // given
+        String eventName = "wedding2024";
+        String uploaderName = "홍길동";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--B\r\n"
+                         + "Content-Disposition: form-data; name=\"uploaderName\"\r\n\r\n"
+                         + uploaderName + "\r\n"
+                         + "--B\r\n"
+                         + "Content-Disposition: form-data; name=\"files\"; filename=\"photo.jpg\"\r\n"
+                         + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(TestImages.jpeg(4000, 3000));
+        body.writeBytes(("\r\n--B\r\n"
+                         + "Content-Disposition: form-data; name=\"files\"; filename=\"virus.exe\"\r\n\r\n"
+                         + "exe content\r\n"
+                         + "--B--\r\n").getBytes(StandardCharsets.UTF_8));
+        MultipartStreamParser parser = new MultipartStreamParser(
+                new ByteArrayInputStream(body.toByteArray()), "B", 1024, -1);
+
+        when(uploadRepository.findUniqueUploaderName(eventName, uploaderName))
+                .thenReturn(uploaderName);
+        when(uploadRepository.saveStream(eq(eventName), eq(uploaderName), eq("photo.jpg"),
+                                         any(ReadableByteChannel.class), anyLong(), any()))
+                .thenReturn(StoredFile.stored("saved-uuid.jpg", "sha256"));
+
+        // when
+        UploadResponse response = uploadService.processStreamingUpload(eventName, 2, parser);
+
+        // then
+        assertThat(response.getTotalFiles()).isEqualTo(2);
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailedFiles()).containsExactly("virus.exe");
+
+        verify(uploadRepository, times(1)).saveStream(anyString(), anyString(), anyString(),
+                                                      any(ReadableByteChannel.class), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 실패 - 최대 개수를 넘는 파일 수를 알리면 본문을 읽기 전에 거절")
+    void processStreamingUpload_TooManyFiles_Failure() throws IOException {
+        // given
+        String body = "--B\r\n"
+                      + "Content-Disposition: form-data; name=\"uploaderName\"\r\n\r\n"
+                      + "홍길동\r\n"
+                      + "--B--\r\n";
+        MultipartStreamParser parser = new MultipartStreamParser(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), "B", 1024, -1);
+
+        // when & then
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                                                   () -> uploadService.processStreamingUpload("wedding2024", 21, parser));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONSTRAINT_VIOLATION);
+
+        assertThat(parser.getBytesRead()).isZero();
+        verify(uploadRepository, never()).findUniqueUploaderName(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 실패 - uploaderName 이 파일보다 늦게 전송됨")
+    void processStreamingUpload_UploaderNameAfterFile_Failure() throws IOException {
+        // given
+        String body = "--B\r\n"
+                      + "Content-Disposition: form-data; name=\"files\"; filename=\"photo.jpg\"\r\n\r\n"
+                      + "jpeg content\r\n"
+                      + "--B--\r\n";
+        MultipartStreamParser parser = new MultipartStreamParser(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), "B", 1024, -1);
+
+        // when & then
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                                                   () -> uploadService.processStreamingUpload("wedding2024", 1, parser));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.MISSING_REQUEST_PARAMETER);
+
+        verify(uploadRepository, never()).saveStream(anyString(), anyString(), anyString(),
+                                                     any(ReadableByteChannel.class), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("파일별 업로드 - 업로더명은 묶음 생성 시 한 번만 예약하고 파일은 같은 폴더에 저장")
+    void uploadFile_ReservesUploaderOncePerBatch() throws IOException {
+        // given
+        String eventName = "wedding2024";
+        when(uploadRepository.findUniqueUploaderName(eventName, "홍길동")).thenReturn("홍길동(2)");
+        when(uploadRepository.saveFile(eq(eventName), eq("홍길동(2)"), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.stored("a.jpg", "sha256-a"), StoredFile.duplicateOf("홍길동(2)/b.jpg", "sha256-b"));
+        UploadBatchResponse batch = uploadService.createBatch(eventName, "홍길동");
+
+        // when
+        UploadResponse first = uploadService.uploadFile(eventName, batch.getBatchId(),
+                new MockMultipartFile("file", "first.jpg", "image/jpeg", TestImages.jpeg(100, 100)), "4000x3000:8000000");
+        UploadResponse second = uploadService.uploadFile(eventName, batch.getBatchId(),
+                new MockMultipartFile("file", "second.jpg", "image/jpeg", TestImages.jpeg(100, 100)), null);
+
+        // then
+        assertThat(batch.getUploaderName()).isEqualTo("홍길동(2)");
+        assertThat(first.getSuccessCount()).isEqualTo(1);
+        assertThat(second.getDuplicateFiles()).containsExactly("second.jpg");
+        assertThat(meterRegistry.get("wedsnap.upload.request").tags("mode", "file", "outcome", "success")
+                                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("wedsnap.upload.client.original.bytes").counter().count()).isEqualTo(8_000_000);
+        verify(uploadRepository, times(1)).findUniqueUploaderName(eventName, "홍길동");
+        verify(uploadRepository, times(2)).saveFile(eq(eventName), eq("홍길동(2)"), any(MultipartFile.class), any());
+    }
+
+    @Test
+    @DisplayName("파일별 업로드 실패 - 묶음당 새로 저장한 파일이 20개를 넘으면 거부 (중복은 세지 않음)")
+    void uploadFile_TooManyFilesInBatch_Failure() throws IOException {
+        // given
+        String eventName = "wedding2024";
+        when(uploadRepository.findUniqueUploaderName(eventName, "홍길동")).thenReturn("홍길동");
+        when(uploadRepository.saveFile(eq(eventName), eq("홍길동"), any(MultipartFile.class), any()))
+                .thenReturn(StoredFile.duplicateOf("홍길동/a.jpg", "sha256-a"), StoredFile.stored("a.jpg", "sha256-a"));
+        UploadBatchResponse batch = uploadService.createBatch(eventName, "홍길동");
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", TestImages.jpeg(100, 100));
+
+        // when - 첫 요청은 중복, 이후 20개는 새로 저장
+        for (int i = 0; i < 21; i++) {
+            uploadService.uploadFile(eventName, batch.getBatchId(), file, null);
+        }
+
+        // then
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                () -> uploadService.uploadFile(eventName, batch.getBatchId(), file, null));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONSTRAINT_VIOLATION);
+        verify(uploadRepository, times(21)).saveFile(eq(eventName), eq("홍길동"), any(MultipartFile.class), any());
+    }
+
+    @Test
+    @DisplayName("파일별 업로드 실패 - 다른 이벤트의 묶음이거나 없는 묶음")
+    void uploadFile_UnknownBatch_Failure() {
+        // given
+        when(uploadRepository.findUniqueUploaderName("wedding2024", "홍길동")).thenReturn("홍길동");
+        UploadBatchResponse batch = uploadService.createBatch("wedding2024", "홍길동");
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", TestImages.jpeg(100, 100));
+
+        // when & then
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                () -> uploadService.uploadFile("otherEvent", batch.getBatchId(), file, null));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_BATCH_NOT_FOUND);
     }
 }
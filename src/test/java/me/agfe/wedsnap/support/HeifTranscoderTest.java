@@ -0,0 +1,97 @@
+package me.agfe.wedsnap.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("HeifTranscoder 테스트")
+class HeifTranscoderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @EnabledIf("libheifInstalled")
+    @DisplayName("실제 HEIC 파일을 같은 해상도의 JPEG 로 변환함")
+    void transcode_RealHeic() throws Exception {
+        // given - heif-enc 로 만든 실제 HEVC 인코딩 HEIC
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 320, 480);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(320, 0, 320, 480);
+        graphics.dispose();
+        Path jpeg = dir.resolve("source.jpg");
+        ImageIO.write(image, "jpg", jpeg.toFile());
+        Path heic = dir.resolve("photo.heic");
+        Process encoder = new ProcessBuilder("heif-enc", "-o", heic.toString(), jpeg.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        assertThat(encoder.waitFor(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(encoder.exitValue()).isZero();
+
+        HeifTranscoder transcoder = new HeifTranscoder(true, "heif-convert", 0, Duration.ofMinutes(1), 90);
+        Path target = dir.resolve("out").resolve("photo.jpg");
+
+        // when
+        transcoder.transcode(heic, target);
+
+        // then
+        BufferedImage decoded = ImageIO.read(target.toFile());
+        assertThat(decoded.getWidth()).isEqualTo(640);
+        assertThat(decoded.getHeight()).isEqualTo(480);
+        assertThat(new Color(decoded.getRGB(100, 240)).getRed()).isGreaterThan(200);
+        assertThat(new Color(decoded.getRGB(540, 240)).getBlue()).isGreaterThan(200);
+        try (Stream<Path> leftovers = Files.list(target.getParent())) {
+            assertThat(leftovers).containsExactly(target);
+        }
+    }
+
+    @Test
+    @DisplayName("활성화되어 있는데 변환 명령이 없으면 시작에 실패함")
+    void create_MissingCommand_Failure() {
+        assertThrows(IllegalStateException.class,
+                     () -> new HeifTranscoder(true, dir.resolve("missing-heif-convert").toString(), 0, Duration.ofMinutes(1), 90));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 명령이 없어도 시작하고 변환하지 않음")
+    void create_Disabled() {
+        HeifTranscoder transcoder = new HeifTranscoder(false, "missing-heif-convert", 0, Duration.ofMinutes(1), 90);
+
+        assertThat(transcoder.isAvailable()).isFalse();
+    }
+
+    static boolean libheifInstalled() {
+        String pathEnv = System.getenv("PATH");
+        if (pathEnv == null) {
+            return false;
+        }
+        boolean encoder = false;
+        boolean converter = false;
+        for (String entry : pathEnv.split(File.pathSeparator)) {
+            encoder |= Files.isExecutable(Paths.get(entry, "heif-enc"));
+            converter |= Files.isExecutable(Paths.get(entry, "heif-convert"));
+        }
+        return encoder && converter;
+    }
+}
@@ -0,0 +1,89 @@
+package me.agfe.wedsnap.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import me.agfe.wedsnap.support.ImageHeaderSniffer.ImageFormat;
+import me.agfe.wedsnap.support.ImageHeaderSniffer.ImageInfo;
+
+@DisplayName("ImageHeaderSniffer 테스트")
+class ImageHeaderSnifferTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "jpg", "png", "gif" })
+    @DisplayName("ImageIO 로 만든 실제 이미지의 형식과 해상도를 판별")
+    void sniff_RealImages(String format) throws IOException {
+        // given
+        BufferedImage image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+
+        // when
+        ImageInfo info = sniff(out.toByteArray());
+
+        // then
+        assertThat(info).isNotNull();
+        assertThat(info.width()).isEqualTo(40);
+        assertThat(info.height()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("HEIF 는 ftyp 브랜드와 ispe 박스로 판별")
+    void sniff_Heif() throws IOException {
+        assertThat(sniff(TestImages.heif(4032, 3024))).isEqualTo(new ImageInfo(ImageFormat.HEIF, 4032, 3024));
+    }
+
+    @Test
+    @DisplayName("큰 APP 세그먼트는 읽지 않고 건너뜀")
+    void sniff_JpegWithLargeExif() throws IOException {
+        // given - 60KB APP1 세그먼트 뒤에 SOF
+        byte[] jpeg = TestImages.jpeg(8000, 6000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(new byte[] { (byte) 0xFF, (byte) 0xE1, (byte) 0xEA, 0x62 });
+        out.write(new byte[0xEA60]);
+        out.write(jpeg, 2, jpeg.length - 2);
+
+        // when & then
+        assertThat(sniff(out.toByteArray())).isEqualTo(new ImageInfo(ImageFormat.JPEG, 8000, 6000));
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 null")
+    void sniff_NotImage() throws IOException {
+        // given - 확장자만 바꾼 MP4 / 텍스트 / 빈 파일
+        byte[] mp4 = new byte[] { 0, 0, 0, 0x18, 'f', 't', 'y', 'p', 'm', 'p', '4', '2', 0, 0, 0, 0, 'i', 's', 'o', 'm', 'm', 'p', '4', '2' };
+
+        // when & then
+        assertThat(sniff(mp4)).isNull();
+        assertThat(sniff("just text".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(sniff(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더가 잘려 해상도를 찾지 못하면 형식만 판별")
+    void sniff_TruncatedHeader() throws IOException {
+        byte[] truncated = new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1, 0x10, 0x00 };
+
+        ImageInfo info = sniff(truncated);
+
+        assertThat(info.format()).isEqualTo(ImageFormat.JPEG);
+        assertThat(info.hasDimensions()).isFalse();
+    }
+
+    private ImageInfo sniff(byte[] bytes) throws IOException {
+        return ImageHeaderSniffer.sniff(new ByteArrayInputStream(bytes));
+    }
+}
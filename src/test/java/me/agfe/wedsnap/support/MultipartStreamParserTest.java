@@ -0,0 +1,85 @@
+package me.agfe.wedsnap.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MultipartStreamParser 테스트")
+class MultipartStreamParserTest {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+    @Test
+    @DisplayName("폼 필드와 파일 파트를 순서대로 읽음")
+    void nextPart_ReadsFieldsAndFiles() throws IOException {
+        // given - 경계 문자열 일부를 포함한 바이너리 본문
+        byte[] fileContent = new byte[5000];
+        new Random(7).nextBytes(fileContent);
+        byte[] partialDelimiter = ("\r\n--" + BOUNDARY.substring(0, 10)).getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(partialDelimiter, 0, fileContent, 1000, partialDelimiter.length);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"uploaderName\"\r\n\r\n"
+                    + "홍길동\r\n"
+                    + "--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"files\"; filename=\"결혼식 사진.jpg\"\r\n"
+                    + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(fileContent);
+        body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        MultipartStreamParser parser = new MultipartStreamParser(
+                new ByteArrayInputStream(body.toByteArray()), BOUNDARY, 512, -1);
+
+        // when
+        MultipartStreamParser.Part field = parser.nextPart();
+        String uploaderName = parser.readText(100);
+        MultipartStreamParser.Part file = parser.nextPart();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(300);
+        while (parser.read(buffer) >= 0) {
+            buffer.flip();
+            byte[] chunk = new byte[buffer.remaining()];
+            buffer.get(chunk);
+            received.write(chunk);
+            buffer.clear();
+        }
+
+        // then
+        assertThat(field.name()).isEqualTo("uploaderName");
+        assertThat(field.isFile()).isFalse();
+        assertThat(uploaderName).isEqualTo("홍길동");
+        assertThat(file.fileName()).isEqualTo("결혼식 사진.jpg");
+        assertThat(file.contentType()).isEqualTo("image/jpeg");
+        assertThat(received.toByteArray()).isEqualTo(fileContent);
+        assertThat(parser.nextPart()).isNull();
+    }
+
+    @Test
+    @DisplayName("허용 크기를 초과하면 예외 발생")
+    void nextPart_ExceedsLimit_Throws() {
+        // given
+        MultipartStreamParser parser = new MultipartStreamParser(
+                new ByteArrayInputStream(new byte[10_000]), BOUNDARY, 512, 1_000);
+
+        // when & then
+        assertThrows(MultipartStreamParser.SizeLimitExceededException.class, parser::nextPart);
+    }
+
+    @Test
+    @DisplayName("Content-Type 에서 boundary 추출")
+    void extractBoundary() {
+        assertThat(MultipartStreamParser.extractBoundary("multipart/form-data; boundary=" + BOUNDARY)).isEqualTo(BOUNDARY);
+        assertThat(MultipartStreamParser.extractBoundary("multipart/form-data; boundary=\"quoted value\"")).isEqualTo("quoted value");
+        assertThat(MultipartStreamParser.extractBoundary("application/json")).isNull();
+    }
+}
@@ -0,0 +1,91 @@
+package me.agfe.wedsnap.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("StoredZipWriter 테스트")
+class StoredZipWriterTest {
+
+    private static final Instant BASE = Instant.parse("2024-05-18T04:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final List<StoredZipWriter.Entry> entries = new ArrayList<>();
+    private final List<byte[]> contents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < 4; i++) {
+            byte[] content = new byte[10_000 + random.nextInt(50_000)];
+            random.nextBytes(content);
+            Path file = tempDir.resolve("p" + i + ".jpg");
+            Files.write(file, content);
+            entries.add(new StoredZipWriter.Entry((i % 2 == 0 ? "홍길동" : "김철수") + "/p" + i + ".jpg", file,
+                                                  content.length, BASE.plusSeconds(i * 2)));
+            contents.add(content);
+        }
+    }
+
+    @Test
+    @DisplayName("무압축 ZIP 생성 - 예고한 길이와 같고 표준 ZIP 리더로 읽힘")
+    void write_ReadableZip() throws IOException {
+        // given
+        StoredZipWriter writer = new StoredZipWriter(entries, new HashMap<>(), 4096);
+
+        // when
+        Path zip = tempDir.resolve("out.zip");
+        try (OutputStream out = Files.newOutputStream(zip)) {
+            writer.write(Channels.newChannel(out));
+        }
+
+        // then
+        assertThat(Files.size(zip)).isEqualTo(writer.length());
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            for (int i = 0; i < entries.size(); i++) {
+                ZipEntry entry = zipFile.getEntry(entries.get(i).name());
+                assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+                assertThat(zipFile.getInputStream(entry).readAllBytes()).isEqualTo(contents.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("구간 기록 - 임의 위치에서 나눠 받아 이어 붙이면 전체와 동일 (CRC 캐시 없이 이어받기)")
+    void write_RangesConcatenateToWhole() throws IOException {
+        // given
+        StoredZipWriter writer = new StoredZipWriter(entries, new HashMap<>(), 4096);
+        ByteArrayOutputStream whole = new ByteArrayOutputStream();
+        writer.write(Channels.newChannel(whole));
+
+        for (long cut : new long[] {1, 30_000, writer.length() - 30, writer.length() - 1}) {
+            // when - 새 writer (빈 캐시) 로 앞/뒤 구간을 따로 생성
+            StoredZipWriter resumed = new StoredZipWriter(entries, new HashMap<>(), 1000);
+            ByteArrayOutputStream parts = new ByteArrayOutputStream();
+            resumed.write(Channels.newChannel(parts), 0, cut);
+            resumed.write(Channels.newChannel(parts), cut, resumed.length());
+
+            // then
+            assertThat(parts.toByteArray()).as("cut at %d", cut).isEqualTo(whole.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package me.agfe.wedsnap.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 테스트용 최소 이미지 헤더
+ * 헤더 검사(시그니처, 해상도)만 통과하는 작은 바이트 배열을 생성합니다.
+ */
+public final class TestImages {
+
+    private TestImages() {
+    }
+
+    public static byte[] jpeg(int width, int height) {
+        return write(out -> {
+            out.write(new byte[] { (byte) 0xFF, (byte) 0xD8 });
+            // APP0 (JFIF)
+            out.write(new byte[] { (byte) 0xFF, (byte) 0xE0 });
+            out.writeShort(16);
+            out.write("JFIF\0".getBytes(StandardCharsets.ISO_8859_1));
+            out.write(new byte[] { 1, 1, 0, 0, 1, 0, 1, 0, 0 });
+            // SOF0
+            out.write(new byte[] { (byte) 0xFF, (byte) 0xC0 });
+            out.writeShort(11);
+            out.writeByte(8);
+            out.writeShort(height);
+            out.writeShort(width);
+            out.write(new byte[] { 1, 1, 0x11, 0 });
+            out.write(new byte[] { (byte) 0xFF, (byte) 0xD9 });
+        });
+    }
+
+    public static byte[] png(int width, int height) {
+        return write(out -> {
+            out.write(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' });
+            out.writeInt(13);
+            out.write("IHDR".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeInt(width);
+            out.writeInt(height);
+            out.write(new byte[] { 8, 6, 0, 0, 0 });
+            out.writeInt(0);
+        });
+    }
+
+    public static byte[] gif(int width, int height) {
+        return write(out -> {
+            out.write("GIF89a".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeShort(Short.reverseBytes((short) width));
+            out.writeShort(Short.reverseBytes((short) height));
+            out.write(new byte[] { 0, 0, 0, ';' });
+        });
+    }
+
+    public static byte[] heif(int width, int height) {
+        return write(out -> {
+            // ftyp
+            out.writeInt(24);
+            out.write("ftypheic".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeInt(0);
+            out.write("mif1heic".getBytes(StandardCharsets.ISO_8859_1));
+            // meta > iprp > ipco > ispe
+            out.writeInt(48);
+            out.write("meta".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeInt(0);
+            out.writeInt(36);
+            out.write("iprp".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeInt(28);
+            out.write("ipco".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeInt(20);
+            out.write("ispe".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeInt(0);
+            out.writeInt(width);
+            out.writeInt(height);
+            // mdat
+            out.writeInt(12);
+            out.write("mdat".getBytes(StandardCharsets.ISO_8859_1));
+            out.writeInt(0);
+        });
+    }
+
+    private static byte[] write(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
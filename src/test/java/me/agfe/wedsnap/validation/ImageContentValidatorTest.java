@@ -0,0 +1,80 @@
+package me.agfe.wedsnap.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.agfe.wedsnap.exception.ErrorCode;
+import me.agfe.wedsnap.exception.WedSnapException;
+import me.agfe.wedsnap.support.TestImages;
+
+@DisplayName("ImageContentValidator 테스트")
+class ImageContentValidatorTest {
+
+    private final ImageContentValidator validator = new ImageContentValidator(180_000_000L);
+
+    @Test
+    @DisplayName("SOF 앞에 100KB 의 APP 세그먼트가 있어도 채널을 이어 읽어 해상도를 검사하고, 원본 내용은 그대로 복원")
+    void validateChannel_LargeAppSegmentsBeforeSof() throws IOException {
+        // given - 앞부분(64KB)보다 긴 EXIF/ICC 세그먼트 뒤에 SOF
+        byte[] normal = withAppSegments(TestImages.jpeg(4000, 3000), 100 * 1024);
+        byte[] bomb = withAppSegments(TestImages.jpeg(30000, 30000), 100 * 1024);
+
+        // when
+        ReadableByteChannel restored = validator.validate(channel(normal), "photo.jpg");
+
+        // then
+        try (InputStream in = Channels.newInputStream(restored)) {
+            assertThat(in.readAllBytes()).isEqualTo(normal);
+        }
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                                                  () -> validator.validate(channel(bomb), "bomb.jpg"));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.IMAGE_DIMENSIONS_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("SOF 를 찾지 못한 JPEG 는 거부")
+    void validate_JpegWithoutSof_Rejected() {
+        // given - SOF 없이 SOS 로 이어지는 JPEG
+        byte[] noSof = new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDA, 0, 2, 0, 0 };
+
+        // when
+        WedSnapException exception = assertThrows(WedSnapException.class,
+                                                  () -> validator.validate(new ByteArrayInputStream(noSof), "broken.jpg"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_IMAGE_CONTENT);
+    }
+
+    /**
+     * SOI 바로 뒤에 APP1 세그먼트들(세그먼트 1개는 최대 64KB)을 합계 totalBytes 만큼 끼워 넣습니다.
+     */
+    private byte[] withAppSegments(byte[] jpeg, int totalBytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        for (int remaining = totalBytes; remaining > 0; ) {
+            int length = Math.min(remaining, 0xFFFF - 2);
+            out.write(0xFF);
+            out.write(0xE1);
+            out.write((length + 2) >> 8);
+            out.write((length + 2) & 0xFF);
+            out.write(new byte[length], 0, length);
+            remaining -= length;
+        }
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private ReadableByteChannel channel(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+}
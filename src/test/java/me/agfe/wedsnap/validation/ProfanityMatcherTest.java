@@ -0,0 +1,35 @@
+package me.agfe.wedsnap.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProfanityMatcher 테스트")
+class ProfanityMatcherTest {
+
+    private final ProfanityMatcher matcher = new ProfanityMatcher(List.of("시발", "보지", "fuck"), 16);
+
+    @Test
+    @DisplayName("공백/기호를 끼우거나 자모로 나눠 써도 감지")
+    void containsProfanity_SpacingAndJamoVariants() {
+        assertThat(matcher.containsProfanity("시발홍길동")).isTrue();
+        assertThat(matcher.containsProfanity("홍길동 시 발")).isTrue();
+        assertThat(matcher.containsProfanity("시.발")).isTrue();
+        assertThat(matcher.containsProfanity("ㅅㅣ발")).isTrue();
+        assertThat(matcher.containsProfanity("FuCk")).isTrue();
+    }
+
+    @Test
+    @DisplayName("단어가 음절 중간에서 끝나는 경우는 감지하지 않음")
+    void containsProfanity_SyllableBoundary() {
+        assertThat(matcher.containsProfanity("홍길동")).isFalse();
+        assertThat(matcher.containsProfanity("보직")).isFalse();
+        assertThat(matcher.containsProfanity("시바")).isFalse();
+        // 캐시된 결과도 같음
+        assertThat(matcher.containsProfanity("보직")).isFalse();
+        assertThat(matcher.containsProfanity("보지 상")).isTrue();
+    }
+}